@@ -0,0 +1,15 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.bulkhead;
+
+/** A request turned away by a {@link RouteBulkhead}, without a stack trace as it is expected. */
+public class BulkheadFullException extends RuntimeException {
+
+    public BulkheadFullException(String reason) {
+        super("Route at capacity, " + reason, null, false, false);
+    }
+}
@@ -0,0 +1,174 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.bulkhead;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * Bounds the requests of a route in flight at the same time. Requests beyond {@code
+ * maxConcurrent} wait in a queue of at most {@code maxQueued} for a permit to be released, without
+ * holding a thread; requests finding the queue full, or waiting longer than they may, fail with a
+ * {@link BulkheadFullException}. Waiting requests are served in arrival order.
+ */
+public final class RouteBulkhead {
+
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+
+    // guarded by this
+    private int maxConcurrent;
+    private int maxQueued;
+    private int active;
+
+    public RouteBulkhead(int maxConcurrent, int maxQueued) {
+        resize(maxConcurrent, maxQueued);
+    }
+
+    /** Changes the limits, permits already handed out stay valid. */
+    public synchronized void resize(int maxConcurrent, int maxQueued) {
+        if (maxConcurrent < 1 || maxQueued < 0) {
+            throw new IllegalArgumentException(
+                    "maxConcurrent must be positive and maxQueued not negative");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * A permit to forward a request, to be released once its exchange is done. Emitted right away
+     * while the route has capacity, after at most {@code maxWait} in the queue otherwise.
+     */
+    public Mono<Permit> acquire(Duration maxWait) {
+        return Mono.<Permit>create(this::acquire)
+                .timeout(
+                        maxWait,
+                        Mono.defer(
+                                () -> {
+                                    expired.increment();
+                                    return Mono.error(
+                                            new BulkheadFullException("waited " + maxWait));
+                                }));
+    }
+
+    private void acquire(MonoSink<Permit> sink) {
+        Waiter waiter = new Waiter(sink);
+        boolean admit = false;
+        boolean enqueued = false;
+        synchronized (this) {
+            if (active < maxConcurrent) {
+                active++;
+                admit = true;
+            } else if (waiters.size() < maxQueued) {
+                waiters.addLast(waiter);
+                enqueued = true;
+            }
+        }
+        if (admit) {
+            admitted.increment();
+            sink.success(waiter.permit);
+        } else if (enqueued) {
+            sink.onCancel(() -> cancel(waiter));
+        } else {
+            rejected.increment();
+            sink.error(new BulkheadFullException("queue full"));
+        }
+    }
+
+    private void cancel(Waiter waiter) {
+        if (waiter.settled.compareAndSet(false, true)) {
+            synchronized (this) {
+                waiters.remove(waiter);
+            }
+        } else {
+            // handed a permit while being cancelled, nobody will use it
+            waiter.permit.release();
+        }
+    }
+
+    private void release() {
+        Waiter next = null;
+        synchronized (this) {
+            // over the limit after it was lowered, the queue waits for the next release
+            if (active <= maxConcurrent) {
+                do {
+                    next = waiters.pollFirst();
+                } while (next != null && !next.settled.compareAndSet(false, true));
+            }
+            if (next == null) {
+                active--;
+                return;
+            }
+        }
+        queued.increment();
+        next.sink.success(next.permit);
+    }
+
+    public synchronized int active() {
+        return active;
+    }
+
+    public synchronized int queueSize() {
+        return waiters.size();
+    }
+
+    public synchronized int maxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /** Requests given a permit without waiting. */
+    public long admitted() {
+        return admitted.sum();
+    }
+
+    /** Requests given a permit after waiting in the queue. */
+    public long queued() {
+        return queued.sum();
+    }
+
+    /** Requests turned away because the queue was full. */
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    /** Requests turned away after waiting {@code maxWait} in the queue. */
+    public long expired() {
+        return expired.sum();
+    }
+
+    /** Capacity of the route held by one request, released once however often it is called. */
+    public final class Permit {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit() {}
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                RouteBulkhead.this.release();
+            }
+        }
+    }
+
+    private final class Waiter {
+        private final MonoSink<Permit> sink;
+        private final Permit permit = new Permit();
+        private final AtomicBoolean settled = new AtomicBoolean();
+
+        Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+    }
+}
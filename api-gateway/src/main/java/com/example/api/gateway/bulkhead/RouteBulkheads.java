@@ -0,0 +1,77 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.bulkhead;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * The {@link RouteBulkhead} of each route, publishing its state per route: {@code
+ * gateway.bulkhead.active} and {@code gateway.bulkhead.queued} requests,
+ * {@code gateway.bulkhead.saturation} as active requests over {@code maxConcurrent}, and {@code
+ * gateway.bulkhead.requests} tagged with {@code result=admitted|queued|rejected|expired}: requests
+ * let through right away, after waiting, and turned away on a full queue or after waiting too long.
+ */
+public class RouteBulkheads {
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, RouteBulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public RouteBulkheads(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * The bulkhead of the route with the given limits, shared by all filters created for it as
+     * routes are refreshed so requests in flight keep counting against it.
+     */
+    public RouteBulkhead forRoute(String routeId, int maxConcurrent, int maxQueued) {
+        RouteBulkhead bulkhead =
+                bulkheads.computeIfAbsent(
+                        routeId, id -> register(id, new RouteBulkhead(maxConcurrent, maxQueued)));
+        bulkhead.resize(maxConcurrent, maxQueued);
+        return bulkhead;
+    }
+
+    private RouteBulkhead register(String routeId, RouteBulkhead bulkhead) {
+        Gauge.builder("gateway.bulkhead.active", bulkhead, RouteBulkhead::active)
+                .description("Requests of the route in flight")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Gauge.builder("gateway.bulkhead.queued", bulkhead, RouteBulkhead::queueSize)
+                .description("Requests of the route waiting for capacity")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Gauge.builder(
+                        "gateway.bulkhead.saturation",
+                        bulkhead,
+                        b -> (double) b.active() / b.maxConcurrent())
+                .description("Requests of the route in flight relative to the ones it may have")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        register(routeId, "admitted", bulkhead, RouteBulkhead::admitted);
+        register(routeId, "queued", bulkhead, RouteBulkhead::queued);
+        register(routeId, "rejected", bulkhead, RouteBulkhead::rejected);
+        register(routeId, "expired", bulkhead, RouteBulkhead::expired);
+        return bulkhead;
+    }
+
+    private void register(
+            String routeId,
+            String result,
+            RouteBulkhead bulkhead,
+            ToLongFunction<RouteBulkhead> count) {
+        FunctionCounter.builder("gateway.bulkhead.requests", bulkhead, count::applyAsLong)
+                .description("Requests passing the bulkhead of a route")
+                .tags("route", routeId, "result", result)
+                .register(meterRegistry);
+    }
+}
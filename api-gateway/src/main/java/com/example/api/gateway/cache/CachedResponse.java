@@ -0,0 +1,62 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.cache;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.util.DigestUtils;
+
+/**
+ * An upstream response as held by the {@link ResponseCacheStore}, serialized to JSON in Redis.
+ * Only representation headers are kept, anything specific to one exchange, such as trace ids or
+ * cookies, is never replayed.
+ */
+public record CachedResponse(
+        int status, Map<String, List<String>> headers, byte[] body, String etag) {
+
+    private static final List<String> CACHED_HEADERS =
+            List.of(
+                    HttpHeaders.CONTENT_TYPE,
+                    HttpHeaders.CONTENT_ENCODING,
+                    HttpHeaders.CONTENT_LANGUAGE,
+                    HttpHeaders.CACHE_CONTROL,
+                    HttpHeaders.LAST_MODIFIED,
+                    HttpHeaders.VARY);
+
+    public static CachedResponse of(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+        Map<String, List<String>> cachedHeaders = new LinkedHashMap<>();
+        for (String name : CACHED_HEADERS) {
+            List<String> values = headers.get(name);
+            if (values != null && !values.isEmpty()) {
+                cachedHeaders.put(name, List.copyOf(values));
+            }
+        }
+        String etag = headers.getETag();
+        if (etag == null) {
+            // same shape as the ETags of Spring's ShallowEtagHeaderFilter
+            etag = "\"0" + DigestUtils.md5DigestAsHex(body) + "\"";
+        }
+        return new CachedResponse(status.value(), cachedHeaders, body, etag);
+    }
+
+    /** Whether an {@code If-None-Match} request header matches this response, weakly compared. */
+    public boolean matches(List<String> ifNoneMatch) {
+        for (String candidate : ifNoneMatch) {
+            if ("*".equals(candidate) || opaqueTag(candidate).equals(opaqueTag(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
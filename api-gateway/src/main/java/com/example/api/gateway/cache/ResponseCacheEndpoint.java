@@ -0,0 +1,34 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.cache;
+
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@code DELETE /actuator/responsecache/{productCode}} purges the cached responses about a product
+ * together with the shared ones, such as listings, on every gateway replica. It is excluded from
+ * web exposure, the gateway's actuator has no authentication; include it only where the actuator is
+ * protected.
+ */
+@Endpoint(id = "responsecache")
+public class ResponseCacheEndpoint {
+
+    private final ResponseCacheStore responseCacheStore;
+
+    public ResponseCacheEndpoint(ResponseCacheStore responseCacheStore) {
+        this.responseCacheStore = responseCacheStore;
+    }
+
+    @DeleteOperation
+    public Mono<Map<String, Integer>> purgeProduct(@Selector String productCode) {
+        return responseCacheStore.purgeProduct(productCode).map(purged -> Map.of("purged", purged));
+    }
+}
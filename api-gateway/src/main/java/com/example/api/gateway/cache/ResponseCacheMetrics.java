@@ -0,0 +1,65 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes the lookups of the response cache per route as {@code gateway.response.cache.requests}
+ * tagged with {@code result=hit|miss}, and the hit ratio since startup as {@code
+ * gateway.response.cache.hit.ratio}.
+ */
+public class ResponseCacheMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, RouteStats> routeStats = new ConcurrentHashMap<>();
+
+    public ResponseCacheMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void hit(String routeId) {
+        routeStats.computeIfAbsent(routeId, this::register).hits.increment();
+    }
+
+    public void miss(String routeId) {
+        routeStats.computeIfAbsent(routeId, this::register).misses.increment();
+    }
+
+    private RouteStats register(String routeId) {
+        RouteStats stats = new RouteStats();
+        FunctionCounter.builder("gateway.response.cache.requests", stats.hits, LongAdder::sum)
+                .description("Response cache lookups of the gateway")
+                .tags("route", routeId, "result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.response.cache.requests", stats.misses, LongAdder::sum)
+                .description("Response cache lookups of the gateway")
+                .tags("route", routeId, "result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("gateway.response.cache.hit.ratio", stats, RouteStats::hitRatio)
+                .description("Share of response cache lookups served from the cache")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        return stats;
+    }
+
+    private static final class RouteStats {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        double hitRatio() {
+            long hitCount = hits.sum();
+            long lookups = hitCount + misses.sum();
+            return lookups == 0 ? 0 : (double) hitCount / lookups;
+        }
+    }
+}
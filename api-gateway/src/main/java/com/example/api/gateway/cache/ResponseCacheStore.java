@@ -0,0 +1,187 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Policy.VarExpiration;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Two tier response cache shared by all gateway replicas. Redis holds the entries for their full
+ * time to live, while each replica keeps recently served entries in a size-bounded Caffeine cache
+ * for a shorter time so that hot responses are served without a network hop.
+ *
+ * <p>Entries are tagged in Redis sets by route and, when the request names one, by product code;
+ * entries without a product code, such as listings, are tagged as shared. Purging deletes the
+ * tagged entries from Redis and announces their keys on a pub/sub channel so that every replica
+ * drops them from its local tier too. Redis failures are logged and degrade to cache misses.
+ */
+public class ResponseCacheStore implements InitializingBean, DisposableBean {
+
+    public static final String KEY_PREFIX = "gateway:response-cache:";
+
+    static final String PURGE_CHANNEL = KEY_PREFIX + "purge";
+
+    private static final String PRODUCT_TAG_PREFIX = KEY_PREFIX + "tag:product:";
+    private static final String ROUTE_TAG_PREFIX = KEY_PREFIX + "tag:route:";
+    private static final String SHARED_TAG = KEY_PREFIX + "tag:shared";
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCacheStore.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final JsonMapper jsonMapper;
+    private final Cache<String, CachedResponse> localCache;
+    private final VarExpiration<String, CachedResponse> localExpiration;
+
+    private Disposable purgeSubscription;
+
+    public ResponseCacheStore(
+            ReactiveStringRedisTemplate redisTemplate, JsonMapper jsonMapper, long localMaxBytes) {
+        this.redisTemplate = redisTemplate;
+        this.jsonMapper = jsonMapper;
+        this.localCache =
+                Caffeine.newBuilder()
+                        .maximumWeight(localMaxBytes)
+                        .weigher((String key, CachedResponse response) -> response.body().length)
+                        // every entry is put with its own expiry, this default is never used
+                        .expireAfter(
+                                Expiry.<String, CachedResponse>creating(
+                                        (key, response) -> Duration.ZERO))
+                        .build();
+        this.localExpiration = localCache.policy().expireVariably().orElseThrow();
+    }
+
+    /** Entry of the local tier, without any I/O. */
+    public CachedResponse getLocal(String key) {
+        return localCache.getIfPresent(key);
+    }
+
+    /** Entry from Redis, which is then kept in the local tier for {@code localTimeToLive}. */
+    public Mono<CachedResponse> getShared(String key, Duration localTimeToLive) {
+        return redisTemplate
+                .opsForValue()
+                .get(key)
+                .map(json -> jsonMapper.readValue(json, CachedResponse.class))
+                .doOnNext(response -> localExpiration.put(key, response, localTimeToLive))
+                .onErrorResume(
+                        e -> {
+                            log.warn("Reading response cache entry {} failed", key, e);
+                            return Mono.empty();
+                        });
+    }
+
+    /**
+     * @param productCode the product the response is about, or {@code null} for responses that may
+     *     contain any product
+     */
+    public Mono<Void> put(
+            String routeId,
+            String key,
+            String productCode,
+            CachedResponse response,
+            Duration timeToLive,
+            Duration localTimeToLive) {
+        localExpiration.put(
+                key,
+                response,
+                localTimeToLive.compareTo(timeToLive) < 0 ? localTimeToLive : timeToLive);
+        String tag =
+                productCode == null
+                        ? SHARED_TAG
+                        : PRODUCT_TAG_PREFIX + productCode.toUpperCase(Locale.ROOT);
+        return redisTemplate
+                .opsForValue()
+                .set(key, jsonMapper.writeValueAsString(response), timeToLive)
+                .then(tag(tag, key, timeToLive))
+                .then(tag(ROUTE_TAG_PREFIX + routeId, key, timeToLive))
+                .onErrorResume(
+                        e -> {
+                            log.warn("Writing response cache entry {} failed", key, e);
+                            return Mono.empty();
+                        })
+                .then();
+    }
+
+    /** Purges the entries about the given product and all shared entries such as listings. */
+    public Mono<Integer> purgeProduct(String productCode) {
+        return purge(
+                List.of(PRODUCT_TAG_PREFIX + productCode.toUpperCase(Locale.ROOT), SHARED_TAG));
+    }
+
+    /** Purges every entry of a route. */
+    public Mono<Integer> purgeRoute(String routeId) {
+        return purge(List.of(ROUTE_TAG_PREFIX + routeId));
+    }
+
+    private Mono<Boolean> tag(String tag, String key, Duration timeToLive) {
+        // the set lives as long as its newest entry, keys of expired entries are harmless on purge
+        return redisTemplate
+                .opsForSet()
+                .add(tag, key)
+                .then(redisTemplate.expire(tag, timeToLive));
+    }
+
+    private Mono<Integer> purge(List<String> tags) {
+        return Flux.fromIterable(tags)
+                .flatMap(tag -> redisTemplate.opsForSet().members(tag))
+                .collect(HashSet<String>::new, Set::add)
+                .flatMap(
+                        keys -> {
+                            localCache.invalidateAll(keys);
+                            if (keys.isEmpty()) {
+                                return Mono.just(0);
+                            }
+                            List<String> deletions = new ArrayList<>(keys);
+                            deletions.addAll(tags);
+                            return redisTemplate
+                                    .delete(deletions.toArray(String[]::new))
+                                    .then(
+                                            redisTemplate.convertAndSend(
+                                                    PURGE_CHANNEL, String.join("\n", keys)))
+                                    .thenReturn(keys.size());
+                        });
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        // keys purged by any replica are dropped from this replica's local tier
+        purgeSubscription =
+                redisTemplate
+                        .listenToChannel(PURGE_CHANNEL)
+                        .map(ReactiveSubscription.Message::getMessage)
+                        .doOnNext(keys -> localCache.invalidateAll(List.of(keys.split("\n"))))
+                        .retryWhen(
+                                Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                                        .maxBackoff(Duration.ofSeconds(30)))
+                        .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (purgeSubscription != null) {
+            purgeSubscription.dispose();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.coalescing;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes the coalesced requests per route as {@code gateway.coalescing.requests} tagged with
+ * {@code result=leader|follower|fallback}: requests forwarded upstream on behalf of all identical
+ * ones, requests answered with the response of a leader, and requests that waited for a leader in
+ * vain and were forwarded themselves. {@code gateway.coalescing.collapse.ratio} is the share of
+ * requests answered without an upstream exchange of their own.
+ */
+public class CoalescingMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, RouteStats> routeStats = new ConcurrentHashMap<>();
+
+    public CoalescingMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void leader(String routeId) {
+        routeStats.computeIfAbsent(routeId, this::register).leaders.increment();
+    }
+
+    public void follower(String routeId) {
+        routeStats.computeIfAbsent(routeId, this::register).followers.increment();
+    }
+
+    public void fallback(String routeId) {
+        routeStats.computeIfAbsent(routeId, this::register).fallbacks.increment();
+    }
+
+    private RouteStats register(String routeId) {
+        RouteStats stats = new RouteStats();
+        register(routeId, "leader", stats.leaders);
+        register(routeId, "follower", stats.followers);
+        register(routeId, "fallback", stats.fallbacks);
+        Gauge.builder("gateway.coalescing.collapse.ratio", stats, RouteStats::collapseRatio)
+                .description("Share of requests answered with the response of an identical one")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        return stats;
+    }
+
+    private void register(String routeId, String result, LongAdder adder) {
+        FunctionCounter.builder("gateway.coalescing.requests", adder, LongAdder::sum)
+                .description("Requests handled by the request coalescing filter")
+                .tags("route", routeId, "result", result)
+                .register(meterRegistry);
+    }
+
+    private static final class RouteStats {
+        private final LongAdder leaders = new LongAdder();
+        private final LongAdder followers = new LongAdder();
+        private final LongAdder fallbacks = new LongAdder();
+
+        double collapseRatio() {
+            long followerCount = followers.sum();
+            long requests = leaders.sum() + followerCount + fallbacks.sum();
+            return requests == 0 ? 0 : (double) followerCount / requests;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.compression;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes the bytes of the encoded responses as {@code gateway.compression.bytes} tagged with
+ * {@code encoding=br|gzip} and {@code stage=original|encoded}, the difference is what compression
+ * saved on the wire. {@code gateway.compression.ratio} is encoded over original bytes.
+ */
+public class CompressionMetrics {
+
+    private final Map<ContentEncoding, EncodingStats> encodingStats =
+            new EnumMap<>(ContentEncoding.class);
+
+    public CompressionMetrics(MeterRegistry meterRegistry) {
+        for (ContentEncoding encoding : ContentEncoding.values()) {
+            encodingStats.put(encoding, register(meterRegistry, encoding));
+        }
+    }
+
+    public void record(ContentEncoding encoding, long originalBytes, long encodedBytes) {
+        EncodingStats stats = encodingStats.get(encoding);
+        stats.originalBytes.add(originalBytes);
+        stats.encodedBytes.add(encodedBytes);
+    }
+
+    private static EncodingStats register(MeterRegistry meterRegistry, ContentEncoding encoding) {
+        EncodingStats stats = new EncodingStats();
+        register(meterRegistry, encoding, "original", stats.originalBytes);
+        register(meterRegistry, encoding, "encoded", stats.encodedBytes);
+        Gauge.builder("gateway.compression.ratio", stats, EncodingStats::ratio)
+                .description("Encoded size of compressed responses relative to their original size")
+                .tag("encoding", encoding.token())
+                .register(meterRegistry);
+        return stats;
+    }
+
+    private static void register(
+            MeterRegistry meterRegistry, ContentEncoding encoding, String stage, LongAdder adder) {
+        FunctionCounter.builder("gateway.compression.bytes", adder, LongAdder::sum)
+                .description("Body bytes of the responses compressed by the gateway")
+                .baseUnit("bytes")
+                .tags("encoding", encoding.token(), "stage", stage)
+                .register(meterRegistry);
+    }
+
+    private static final class EncodingStats {
+        private final LongAdder originalBytes = new LongAdder();
+        private final LongAdder encodedBytes = new LongAdder();
+
+        double ratio() {
+            long original = originalBytes.sum();
+            return original == 0 ? 0 : (double) encodedBytes.sum() / original;
+        }
+    }
+}
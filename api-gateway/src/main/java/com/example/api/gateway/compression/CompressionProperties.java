@@ -0,0 +1,87 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.compression;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties("app.gateway.compression")
+public class CompressionProperties {
+
+    private boolean enabled = true;
+
+    // responses announcing a smaller body are sent as is, those of unknown length are encoded
+    private DataSize minResponseSize = DataSize.ofKilobytes(1);
+
+    private List<String> mimeTypes =
+            List.of(
+                    "application/json",
+                    "application/problem+json",
+                    "application/xml",
+                    "application/javascript",
+                    "text/html",
+                    "text/css",
+                    "text/plain");
+
+    // 1 (fastest) to 9 (smallest)
+    private int gzipLevel = 6;
+
+    // offered to clients accepting br when the native brotli library loads
+    private boolean brotli = true;
+
+    // 0 (fastest) to 11 (smallest), above 5 costs more CPU than a proxy should spend per response
+    private int brotliQuality = 4;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public DataSize getMinResponseSize() {
+        return minResponseSize;
+    }
+
+    public void setMinResponseSize(DataSize minResponseSize) {
+        this.minResponseSize = minResponseSize;
+    }
+
+    public List<String> getMimeTypes() {
+        return mimeTypes;
+    }
+
+    public void setMimeTypes(List<String> mimeTypes) {
+        this.mimeTypes = mimeTypes;
+    }
+
+    public int getGzipLevel() {
+        return gzipLevel;
+    }
+
+    public void setGzipLevel(int gzipLevel) {
+        this.gzipLevel = gzipLevel;
+    }
+
+    public boolean isBrotli() {
+        return brotli;
+    }
+
+    public void setBrotli(boolean brotli) {
+        this.brotli = brotli;
+    }
+
+    public int getBrotliQuality() {
+        return brotliQuality;
+    }
+
+    public void setBrotliQuality(int brotliQuality) {
+        this.brotliQuality = brotliQuality;
+    }
+}
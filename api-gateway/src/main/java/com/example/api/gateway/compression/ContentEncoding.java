@@ -0,0 +1,122 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.compression;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.BrotliOutputStream;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.util.StringUtils;
+
+/** The response encodings the gateway produces, in order of preference. */
+public enum ContentEncoding {
+    BROTLI("br") {
+        @Override
+        OutputStream wrap(OutputStream sink, CompressionProperties properties) throws IOException {
+            return new BrotliOutputStream(
+                    sink, new Encoder.Parameters().setQuality(properties.getBrotliQuality()));
+        }
+    },
+
+    GZIP("gzip") {
+        @Override
+        OutputStream wrap(OutputStream sink, CompressionProperties properties) throws IOException {
+            return new GZIPOutputStream(sink, 8192) {
+                {
+                    def.setLevel(properties.getGzipLevel());
+                }
+            };
+        }
+    };
+
+    private final String token;
+
+    ContentEncoding(String token) {
+        this.token = token;
+    }
+
+    public String token() {
+        return token;
+    }
+
+    abstract OutputStream wrap(OutputStream sink, CompressionProperties properties)
+            throws IOException;
+
+    public StreamingEncoder newEncoder(CompressionProperties properties) {
+        StreamingEncoder encoder = new StreamingEncoder();
+        try {
+            encoder.open(wrap(encoder.sink(), properties));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return encoder;
+    }
+
+    /**
+     * The encoding an {@code Accept-Encoding} header gives the highest {@code q} value among those
+     * the gateway produces, brotli on a tie, {@code null} when it accepts none of them. Brotli is
+     * left out unless {@code brotli} is set.
+     */
+    public static ContentEncoding negotiate(String acceptEncoding, boolean brotli) {
+        if (!StringUtils.hasText(acceptEncoding)) {
+            return null;
+        }
+        double brotliQuality = -1;
+        double gzipQuality = -1;
+        double wildcardQuality = -1;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            double quality = quality(parts);
+            if (name.equalsIgnoreCase(BROTLI.token)) {
+                brotliQuality = quality;
+            } else if (name.equalsIgnoreCase(GZIP.token)) {
+                gzipQuality = quality;
+            } else if (name.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        // codings not named take the quality of *
+        if (brotliQuality < 0) {
+            brotliQuality = wildcardQuality;
+        }
+        if (gzipQuality < 0) {
+            gzipQuality = wildcardQuality;
+        }
+        if (brotli && brotliQuality > 0 && brotliQuality >= gzipQuality) {
+            return BROTLI;
+        }
+        return gzipQuality > 0 ? GZIP : null;
+    }
+
+    // the q parameter, 1 when absent, q=0 means "not acceptable"
+    private static double quality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /** Whether brotli can be offered, it needs a native library for the platform. */
+    public static boolean brotliAvailable() {
+        try {
+            return Brotli4jLoader.isAvailable();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
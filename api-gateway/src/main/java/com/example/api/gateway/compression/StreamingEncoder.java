@@ -0,0 +1,79 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Encodes a body chunk by chunk. Each call returns the encoded bytes produced so far, which may be
+ * none while the compressor is still filling its window; {@link #finish()} returns the rest.
+ * Chunks are not flushed on their own so the compression ratio matches encoding the whole body.
+ */
+public final class StreamingEncoder implements AutoCloseable {
+
+    private final ByteArrayOutputStream sink = new ByteArrayOutputStream(8192);
+    private OutputStream encoder;
+    private long originalBytes;
+    private long encodedBytes;
+
+    StreamingEncoder() {}
+
+    ByteArrayOutputStream sink() {
+        return sink;
+    }
+
+    void open(OutputStream encoder) {
+        this.encoder = encoder;
+    }
+
+    public byte[] encode(byte[] chunk) {
+        try {
+            encoder.write(chunk);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        originalBytes += chunk.length;
+        return drain();
+    }
+
+    public byte[] finish() {
+        try {
+            encoder.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return drain();
+    }
+
+    public long originalBytes() {
+        return originalBytes;
+    }
+
+    public long encodedBytes() {
+        return encodedBytes;
+    }
+
+    private byte[] drain() {
+        byte[] encoded = sink.toByteArray();
+        sink.reset();
+        encodedBytes += encoded.length;
+        return encoded;
+    }
+
+    // releases the native brotli encoder of a body that was cancelled half way
+    @Override
+    public void close() {
+        try {
+            encoder.close();
+        } catch (IOException e) {
+            // the body is abandoned, nothing is waiting for its remaining bytes
+        }
+    }
+}
@@ -0,0 +1,21 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.config;
+
+import com.example.api.gateway.bulkhead.RouteBulkheads;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+class BulkheadConfiguration {
+
+    @Bean
+    RouteBulkheads routeBulkheads(MeterRegistry meterRegistry) {
+        return new RouteBulkheads(meterRegistry);
+    }
+}
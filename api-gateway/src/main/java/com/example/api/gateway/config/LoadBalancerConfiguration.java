@@ -0,0 +1,19 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.config;
+
+import com.example.api.gateway.loadbalancer.AdaptiveLoadBalancerConfiguration;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Replaces round-robin with the strategy of {@code app.gateway.load-balancing.strategy} for every
+ * {@code lb://} call, the routes as well as the load balanced {@code WebClient}.
+ */
+@Configuration(proxyBeanMethods = false)
+@LoadBalancerClients(defaultConfiguration = AdaptiveLoadBalancerConfiguration.class)
+class LoadBalancerConfiguration {}
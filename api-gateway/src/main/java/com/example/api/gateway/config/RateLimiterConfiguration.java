@@ -6,10 +6,16 @@
 
 package com.example.api.gateway.config;
 
+import com.example.api.gateway.ratelimit.LocalTokenBucketRateLimiter;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.support.ConfigurationService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import reactor.core.publisher.Mono;
@@ -37,6 +43,18 @@ class RateLimiterConfiguration {
         };
     }
 
+    // default limiter of RequestRateLimiter, the Redis one stays available as #{@redisRateLimiter}
+    @Bean
+    @Primary
+    LocalTokenBucketRateLimiter localTokenBucketRateLimiter(
+            ReactiveStringRedisTemplate reactiveStringRedisTemplate,
+            ConfigurationService configurationService,
+            @Value("${app.gateway.rate-limiter.sync-interval:1s}") Duration syncInterval,
+            @Value("${app.gateway.rate-limiter.max-keys:100000}") long maxKeys) {
+        return new LocalTokenBucketRateLimiter(
+                reactiveStringRedisTemplate, configurationService, syncInterval, maxKeys);
+    }
+
     @Bean
     RedisTemplate<String, String> redisTemplate(RedisConnectionFactory factory) {
         RedisTemplate<String, String> template = new RedisTemplate<>();
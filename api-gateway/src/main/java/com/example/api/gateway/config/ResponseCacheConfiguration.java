@@ -0,0 +1,41 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.config;
+
+import com.example.api.gateway.cache.ResponseCacheEndpoint;
+import com.example.api.gateway.cache.ResponseCacheMetrics;
+import com.example.api.gateway.cache.ResponseCacheStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.json.JsonMapper;
+
+@Configuration(proxyBeanMethods = false)
+class ResponseCacheConfiguration {
+
+    @Bean
+    ResponseCacheStore responseCacheStore(
+            ReactiveStringRedisTemplate reactiveStringRedisTemplate,
+            JsonMapper jsonMapper,
+            @Value("${app.gateway.response-cache.local-max-size:10MB}") DataSize localMaxSize) {
+        return new ResponseCacheStore(
+                reactiveStringRedisTemplate, jsonMapper, localMaxSize.toBytes());
+    }
+
+    @Bean
+    ResponseCacheMetrics responseCacheMetrics(MeterRegistry meterRegistry) {
+        return new ResponseCacheMetrics(meterRegistry);
+    }
+
+    @Bean
+    ResponseCacheEndpoint responseCacheEndpoint(ResponseCacheStore responseCacheStore) {
+        return new ResponseCacheEndpoint(responseCacheStore);
+    }
+}
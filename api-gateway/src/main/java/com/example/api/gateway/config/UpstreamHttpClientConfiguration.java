@@ -0,0 +1,58 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.config;
+
+import com.example.api.gateway.upstream.UpstreamHttpClientFactory;
+import com.example.api.gateway.upstream.UpstreamHttpClients;
+import com.example.api.gateway.upstream.UpstreamPoolProperties;
+import com.example.api.gateway.upstream.UpstreamRoutingFilter;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.server.autoconfigure.ServerProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * Per service connection pools for the {@code lb://} routes, configured under {@code
+ * app.gateway.http-client}. Needs {@code
+ * spring.cloud.gateway.server.webflux.global-filter.netty-routing.enabled=false}.
+ */
+@Configuration(proxyBeanMethods = false)
+class UpstreamHttpClientConfiguration {
+
+    @Bean
+    UpstreamHttpClientFactory upstreamHttpClientFactory(
+            HttpClientProperties httpClientProperties,
+            ServerProperties serverProperties,
+            HttpClientSslConfigurer sslConfigurer,
+            List<HttpClientCustomizer> customizers) {
+        return new UpstreamHttpClientFactory(
+                httpClientProperties, serverProperties, sslConfigurer, customizers);
+    }
+
+    @Bean
+    UpstreamHttpClients upstreamHttpClients(
+            UpstreamPoolProperties upstreamPoolProperties,
+            UpstreamHttpClientFactory upstreamHttpClientFactory) {
+        return new UpstreamHttpClients(upstreamPoolProperties, upstreamHttpClientFactory::create);
+    }
+
+    @Bean
+    UpstreamRoutingFilter upstreamRoutingFilter(
+            HttpClient httpClient,
+            ObjectProvider<List<HttpHeadersFilter>> headersFilters,
+            HttpClientProperties httpClientProperties,
+            UpstreamHttpClients upstreamHttpClients) {
+        return new UpstreamRoutingFilter(
+                httpClient, headersFilters, httpClientProperties, upstreamHttpClients);
+    }
+}
@@ -0,0 +1,142 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.filter;
+
+import com.example.api.gateway.bulkhead.BulkheadFullException;
+import com.example.api.gateway.bulkhead.RouteBulkhead;
+import com.example.api.gateway.bulkhead.RouteBulkheads;
+import java.time.Duration;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.HasRouteId;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Isolates a route from the others: at most {@code maxConcurrent} of its requests are forwarded at
+ * the same time and at most {@code maxQueued} more wait, up to {@code maxWait}, for one of them to
+ * finish. Any other request is answered {@code 503 Service Unavailable} straight away, so a slow
+ * upstream holds a bounded share of the gateway's connections and memory instead of all of them.
+ * Put it after the response cache and request coalescing filters, requests they answer take no
+ * capacity. See {@link RouteBulkheads} for the metrics.
+ *
+ * <pre>
+ * filters:
+ *   - name: Bulkhead
+ *     args:
+ *       maxConcurrent: 50
+ *       maxQueued: 25
+ *       maxWait: 250ms
+ * </pre>
+ */
+@Component
+public class BulkheadGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<BulkheadGatewayFilterFactory.Config> {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkheadGatewayFilterFactory.class);
+
+    private final RouteBulkheads routeBulkheads;
+
+    public BulkheadGatewayFilterFactory(RouteBulkheads routeBulkheads) {
+        super(Config.class);
+        this.routeBulkheads = routeBulkheads;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("maxConcurrent", "maxQueued", "maxWait");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        RouteBulkhead bulkhead =
+                routeBulkheads.forRoute(
+                        String.valueOf(config.getRouteId()),
+                        config.getMaxConcurrent(),
+                        config.getMaxQueued());
+        return (exchange, chain) ->
+                bulkhead.acquire(config.getMaxWait())
+                        .flatMap(
+                                permit ->
+                                        chain.filter(exchange)
+                                                .doFinally(signal -> permit.release()))
+                        .onErrorResume(
+                                BulkheadFullException.class,
+                                e -> reject(exchange, config.getRouteId(), e));
+    }
+
+    private static Mono<Void> reject(
+            ServerWebExchange exchange, String routeId, BulkheadFullException e) {
+        log.debug(
+                "Rejecting {} on route {}: {}",
+                exchange.getRequest().getPath(),
+                routeId,
+                e.getMessage());
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+        return response.setComplete();
+    }
+
+    public static class Config implements HasRouteId {
+
+        private String routeId;
+
+        // requests of the route forwarded at the same time
+        private int maxConcurrent = 100;
+
+        // requests waiting for capacity, beyond it requests are rejected right away
+        private int maxQueued = 50;
+
+        // how long a queued request waits for capacity before it is rejected
+        private Duration maxWait = Duration.ofMillis(500);
+
+        @Override
+        public void setRouteId(String routeId) {
+            this.routeId = routeId;
+        }
+
+        @Override
+        public String getRouteId() {
+            return routeId;
+        }
+
+        public int getMaxConcurrent() {
+            return maxConcurrent;
+        }
+
+        public Config setMaxConcurrent(int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+            return this;
+        }
+
+        public int getMaxQueued() {
+            return maxQueued;
+        }
+
+        public Config setMaxQueued(int maxQueued) {
+            this.maxQueued = maxQueued;
+            return this;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public Config setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+            return this;
+        }
+    }
+}
@@ -6,12 +6,13 @@
 
 package com.example.api.gateway.filter;
 
-import java.util.UUID;
+import com.example.api.gateway.util.RequestIds;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -28,22 +29,21 @@ public class CorrelationIdGatewayFilterFactory extends AbstractGatewayFilterFact
             String correlationId =
                     exchange.getRequest().getHeaders().getFirst(CORRELATION_ID_HEADER);
 
-            if (correlationId == null || correlationId.isEmpty()) {
-                correlationId = UUID.randomUUID().toString();
-                log.debug("Generated new correlation ID: {}", correlationId);
-            } else {
+            if (correlationId != null && !correlationId.isEmpty()) {
                 log.debug("Using existing correlation ID: {}", correlationId);
+                exchange.getResponse().getHeaders().set(CORRELATION_ID_HEADER, correlationId);
+                // the request already carries it, so its headers are not copied
+                return chain.filter(exchange);
             }
 
-            // Add correlation ID to request
-            var request =
+            String generatedId = RequestIds.next();
+            log.debug("Generated new correlation ID: {}", generatedId);
+            exchange.getResponse().getHeaders().set(CORRELATION_ID_HEADER, generatedId);
+            ServerHttpRequest request =
                     exchange.getRequest()
                             .mutate()
-                            .header(CORRELATION_ID_HEADER, correlationId)
+                            .header(CORRELATION_ID_HEADER, generatedId)
                             .build();
-
-            // Add correlation ID to response
-            exchange.getResponse().getHeaders().add(CORRELATION_ID_HEADER, correlationId);
             return chain.filter(exchange.mutate().request(request).build());
         };
     }
@@ -0,0 +1,337 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.filter;
+
+import com.example.api.gateway.cache.CachedResponse;
+import com.example.api.gateway.cache.ResponseCacheMetrics;
+import com.example.api.gateway.cache.ResponseCacheStore;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Response cache for {@code GET} requests shared by all gateway replicas through the {@link
+ * ResponseCacheStore}. Every response it serves carries an {@code ETag}, and a request whose {@code
+ * If-None-Match} matches a cached entry is answered with {@code 304 Not Modified} without reaching
+ * the backend. A successful write through the route purges all of the route's entries.
+ *
+ * <pre>
+ * filters:
+ *   - name: DistributedResponseCache
+ *     args:
+ *       timeToLive: 1m
+ *       localTimeToLive: 10s
+ *       productCodePattern: .*&#47;product-code/(?&lt;productCode&gt;[^/]+)
+ * </pre>
+ */
+@Component
+public class DistributedResponseCacheGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<DistributedResponseCacheGatewayFilterFactory.Config> {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(DistributedResponseCacheGatewayFilterFactory.class);
+
+    private final ResponseCacheStore responseCacheStore;
+    private final ResponseCacheMetrics responseCacheMetrics;
+
+    public DistributedResponseCacheGatewayFilterFactory(
+            ResponseCacheStore responseCacheStore, ResponseCacheMetrics responseCacheMetrics) {
+        super(Config.class);
+        this.responseCacheStore = responseCacheStore;
+        this.responseCacheMetrics = responseCacheMetrics;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("timeToLive", "localTimeToLive");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        Pattern productCodePattern =
+                config.getProductCodePattern() == null
+                        ? null
+                        : Pattern.compile(config.getProductCodePattern());
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            String routeId = routeId(exchange);
+            if (!HttpMethod.GET.equals(request.getMethod())) {
+                return isWrite(request.getMethod())
+                        ? chain.filter(exchange).then(Mono.defer(() -> purge(exchange, routeId)))
+                        : chain.filter(exchange);
+            }
+
+            String key = cacheKey(routeId, request);
+            CachedResponse local = responseCacheStore.getLocal(key);
+            if (local != null) {
+                responseCacheMetrics.hit(routeId);
+                return writeCached(exchange, local);
+            }
+            return responseCacheStore
+                    .getShared(key, config.getLocalTimeToLive())
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(
+                            shared -> {
+                                if (shared.isPresent()) {
+                                    responseCacheMetrics.hit(routeId);
+                                    return writeCached(exchange, shared.get());
+                                }
+                                responseCacheMetrics.miss(routeId);
+                                return fetchAndCache(
+                                        exchange,
+                                        chain,
+                                        config,
+                                        routeId,
+                                        key,
+                                        productCode(productCodePattern, request));
+                            });
+        };
+    }
+
+    private Mono<Void> fetchAndCache(
+            ServerWebExchange exchange,
+            GatewayFilterChain chain,
+            Config config,
+            String routeId,
+            String key,
+            String productCode) {
+        ServerHttpRequest request = exchange.getRequest();
+        // the backend must answer with a full body that can be cached, revalidation is ours
+        ServerHttpRequest forwarded =
+                request.mutate()
+                        .headers(
+                                headers -> {
+                                    headers.remove(HttpHeaders.IF_NONE_MATCH);
+                                    headers.remove(HttpHeaders.IF_MODIFIED_SINCE);
+                                })
+                        .build();
+        long maxBodySize = config.getMaxBodySize().toBytes();
+        ServerHttpResponseDecorator cachingResponse =
+                new ServerHttpResponseDecorator(exchange.getResponse()) {
+                    @Override
+                    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                        if (!isCacheable(getStatusCode(), getHeaders())
+                                || getHeaders().getContentLength() > maxBodySize) {
+                            return super.writeWith(body);
+                        }
+                        // at most maxBodySize is held, a body without a length that grows past it
+                        // is passed through with what was already read; the write is only handed on
+                        // once the headers are final, decorators further out inspect them
+                        AtomicLong size = new AtomicLong();
+                        return Flux.<DataBuffer>from(body)
+                                .bufferUntil(
+                                        buffer ->
+                                                size.addAndGet(buffer.readableByteCount())
+                                                        > maxBodySize)
+                                .switchOnFirst(
+                                        (first, buffers) -> {
+                                            if (!first.hasValue() || size.get() > maxBodySize) {
+                                                return super.writeWith(
+                                                        buffers.flatMapIterable(
+                                                                Function.identity()));
+                                            }
+                                            return cache(read(first.get(), (int) size.get()));
+                                        })
+                                .then();
+                    }
+
+                    private Mono<Void> cache(byte[] bytes) {
+                        CachedResponse cached =
+                                CachedResponse.of(getStatusCode(), getHeaders(), bytes);
+                        // Redis is written off the response path, failures are logged by the store
+                        responseCacheStore
+                                .put(
+                                        routeId,
+                                        key,
+                                        productCode,
+                                        cached,
+                                        config.getTimeToLive(),
+                                        config.getLocalTimeToLive())
+                                .subscribe();
+                        getHeaders().setETag(cached.etag());
+                        if (cached.matches(request.getHeaders().getIfNoneMatch())) {
+                            getDelegate().setStatusCode(HttpStatus.NOT_MODIFIED);
+                            getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+                            return getDelegate().setComplete();
+                        }
+                        getHeaders().remove(HttpHeaders.TRANSFER_ENCODING);
+                        getHeaders().setContentLength(bytes.length);
+                        return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    }
+                };
+        return chain.filter(exchange.mutate().request(forwarded).response(cachingResponse).build());
+    }
+
+    private static byte[] read(List<DataBuffer> buffers, int size) {
+        byte[] bytes = new byte[size];
+        int offset = 0;
+        for (DataBuffer buffer : buffers) {
+            int length = buffer.readableByteCount();
+            buffer.read(bytes, offset, length);
+            offset += length;
+            DataBufferUtils.release(buffer);
+        }
+        return bytes;
+    }
+
+    private static Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        cached.headers().forEach(response.getHeaders()::put);
+        response.getHeaders().setETag(cached.etag());
+        if (cached.matches(exchange.getRequest().getHeaders().getIfNoneMatch())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+        response.setStatusCode(HttpStatusCode.valueOf(cached.status()));
+        response.getHeaders().setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private Mono<Void> purge(ServerWebExchange exchange, String routeId) {
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        if (status == null || !status.is2xxSuccessful()) {
+            return Mono.empty();
+        }
+        return responseCacheStore
+                .purgeRoute(routeId)
+                .doOnNext(purged -> log.debug("Purged {} responses of route {}", purged, routeId))
+                .onErrorResume(
+                        e -> {
+                            log.warn("Purging responses of route {} failed", routeId, e);
+                            return Mono.empty();
+                        })
+                .then();
+    }
+
+    private static boolean isCacheable(HttpStatusCode status, HttpHeaders headers) {
+        if (status == null || status.value() != HttpStatus.OK.value()) {
+            return false;
+        }
+        String cacheControl = Objects.toString(headers.getCacheControl(), "");
+        return !headers.containsHeader(HttpHeaders.SET_COOKIE)
+                && !cacheControl.contains("no-store")
+                && !cacheControl.contains("private");
+    }
+
+    private static boolean isWrite(HttpMethod method) {
+        return HttpMethod.POST.equals(method)
+                || HttpMethod.PUT.equals(method)
+                || HttpMethod.PATCH.equals(method)
+                || HttpMethod.DELETE.equals(method);
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "unknown";
+    }
+
+    private static String cacheKey(String routeId, ServerHttpRequest request) {
+        HttpHeaders headers = request.getHeaders();
+        // the representation may vary by the negotiated content type and encoding
+        String variant =
+                request.getURI().getRawPath()
+                        + '?'
+                        + Objects.toString(request.getURI().getRawQuery(), "")
+                        + '|'
+                        + Objects.toString(headers.getFirst(HttpHeaders.ACCEPT), "")
+                        + '|'
+                        + Objects.toString(headers.getFirst(HttpHeaders.ACCEPT_ENCODING), "");
+        return ResponseCacheStore.KEY_PREFIX
+                + routeId
+                + ':'
+                + DigestUtils.md5DigestAsHex(variant.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String productCode(Pattern productCodePattern, ServerHttpRequest request) {
+        if (productCodePattern == null) {
+            return null;
+        }
+        Matcher matcher = productCodePattern.matcher(request.getURI().getRawPath());
+        return matcher.matches() ? matcher.group("productCode") : null;
+    }
+
+    public static class Config {
+
+        private Duration timeToLive = Duration.ofMinutes(1);
+
+        // how long a replica serves an entry from memory before checking Redis again
+        private Duration localTimeToLive = Duration.ofSeconds(10);
+
+        // largest response buffered and cached, larger ones are passed through
+        private DataSize maxBodySize = DataSize.ofMegabytes(1);
+
+        // regex over the request path with a productCode group, entries it matches are purged by
+        // product code instead of with every product
+        private String productCodePattern;
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public Config setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        public Duration getLocalTimeToLive() {
+            return localTimeToLive;
+        }
+
+        public Config setLocalTimeToLive(Duration localTimeToLive) {
+            this.localTimeToLive = localTimeToLive;
+            return this;
+        }
+
+        public DataSize getMaxBodySize() {
+            return maxBodySize;
+        }
+
+        public Config setMaxBodySize(DataSize maxBodySize) {
+            this.maxBodySize = maxBodySize;
+            return this;
+        }
+
+        public String getProductCodePattern() {
+            return productCodePattern;
+        }
+
+        public Config setProductCodePattern(String productCodePattern) {
+            this.productCodePattern = productCodePattern;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.filter;
+
+import com.example.api.gateway.projection.FieldSelection;
+import java.net.URI;
+import java.util.List;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Trims JSON responses down to the attributes a client names with {@code ?fields=}, see {@link
+ * FieldSelection} for the syntax. The parameter is removed before the request is forwarded, so the
+ * upstream, the response cache and request coalescing see one request whatever the selection. Put
+ * it before those filters on a route. Responses that are not JSON, not successful, without a
+ * {@code Content-Length} or larger than {@code maxBodySize} are passed through whole.
+ *
+ * <pre>
+ * filters:
+ *   - name: FieldSelection
+ *     args:
+ *       maxBodySize: 1MB
+ * </pre>
+ */
+@Component
+public class FieldSelectionGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<FieldSelectionGatewayFilterFactory.Config> {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(FieldSelectionGatewayFilterFactory.class);
+
+    private static final String FIELDS_PARAMETER = "fields";
+
+    private final JsonMapper jsonMapper;
+
+    public FieldSelectionGatewayFilterFactory(JsonMapper jsonMapper) {
+        super(Config.class);
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("maxBodySize");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            String expression = request.getQueryParams().getFirst(FIELDS_PARAMETER);
+            if (!HttpMethod.GET.equals(request.getMethod()) || expression == null) {
+                return chain.filter(exchange);
+            }
+            FieldSelection selection;
+            try {
+                selection = FieldSelection.parse(expression);
+            } catch (IllegalArgumentException e) {
+                exchange.getResponse().setStatusCode(HttpStatus.BAD_REQUEST);
+                return exchange.getResponse().setComplete();
+            }
+            URI upstreamUri =
+                    UriComponentsBuilder.fromUri(request.getURI())
+                            .replaceQueryParam(FIELDS_PARAMETER)
+                            .build(true)
+                            .toUri();
+            return chain.filter(
+                    exchange.mutate()
+                            .request(request.mutate().uri(upstreamUri).build())
+                            .response(selectingResponse(exchange, selection, config))
+                            .build());
+        };
+    }
+
+    private ServerHttpResponseDecorator selectingResponse(
+            ServerWebExchange exchange, FieldSelection selection, Config config) {
+        long maxBodySize = Math.min(config.getMaxBodySize().toBytes(), Integer.MAX_VALUE);
+        return new ServerHttpResponseDecorator(exchange.getResponse()) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                if (!isSelectable(getStatusCode(), getHeaders(), maxBodySize)) {
+                    return super.writeWith(body);
+                }
+                // the announced length is only trusted up to the limit
+                return DataBufferUtils.join(body, (int) maxBodySize)
+                        .flatMap(
+                                joined -> {
+                                    byte[] bytes = new byte[joined.readableByteCount()];
+                                    joined.read(bytes);
+                                    DataBufferUtils.release(joined);
+                                    byte[] selected = select(bytes, selection);
+                                    if (selected != bytes) {
+                                        // the representation changed, so did its validator
+                                        getHeaders().remove(HttpHeaders.ETAG);
+                                    }
+                                    getHeaders().setContentLength(selected.length);
+                                    return super.writeWith(
+                                            Mono.just(bufferFactory().wrap(selected)));
+                                });
+            }
+        };
+    }
+
+    private byte[] select(byte[] body, FieldSelection selection) {
+        try {
+            return jsonMapper.writeValueAsBytes(selection.apply(jsonMapper.readTree(body)));
+        } catch (JacksonException e) {
+            log.debug("Passing through a response that is not valid JSON", e);
+            return body;
+        }
+    }
+
+    private static boolean isSelectable(
+            HttpStatusCode status, HttpHeaders headers, long maxBodySize) {
+        MediaType contentType = headers.getContentType();
+        long contentLength = headers.getContentLength();
+        // a body without a length is not buffered, its size is only known once it is read
+        return status != null
+                && status.is2xxSuccessful()
+                && contentType != null
+                && (MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+                        || contentType.getSubtype().endsWith("+json"))
+                && !headers.containsHeader(HttpHeaders.CONTENT_ENCODING)
+                && contentLength >= 0
+                && contentLength <= maxBodySize;
+    }
+
+    public static class Config {
+
+        // larger responses are forwarded whole rather than held in memory to be trimmed
+        private DataSize maxBodySize = DataSize.ofMegabytes(1);
+
+        public DataSize getMaxBodySize() {
+            return maxBodySize;
+        }
+
+        public Config setMaxBodySize(DataSize maxBodySize) {
+            this.maxBodySize = maxBodySize;
+            return this;
+        }
+    }
+}
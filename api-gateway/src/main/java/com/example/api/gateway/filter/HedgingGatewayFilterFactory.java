@@ -0,0 +1,476 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.filter;
+
+import com.example.api.gateway.hedge.HedgeBudget;
+import com.example.api.gateway.hedge.HedgingMetrics;
+import com.example.api.gateway.hedge.LatencyWindow;
+import com.example.api.gateway.upstream.UpstreamHttpClients;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerUriTools;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.HasRouteId;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * Hedges {@code GET} requests of a load balanced route: when the instance chosen by the load
+ * balancer has not answered within the configured percentile of the route's recent latencies, the
+ * request is sent once more to another instance and whichever response arrives first is used. The
+ * extra requests of a route are bounded by a {@link HedgeBudget}.
+ *
+ * <p>The filter runs right after the load balancer has chosen an instance and sends the requests
+ * itself through the connection pool of the route, buffering the response, so it suits routes with
+ * small idempotent responses. A response larger than {@code maxBodySize}, or without a {@code
+ * Content-Length}, is not buffered: it is streamed to the client from the instance that answered
+ * first, so the request is never sent again.
+ *
+ * <pre>
+ * filters:
+ *   - name: Hedging
+ *     args:
+ *       percentile: 0.95
+ *       budgetPercent: 10
+ *       maxBodySize: 256KB
+ * </pre>
+ */
+@Component
+public class HedgingGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<HedgingGatewayFilterFactory.Config> {
+
+    private static final Logger log = LoggerFactory.getLogger(HedgingGatewayFilterFactory.class);
+
+    private static final byte[] NO_BODY = new byte[0];
+
+    private final HttpClient httpClient;
+    private final ConcurrentMap<ClientKey, HedgingClient> clients = new ConcurrentHashMap<>();
+    private final UpstreamHttpClients upstreamHttpClients;
+    private final LoadBalancerClientFactory clientFactory;
+    private final ObjectProvider<List<HttpHeadersFilter>> headersFilters;
+    private final HttpClientProperties httpClientProperties;
+    private final HedgingMetrics hedgingMetrics;
+
+    public HedgingGatewayFilterFactory(
+            HttpClient httpClient,
+            LoadBalancerClientFactory clientFactory,
+            ObjectProvider<List<HttpHeadersFilter>> headersFilters,
+            HttpClientProperties httpClientProperties,
+            HedgingMetrics hedgingMetrics,
+            UpstreamHttpClients upstreamHttpClients) {
+        super(Config.class);
+        // the gateway's own client for routes without a pool of their own, instances are
+        // already resolved when the filter runs
+        this.httpClient = httpClient;
+        this.clientFactory = clientFactory;
+        this.headersFilters = headersFilters;
+        this.httpClientProperties = httpClientProperties;
+        this.hedgingMetrics = hedgingMetrics;
+        this.upstreamHttpClients = upstreamHttpClients;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("percentile", "budgetPercent");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        LatencyWindow latencies =
+                new LatencyWindow(config.getWindowSize(), config.getPercentile());
+        HedgeBudget budget = new HedgeBudget(config.getBudgetPercent(), config.getBurst());
+        HedgingMetrics.RouteHedges hedges =
+                hedgingMetrics.forRoute(String.valueOf(config.getRouteId()));
+        GatewayFilter filter =
+                (exchange, chain) -> {
+                    Response<ServiceInstance> chosen =
+                            exchange.getAttribute(
+                                    ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+                    URI requestUrl =
+                            exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+                    if (!HttpMethod.GET.equals(exchange.getRequest().getMethod())
+                            || ServerWebExchangeUtils.isAlreadyRouted(exchange)
+                            || chosen == null
+                            || !chosen.hasServer()
+                            || requestUrl == null) {
+                        return chain.filter(exchange);
+                    }
+                    budget.deposit();
+                    Duration hedgeAfter = hedgeDelay(latencies, config);
+                    if (hedgeAfter == null) {
+                        // still learning the route's latencies, route as usual
+                        long start = System.nanoTime();
+                        return chain.filter(exchange)
+                                .doOnSuccess(done -> latencies.record(System.nanoTime() - start));
+                    }
+                    return hedged(
+                            exchange,
+                            client(exchange, config),
+                            chosen.getServer(),
+                            requestUrl,
+                            hedgeAfter,
+                            budget,
+                            hedges)
+                            .flatMap(
+                                    attempt -> {
+                                        latencies.record(attempt.latencyNanos());
+                                        if (attempt.streamed()) {
+                                            hedges.streamed();
+                                        }
+                                        if (attempt.hedge()) {
+                                            hedges.won();
+                                        }
+                                        ServerWebExchangeUtils.setAlreadyRouted(exchange);
+                                        return write(exchange, attempt);
+                                    });
+                };
+        return new OrderedGatewayFilter(
+                filter, ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1);
+    }
+
+    private static Duration hedgeDelay(LatencyWindow latencies, Config config) {
+        Duration percentile = latencies.percentile();
+        if (percentile == null) {
+            return null;
+        }
+        if (percentile.compareTo(config.getMinDelay()) < 0) {
+            return config.getMinDelay();
+        }
+        return percentile.compareTo(config.getMaxDelay()) > 0 ? config.getMaxDelay() : percentile;
+    }
+
+    // the client of the pool UpstreamRoutingFilter would have sent the request through
+    private HedgingClient client(ServerWebExchange exchange, Config config) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String poolName = route != null ? UpstreamHttpClients.poolName(route) : null;
+        int maxBodySize = (int) Math.min(config.getMaxBodySize().toBytes(), Integer.MAX_VALUE);
+        return clients.computeIfAbsent(new ClientKey(poolName, maxBodySize), this::newClient);
+    }
+
+    private HedgingClient newClient(ClientKey key) {
+        HttpClient poolClient =
+                key.poolName() != null ? upstreamHttpClients.forPool(key.poolName()) : httpClient;
+        WebClient webClient =
+                WebClient.builder()
+                        .clientConnector(new ReactorClientHttpConnector(poolClient))
+                        .build();
+        return new HedgingClient(webClient, key.maxBodySize());
+    }
+
+    private Mono<Attempt> hedged(
+            ServerWebExchange exchange,
+            HedgingClient client,
+            ServiceInstance primary,
+            URI requestUrl,
+            Duration hedgeAfter,
+            HedgeBudget budget,
+            HedgingMetrics.RouteHedges hedges) {
+        HttpHeaders headers =
+                HttpHeadersFilter.filterRequest(headersFilters.getIfAvailable(), exchange);
+        headers.remove(HttpHeaders.HOST);
+        AtomicReference<Throwable> primaryError = new AtomicReference<>();
+        Mono<Attempt> primaryAttempt =
+                send(client, requestUrl, headers, false).doOnError(primaryError::set);
+        Mono<Attempt> hedgeAttempt =
+                Mono.delay(hedgeAfter)
+                        .then(
+                                Mono.defer(
+                                        () ->
+                                                hedge(
+                                                        client,
+                                                        primary,
+                                                        requestUrl,
+                                                        headers,
+                                                        budget,
+                                                        hedges)));
+        // the loser is cancelled, a failed primary is only reported when no hedge answered either;
+        // a response that is streamed ends the race as soon as its headers arrive
+        return Mono.firstWithValue(primaryAttempt, hedgeAttempt)
+                .onErrorMap(e -> primaryError.get() != null ? primaryError.get() : e);
+    }
+
+    private Mono<Attempt> hedge(
+            HedgingClient client,
+            ServiceInstance primary,
+            URI requestUrl,
+            HttpHeaders headers,
+            HedgeBudget budget,
+            HedgingMetrics.RouteHedges hedges) {
+        if (!budget.tryAcquire()) {
+            hedges.overBudget();
+            return Mono.empty();
+        }
+        return otherInstance(primary)
+                .flatMap(
+                        instance -> {
+                            hedges.issued();
+                            URI hedgeUrl =
+                                    LoadBalancerUriTools.reconstructURI(instance, requestUrl);
+                            return send(client, hedgeUrl, headers, true);
+                        });
+    }
+
+    private Mono<ServiceInstance> otherInstance(ServiceInstance primary) {
+        ServiceInstanceListSupplier supplier =
+                clientFactory.getInstance(
+                        primary.getServiceId(), ServiceInstanceListSupplier.class);
+        if (supplier == null) {
+            return Mono.empty();
+        }
+        return supplier.get()
+                .next()
+                .mapNotNull(
+                        instances -> {
+                            List<ServiceInstance> others =
+                                    instances.stream()
+                                            .filter(instance -> !sameAddress(instance, primary))
+                                            .toList();
+                            if (others.isEmpty()) {
+                                log.debug(
+                                        "No other instance of {} to hedge on",
+                                        primary.getServiceId());
+                                return null;
+                            }
+                            return others.get(ThreadLocalRandom.current().nextInt(others.size()));
+                        });
+    }
+
+    private static boolean sameAddress(ServiceInstance instance, ServiceInstance other) {
+        return instance.getHost().equals(other.getHost()) && instance.getPort() == other.getPort();
+    }
+
+    private Mono<Attempt> send(
+            HedgingClient client, URI url, HttpHeaders headers, boolean hedge) {
+        return Mono.defer(
+                () -> {
+                    long start = System.nanoTime();
+                    Mono<Attempt> attempt =
+                            client.webClient()
+                                    .get()
+                                    .uri(url)
+                                    .headers(requestHeaders -> requestHeaders.addAll(headers))
+                                    .retrieve()
+                                    // error statuses are answers like any other for the client
+                                    .onStatus(status -> true, response -> Mono.empty())
+                                    .toEntityFlux(DataBuffer.class)
+                                    .flatMap(
+                                            entity ->
+                                                    read(
+                                                            entity,
+                                                            client.maxBodySize(),
+                                                            hedge,
+                                                            start));
+                    Duration responseTimeout = httpClientProperties.getResponseTimeout();
+                    return responseTimeout != null ? attempt.timeout(responseTimeout) : attempt;
+                });
+    }
+
+    private static Mono<Attempt> read(
+            ResponseEntity<Flux<DataBuffer>> entity, int maxBodySize, boolean hedge, long start) {
+        long contentLength = entity.getHeaders().getContentLength();
+        if (contentLength < 0 || contentLength > maxBodySize) {
+            // the body is left unread until it is written to the client
+            return Mono.just(Attempt.streamed(entity, hedge, start));
+        }
+        return DataBufferUtils.join(entity.getBody(), maxBodySize)
+                .map(
+                        buffer -> {
+                            byte[] body = new byte[buffer.readableByteCount()];
+                            buffer.read(body);
+                            DataBufferUtils.release(buffer);
+                            return body;
+                        })
+                .defaultIfEmpty(NO_BODY)
+                .map(body -> Attempt.buffered(entity, body, hedge, start));
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, Attempt attempt) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(attempt.status());
+        response.getHeaders()
+                .putAll(
+                        HttpHeadersFilter.filter(
+                                headersFilters.getIfAvailable(),
+                                attempt.headers(),
+                                exchange,
+                                HttpHeadersFilter.Type.RESPONSE));
+        response.getHeaders().remove(HttpHeaders.TRANSFER_ENCODING);
+        if (attempt.streamed()) {
+            // sent with the instance's Content-Length, or chunked without one
+            return response.writeWith(attempt.stream());
+        }
+        response.getHeaders().setContentLength(attempt.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(attempt.body())));
+    }
+
+    private record ClientKey(String poolName, int maxBodySize) {}
+
+    private record HedgingClient(WebClient webClient, int maxBodySize) {}
+
+    // either the buffered body or the unread stream of the response
+    private record Attempt(
+            HttpStatusCode status,
+            HttpHeaders headers,
+            byte[] body,
+            Flux<DataBuffer> stream,
+            boolean hedge,
+            long latencyNanos) {
+
+        static Attempt buffered(
+                ResponseEntity<?> entity, byte[] body, boolean hedge, long startNanos) {
+            return new Attempt(
+                    entity.getStatusCode(),
+                    entity.getHeaders(),
+                    body,
+                    null,
+                    hedge,
+                    System.nanoTime() - startNanos);
+        }
+
+        static Attempt streamed(
+                ResponseEntity<Flux<DataBuffer>> entity, boolean hedge, long startNanos) {
+            return new Attempt(
+                    entity.getStatusCode(),
+                    entity.getHeaders(),
+                    null,
+                    entity.getBody(),
+                    hedge,
+                    System.nanoTime() - startNanos);
+        }
+
+        boolean streamed() {
+            return stream != null;
+        }
+    }
+
+    public static class Config implements HasRouteId {
+
+        private String routeId;
+
+        // share of the recent latencies a response may take before it is hedged
+        private double percentile = 0.95;
+
+        private Duration minDelay = Duration.ofMillis(10);
+
+        private Duration maxDelay = Duration.ofSeconds(1);
+
+        // extra requests hedging may add, as a percentage of the route's GET requests
+        private double budgetPercent = 10;
+
+        private int burst = 10;
+
+        private int windowSize = 256;
+
+        // largest response buffered for hedging, larger ones are streamed from the first answer
+        private DataSize maxBodySize = DataSize.ofKilobytes(256);
+
+        @Override
+        public void setRouteId(String routeId) {
+            this.routeId = routeId;
+        }
+
+        @Override
+        public String getRouteId() {
+            return routeId;
+        }
+
+        public double getPercentile() {
+            return percentile;
+        }
+
+        public Config setPercentile(double percentile) {
+            this.percentile = percentile;
+            return this;
+        }
+
+        public Duration getMinDelay() {
+            return minDelay;
+        }
+
+        public Config setMinDelay(Duration minDelay) {
+            this.minDelay = minDelay;
+            return this;
+        }
+
+        public Duration getMaxDelay() {
+            return maxDelay;
+        }
+
+        public Config setMaxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        public double getBudgetPercent() {
+            return budgetPercent;
+        }
+
+        public Config setBudgetPercent(double budgetPercent) {
+            this.budgetPercent = budgetPercent;
+            return this;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public Config setBurst(int burst) {
+            this.burst = burst;
+            return this;
+        }
+
+        public int getWindowSize() {
+            return windowSize;
+        }
+
+        public Config setWindowSize(int windowSize) {
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        public DataSize getMaxBodySize() {
+            return maxBodySize;
+        }
+
+        public Config setMaxBodySize(DataSize maxBodySize) {
+            this.maxBodySize = maxBodySize;
+            return this;
+        }
+    }
+}
@@ -1,66 +1,98 @@
 /***
 <p>
-    Licensed under MIT License Copyright (c) 2021-2025 Raja Kolli.
+    Licensed under MIT License Copyright (c) 2021-2026 Raja Kolli.
 </p>
 ***/
 
 package com.example.api.gateway.filter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StopWatch;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.SignalType;
 
+/**
+ * Times every proxied request into the {@code gateway.access} timer, tagged by status, and logs a
+ * sample of them. Server errors are always logged, as is every request at debug level.
+ */
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE + 1)
 class LoggingFilter implements GlobalFilter {
 
     private static final Logger log = LoggerFactory.getLogger(LoggingFilter.class);
 
+    // slot 0 holds the timer of exchanges ending without a status
+    private static final int STATUS_SLOTS = 600;
+
+    private final MeterRegistry meterRegistry;
+    private final double sampleRate;
+    private final AtomicReferenceArray<Timer> timers = new AtomicReferenceArray<>(STATUS_SLOTS);
+
+    LoggingFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.gateway.access-log.sample-rate:0.01}") double sampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = sampleRate;
+    }
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
         // skip actuator traces
-        if (exchange.getRequest().getURI().getPath().contains("/actuator")) {
+        if (request.getURI().getRawPath().contains("/actuator")) {
             if (log.isTraceEnabled()) {
-                log.trace("Path of the request received -> {}", exchange.getRequest().getPath());
+                log.trace("Path of the request received -> {}", request.getPath());
             }
             return chain.filter(exchange);
         }
 
-        StopWatch stopWatch = new StopWatch();
-        stopWatch.start();
-        log.info(
-                "Path of the request received -> {} with method {}",
-                exchange.getRequest().getPath(),
-                exchange.getRequest().getMethod());
-
+        long start = System.nanoTime();
         return chain.filter(exchange)
-                .doFinally(
-                        (SignalType signal) -> {
-                            Integer status = null;
-                            try {
-                                if (exchange.getResponse() != null
-                                        && exchange.getResponse().getStatusCode() != null) {
-                                    status = exchange.getResponse().getStatusCode().value();
-                                }
-                            } catch (Exception e) {
-                                // ignore - best effort to read status
-                            }
-                            stopWatch.stop();
-                            long took = stopWatch.getTotalTimeMillis();
-                            log.info(
-                                    "Request {} {} -> status={} took={}ms",
-                                    exchange.getRequest().getMethod(),
-                                    exchange.getRequest().getURI().getPath(),
-                                    status == null ? "UNKNOWN" : status,
-                                    took);
-                        });
+                .doFinally(signal -> record(exchange, System.nanoTime() - start));
+    }
+
+    private void record(ServerWebExchange exchange, long tookNanos) {
+        HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+        int status = statusCode != null ? statusCode.value() : 0;
+        timer(status).record(tookNanos, TimeUnit.NANOSECONDS);
+        if (status >= 500
+                || log.isDebugEnabled()
+                || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            ServerHttpRequest request = exchange.getRequest();
+            log.info(
+                    "Request {} {} -> status={} took={}ms",
+                    request.getMethod(),
+                    request.getURI().getRawPath(),
+                    status == 0 ? "UNKNOWN" : status,
+                    TimeUnit.NANOSECONDS.toMillis(tookNanos));
+        }
+    }
+
+    private Timer timer(int status) {
+        int slot = status > 0 && status < STATUS_SLOTS ? status : 0;
+        Timer timer = timers.get(slot);
+        if (timer == null) {
+            timer =
+                    Timer.builder("gateway.access")
+                            .description("Time taken to proxy requests through the gateway")
+                            .tag("status", slot == 0 ? "UNKNOWN" : Integer.toString(slot))
+                            .register(meterRegistry);
+            // registering twice returns the same timer, losing the race costs nothing
+            timers.set(slot, timer);
+        }
+        return timer;
     }
 }
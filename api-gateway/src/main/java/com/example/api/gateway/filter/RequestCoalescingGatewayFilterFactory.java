@@ -0,0 +1,225 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.filter;
+
+import com.example.api.gateway.cache.CachedResponse;
+import com.example.api.gateway.coalescing.CoalescingMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Collapses identical {@code GET} requests that are in flight at the same time into one upstream
+ * exchange. The first request of a kind is forwarded as usual and its buffered response is handed
+ * to every identical request arriving while it is outstanding. Requests are identical when their
+ * path, query and the configured headers are. Only a response with a {@code Content-Length} of at
+ * most {@code maxBodySize} is shared, and a waiting request that gets no shareable response within
+ * {@code maxWait} is forwarded on its own.
+ *
+ * <pre>
+ * filters:
+ *   - name: RequestCoalescing
+ *     args:
+ *       maxWait: 2s
+ *       maxBodySize: 1MB
+ * </pre>
+ */
+@Component
+public class RequestCoalescingGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<RequestCoalescingGatewayFilterFactory.Config> {
+
+    private final CoalescingMetrics coalescingMetrics;
+
+    public RequestCoalescingGatewayFilterFactory(CoalescingMetrics coalescingMetrics) {
+        super(Config.class);
+        this.coalescingMetrics = coalescingMetrics;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("maxWait", "maxBodySize");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        ConcurrentMap<String, Mono<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (!HttpMethod.GET.equals(request.getMethod())) {
+                return chain.filter(exchange);
+            }
+            String routeId = routeId(exchange);
+            String key = coalescingKey(request, config.getHeaders());
+            Sinks.One<CachedResponse> leaderResponse = Sinks.one();
+            Mono<CachedResponse> shared = leaderResponse.asMono();
+            Mono<CachedResponse> outstanding = inFlight.putIfAbsent(key, shared);
+            if (outstanding != null) {
+                return follow(exchange, chain, config, routeId, outstanding);
+            }
+            coalescingMetrics.leader(routeId);
+            return lead(exchange, chain, config, leaderResponse)
+                    .doFinally(
+                            signal -> {
+                                inFlight.remove(key, shared);
+                                // followers of a response that could not be shared go upstream
+                                leaderResponse.tryEmitEmpty();
+                            });
+        };
+    }
+
+    private Mono<Void> lead(
+            ServerWebExchange exchange,
+            GatewayFilterChain chain,
+            Config config,
+            Sinks.One<CachedResponse> leaderResponse) {
+        long maxBodySize = Math.min(config.getMaxBodySize().toBytes(), Integer.MAX_VALUE);
+        ServerHttpResponseDecorator sharingResponse =
+                new ServerHttpResponseDecorator(exchange.getResponse()) {
+                    @Override
+                    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                        if (!isShareable(getHeaders(), maxBodySize)) {
+                            leaderResponse.tryEmitEmpty();
+                            return super.writeWith(body);
+                        }
+                        // the announced length is only trusted up to the limit
+                        return DataBufferUtils.join(body, (int) maxBodySize)
+                                .flatMap(
+                                        joined -> {
+                                            byte[] bytes = new byte[joined.readableByteCount()];
+                                            joined.read(bytes);
+                                            DataBufferUtils.release(joined);
+                                            leaderResponse.tryEmitValue(
+                                                    CachedResponse.of(
+                                                            getStatusCode(), getHeaders(), bytes));
+                                            return super.writeWith(
+                                                    Mono.just(bufferFactory().wrap(bytes)));
+                                        });
+                    }
+                };
+        return chain.filter(exchange.mutate().response(sharingResponse).build());
+    }
+
+    private Mono<Void> follow(
+            ServerWebExchange exchange,
+            GatewayFilterChain chain,
+            Config config,
+            String routeId,
+            Mono<CachedResponse> outstanding) {
+        return outstanding
+                .timeout(config.getMaxWait(), Mono.empty())
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(
+                        response -> {
+                            if (response.isEmpty()) {
+                                coalescingMetrics.fallback(routeId);
+                                return chain.filter(exchange);
+                            }
+                            coalescingMetrics.follower(routeId);
+                            return writeShared(exchange, response.get());
+                        });
+    }
+
+    private static Mono<Void> writeShared(ServerWebExchange exchange, CachedResponse shared) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatusCode.valueOf(shared.status()));
+        shared.headers().forEach(response.getHeaders()::put);
+        response.getHeaders().setContentLength(shared.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.body())));
+    }
+
+    private static boolean isShareable(HttpHeaders headers, long maxBodySize) {
+        String cacheControl = Objects.toString(headers.getCacheControl(), "");
+        long contentLength = headers.getContentLength();
+        // a response without a length or announcing a larger body is streamed through instead
+        return !headers.containsHeader(HttpHeaders.SET_COOKIE)
+                && !cacheControl.contains("private")
+                && contentLength >= 0
+                && contentLength <= maxBodySize;
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "unknown";
+    }
+
+    private static String coalescingKey(ServerHttpRequest request, List<String> headerNames) {
+        StringBuilder key =
+                new StringBuilder(request.getURI().getRawPath())
+                        .append('?')
+                        .append(Objects.toString(request.getURI().getRawQuery(), ""));
+        for (String headerName : headerNames) {
+            key.append('|').append(request.getHeaders().getOrEmpty(headerName));
+        }
+        return key.toString();
+    }
+
+    public static class Config {
+
+        // how long an identical request waits for the leader before going upstream itself
+        private Duration maxWait = Duration.ofSeconds(2);
+
+        private DataSize maxBodySize = DataSize.ofMegabytes(1);
+
+        // request headers the response may vary by, requests differing in them are not collapsed
+        private List<String> headers =
+                List.of(
+                        HttpHeaders.ACCEPT,
+                        HttpHeaders.ACCEPT_ENCODING,
+                        HttpHeaders.ACCEPT_LANGUAGE,
+                        HttpHeaders.AUTHORIZATION);
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public Config setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        public DataSize getMaxBodySize() {
+            return maxBodySize;
+        }
+
+        public Config setMaxBodySize(DataSize maxBodySize) {
+            this.maxBodySize = maxBodySize;
+            return this;
+        }
+
+        public List<String> getHeaders() {
+            return headers;
+        }
+
+        public Config setHeaders(List<String> headers) {
+            this.headers = headers;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.filter;
+
+import com.example.api.gateway.compression.CompressionMetrics;
+import com.example.api.gateway.compression.CompressionProperties;
+import com.example.api.gateway.compression.ContentEncoding;
+import com.example.api.gateway.compression.StreamingEncoder;
+import java.util.List;
+import java.util.function.Function;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Compresses proxied responses with the best encoding the client accepts, brotli or gzip, when
+ * their type is listed in {@code app.gateway.compression.mime-types} and they are not known to be
+ * smaller than {@code min-response-size}. {@code Accept-Encoding} is not forwarded, so upstreams
+ * answer unencoded and the response cache and request coalescing hold responses any client can
+ * take, encoded per client on the way out. Responses that are encoded already are passed through.
+ * Clients accepting an encoding get {@code ETag}s as weak validators, which {@code If-None-Match}
+ * still matches.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+class ResponseCompressionFilter implements GlobalFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCompressionFilter.class);
+
+    private final CompressionProperties properties;
+    private final CompressionMetrics compressionMetrics;
+    private final List<MimeType> mimeTypes;
+    private final boolean brotli;
+
+    ResponseCompressionFilter(
+            CompressionProperties properties, CompressionMetrics compressionMetrics) {
+        this.properties = properties;
+        this.compressionMetrics = compressionMetrics;
+        this.mimeTypes = MimeTypeUtils.parseMimeTypes(properties.getMimeTypes());
+        this.brotli = properties.isBrotli() && ContentEncoding.brotliAvailable();
+        if (properties.isBrotli() && !brotli) {
+            log.warn("Brotli is not available on this platform, compressing with gzip only");
+        }
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled() || HttpMethod.HEAD.equals(exchange.getRequest().getMethod())) {
+            return chain.filter(exchange);
+        }
+        HttpHeaders requestHeaders = exchange.getRequest().getHeaders();
+        String acceptEncoding = requestHeaders.getFirst(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return chain.filter(exchange);
+        }
+        // upstreams answer unencoded, the gateway encodes for each client
+        ServerWebExchange identityExchange =
+                exchange.mutate()
+                        .request(request -> request.headers(this::removeAcceptEncoding))
+                        .build();
+        ContentEncoding encoding = ContentEncoding.negotiate(acceptEncoding, brotli);
+        if (encoding == null) {
+            return chain.filter(identityExchange);
+        }
+        // the encoded body is not byte for byte the cached one, but means the same
+        identityExchange.getResponse().beforeCommit(() -> weakenETag(identityExchange));
+        ServerHttpResponseDecorator compressingResponse =
+                new ServerHttpResponseDecorator(identityExchange.getResponse()) {
+                    @Override
+                    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                        if (!isCompressible(this)) {
+                            return super.writeWith(body);
+                        }
+                        HttpHeaders headers = getHeaders();
+                        headers.set(HttpHeaders.CONTENT_ENCODING, encoding.token());
+                        headers.remove(HttpHeaders.CONTENT_LENGTH);
+                        return super.writeWith(encode(body, encoding, bufferFactory()::wrap));
+                    }
+                };
+        return chain.filter(identityExchange.mutate().response(compressingResponse).build());
+    }
+
+    /**
+     * Turns a strong {@code ETag} into a weak one for clients that may get an encoded body, on
+     * {@code 304 Not Modified} answers too so they carry the tag the client holds. Weak tags still
+     * match {@code If-None-Match}, so revalidation keeps working.
+     */
+    private static Mono<Void> weakenETag(ServerWebExchange exchange) {
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        String etag = headers.getETag();
+        if (etag != null && !etag.startsWith("W/")) {
+            headers.setETag("W/" + etag);
+        }
+        return Mono.empty();
+    }
+
+    private void removeAcceptEncoding(HttpHeaders headers) {
+        headers.remove(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    private Flux<DataBuffer> encode(
+            Publisher<? extends DataBuffer> body,
+            ContentEncoding encoding,
+            Function<byte[], DataBuffer> wrap) {
+        return Flux.using(
+                () -> encoding.newEncoder(properties),
+                encoder ->
+                        Flux.from(body)
+                                .map(buffer -> encoder.encode(toBytes(buffer)))
+                                .concatWith(Mono.fromCallable(encoder::finish))
+                                .filter(encoded -> encoded.length > 0)
+                                .map(wrap)
+                                .doOnComplete(
+                                        () ->
+                                                compressionMetrics.record(
+                                                        encoding,
+                                                        encoder.originalBytes(),
+                                                        encoder.encodedBytes())),
+                StreamingEncoder::close);
+    }
+
+    private boolean isCompressible(ServerHttpResponse response) {
+        HttpHeaders headers = response.getHeaders();
+        HttpStatusCode status = response.getStatusCode();
+        MediaType contentType = headers.getContentType();
+        long contentLength = headers.getContentLength();
+        boolean compressible =
+                contentType != null
+                        && mimeTypes.stream().anyMatch(type -> type.isCompatibleWith(contentType))
+                        && !headers.containsHeader(HttpHeaders.CONTENT_ENCODING)
+                        && !String.valueOf(headers.getCacheControl()).contains("no-transform")
+                        && (status == null
+                                || (!status.isSameCodeAs(HttpStatus.NO_CONTENT)
+                                        && !status.isSameCodeAs(HttpStatus.NOT_MODIFIED)));
+        if (compressible && !headers.getVary().contains(HttpHeaders.ACCEPT_ENCODING)) {
+            // caches keep a copy per encoding, even of responses too small to encode
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        return compressible
+                && (contentLength < 0
+                        || contentLength >= properties.getMinResponseSize().toBytes());
+    }
+
+    private static byte[] toBytes(DataBuffer buffer) {
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        DataBufferUtils.release(buffer);
+        return bytes;
+    }
+}
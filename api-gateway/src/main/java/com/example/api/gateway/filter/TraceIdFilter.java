@@ -6,9 +6,9 @@
 
 package com.example.api.gateway.filter;
 
+import com.example.api.gateway.util.RequestIds;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanContext;
-import java.util.UUID;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
@@ -31,10 +31,7 @@ class TraceIdFilter implements WebFilter {
         exchange.getResponse()
                 .beforeCommit(
                         () -> {
-                            String traceId = getTraceId();
-                            if (traceId != null) {
-                                exchange.getResponse().getHeaders().add(TRACE_ID_HEADER, traceId);
-                            }
+                            exchange.getResponse().getHeaders().set(TRACE_ID_HEADER, getTraceId());
                             return Mono.empty();
                         });
         return chain.filter(exchange);
@@ -42,14 +39,10 @@ class TraceIdFilter implements WebFilter {
 
     private String getTraceId() {
         SpanContext spanContext = Span.current().getSpanContext();
-        String traceId = null;
         if (spanContext.isValid()) {
-            traceId = spanContext.getTraceId();
+            return spanContext.getTraceId();
         }
-        // Generate a random UUID if traceId is still null as fallback
-        if (traceId == null) {
-            traceId = UUID.randomUUID().toString();
-        }
-        return traceId;
+        // fall back to a random id when no span is recording
+        return RequestIds.next();
     }
 }
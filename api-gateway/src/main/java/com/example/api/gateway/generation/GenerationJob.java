@@ -0,0 +1,117 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.generation;
+
+import com.example.api.gateway.model.GenerationResponse;
+import com.example.api.gateway.model.GenerationStatus;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * One data generation run. Every step change is published to {@link #updates()}, which replays the
+ * latest status to late subscribers and completes once the job has finished.
+ */
+public final class GenerationJob {
+
+    enum State {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    enum Step {
+        CATALOG,
+        AWAITING_INVENTORY,
+        INVENTORY,
+        ORDER,
+        AWAITING_ORDERS,
+        DONE
+    }
+
+    private final String jobId;
+    private final Integer batchSize;
+    private final long startNanos = System.nanoTime();
+    private final Sinks.Many<GenerationStatus> updates = Sinks.many().replay().latest();
+
+    // guarded by this
+    private State state = State.RUNNING;
+    private Step step = Step.CATALOG;
+    private long stepStartNanos = startNanos;
+    private long endNanos;
+    private String message;
+    private final Map<String, String> serviceResponses = new LinkedHashMap<>();
+    private final Map<String, Long> stepMillis = new LinkedHashMap<>();
+
+    GenerationJob(String jobId, Integer batchSize) {
+        this.jobId = jobId;
+        this.batchSize = batchSize;
+        updates.tryEmitNext(status());
+    }
+
+    public String jobId() {
+        return jobId;
+    }
+
+    public Integer batchSize() {
+        return batchSize;
+    }
+
+    synchronized void step(Step next) {
+        advance(next, System.nanoTime());
+        updates.tryEmitNext(status());
+    }
+
+    private void advance(Step next, long now) {
+        stepMillis.put(stepName(step), Duration.ofNanos(now - stepStartNanos).toMillis());
+        step = next;
+        stepStartNanos = now;
+    }
+
+    synchronized void finish(ResponseEntity<GenerationResponse> outcome) {
+        if (state != State.RUNNING) {
+            return;
+        }
+        GenerationResponse response = outcome.getBody();
+        if (response != null) {
+            message = response.message();
+            serviceResponses.putAll(response.serviceResponses());
+        }
+        state = outcome.getStatusCode().is2xxSuccessful() ? State.COMPLETED : State.FAILED;
+        endNanos = System.nanoTime();
+        advance(Step.DONE, endNanos);
+        updates.tryEmitNext(status());
+        updates.tryEmitComplete();
+    }
+
+    public synchronized GenerationStatus status() {
+        long elapsedNanos = (state == State.RUNNING ? System.nanoTime() : endNanos) - startNanos;
+        return new GenerationStatus(
+                jobId,
+                state.name(),
+                step.name(),
+                batchSize,
+                message,
+                Collections.unmodifiableMap(new LinkedHashMap<>(serviceResponses)),
+                Collections.unmodifiableMap(new LinkedHashMap<>(stepMillis)),
+                Duration.ofNanos(elapsedNanos).toMillis());
+    }
+
+    /** Status after every step change, completing when the job has finished. */
+    public Flux<GenerationStatus> updates() {
+        return updates.asFlux();
+    }
+
+    private static String stepName(Step step) {
+        return step.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,180 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.generation;
+
+import com.example.api.gateway.model.GenerationStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Starts data generation jobs in the background and keeps their status in Redis for an hour, so
+ * clients can follow a job by its id on any gateway replica instead of holding a request open for
+ * the whole run.
+ *
+ * <p>A job runs on the replica that started it, which writes every step change to Redis and
+ * announces it on a channel of the job. Other replicas stream a job from that channel, re-reading
+ * the stored status now and then so a step change published before they subscribed is not missed.
+ * Redis failures while saving are logged and only delay what other replicas see.
+ */
+@Service
+public class GenerationJobService {
+
+    static final String KEY_PREFIX = "gateway:generation:";
+
+    private static final Duration TIME_TO_LIVE = Duration.ofHours(1);
+    private static final Duration STREAM_REFRESH_INTERVAL = Duration.ofSeconds(5);
+    private static final String RUNNING = GenerationJob.State.RUNNING.name();
+
+    private static final Logger logger = LoggerFactory.getLogger(GenerationJobService.class);
+
+    private final GenerationPipeline pipeline;
+    private final MeterRegistry meterRegistry;
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final JsonMapper jsonMapper;
+    private final Clock clock = Clock.systemUTC();
+    // jobs running on this replica, answered without a round trip to redis
+    private final Map<String, GenerationJob> runningJobs = new ConcurrentHashMap<>();
+
+    GenerationJobService(
+            GenerationPipeline pipeline,
+            MeterRegistry meterRegistry,
+            ReactiveStringRedisTemplate redisTemplate,
+            JsonMapper jsonMapper) {
+        this.pipeline = pipeline;
+        this.meterRegistry = meterRegistry;
+        this.redisTemplate = redisTemplate;
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Starts a job generating {@code batchSize} products, or the services' defaults when {@code
+     * null}, and returns its initial status.
+     */
+    public GenerationStatus start(String jobId, Integer batchSize) {
+        GenerationJob job = new GenerationJob(jobId, batchSize);
+        GenerationJob existingJob = runningJobs.putIfAbsent(jobId, job);
+        if (existingJob != null) {
+            return existingJob.status();
+        }
+        // saved one after another, the job is only forgotten here once its final status is stored
+        job.updates()
+                .concatMap(this::save)
+                .doFinally(signal -> runningJobs.remove(jobId))
+                .subscribe();
+        pipeline.run(job)
+                .subscribe(
+                        outcome -> {
+                            job.finish(outcome);
+                            GenerationStatus status = job.status();
+                            Timer.builder("gateway.generation")
+                                    .description("Duration of data generation jobs")
+                                    .tag("outcome", status.state().toLowerCase(Locale.ROOT))
+                                    .register(meterRegistry)
+                                    .record(status.elapsedMillis(), TimeUnit.MILLISECONDS);
+                            logger.info(
+                                    "Generation job {} {} in {} ms, steps {}",
+                                    jobId,
+                                    status.state(),
+                                    status.elapsedMillis(),
+                                    status.stepMillis());
+                        });
+        return job.status();
+    }
+
+    /** Current status of the job, empty when the job is unknown or has expired. */
+    public Mono<GenerationStatus> find(String jobId) {
+        GenerationJob job = runningJobs.get(jobId);
+        if (job != null) {
+            return Mono.just(job.status());
+        }
+        return redisTemplate.opsForValue().get(KEY_PREFIX + jobId).map(this::read);
+    }
+
+    /**
+     * Status after every step change, completing when the job has finished. Empty when the job is
+     * unknown or has expired.
+     */
+    public Mono<Flux<GenerationStatus>> updates(String jobId) {
+        GenerationJob job = runningJobs.get(jobId);
+        if (job != null) {
+            return Mono.just(job.updates());
+        }
+        return find(jobId).map(current -> follow(jobId, current));
+    }
+
+    private Flux<GenerationStatus> follow(String jobId, GenerationStatus current) {
+        if (!RUNNING.equals(current.state())) {
+            return Flux.just(current);
+        }
+        Flux<GenerationStatus> published =
+                redisTemplate
+                        .listenToChannel(channel(jobId))
+                        .map(ReactiveSubscription.Message::getMessage)
+                        .map(this::read);
+        Flux<GenerationStatus> stored =
+                Flux.interval(STREAM_REFRESH_INTERVAL)
+                        .concatMap(tick -> redisTemplate.opsForValue().get(KEY_PREFIX + jobId))
+                        .map(this::read);
+        return Flux.just(current)
+                .concatWith(Flux.merge(published, stored))
+                .distinctUntilChanged(status -> status.state() + status.step())
+                .takeUntil(status -> !RUNNING.equals(status.state()));
+    }
+
+    private Mono<Void> save(GenerationStatus status) {
+        String json = jsonMapper.writeValueAsString(new StoredStatus(status, clock.millis()));
+        return redisTemplate
+                .opsForValue()
+                .set(KEY_PREFIX + status.jobId(), json, TIME_TO_LIVE)
+                .then(redisTemplate.convertAndSend(channel(status.jobId()), json))
+                .onErrorResume(
+                        e -> {
+                            logger.warn(
+                                    "Saving status of generation job {} failed", status.jobId(), e);
+                            return Mono.empty();
+                        })
+                .then();
+    }
+
+    // a running job's elapsed time keeps counting after its last step change was stored
+    private GenerationStatus read(String json) {
+        StoredStatus stored = jsonMapper.readValue(json, StoredStatus.class);
+        GenerationStatus status = stored.status();
+        if (!RUNNING.equals(status.state())) {
+            return status;
+        }
+        return new GenerationStatus(
+                status.jobId(),
+                status.state(),
+                status.step(),
+                status.batchSize(),
+                status.message(),
+                status.serviceResponses(),
+                status.stepMillis(),
+                status.elapsedMillis() + Math.max(0, clock.millis() - stored.storedAtMillis()));
+    }
+
+    private static String channel(String jobId) {
+        return KEY_PREFIX + "updates:" + jobId;
+    }
+
+    record StoredStatus(GenerationStatus status, long storedAtMillis) {}
+}
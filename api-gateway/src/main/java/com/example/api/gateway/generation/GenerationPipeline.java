@@ -0,0 +1,592 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2025-2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.generation;
+
+import com.example.api.gateway.model.GeneratedInventories;
+import com.example.api.gateway.model.GenerationResponse;
+import com.example.api.gateway.model.OrderGenerationProgress;
+import com.example.api.gateway.model.ServiceResult;
+import com.example.api.gateway.model.ServiceType;
+import com.example.api.gateway.util.LogSanitizer;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Runs the data generation steps of a {@link GenerationJob}: products in catalog-service, random
+ * quantities for their inventories, then orders. Instead of sleeping a fixed time between the
+ * steps, it polls the readiness each step depends on: inventory-service is only asked to fill in
+ * quantities once the inventories of all generated products exist, i.e. once the catalog outbox
+ * has drained and inventory-service has consumed the product events, and the job only finishes
+ * when the order-service generation job it started has.
+ */
+@Component
+class GenerationPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(GenerationPipeline.class);
+
+    private static final String CATALOG_SERVICE_URL =
+            "lb://CATALOG-SERVICE/catalog-service/api/catalog/generate";
+    private static final String INVENTORY_SERVICE_URL =
+            "lb://INVENTORY-SERVICE/inventory-service/api/inventory/generate";
+    private static final String INVENTORY_READINESS_URL =
+            "lb://INVENTORY-SERVICE/inventory-service/api/inventory/generate/{batchId}";
+    private static final String ORDER_SERVICE_URL =
+            "lb://ORDER-SERVICE/order-service/api/orders/generate";
+    private static final String ORDER_STATUS_URL =
+            "lb://ORDER-SERVICE/order-service/api/orders/generate/{batchId}";
+    // products catalog-service generates when no batch size is given
+    private static final int CATALOG_DEFAULT_BATCH_SIZE = 101;
+    private static final int MAX_RETRY_ATTEMPTS = 3;
+    private static final Duration RETRY_BACKOFF = Duration.ofMillis(500);
+
+    private final WebClient webClient;
+    private final Duration requestTimeout;
+    private final Duration pollInterval;
+    private final Duration stepTimeout;
+    private final boolean exposeUpstreamErrors;
+
+    GenerationPipeline(
+            @LoadBalanced WebClient.Builder webClientBuilder,
+            @Value("${gateway.generation.request-timeout:60s}") Duration requestTimeout,
+            @Value("${gateway.generation.poll-interval:500ms}") Duration pollInterval,
+            @Value("${gateway.generation.step-timeout:5m}") Duration stepTimeout,
+            @Value("${gateway.expose-upstream-errors:false}") boolean exposeUpstreamErrors) {
+        this.webClient = webClientBuilder.build();
+        this.requestTimeout = requestTimeout;
+        this.pollInterval = pollInterval;
+        this.stepTimeout = stepTimeout;
+        this.exposeUpstreamErrors = exposeUpstreamErrors;
+    }
+
+    /**
+     * Runs all steps of the job, reporting each step change to it.
+     *
+     * @return the outcome of the job, never an error signal
+     */
+    Mono<ResponseEntity<GenerationResponse>> run(GenerationJob job) {
+        String batchId = job.jobId();
+        Integer batchSize = job.batchSize();
+        return callMicroservice(CATALOG_SERVICE_URL, ServiceType.CATALOG, batchId, batchSize)
+                .flatMap(
+                        catalogResult -> {
+                            if (catalogResult.status() != HttpStatus.OK.value()) {
+                                // Don't call inventory service if catalog failed
+                                return Mono.just(
+                                        errorResponse(
+                                                catalogResult.status(),
+                                                "Error generating data in catalog service",
+                                                Map.of("catalog", catalogResult.response())));
+                            }
+                            job.step(GenerationJob.Step.AWAITING_INVENTORY);
+                            int expected =
+                                    batchSize != null ? batchSize : CATALOG_DEFAULT_BATCH_SIZE;
+                            return awaitInventories(batchId, expected)
+                                    .flatMap(
+                                            readiness ->
+                                                    readiness.status() == HttpStatus.OK.value()
+                                                            ? generateInventory(
+                                                                    job, catalogResult)
+                                                            : Mono.just(
+                                                                    inventoryError(
+                                                                            catalogResult,
+                                                                            readiness)));
+                        })
+                .onErrorResume(this::handleGenerationError);
+    }
+
+    private Mono<ResponseEntity<GenerationResponse>> generateInventory(
+            GenerationJob job, ServiceResult catalogResult) {
+        job.step(GenerationJob.Step.INVENTORY);
+        return callMicroservice(
+                        INVENTORY_SERVICE_URL,
+                        ServiceType.INVENTORY,
+                        job.jobId(),
+                        job.batchSize())
+                .flatMap(
+                        inventoryResult -> {
+                            if (inventoryResult.status() != HttpStatus.OK.value()) {
+                                return Mono.just(inventoryError(catalogResult, inventoryResult));
+                            }
+                            return generateOrders(job, catalogResult, inventoryResult);
+                        });
+    }
+
+    private Mono<ResponseEntity<GenerationResponse>> generateOrders(
+            GenerationJob job, ServiceResult catalogResult, ServiceResult inventoryResult) {
+        job.step(GenerationJob.Step.ORDER);
+        return callMicroservice(
+                        ORDER_SERVICE_URL, ServiceType.ORDER, job.jobId(), job.batchSize())
+                .flatMap(
+                        orderResult -> {
+                            if (!HttpStatusCode.valueOf(orderResult.status())
+                                    .is2xxSuccessful()) {
+                                return Mono.just(
+                                        createResponseEntity(
+                                                catalogResult, inventoryResult, orderResult));
+                            }
+                            // order-service accepts generation as a background job, follow it
+                            job.step(GenerationJob.Step.AWAITING_ORDERS);
+                            return awaitOrders(job.jobId(), orderResult)
+                                    .map(
+                                            ordersResult ->
+                                                    createResponseEntity(
+                                                            catalogResult,
+                                                            inventoryResult,
+                                                            ordersResult));
+                        });
+    }
+
+    /**
+     * Polls inventory-service until the inventories of all generated products exist. Answers 200
+     * once they do, 408 when they have not shown up within the step timeout, and the error of
+     * inventory-service as soon as it answers with one that retrying will not fix.
+     */
+    private Mono<ServiceResult> awaitInventories(String batchId, int expected) {
+        AtomicLong found = new AtomicLong();
+        return Mono.defer(
+                        () ->
+                                webClient
+                                        .get()
+                                        .uri(INVENTORY_READINESS_URL, batchId)
+                                        .retrieve()
+                                        .bodyToMono(GeneratedInventories.class))
+                .map(GeneratedInventories::inventories)
+                .doOnNext(found::set)
+                .onErrorResume(
+                        this::isTransientPollError,
+                        throwable -> {
+                            logger.debug(
+                                    "Polling inventories of batch {} failed: {}",
+                                    batchId,
+                                    LogSanitizer.sanitizeForLog(throwable.getMessage()));
+                            return Mono.empty();
+                        })
+                .filter(inventories -> inventories >= expected)
+                .repeatWhenEmpty(polls -> polls.delayElements(pollInterval))
+                .map(inventories -> new ServiceResult(HttpStatus.OK.value(), "Inventories ready"))
+                .timeout(
+                        stepTimeout,
+                        Mono.fromSupplier(
+                                () ->
+                                        new ServiceResult(
+                                                HttpStatus.REQUEST_TIMEOUT.value(),
+                                                "Timed out waiting for inventories, %d of %d"
+                                                                .formatted(found.get(), expected)
+                                                        + " created")))
+                .onErrorResume(
+                        throwable ->
+                                handleCallError(
+                                        throwable,
+                                        INVENTORY_READINESS_URL,
+                                        ServiceType.INVENTORY));
+    }
+
+    /**
+     * Polls the order-service generation job until it has finished. Answers its summary, a 408
+     * when the job is still running after the step timeout, or the error of order-service as soon
+     * as it answers with one that retrying will not fix.
+     */
+    private Mono<ServiceResult> awaitOrders(String batchId, ServiceResult accepted) {
+        return Mono.defer(
+                        () ->
+                                webClient
+                                        .get()
+                                        .uri(ORDER_STATUS_URL, batchId)
+                                        .retrieve()
+                                        .bodyToMono(OrderGenerationProgress.class))
+                .onErrorResume(
+                        this::isTransientPollError,
+                        throwable -> {
+                            logger.debug(
+                                    "Polling order generation of batch {} failed: {}",
+                                    batchId,
+                                    LogSanitizer.sanitizeForLog(throwable.getMessage()));
+                            return Mono.empty();
+                        })
+                .filter(progress -> !progress.isRunning())
+                .repeatWhenEmpty(polls -> polls.delayElements(pollInterval))
+                .map(
+                        progress ->
+                                new ServiceResult(
+                                        "FAILED".equals(progress.state())
+                                                ? HttpStatus.INTERNAL_SERVER_ERROR.value()
+                                                : HttpStatus.OK.value(),
+                                        progress.summary()))
+                .timeout(
+                        stepTimeout,
+                        Mono.fromSupplier(
+                                () ->
+                                        new ServiceResult(
+                                                HttpStatus.REQUEST_TIMEOUT.value(),
+                                                "Timed out following order generation: "
+                                                        + accepted.response())))
+                .onErrorResume(
+                        throwable ->
+                                handleCallError(throwable, ORDER_STATUS_URL, ServiceType.ORDER));
+    }
+
+    /**
+     * Whether a failed poll is worth repeating: the service could not be reached, was overloaded
+     * or failed on its side. Any other answer, such as a 404 for an unknown batch, will not change
+     * by asking again and ends the step at once.
+     */
+    private boolean isTransientPollError(Throwable throwable) {
+        if (throwable instanceof WebClientResponseException wce) {
+            return wce.getStatusCode().is5xxServerError()
+                    || wce.getStatusCode() == HttpStatus.REQUEST_TIMEOUT
+                    || wce.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS;
+        }
+        return throwable instanceof WebClientRequestException || isTimeout(throwable);
+    }
+
+    private ResponseEntity<GenerationResponse> inventoryError(
+            ServiceResult catalogResult, ServiceResult inventoryResult) {
+        return errorResponse(
+                inventoryResult.status(),
+                "Error generating data in inventory service",
+                Map.of(
+                        "catalog", catalogResult.response(),
+                        "inventory", inventoryResult.response()));
+    }
+
+    private static ResponseEntity<GenerationResponse> errorResponse(
+            int status, String message, Map<String, String> serviceResponses) {
+        return ResponseEntity.status(status)
+                .body(new GenerationResponse("error", message, serviceResponses));
+    }
+
+    /** Creates an appropriate response entity based on the results of the service calls. */
+    private ResponseEntity<GenerationResponse> createResponseEntity(
+            ServiceResult catalogData, ServiceResult inventoryData, ServiceResult orderResult) {
+        // order-service accepts generation as a background job and answers 202
+        if (HttpStatusCode.valueOf(orderResult.status()).is2xxSuccessful()) {
+            return ResponseEntity.ok(
+                    new GenerationResponse(
+                            "success",
+                            "Generation process completed successfully",
+                            Map.of(
+                                    "catalog", catalogData.response(),
+                                    "inventory", inventoryData.response(),
+                                    "order", orderResult.response())));
+        } else {
+            return ResponseEntity.status(orderResult.status())
+                    .body(
+                            new GenerationResponse(
+                                    "error",
+                                    "Error generating data in order service",
+                                    Map.of(
+                                            "catalog", catalogData.response(),
+                                            "inventory", inventoryData.response(),
+                                            "order", orderResult.response())));
+        }
+    }
+
+    /**
+     * Makes a call to a microservice with retry logic and timeout handling.
+     *
+     * @param url The URL of the microservice to call
+     * @param serviceType The type of service being called (for error messages)
+     * @return Mono containing the service result
+     */
+    private Mono<ServiceResult> callMicroservice(
+            String url, ServiceType serviceType, String batchId, Integer batchSize) {
+        return webClient
+                .post()
+                .uri(addBatchSizeIfPresent(url, batchSize))
+                .header("Idempotency-Key", batchId)
+                .retrieve()
+                .toEntity(String.class) // Original Mono<ResponseEntity<String>>
+                .timeout(requestTimeout) // Apply timeout to each attempt
+                .map(this::toServiceResult)
+                .retryWhen(createRetrySpec(url))
+                .onErrorResume(throwable -> handleCallError(throwable, url, serviceType));
+    }
+
+    private String addBatchSizeIfPresent(String url, Integer batchSize) {
+        return batchSize != null ? url + "?batchSize=" + batchSize : url;
+    }
+
+    private Retry createRetrySpec(String url) {
+        return Retry.backoff(MAX_RETRY_ATTEMPTS, RETRY_BACKOFF)
+                .jitter(0.5) // Add jitter to avoid thundering herd
+                .filter(throwable -> shouldRetry(throwable, url))
+                .onRetryExhaustedThrow(
+                        (retryBackoffSpec, retrySignal) -> {
+                            logger.warn(
+                                    "Retries exhausted for {} after {} attempts. Propagating last error: {}",
+                                    url,
+                                    retrySignal.totalRetries(),
+                                    LogSanitizer.sanitizeForLog(retrySignal.failure().toString()));
+                            return retrySignal.failure();
+                        });
+    }
+
+    private ServiceResult toServiceResult(ResponseEntity<String> response) {
+        return new ServiceResult(response.getStatusCode().value(), response.getBody());
+    }
+
+    private boolean shouldRetry(Throwable throwable, String url) {
+        if (isTimeout(throwable)) {
+            logger.debug(
+                    "Retry filter: TimeoutException for {}, not retrying this attempt, but retry mechanism may try again if not exhausted.",
+                    url);
+            return false;
+        }
+        if (throwable instanceof WebClientResponseException wce) {
+            logger.debug(
+                    "Retry filter: WebClientResponseException status {} for {}, message: '{}'",
+                    wce.getStatusCode(),
+                    url,
+                    LogSanitizer.sanitizeForLog(wce.getMessage()));
+
+            if (wce.getStatusCode() == HttpStatus.SERVICE_UNAVAILABLE
+                    || wce.getStatusCode() == HttpStatus.BAD_GATEWAY
+                    || wce.getStatusCode() == HttpStatus.GATEWAY_TIMEOUT
+                    || wce.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+                logger.debug("Retry filter: {} for {}, retrying.", wce.getStatusCode(), url);
+                return true;
+            }
+
+            String wceMessage = safeLower(LogSanitizer.sanitizeForLog(wce.getMessage()));
+            String wceBody = safeLower(LogSanitizer.sanitizeForLog(safeLowerResponseBody(wce)));
+
+            boolean shouldRetry =
+                    wceBody.contains("connection refused")
+                            || wceMessage.contains("transient")
+                            || wceMessage.contains("connection refused");
+
+            logger.debug(
+                    "Retry filter: WCE (status {}) for {} - Retrying: {}",
+                    wce.getStatusCode(),
+                    url,
+                    shouldRetry);
+
+            return shouldRetry;
+        }
+
+        String message =
+                throwable.getMessage() != null
+                        ? LogSanitizer.sanitizeForLog(throwable.getMessage())
+                                .toLowerCase(Locale.ROOT)
+                        : "";
+        boolean retry = message.contains("transient") || message.contains("connection refused");
+        logger.debug(
+                "Retry filter: Other throwable ({}) for {} - message: '{}', Retrying: {}",
+                throwable.getClass().getSimpleName(),
+                url,
+                message,
+                retry);
+        return retry;
+    }
+
+    private String safeLowerResponseBody(WebClientResponseException wce) {
+        try {
+            String rawBody = wce.getResponseBodyAsString();
+            return safeLower(rawBody);
+        } catch (Exception ex) {
+            logger.warn(
+                    "Could not get response body for WCE in retry filter: {}",
+                    LogSanitizer.sanitizeException(ex));
+            return "";
+        }
+    }
+
+    private String safeLower(String s) {
+        return s != null ? s.toLowerCase(Locale.ROOT) : "";
+    }
+
+    private Mono<ServiceResult> handleCallError(
+            Throwable throwable, String url, ServiceType serviceType) {
+        logger.warn(
+                "Error calling {} service at URL {}: {}",
+                serviceType.getId(),
+                url,
+                LogSanitizer.sanitizeForLog(throwable.getMessage()));
+
+        if (isTimeout(throwable)) {
+            return Mono.just(
+                    new ServiceResult(HttpStatus.REQUEST_TIMEOUT.value(), "Timeout occurred"));
+        }
+
+        if (throwable instanceof WebClientResponseException wce) {
+            HttpStatus status = resolveStatusOrDefault(wce);
+            String detailMessage = extractWceDetail(wce);
+
+            String errorMessage = getErrorMessage(serviceType, wce, detailMessage);
+            return Mono.just(new ServiceResult(status.value(), errorMessage));
+        }
+
+        return Mono.just(
+                new ServiceResult(
+                        HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                        "Unexpected error calling %s service: %s"
+                                .formatted(
+                                        serviceType.getId(),
+                                        LogSanitizer.sanitizeForLog(throwable.getMessage()))));
+    }
+
+    private static String getErrorMessage(
+            ServiceType serviceType, WebClientResponseException wce, String detailMessage) {
+        String errorMessage;
+        if (wce.getStatusCode() == HttpStatus.SERVICE_UNAVAILABLE) {
+            errorMessage = "Service temporarily unavailable";
+        } else {
+            // Reverted diagnostic change in message format
+            errorMessage =
+                    "Error from %s service: %s"
+                            .formatted(serviceType.getId(), detailMessage.trim());
+        }
+        return errorMessage;
+    }
+
+    private ServiceType detectFailedService(Throwable e) {
+        String exceptionMessage =
+                e.getMessage() != null
+                        ? LogSanitizer.sanitizeForLog(e.getMessage()).toLowerCase(Locale.ROOT)
+                        : "";
+        if (exceptionMessage.contains(ServiceType.CATALOG.getId())) {
+            return ServiceType.CATALOG;
+        }
+        if (exceptionMessage.contains(ServiceType.INVENTORY.getId())) {
+            return ServiceType.INVENTORY;
+        }
+        return null;
+    }
+
+    private boolean isTimeout(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof TimeoutException) return true;
+        }
+        return false;
+    }
+
+    private void putIfKnown(Map<String, String> map, ServiceType service, String value) {
+        if (service != null) {
+            map.put(service.getId(), value);
+        }
+    }
+
+    private HttpStatus resolveStatusOrDefault(WebClientResponseException wce) {
+        HttpStatus status = HttpStatus.resolve(wce.getStatusCode().value());
+        return status != null ? status : HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+    private String extractWceDetail(WebClientResponseException wce) {
+        String wceResponseBody = wce.getResponseBodyAsString();
+        if (!wceResponseBody.isEmpty()) {
+            return wceResponseBody;
+        }
+        String statusText = wce.getStatusText();
+        HttpStatus resolvedWceStatus = HttpStatus.resolve(wce.getStatusCode().value());
+        if (statusText.trim().isEmpty()) {
+            statusText = (resolvedWceStatus != null) ? resolvedWceStatus.getReasonPhrase() : "";
+        }
+        statusText = statusText.trim();
+        return wce.getStatusCode().value() + (!statusText.isEmpty() ? " " + statusText : "");
+    }
+
+    /**
+     * Handles errors that occur during the generation process.
+     *
+     * @param e The exception that occurred
+     * @return Mono with an appropriate error response
+     */
+    private Mono<ResponseEntity<GenerationResponse>> handleGenerationError(Throwable e) {
+        logger.error("Error in generation process: {}", LogSanitizer.sanitizeException(e), e);
+
+        HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
+        String errorMessage = "An unexpected error occurred during data generation.";
+        Map<String, String> serviceResponsesMap = new HashMap<>();
+        ServiceType failedService = detectFailedService(e);
+
+        if (isTimeout(e)) {
+            status = HttpStatus.REQUEST_TIMEOUT;
+            errorMessage = "Timeout occurred during data generation.";
+            putIfKnown(serviceResponsesMap, failedService, "Timeout occurred");
+        } else if (e instanceof WebClientResponseException wce) {
+            status = resolveStatusOrDefault(wce);
+            String specificErrorMessage = LogSanitizer.sanitizeForLog(extractWceDetail(wce));
+
+            // Always log the detailed upstream message at debug level (or info for
+            // visibility)
+            String requestUri = "";
+            try {
+                var req = wce.getRequest();
+                if (req != null && req.getURI() != null) {
+                    requestUri = req.getURI().toString();
+                }
+            } catch (Exception ex) {
+                // Swallow here; we're just trying to capture a best-effort URI for logging
+            }
+            logger.debug(
+                    "Upstream error detail for URL/service: {}, detectedService={}, detail={}",
+                    requestUri,
+                    failedService,
+                    specificErrorMessage);
+
+            if (status == HttpStatus.SERVICE_UNAVAILABLE) {
+                errorMessage = "Service temporarily unavailable.";
+                putIfKnown(serviceResponsesMap, failedService, "Service temporarily unavailable");
+            } else if (failedService != null) {
+                // Use a generic client-facing message by default
+                errorMessage =
+                        "Error generating data in %s service".formatted(failedService.getId());
+
+                if (exposeUpstreamErrors) {
+                    String serviceSpecificDetail =
+                            "Error from %s service: %s"
+                                    .formatted(failedService.getId(), specificErrorMessage.trim());
+                    serviceResponsesMap.put(failedService.getId(), serviceSpecificDetail);
+                } else {
+                    // Store only a generic marker in serviceResponsesMap to avoid leaking details
+                    serviceResponsesMap.put(
+                            failedService.getId(), "Upstream service error (hidden)");
+                }
+            } else {
+                // Unknown failed service: don't include upstream body in client message by
+                // default
+                if (exposeUpstreamErrors) {
+                    errorMessage =
+                            "Error from unknown service: %s".formatted(specificErrorMessage.trim());
+                } else {
+                    errorMessage = "Error from upstream service";
+                }
+            }
+        } else {
+            putIfKnown(
+                    serviceResponsesMap,
+                    detectFailedService(e),
+                    LogSanitizer.sanitizeForLog(e.getMessage()));
+        }
+
+        if ("An unexpected error occurred during data generation.".equals(errorMessage)
+                && failedService != null) {
+            errorMessage = "Error generating data in %s service".formatted(failedService.getId());
+        }
+
+        return Mono.just(
+                ResponseEntity.status(status)
+                        .body(new GenerationResponse("error", errorMessage, serviceResponsesMap)));
+    }
+}
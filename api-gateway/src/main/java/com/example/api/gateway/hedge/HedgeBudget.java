@@ -0,0 +1,55 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.hedge;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket bounding the hedged requests of a route to a share of its requests. Every request
+ * deposits that share of a token and every hedge withdraws a whole one, so a route hedging at 10%
+ * can send at most one extra request per ten on average, plus a small burst.
+ */
+public final class HedgeBudget {
+
+    private static final long MILLIS_PER_TOKEN = 1_000;
+
+    private final long depositMillis;
+    private final long capacityMillis;
+    private final AtomicLong balanceMillis = new AtomicLong();
+
+    /**
+     * @param percent extra requests hedging may add, as a percentage of all requests
+     * @param burst hedges that may be saved up while the route is fast
+     */
+    public HedgeBudget(double percent, int burst) {
+        if (percent <= 0 || percent > 100) {
+            throw new IllegalArgumentException("percent must be between 0 and 100");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be at least 1");
+        }
+        this.depositMillis = Math.round(percent * MILLIS_PER_TOKEN / 100);
+        this.capacityMillis = burst * MILLIS_PER_TOKEN;
+    }
+
+    public void deposit() {
+        balanceMillis.accumulateAndGet(
+                depositMillis, (balance, deposit) -> Math.min(capacityMillis, balance + deposit));
+    }
+
+    /** Takes one token for a hedge, answering {@code false} when the budget is spent. */
+    public boolean tryAcquire() {
+        long balance;
+        do {
+            balance = balanceMillis.get();
+            if (balance < MILLIS_PER_TOKEN) {
+                return false;
+            }
+        } while (!balanceMillis.compareAndSet(balance, balance - MILLIS_PER_TOKEN));
+        return true;
+    }
+}
@@ -0,0 +1,73 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.hedge;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes the hedged requests of the gateway per route as {@code gateway.hedge.requests} tagged
+ * with {@code result=issued|won|over-budget|streamed}: hedges sent, hedges whose response was
+ * used, hedges that were due but not sent because the route's budget was spent, and responses
+ * streamed to the client because they were too large to buffer or had no length.
+ */
+public class HedgingMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, RouteHedges> routeHedges = new ConcurrentHashMap<>();
+
+    public HedgingMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /** Counters of the route, shared by all filters created for it as routes are refreshed. */
+    public RouteHedges forRoute(String routeId) {
+        return routeHedges.computeIfAbsent(routeId, this::register);
+    }
+
+    private RouteHedges register(String routeId) {
+        RouteHedges hedges = new RouteHedges();
+        register(routeId, "issued", hedges.issued);
+        register(routeId, "won", hedges.won);
+        register(routeId, "over-budget", hedges.overBudget);
+        register(routeId, "streamed", hedges.streamed);
+        return hedges;
+    }
+
+    private void register(String routeId, String result, LongAdder adder) {
+        FunctionCounter.builder("gateway.hedge.requests", adder, LongAdder::sum)
+                .description("Hedged requests of the gateway")
+                .tags("route", routeId, "result", result)
+                .register(meterRegistry);
+    }
+
+    public static final class RouteHedges {
+        private final LongAdder issued = new LongAdder();
+        private final LongAdder won = new LongAdder();
+        private final LongAdder overBudget = new LongAdder();
+        private final LongAdder streamed = new LongAdder();
+
+        public void issued() {
+            issued.increment();
+        }
+
+        public void won() {
+            won.increment();
+        }
+
+        public void overBudget() {
+            overBudget.increment();
+        }
+
+        public void streamed() {
+            streamed.increment();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.hedge;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latencies of the most recent responses of a route in a fixed size ring. Percentiles are only
+ * recomputed every {@value #RECOMPUTE_EVERY} samples, so reading one on every request stays cheap.
+ */
+public final class LatencyWindow {
+
+    // fewer samples than this say too little about the tail to hedge on
+    static final int MIN_SAMPLES = 20;
+    private static final int RECOMPUTE_EVERY = 32;
+
+    private final AtomicLongArray samples;
+    private final AtomicLong count = new AtomicLong();
+    private final double percentile;
+
+    private volatile long computedAt = -RECOMPUTE_EVERY;
+    private volatile long percentileNanos = -1;
+
+    /**
+     * @param size number of samples kept
+     * @param percentile the percentile {@link #percentile()} answers, between 0 and 1
+     */
+    public LatencyWindow(int size, double percentile) {
+        if (size < MIN_SAMPLES) {
+            throw new IllegalArgumentException("size must be at least " + MIN_SAMPLES);
+        }
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("percentile must be between 0 and 1");
+        }
+        this.samples = new AtomicLongArray(size);
+        this.percentile = percentile;
+    }
+
+    public void record(long latencyNanos) {
+        long index = count.getAndIncrement();
+        samples.set((int) (index % samples.length()), latencyNanos);
+    }
+
+    /** The configured percentile of recent latencies, or {@code null} while still warming up. */
+    public Duration percentile() {
+        long recorded = count.get();
+        if (recorded < MIN_SAMPLES) {
+            return null;
+        }
+        if (recorded - computedAt >= RECOMPUTE_EVERY) {
+            // concurrent recomputations are harmless, all of them store a current value
+            computedAt = recorded;
+            percentileNanos = compute((int) Math.min(recorded, samples.length()));
+        }
+        return Duration.ofNanos(percentileNanos);
+    }
+
+    private long compute(int filled) {
+        long[] sorted = new long[filled];
+        for (int i = 0; i < filled; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        return sorted[(int) Math.min(filled - 1, Math.ceil(percentile * filled) - 1)];
+    }
+}
@@ -0,0 +1,96 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.loadbalancer;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.SelectedInstanceCallback;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * Picks the less loaded of two randomly drawn instances ("power of two choices"), by requests in
+ * flight or by peak-EWMA cost as tracked by the {@link InstanceLoadTracker}. Comparing two random
+ * instances instead of scanning for the global minimum keeps selection O(1) and stops every client
+ * from piling onto the same instance that just looked idlest.
+ */
+public class AdaptiveLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveLoadBalancer.class);
+
+    private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+    private final String serviceId;
+    private final InstanceLoadTracker instanceLoadTracker;
+    private final LoadBalancingStrategy strategy;
+
+    public AdaptiveLoadBalancer(
+            ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+            String serviceId,
+            InstanceLoadTracker instanceLoadTracker,
+            LoadBalancingStrategy strategy) {
+        this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+        this.serviceId = serviceId;
+        this.instanceLoadTracker = instanceLoadTracker;
+        this.strategy = strategy;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier =
+                serviceInstanceListSupplierProvider.getIfAvailable(
+                        NoopServiceInstanceListSupplier::new);
+        return supplier.get(request)
+                .next()
+                .map(serviceInstances -> getInstanceResponse(supplier, serviceInstances));
+    }
+
+    private Response<ServiceInstance> getInstanceResponse(
+            ServiceInstanceListSupplier supplier, List<ServiceInstance> serviceInstances) {
+        if (serviceInstances.isEmpty()) {
+            log.warn("No servers available for service: {}", serviceId);
+            return new EmptyResponse();
+        }
+        ServiceInstance instance = choose(serviceInstances, System.nanoTime());
+        if (supplier instanceof SelectedInstanceCallback selectedInstanceCallback) {
+            selectedInstanceCallback.selectedServiceInstance(instance);
+        }
+        return new DefaultResponse(instance);
+    }
+
+    ServiceInstance choose(List<ServiceInstance> serviceInstances, long now) {
+        List<ServiceInstance> candidates = instanceLoadTracker.available(serviceInstances, now);
+        if (candidates.size() == 1) {
+            return candidates.getFirst();
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = candidates.get(first);
+        ServiceInstance b = candidates.get(second);
+        return cost(b, now) < cost(a, now) ? b : a;
+    }
+
+    private double cost(ServiceInstance instance, long now) {
+        InstanceLoad load = instanceLoadTracker.load(instance);
+        return strategy == LoadBalancingStrategy.LEAST_OUTSTANDING
+                ? load.outstanding(now)
+                : load.cost(now);
+    }
+}
@@ -0,0 +1,56 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.RoundRobinLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Load balancer beans of every per-service child context, registered through
+ * {@code @LoadBalancerClients(defaultConfiguration = ...)}. Deliberately not a
+ * {@code @Configuration} so component scanning does not pull it into the application context.
+ */
+public class AdaptiveLoadBalancerConfiguration {
+
+    @Bean
+    InstanceLoadTracker instanceLoadTracker(
+            Environment environment, LoadBalancingProperties loadBalancingProperties) {
+        return new InstanceLoadTracker(
+                environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME),
+                loadBalancingProperties.getDecayTime(),
+                loadBalancingProperties.getMaxRequestTime(),
+                loadBalancingProperties.getConsecutiveFailures(),
+                loadBalancingProperties.getBaseEjectionTime(),
+                loadBalancingProperties.getMaxEjectionTime(),
+                loadBalancingProperties.getMaxEjectionPercent());
+    }
+
+    @Bean
+    ReactorLoadBalancer<ServiceInstance> reactorServiceInstanceLoadBalancer(
+            Environment environment,
+            LoadBalancerClientFactory loadBalancerClientFactory,
+            InstanceLoadTracker instanceLoadTracker,
+            LoadBalancingProperties loadBalancingProperties) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        var serviceInstanceListSupplierProvider =
+                loadBalancerClientFactory.getLazyProvider(
+                        serviceId, ServiceInstanceListSupplier.class);
+        if (loadBalancingProperties.getStrategy() == LoadBalancingStrategy.ROUND_ROBIN) {
+            return new RoundRobinLoadBalancer(serviceInstanceListSupplierProvider, serviceId);
+        }
+        return new AdaptiveLoadBalancer(
+                serviceInstanceListSupplierProvider,
+                serviceId,
+                instanceLoadTracker,
+                loadBalancingProperties.getStrategy());
+    }
+}
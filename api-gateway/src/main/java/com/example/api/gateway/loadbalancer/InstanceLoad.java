@@ -0,0 +1,111 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.loadbalancer;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Load of a single service instance as seen by this client: requests in flight, a peak-EWMA of its
+ * response time and its recent failures. The response time estimate jumps to any slower sample at
+ * once and only decays towards faster ones, so an instance that stalls is avoided immediately
+ * while one that recovers wins traffic back gradually.
+ *
+ * <p>Requests in flight are tracked one by one rather than counted, since a cancelled request is
+ * never reported as complete: one that has been in flight for longer than {@code maxRequestNanos}
+ * is no longer counted, and completing it afterwards has no effect.
+ */
+final class InstanceLoad {
+
+    // cost of an instance that has requests in flight but no response time sample yet
+    private static final double PENALTY = Integer.MAX_VALUE;
+
+    private final double decayNanos;
+    private final long maxRequestNanos;
+
+    // guarded by this, start time of each request in flight by the identity of the request
+    private final Map<Object, Long> inFlight = new IdentityHashMap<>();
+    private double responseTimeNanos;
+    private long observedAt;
+    private int consecutiveFailures;
+    private int ejections;
+
+    private volatile long ejectedUntil;
+
+    InstanceLoad(long decayNanos, long maxRequestNanos) {
+        this.decayNanos = decayNanos;
+        this.maxRequestNanos = maxRequestNanos;
+    }
+
+    synchronized void requestStarted(Object request, long now) {
+        inFlight.put(request, now);
+    }
+
+    /** Forgets a request that ended without an outcome worth recording. */
+    synchronized void requestAbandoned(Object request) {
+        inFlight.remove(request);
+    }
+
+    synchronized int outstanding(long now) {
+        inFlight.values().removeIf(startedAt -> now - startedAt > maxRequestNanos);
+        return inFlight.size();
+    }
+
+    synchronized void recordSuccess(Object request, long responseTimeNanos, long now) {
+        inFlight.remove(request);
+        if (responseTimeNanos > 0) {
+            observe(responseTimeNanos, now);
+        }
+        consecutiveFailures = 0;
+        ejections = 0;
+    }
+
+    /** Records a failed request and returns the number of failures in a row. */
+    synchronized int recordFailure(Object request) {
+        inFlight.remove(request);
+        // a failure is usually fast and must not make the instance look cheap
+        return ++consecutiveFailures;
+    }
+
+    /** Takes the instance out of rotation, longer on each ejection without a success between. */
+    synchronized long eject(long baseEjectionNanos, long maxEjectionNanos, long now) {
+        ejections++;
+        consecutiveFailures = 0;
+        long ejectionNanos = Math.min(baseEjectionNanos * ejections, maxEjectionNanos);
+        ejectedUntil = now + ejectionNanos;
+        return ejectionNanos;
+    }
+
+    boolean isEjected(long now) {
+        return ejectedUntil - now > 0;
+    }
+
+    long ejectedUntil() {
+        return ejectedUntil;
+    }
+
+    /** Expected cost of sending one more request to this instance. */
+    synchronized double cost(long now) {
+        int outstanding = outstanding(now);
+        if (responseTimeNanos == 0) {
+            return outstanding == 0 ? 0 : PENALTY + outstanding;
+        }
+        // an idle estimate fades so the instance gets probed again
+        double decayed = responseTimeNanos * Math.exp(-(now - observedAt) / decayNanos);
+        return decayed * (outstanding + 1);
+    }
+
+    private void observe(long sampleNanos, long now) {
+        if (sampleNanos > responseTimeNanos) {
+            responseTimeNanos = sampleNanos;
+        } else {
+            double weight = Math.exp(-Math.max(now - observedAt, 0) / decayNanos);
+            responseTimeNanos = responseTimeNanos * weight + sampleNanos * (1 - weight);
+        }
+        observedAt = now;
+    }
+}
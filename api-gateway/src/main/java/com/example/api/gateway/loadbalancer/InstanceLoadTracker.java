@@ -0,0 +1,177 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.loadbalancer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * Keeps the {@link InstanceLoad} of every instance of one service up to date from the lifecycle
+ * callbacks Spring Cloud LoadBalancer invokes around each call, for the gateway routes as well as
+ * for load balanced {@code WebClient}s. Instances failing too many requests in a row, by exception
+ * or 5xx, are ejected for a while; never more than {@code maxEjectionPercent} of the instances are
+ * left out at once.
+ */
+public class InstanceLoadTracker implements LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+    private static final Logger log = LoggerFactory.getLogger(InstanceLoadTracker.class);
+
+    private final String serviceId;
+    private final long decayNanos;
+    private final long maxRequestNanos;
+    private final int consecutiveFailures;
+    private final long baseEjectionNanos;
+    private final long maxEjectionNanos;
+    private final int maxEjectionPercent;
+
+    private final ConcurrentMap<String, InstanceLoad> loads = new ConcurrentHashMap<>();
+
+    public InstanceLoadTracker(
+            String serviceId,
+            Duration decayTime,
+            Duration maxRequestTime,
+            int consecutiveFailures,
+            Duration baseEjectionTime,
+            Duration maxEjectionTime,
+            int maxEjectionPercent) {
+        this.serviceId = serviceId;
+        this.decayNanos = decayTime.toNanos();
+        this.maxRequestNanos = maxRequestTime.toNanos();
+        this.consecutiveFailures = consecutiveFailures;
+        this.baseEjectionNanos = baseEjectionTime.toNanos();
+        this.maxEjectionNanos = maxEjectionTime.toNanos();
+        this.maxEjectionPercent = maxEjectionPercent;
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<Object> request) {
+        // the instance is not known before it has been chosen
+    }
+
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (!lbResponse.hasServer()) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (request.getContext() instanceof TimedRequestContext timedRequestContext) {
+            timedRequestContext.setRequestStartTime(now);
+        }
+        load(lbResponse.getServer()).requestStarted(request, now);
+    }
+
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        long now = System.nanoTime();
+        ServiceInstance instance = lbResponse.getServer();
+        InstanceLoad load = load(instance);
+        Request<Object> request = completionContext.getLoadBalancerRequest();
+        if (completionContext.status() == CompletionContext.Status.DISCARD) {
+            load.requestAbandoned(request);
+        } else if (!isFailure(completionContext)) {
+            load.recordSuccess(request, responseTimeNanos(completionContext, now), now);
+        } else if (load.recordFailure(request) >= consecutiveFailures) {
+            long ejectionNanos = load.eject(baseEjectionNanos, maxEjectionNanos, now);
+            log.warn(
+                    "Ejecting instance {} of {} for {} after {} consecutive failures",
+                    key(instance),
+                    serviceId,
+                    Duration.ofNanos(ejectionNanos),
+                    consecutiveFailures);
+        }
+    }
+
+    /**
+     * The instances currently eligible for traffic. When more than {@code maxEjectionPercent} of
+     * them are ejected, the ones whose ejection ends soonest are used again. Load recorded for
+     * instances that have left the list is dropped.
+     */
+    List<ServiceInstance> available(List<ServiceInstance> instances, long now) {
+        if (loads.size() > instances.size()) {
+            Set<String> keys = new HashSet<>(instances.size());
+            instances.forEach(instance -> keys.add(key(instance)));
+            loads.keySet().retainAll(keys);
+        }
+        List<ServiceInstance> available = new ArrayList<>(instances.size());
+        List<ServiceInstance> ejected = new ArrayList<>();
+        for (ServiceInstance instance : instances) {
+            InstanceLoad load = loads.get(key(instance));
+            if (load == null || !load.isEjected(now)) {
+                available.add(instance);
+            } else {
+                ejected.add(instance);
+            }
+        }
+        // rounded up, ejecting 50% of 3 instances leaves 2 of them, and never less than one
+        int minAvailable =
+                Math.max(Math.ceilDiv(instances.size() * (100 - maxEjectionPercent), 100), 1);
+        if (available.size() < minAvailable) {
+            ejected.sort(
+                    Comparator.comparingLong(instance -> load(instance).ejectedUntil() - now));
+            available.addAll(ejected.subList(0, minAvailable - available.size()));
+        }
+        return available;
+    }
+
+    InstanceLoad load(ServiceInstance instance) {
+        return loads.computeIfAbsent(
+                key(instance), key -> new InstanceLoad(decayNanos, maxRequestNanos));
+    }
+
+    private static boolean isFailure(CompletionContext<Object, ServiceInstance, Object> context) {
+        if (context.status() == CompletionContext.Status.FAILED) {
+            return true;
+        }
+        if (context.getClientResponse() instanceof ResponseData responseData) {
+            HttpStatusCode status = responseData.getHttpStatus();
+            return status != null && status.is5xxServerError();
+        }
+        return false;
+    }
+
+    private static long responseTimeNanos(
+            CompletionContext<Object, ServiceInstance, Object> context, long now) {
+        if (context.getLoadBalancerRequest() != null
+                && context.getLoadBalancerRequest().getContext()
+                        instanceof TimedRequestContext timedRequestContext
+                && timedRequestContext.getRequestStartTime() != 0) {
+            return Math.max(now - timedRequestContext.getRequestStartTime(), 0);
+        }
+        return 0;
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getInstanceId() != null
+                ? instance.getInstanceId()
+                : instance.getHost() + ":" + instance.getPort();
+    }
+}
@@ -0,0 +1,89 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.loadbalancer;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("app.gateway.load-balancing")
+public class LoadBalancingProperties {
+
+    private LoadBalancingStrategy strategy = LoadBalancingStrategy.PEAK_EWMA;
+
+    // how quickly the response time estimate forgets a slow sample
+    private Duration decayTime = Duration.ofSeconds(10);
+
+    // requests in flight for longer stop counting, a cancelled request never reports completion
+    private Duration maxRequestTime = Duration.ofSeconds(30);
+
+    // failed requests (exception or 5xx) in a row after which an instance is ejected
+    private int consecutiveFailures = 5;
+
+    // first ejection, each further one without a success in between lasts longer
+    private Duration baseEjectionTime = Duration.ofSeconds(30);
+
+    private Duration maxEjectionTime = Duration.ofMinutes(5);
+
+    // share of the instances of a service that may be ejected at the same time
+    private int maxEjectionPercent = 50;
+
+    public LoadBalancingStrategy getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(LoadBalancingStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    public Duration getDecayTime() {
+        return decayTime;
+    }
+
+    public void setDecayTime(Duration decayTime) {
+        this.decayTime = decayTime;
+    }
+
+    public Duration getMaxRequestTime() {
+        return maxRequestTime;
+    }
+
+    public void setMaxRequestTime(Duration maxRequestTime) {
+        this.maxRequestTime = maxRequestTime;
+    }
+
+    public int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    public void setConsecutiveFailures(int consecutiveFailures) {
+        this.consecutiveFailures = consecutiveFailures;
+    }
+
+    public Duration getBaseEjectionTime() {
+        return baseEjectionTime;
+    }
+
+    public void setBaseEjectionTime(Duration baseEjectionTime) {
+        this.baseEjectionTime = baseEjectionTime;
+    }
+
+    public Duration getMaxEjectionTime() {
+        return maxEjectionTime;
+    }
+
+    public void setMaxEjectionTime(Duration maxEjectionTime) {
+        this.maxEjectionTime = maxEjectionTime;
+    }
+
+    public int getMaxEjectionPercent() {
+        return maxEjectionPercent;
+    }
+
+    public void setMaxEjectionPercent(int maxEjectionPercent) {
+        this.maxEjectionPercent = maxEjectionPercent;
+    }
+}
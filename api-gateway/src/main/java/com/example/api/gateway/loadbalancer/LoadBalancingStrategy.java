@@ -0,0 +1,20 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.loadbalancer;
+
+/** How {@code lb://} calls pick an instance of the target service. */
+public enum LoadBalancingStrategy {
+
+    /** Spring Cloud LoadBalancer's default, blind to load and latency. */
+    ROUND_ROBIN,
+
+    /** The less busy of two random instances, by requests in flight from this client. */
+    LEAST_OUTSTANDING,
+
+    /** The cheaper of two random instances, by peak-EWMA response time times requests in flight. */
+    PEAK_EWMA
+}
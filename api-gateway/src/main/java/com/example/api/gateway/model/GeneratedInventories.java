@@ -0,0 +1,10 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.model;
+
+/** Inventories inventory-service has created so far for the products of a generation batch. */
+public record GeneratedInventories(long inventories) {}
@@ -0,0 +1,23 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
+
+@Schema(description = "Progress of an asynchronous data generation job")
+public record GenerationStatus(
+        @Schema(description = "Job id, also the batch id of the generated data") String jobId,
+        @Schema(description = "RUNNING, COMPLETED or FAILED") String state,
+        @Schema(description = "Step the job is in, DONE once finished") String step,
+        @Schema(description = "Requested batch size, null for the service defaults")
+                Integer batchSize,
+        @Schema(description = "Detailed message once the job has finished") String message,
+        @Schema(description = "Map of service responses") Map<String, String> serviceResponses,
+        @Schema(description = "Milliseconds spent in each finished step")
+                Map<String, Long> stepMillis,
+        @Schema(description = "Milliseconds since the job was started") long elapsedMillis) {}
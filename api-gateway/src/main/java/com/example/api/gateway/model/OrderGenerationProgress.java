@@ -0,0 +1,27 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.model;
+
+/** Status of an order-service generation job, as answered by its job status endpoint. */
+public record OrderGenerationProgress(
+        String jobId,
+        String state,
+        int requested,
+        int generated,
+        int failed,
+        long elapsedMillis,
+        long ordersPerSecond) {
+
+    public boolean isRunning() {
+        return "RUNNING".equals(state);
+    }
+
+    public String summary() {
+        return "%s: %d of %d orders generated, %d failed, in %d ms (%d orders/s)"
+                .formatted(state, generated, requested, failed, elapsedMillis, ordersPerSecond);
+    }
+}
@@ -0,0 +1,134 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.projection;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * The attributes a client asks for with {@code ?fields=}, for example {@code
+ * data(productCode,price),hasNext}. Names select attributes of an object, parentheses select
+ * attributes of the object or of each element of the array the name refers to. Selections apply to
+ * every element of an array.
+ */
+public final class FieldSelection {
+
+    // null for attributes selected with everything below them
+    private final Map<String, FieldSelection> fields;
+
+    private FieldSelection(Map<String, FieldSelection> fields) {
+        this.fields = Collections.unmodifiableMap(fields);
+    }
+
+    /**
+     * Parses a selection.
+     *
+     * @throws IllegalArgumentException when the expression is not a valid selection
+     */
+    public static FieldSelection parse(String expression) {
+        Parser parser = new Parser(expression);
+        FieldSelection selection = parser.selection();
+        if (!parser.atEnd()) {
+            throw parser.error();
+        }
+        return selection;
+    }
+
+    /** Returns the selected part of {@code node}, leaving {@code node} as it is. */
+    public JsonNode apply(JsonNode node) {
+        if (node instanceof ArrayNode array) {
+            ArrayNode selected = JsonNodeFactory.instance.arrayNode(array.size());
+            array.forEach(element -> selected.add(apply(element)));
+            return selected;
+        }
+        if (node instanceof ObjectNode object) {
+            ObjectNode selected = JsonNodeFactory.instance.objectNode();
+            for (Map.Entry<String, JsonNode> property : object.properties()) {
+                if (fields.containsKey(property.getKey())) {
+                    FieldSelection nested = fields.get(property.getKey());
+                    JsonNode value = property.getValue();
+                    selected.set(property.getKey(), nested == null ? value : nested.apply(value));
+                }
+            }
+            return selected;
+        }
+        return node;
+    }
+
+    private static final class Parser {
+
+        private final String expression;
+        private int position;
+
+        Parser(String expression) {
+            this.expression = expression;
+        }
+
+        FieldSelection selection() {
+            Map<String, FieldSelection> fields = new LinkedHashMap<>();
+            do {
+                String name = name();
+                FieldSelection nested = null;
+                if (accept('(')) {
+                    nested = selection();
+                    if (!accept(')')) {
+                        throw error();
+                    }
+                }
+                fields.put(name, nested);
+            } while (accept(','));
+            return new FieldSelection(fields);
+        }
+
+        private String name() {
+            skipWhitespace();
+            int start = position;
+            while (position < expression.length() && isNameChar(expression.charAt(position))) {
+                position++;
+            }
+            if (start == position) {
+                throw error();
+            }
+            return expression.substring(start, position);
+        }
+
+        private boolean accept(char expected) {
+            skipWhitespace();
+            if (position < expression.length() && expression.charAt(position) == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        boolean atEnd() {
+            skipWhitespace();
+            return position == expression.length();
+        }
+
+        private void skipWhitespace() {
+            while (position < expression.length()
+                    && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+
+        private static boolean isNameChar(char c) {
+            return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '$';
+        }
+
+        IllegalArgumentException error() {
+            return new IllegalArgumentException(
+                    "Invalid fields selection at position " + position + ": " + expression);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.validation.annotation.Validated;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rate limiter answering from token buckets held in memory, so limiting a request needs no network
+ * round trip. Every sync interval each replica publishes the tokens its buckets gave out to Redis,
+ * in script calls of a bounded number of keys, and takes the tokens the other replicas gave out
+ * meanwhile from its own buckets, keeping the limits approximately global. While Redis is unreachable the replica keeps
+ * limiting on its own and publishes the backlog once Redis is back.
+ *
+ * <pre>
+ * filters:
+ *   - name: RequestRateLimiter
+ *     args:
+ *       local-rate-limiter:
+ *         replenishRate: 60
+ *         burstCapacity: 10
+ * </pre>
+ */
+public class LocalTokenBucketRateLimiter
+        extends AbstractRateLimiter<LocalTokenBucketRateLimiter.Config>
+        implements InitializingBean, DisposableBean {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "local-rate-limiter";
+
+    private static final Logger log = LoggerFactory.getLogger(LocalTokenBucketRateLimiter.class);
+
+    private static final String KEY_PREFIX = "local_rate_limiter:";
+
+    // keys per EVAL, Redis runs a script to completion before serving anything else
+    private static final int PUBLISH_BATCH_SIZE = 500;
+
+    // adds each replica's consumption to the shared counters, answering their new totals
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PUBLISH_SCRIPT =
+            RedisScript.of(
+                    """
+                    local totals = {}
+                    local ttl = ARGV[#KEYS + 1]
+                    for i, key in ipairs(KEYS) do
+                        totals[i] = redis.call('INCRBY', key, ARGV[i])
+                        redis.call('PEXPIRE', key, ttl)
+                    end
+                    return totals
+                    """,
+                    List.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final Duration syncInterval;
+    private final Cache<String, TokenBucket> buckets;
+
+    private Disposable sync;
+
+    public LocalTokenBucketRateLimiter(
+            ReactiveStringRedisTemplate redisTemplate,
+            ConfigurationService configurationService,
+            Duration syncInterval,
+            long maxKeys) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.redisTemplate = redisTemplate;
+        this.syncInterval = syncInterval;
+        // idle keys are dropped, the shared counters outlive them in Redis for a while
+        this.buckets =
+                Caffeine.newBuilder()
+                        .maximumSize(maxKeys)
+                        .expireAfterAccess(syncInterval.multipliedBy(60))
+                        .build();
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        Config config = getConfig().get(routeId);
+        if (config == null) {
+            return Mono.error(
+                    new IllegalArgumentException("No Configuration found for route " + routeId));
+        }
+        long now = System.nanoTime();
+        TokenBucket bucket =
+                buckets.get(
+                        routeId + ':' + id,
+                        key -> new TokenBucket(routeId, KEY_PREFIX + key, now));
+        long remaining =
+                bucket.tryConsume(
+                        config.getRequestedTokens(),
+                        config.nanosPerToken(),
+                        config.getBurstCapacity(),
+                        now);
+        return Mono.just(new Response(remaining >= 0, headers(config, Math.max(remaining, 0))));
+    }
+
+    private static Map<String, String> headers(Config config, long remaining) {
+        return Map.of(
+                RedisRateLimiter.REMAINING_HEADER, String.valueOf(remaining),
+                RedisRateLimiter.REPLENISH_RATE_HEADER, String.valueOf(config.getReplenishRate()),
+                RedisRateLimiter.BURST_CAPACITY_HEADER, String.valueOf(config.getBurstCapacity()),
+                RedisRateLimiter.REQUESTED_TOKENS_HEADER,
+                        String.valueOf(config.getRequestedTokens()));
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        sync =
+                Flux.interval(syncInterval, syncInterval)
+                        .onBackpressureDrop()
+                        .concatMap(tick -> publish(), 1)
+                        .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (sync != null) {
+            sync.dispose();
+        }
+    }
+
+    /** Publishes the consumption of all buckets that gave out tokens since the last sync. */
+    Mono<Void> publish() {
+        List<TokenBucket> published = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        buckets.asMap()
+                .values()
+                .forEach(
+                        bucket -> {
+                            long drained = bucket.drainUnpublished();
+                            if (drained > 0) {
+                                published.add(bucket);
+                                tokens.add(String.valueOf(drained));
+                            }
+                        });
+        int batches = (published.size() + PUBLISH_BATCH_SIZE - 1) / PUBLISH_BATCH_SIZE;
+        return Flux.range(0, batches)
+                .concatMap(
+                        batch -> {
+                            int from = batch * PUBLISH_BATCH_SIZE;
+                            int to = Math.min(from + PUBLISH_BATCH_SIZE, published.size());
+                            return publish(published.subList(from, to), tokens.subList(from, to));
+                        })
+                .then();
+    }
+
+    private Mono<Void> publish(List<TokenBucket> published, List<String> tokens) {
+        List<String> keys = published.stream().map(TokenBucket::redisKey).toList();
+        List<String> args = new ArrayList<>(tokens);
+        args.add(String.valueOf(syncInterval.multipliedBy(60).toMillis()));
+        return redisTemplate
+                .execute(PUBLISH_SCRIPT, keys, args)
+                .next()
+                .doOnNext(totals -> chargeRemote(published, args, totals))
+                .onErrorResume(
+                        e -> {
+                            log.warn(
+                                    "Publishing rate limiter consumption of {} keys failed: {}",
+                                    published.size(),
+                                    e.getMessage());
+                            for (int i = 0; i < published.size(); i++) {
+                                published.get(i).restoreUnpublished(Long.parseLong(args.get(i)));
+                            }
+                            return Mono.empty();
+                        })
+                .then();
+    }
+
+    private void chargeRemote(List<TokenBucket> published, List<String> args, List<?> totals) {
+        long now = System.nanoTime();
+        Map<String, Config> configs = getConfig();
+        for (int i = 0; i < published.size(); i++) {
+            TokenBucket bucket = published.get(i);
+            long remote =
+                    bucket.remoteConsumed(
+                            ((Number) totals.get(i)).longValue(), Long.parseLong(args.get(i)));
+            Config config = configs.get(bucket.routeId());
+            if (remote > 0 && config != null) {
+                bucket.charge(remote, config.nanosPerToken(), config.getBurstCapacity(), now);
+            }
+        }
+        log.debug("Synchronized rate limiter consumption of {} keys", published.size());
+    }
+
+    @Validated
+    public static class Config {
+
+        // tokens added per second, across all gateway replicas
+        @Min(1)
+        private int replenishRate;
+
+        @Min(1)
+        private int burstCapacity = 1;
+
+        @Min(1)
+        private int requestedTokens = 1;
+
+        public int getReplenishRate() {
+            return replenishRate;
+        }
+
+        public Config setReplenishRate(int replenishRate) {
+            this.replenishRate = replenishRate;
+            return this;
+        }
+
+        public int getBurstCapacity() {
+            return burstCapacity;
+        }
+
+        public Config setBurstCapacity(int burstCapacity) {
+            this.burstCapacity = burstCapacity;
+            return this;
+        }
+
+        public int getRequestedTokens() {
+            return requestedTokens;
+        }
+
+        public Config setRequestedTokens(int requestedTokens) {
+            this.requestedTokens = requestedTokens;
+            return this;
+        }
+
+        long nanosPerToken() {
+            return TimeUnit.SECONDS.toNanos(1) / replenishRate;
+        }
+    }
+}
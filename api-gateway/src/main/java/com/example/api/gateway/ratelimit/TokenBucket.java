@@ -0,0 +1,94 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket of one rate limiter key, kept as the time at which the bucket would be full again
+ * (the generic cell rate algorithm) so taking tokens is a single compare-and-set. It also counts
+ * the tokens taken since they were last published to Redis.
+ */
+final class TokenBucket {
+
+    private final String routeId;
+    private final String redisKey;
+    // nanoTime at which all tokens taken so far have been replenished
+    private final AtomicLong fullAt;
+    private final AtomicLong unpublished = new AtomicLong();
+    // consumption of all replicas as last read from Redis, -1 before the first sync
+    private volatile long lastGlobalConsumed = -1;
+
+    TokenBucket(String routeId, String redisKey, long nowNanos) {
+        this.routeId = routeId;
+        this.redisKey = redisKey;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    String routeId() {
+        return routeId;
+    }
+
+    String redisKey() {
+        return redisKey;
+    }
+
+    /**
+     * Takes {@code tokens} if the bucket holds them.
+     *
+     * @return the tokens left after taking them, or {@code -1} when the request is denied
+     */
+    long tryConsume(long tokens, long nanosPerToken, long capacity, long nowNanos) {
+        long window = capacity * nanosPerToken;
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + tokens * nanosPerToken;
+            if (next - nowNanos > window) {
+                return -1;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                unpublished.addAndGet(tokens);
+                return (window - (next - nowNanos)) / nanosPerToken;
+            }
+        }
+    }
+
+    /** Takes tokens other replicas have consumed, at most emptying the bucket. */
+    void charge(long tokens, long nanosPerToken, long capacity, long nowNanos) {
+        long window = capacity * nanosPerToken;
+        fullAt.getAndUpdate(
+                current ->
+                        Math.min(
+                                Math.max(current, nowNanos) + tokens * nanosPerToken,
+                                nowNanos + window));
+    }
+
+    /** Tokens taken since the last call, to be published to Redis. */
+    long drainUnpublished() {
+        return unpublished.getAndSet(0);
+    }
+
+    /** Gives back tokens whose publication failed, so the next sync publishes them again. */
+    void restoreUnpublished(long tokens) {
+        unpublished.addAndGet(tokens);
+    }
+
+    /**
+     * Records the consumption of all replicas after publishing {@code published} own tokens.
+     *
+     * @return the tokens other replicas consumed since the previous sync
+     */
+    long remoteConsumed(long globalConsumed, long published) {
+        long previous = lastGlobalConsumed;
+        lastGlobalConsumed = globalConsumed;
+        // the first sync has nothing to compare with, and an expired counter starts over
+        if (previous < 0 || globalConsumed < previous) {
+            return 0;
+        }
+        return Math.max(0, globalConsumed - previous - published);
+    }
+}
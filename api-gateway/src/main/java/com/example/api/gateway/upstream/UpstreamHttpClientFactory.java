@@ -0,0 +1,67 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.upstream;
+
+import java.util.List;
+import org.springframework.boot.web.server.autoconfigure.ServerProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientFactory;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Builds the client of an upstream pool the way the gateway builds its own, with the same timeouts,
+ * SSL, proxy, wiretap, HTTP/2 and {@link HttpClientCustomizer}s, only on the pool's {@link
+ * ConnectionProvider} instead of the shared one.
+ */
+public class UpstreamHttpClientFactory {
+
+    private final HttpClientProperties properties;
+    private final ServerProperties serverProperties;
+    private final HttpClientSslConfigurer sslConfigurer;
+    private final List<HttpClientCustomizer> customizers;
+
+    public UpstreamHttpClientFactory(
+            HttpClientProperties properties,
+            ServerProperties serverProperties,
+            HttpClientSslConfigurer sslConfigurer,
+            List<HttpClientCustomizer> customizers) {
+        this.properties = properties;
+        this.serverProperties = serverProperties;
+        this.sslConfigurer = sslConfigurer;
+        this.customizers = customizers;
+    }
+
+    public HttpClient create(ConnectionProvider connectionProvider) {
+        return new PoolHttpClientFactory(connectionProvider).create();
+    }
+
+    private final class PoolHttpClientFactory extends HttpClientFactory {
+
+        private final ConnectionProvider connectionProvider;
+
+        PoolHttpClientFactory(ConnectionProvider connectionProvider) {
+            super(properties, serverProperties, sslConfigurer, customizers);
+            this.connectionProvider = connectionProvider;
+        }
+
+        @Override
+        protected ConnectionProvider buildConnectionProvider(HttpClientProperties properties) {
+            return connectionProvider;
+        }
+
+        HttpClient create() {
+            try {
+                return createInstance();
+            } catch (Exception e) {
+                throw new IllegalStateException("Could not create the upstream HttpClient", e);
+            }
+        }
+    }
+}
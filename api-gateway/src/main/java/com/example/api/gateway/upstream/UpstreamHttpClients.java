@@ -0,0 +1,96 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.upstream;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.gateway.route.Route;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * An {@link HttpClient} per service with its own connection pool, created on the first request to
+ * the service. A route can have a pool of its own by naming it in its {@code connection-pool}
+ * metadata, configured like a service's under {@code app.gateway.http-client.upstreams}. Pool
+ * metrics are published under {@code reactor.netty.connection.provider}, tagged with the pool name
+ * {@code gateway-<service id or pool>}: active, idle and pending connections and the time taken to
+ * acquire one. Apart from the pool a client is configured like the gateway's own, see {@link
+ * UpstreamHttpClientFactory}.
+ */
+public class UpstreamHttpClients implements DisposableBean {
+
+    private final UpstreamPoolProperties poolProperties;
+    private final Function<ConnectionProvider, HttpClient> httpClientFactory;
+    private final ConcurrentMap<String, Upstream> upstreams = new ConcurrentHashMap<>();
+
+    public UpstreamHttpClients(
+            UpstreamPoolProperties poolProperties,
+            Function<ConnectionProvider, HttpClient> httpClientFactory) {
+        this.poolProperties = poolProperties;
+        this.httpClientFactory = httpClientFactory;
+    }
+
+    /** Route metadata naming the connection pool of the route. */
+    public static final String CONNECTION_POOL_METADATA = "connection-pool";
+
+    /**
+     * The pool the requests of {@code route} are sent through: the one named in its metadata, else
+     * the one of its {@code lb://} service, {@code null} for the gateway's shared pool.
+     */
+    public static String poolName(Route route) {
+        Object pool = route.getMetadata().get(CONNECTION_POOL_METADATA);
+        if (pool != null) {
+            return pool.toString();
+        }
+        URI routeUri = route.getUri();
+        return "lb".equals(routeUri.getScheme()) ? routeUri.getHost() : null;
+    }
+
+    /** The client of the pool named after a service or in a route's metadata. */
+    public HttpClient forPool(String poolName) {
+        return upstreams
+                .computeIfAbsent(poolName.toLowerCase(Locale.ROOT), this::create)
+                .httpClient();
+    }
+
+    private Upstream create(String poolName) {
+        UpstreamPoolProperties.Pool pool = poolProperties.poolFor(poolName);
+        ConnectionProvider.Builder builder =
+                ConnectionProvider.builder("gateway-" + poolName)
+                        .maxConnections(pool.getMaxConnections())
+                        .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                        .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                        .maxIdleTime(pool.getMaxIdleTime())
+                        .maxLifeTime(pool.getMaxLifeTime())
+                        .evictInBackground(pool.getEvictionInterval())
+                        .metrics(true);
+        if (pool.getLeasingStrategy() == UpstreamPoolProperties.LeasingStrategy.LIFO) {
+            builder.lifo();
+        } else {
+            builder.fifo();
+        }
+        ConnectionProvider connectionProvider = builder.build();
+        HttpClient httpClient = httpClientFactory.apply(connectionProvider);
+        if (Boolean.TRUE.equals(pool.getH2c())) {
+            httpClient = httpClient.protocol(HttpProtocol.H2C);
+        }
+        return new Upstream(connectionProvider, httpClient);
+    }
+
+    @Override
+    public void destroy() {
+        upstreams.values().forEach(upstream -> upstream.connectionProvider().dispose());
+        upstreams.clear();
+    }
+
+    private record Upstream(ConnectionProvider connectionProvider, HttpClient httpClient) {}
+}
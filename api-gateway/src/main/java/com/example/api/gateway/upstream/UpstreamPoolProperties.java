@@ -0,0 +1,177 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.upstream;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Connection pools of the {@code lb://} routes, one per service or per route naming its own pool in
+ * its {@code connection-pool} metadata. Pools are per instance of the service, so {@code
+ * maxConnections} bounds the connections to each instance.
+ */
+@ConfigurationProperties("app.gateway.http-client")
+public class UpstreamPoolProperties {
+
+    // applies to every service without an entry in upstreams
+    private Pool pool = Pool.defaults();
+
+    // by service id or pool name, unset values are taken from pool
+    private Map<String, Pool> upstreams = new HashMap<>();
+
+    public Pool getPool() {
+        return pool;
+    }
+
+    public void setPool(Pool pool) {
+        this.pool = pool;
+    }
+
+    public Map<String, Pool> getUpstreams() {
+        return upstreams;
+    }
+
+    public void setUpstreams(Map<String, Pool> upstreams) {
+        this.upstreams = upstreams;
+    }
+
+    /** The settings of the pool named, its own where set and the shared ones otherwise. */
+    public Pool poolFor(String poolName) {
+        Pool upstream = upstreams.get(poolName.toLowerCase(Locale.ROOT));
+        return upstream == null ? pool : upstream.orElse(pool);
+    }
+
+    public enum LeasingStrategy {
+        /** Hands out the longest idle connection first, spreading use over all of them. */
+        FIFO,
+
+        /** Hands out the most recently used connection first, letting surplus ones idle out. */
+        LIFO
+    }
+
+    public static class Pool {
+
+        private Integer maxConnections;
+
+        // requests waiting for a connection before new ones are rejected
+        private Integer pendingAcquireMaxCount;
+
+        // how long a request waits for a connection
+        private Duration pendingAcquireTimeout;
+
+        private Duration maxIdleTime;
+
+        private Duration maxLifeTime;
+
+        // how often idle and expired connections are closed in the background
+        private Duration evictionInterval;
+
+        private LeasingStrategy leasingStrategy;
+
+        // HTTP/2 with prior knowledge, the service must accept cleartext HTTP/2
+        private Boolean h2c;
+
+        static Pool defaults() {
+            Pool pool = new Pool();
+            pool.maxConnections = 500;
+            pool.pendingAcquireMaxCount = 1_000;
+            pool.pendingAcquireTimeout = Duration.ofSeconds(5);
+            pool.maxIdleTime = Duration.ofSeconds(30);
+            pool.maxLifeTime = Duration.ofMinutes(5);
+            pool.evictionInterval = Duration.ofSeconds(15);
+            pool.leasingStrategy = LeasingStrategy.LIFO;
+            pool.h2c = false;
+            return pool;
+        }
+
+        Pool orElse(Pool fallback) {
+            Pool pool = new Pool();
+            pool.maxConnections = valueOr(maxConnections, fallback.maxConnections);
+            pool.pendingAcquireMaxCount =
+                    valueOr(pendingAcquireMaxCount, fallback.pendingAcquireMaxCount);
+            pool.pendingAcquireTimeout =
+                    valueOr(pendingAcquireTimeout, fallback.pendingAcquireTimeout);
+            pool.maxIdleTime = valueOr(maxIdleTime, fallback.maxIdleTime);
+            pool.maxLifeTime = valueOr(maxLifeTime, fallback.maxLifeTime);
+            pool.evictionInterval = valueOr(evictionInterval, fallback.evictionInterval);
+            pool.leasingStrategy = valueOr(leasingStrategy, fallback.leasingStrategy);
+            pool.h2c = valueOr(h2c, fallback.h2c);
+            return pool;
+        }
+
+        private static <T> T valueOr(T value, T fallback) {
+            return value != null ? value : fallback;
+        }
+
+        public Integer getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(Integer maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public Integer getPendingAcquireMaxCount() {
+            return pendingAcquireMaxCount;
+        }
+
+        public void setPendingAcquireMaxCount(Integer pendingAcquireMaxCount) {
+            this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        }
+
+        public Duration getPendingAcquireTimeout() {
+            return pendingAcquireTimeout;
+        }
+
+        public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+            this.pendingAcquireTimeout = pendingAcquireTimeout;
+        }
+
+        public Duration getMaxIdleTime() {
+            return maxIdleTime;
+        }
+
+        public void setMaxIdleTime(Duration maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+        }
+
+        public Duration getMaxLifeTime() {
+            return maxLifeTime;
+        }
+
+        public void setMaxLifeTime(Duration maxLifeTime) {
+            this.maxLifeTime = maxLifeTime;
+        }
+
+        public Duration getEvictionInterval() {
+            return evictionInterval;
+        }
+
+        public void setEvictionInterval(Duration evictionInterval) {
+            this.evictionInterval = evictionInterval;
+        }
+
+        public LeasingStrategy getLeasingStrategy() {
+            return leasingStrategy;
+        }
+
+        public void setLeasingStrategy(LeasingStrategy leasingStrategy) {
+            this.leasingStrategy = leasingStrategy;
+        }
+
+        public Boolean getH2c() {
+            return h2c;
+        }
+
+        public void setH2c(Boolean h2c) {
+            this.h2c = h2c;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.upstream;
+
+import io.netty.channel.ChannelOption;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * Sends requests of {@code lb://} routes through the connection pool of the target service, and of
+ * routes naming a pool in their {@code connection-pool} metadata through that one, rather than the
+ * gateway's shared pool. Other routes are sent as before. Takes the place of the {@link
+ * NettyRoutingFilter} registered by the gateway, which is switched off.
+ */
+public class UpstreamRoutingFilter extends NettyRoutingFilter {
+
+    private final UpstreamHttpClients upstreamHttpClients;
+
+    public UpstreamRoutingFilter(
+            HttpClient httpClient,
+            ObjectProvider<List<HttpHeadersFilter>> headersFiltersProvider,
+            HttpClientProperties properties,
+            UpstreamHttpClients upstreamHttpClients) {
+        super(httpClient, headersFiltersProvider, properties);
+        this.upstreamHttpClients = upstreamHttpClients;
+    }
+
+    @Override
+    protected HttpClient getHttpClient(Route route, ServerWebExchange exchange) {
+        String poolName = UpstreamHttpClients.poolName(route);
+        if (poolName == null) {
+            return super.getHttpClient(route, exchange);
+        }
+        HttpClient httpClient = upstreamHttpClients.forPool(poolName);
+        Object connectTimeout = route.getMetadata().get(RouteMetadataUtils.CONNECT_TIMEOUT_ATTR);
+        if (connectTimeout == null) {
+            return httpClient;
+        }
+        return httpClient.option(
+                ChannelOption.CONNECT_TIMEOUT_MILLIS, Integer.valueOf(connectTimeout.toString()));
+    }
+}
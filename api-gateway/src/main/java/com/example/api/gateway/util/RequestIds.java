@@ -0,0 +1,48 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates ids correlating requests across services. They are version 4 UUID strings drawn from
+ * {@link ThreadLocalRandom} instead of the {@code SecureRandom} behind {@link
+ * java.util.UUID#randomUUID()}, so they are cheap to create on every request but must never be used
+ * where an unguessable value is needed.
+ */
+public final class RequestIds {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private RequestIds() {}
+
+    public static String next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // version 4 and the IETF variant, as UUID.randomUUID() sets them
+        long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSigBits = (random.nextLong() & ~(0xC0L << 56)) | (0x80L << 56);
+        char[] id = new char[36];
+        writeHex(id, 0, mostSigBits >>> 32, 8);
+        id[8] = '-';
+        writeHex(id, 9, mostSigBits >>> 16, 4);
+        id[13] = '-';
+        writeHex(id, 14, mostSigBits, 4);
+        id[18] = '-';
+        writeHex(id, 19, leastSigBits >>> 48, 4);
+        id[23] = '-';
+        writeHex(id, 24, leastSigBits, 12);
+        return new String(id);
+    }
+
+    // writes the low digits * 4 bits of value as lower case hex
+    private static void writeHex(char[] target, int offset, long value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            target[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
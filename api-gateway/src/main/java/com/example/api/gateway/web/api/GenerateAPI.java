@@ -6,17 +6,17 @@
 
 package com.example.api.gateway.web.api;
 
-import com.example.api.gateway.model.GenerationResponse;
+import com.example.api.gateway.model.GenerationStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Tag(
@@ -26,33 +26,46 @@ public interface GenerateAPI {
 
     int MAX_BATCH_SIZE = 10_000;
 
-    @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(
             summary = "Generate sample data across services",
             description =
-                    "Orchestrates data generation calls to catalog and inventory services sequentially with smart error handling",
+                    "Starts a background job generating products, inventories and orders. Each step"
+                            + " starts as soon as the data of the previous one is ready. Follow the"
+                            + " job at the returned Location",
             tags = {"Data Generation"})
     @ApiResponses(
             value = {
-                @ApiResponse(
-                        responseCode = "200",
-                        description = "Data generation completed successfully"),
+                @ApiResponse(responseCode = "202", description = "Data generation job started"),
                 @ApiResponse(
                         responseCode = "400",
-                        description = "Bad request - generation failed in one of the services"),
-                @ApiResponse(
-                        responseCode = "404",
-                        description = "One of the required microservices was not found"),
-                @ApiResponse(
-                        responseCode = "408",
-                        description = "Timeout occurred when calling one of the services"),
-                @ApiResponse(
-                        responseCode = "500",
-                        description = "Internal server error during data generation"),
-                @ApiResponse(
-                        responseCode = "503",
-                        description = "One of the required services is temporarily unavailable")
+                        description = "Bad request - batchSize is out of range")
             })
-    Mono<ResponseEntity<GenerationResponse>> generate(
+    Mono<ResponseEntity<GenerationStatus>> generate(
             @RequestParam(required = false) @Min(1) @Max(MAX_BATCH_SIZE) Integer batchSize);
+
+    @Operation(
+            summary = "Get the status of a data generation job",
+            description =
+                    "Answers the current step, the time spent per step and, once finished, the"
+                            + " responses of the services",
+            tags = {"Data Generation"})
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "Status of the job"),
+                @ApiResponse(responseCode = "404", description = "Unknown or expired job")
+            })
+    Mono<ResponseEntity<GenerationStatus>> getStatus(@PathVariable String jobId);
+
+    @Operation(
+            summary = "Stream the status of a data generation job",
+            description =
+                    "Sends the status as server-sent events after every step change, ending when"
+                            + " the job has finished",
+            tags = {"Data Generation"})
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "Status updates of the job"),
+                @ApiResponse(responseCode = "404", description = "Unknown or expired job")
+            })
+    Mono<ResponseEntity<Flux<GenerationStatus>>> streamStatus(@PathVariable String jobId);
 }
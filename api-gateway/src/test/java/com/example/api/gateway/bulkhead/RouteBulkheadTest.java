@@ -0,0 +1,109 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.bulkhead;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.test.StepVerifier;
+
+class RouteBulkheadTest {
+
+    private static final Duration MAX_WAIT = Duration.ofSeconds(5);
+
+    @Test
+    void shouldAdmitUpToMaxConcurrentThenQueueThenReject() {
+        RouteBulkhead bulkhead = new RouteBulkhead(2, 1);
+
+        RouteBulkhead.Permit first = bulkhead.acquire(MAX_WAIT).block();
+        RouteBulkhead.Permit second = bulkhead.acquire(MAX_WAIT).block();
+        Disposable waiting = bulkhead.acquire(MAX_WAIT).subscribe();
+
+        StepVerifier.create(bulkhead.acquire(MAX_WAIT))
+                .expectError(BulkheadFullException.class)
+                .verify();
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(bulkhead.active()).isEqualTo(2);
+        assertThat(bulkhead.queueSize()).isOne();
+        assertThat(bulkhead.admitted()).isEqualTo(2);
+        assertThat(bulkhead.rejected()).isOne();
+        waiting.dispose();
+    }
+
+    @Test
+    void shouldHandReleasedPermitToTheFirstWaitingRequest() {
+        RouteBulkhead bulkhead = new RouteBulkhead(1, 2);
+        RouteBulkhead.Permit permit = bulkhead.acquire(MAX_WAIT).block();
+
+        StepVerifier.create(bulkhead.acquire(MAX_WAIT))
+                .then(permit::release)
+                .expectNextCount(1)
+                .verifyComplete();
+        assertThat(bulkhead.active()).isOne();
+        assertThat(bulkhead.queueSize()).isZero();
+        assertThat(bulkhead.queued()).isOne();
+    }
+
+    @Test
+    void shouldReleasePermitOnlyOnce() {
+        RouteBulkhead bulkhead = new RouteBulkhead(1, 0);
+        RouteBulkhead.Permit permit = bulkhead.acquire(MAX_WAIT).block();
+
+        permit.release();
+        permit.release();
+
+        assertThat(bulkhead.active()).isZero();
+    }
+
+    @Test
+    void shouldRejectRequestsWaitingLongerThanMaxWait() {
+        RouteBulkhead bulkhead = new RouteBulkhead(1, 1);
+        RouteBulkhead.Permit permit = bulkhead.acquire(MAX_WAIT).block();
+
+        StepVerifier.create(bulkhead.acquire(Duration.ofMillis(50)))
+                .expectError(BulkheadFullException.class)
+                .verify();
+        assertThat(bulkhead.expired()).isOne();
+        assertThat(bulkhead.queueSize()).isZero();
+
+        permit.release();
+        assertThat(bulkhead.active()).isZero();
+    }
+
+    @Test
+    void shouldForgetCancelledWaitingRequests() {
+        RouteBulkhead bulkhead = new RouteBulkhead(1, 1);
+        RouteBulkhead.Permit permit = bulkhead.acquire(MAX_WAIT).block();
+
+        bulkhead.acquire(MAX_WAIT).subscribe().dispose();
+        permit.release();
+
+        assertThat(bulkhead.queueSize()).isZero();
+        assertThat(bulkhead.active()).isZero();
+    }
+
+    @Test
+    void shouldNotHandOutPermitsAboveLoweredLimit() {
+        RouteBulkhead bulkhead = new RouteBulkhead(2, 1);
+        RouteBulkhead.Permit first = bulkhead.acquire(MAX_WAIT).block();
+        RouteBulkhead.Permit second = bulkhead.acquire(MAX_WAIT).block();
+        Disposable waiting = bulkhead.acquire(MAX_WAIT).subscribe();
+
+        bulkhead.resize(1, 1);
+        first.release();
+
+        assertThat(bulkhead.active()).isOne();
+        assertThat(bulkhead.queueSize()).isOne();
+        second.release();
+        assertThat(bulkhead.active()).isOne();
+        assertThat(bulkhead.queueSize()).isZero();
+        waiting.dispose();
+    }
+}
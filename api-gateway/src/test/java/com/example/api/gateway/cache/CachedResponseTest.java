@@ -0,0 +1,40 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+class CachedResponseTest {
+
+    private final CachedResponse response =
+            CachedResponse.of(
+                    HttpStatus.OK,
+                    new HttpHeaders(),
+                    "{\"productCode\":\"P001\"}".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void shouldMatchStrongAndWeakFormsOfItsETag() {
+        String etag = response.etag();
+
+        assertThat(response.matches(List.of(etag))).isTrue();
+        assertThat(response.matches(List.of("W/" + etag))).isTrue();
+        assertThat(response.matches(List.of("\"other\"", "W/" + etag))).isTrue();
+        assertThat(response.matches(List.of("*"))).isTrue();
+    }
+
+    @Test
+    void shouldNotMatchOtherETags() {
+        assertThat(response.matches(List.of("\"other\"", "W/\"other\""))).isFalse();
+        assertThat(response.matches(List.of())).isFalse();
+    }
+}
@@ -0,0 +1,79 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+
+class ContentEncodingTest {
+
+    @Test
+    void shouldPreferBrotliWhenOffered() {
+        assertThat(ContentEncoding.negotiate("gzip, deflate, br", true))
+                .isEqualTo(ContentEncoding.BROTLI);
+        assertThat(ContentEncoding.negotiate("gzip, deflate, br", false))
+                .isEqualTo(ContentEncoding.GZIP);
+    }
+
+    @Test
+    void shouldPickEncodingWithHighestQuality() {
+        assertThat(ContentEncoding.negotiate("br;q=0.5, gzip", true))
+                .isEqualTo(ContentEncoding.GZIP);
+        assertThat(ContentEncoding.negotiate("gzip;q=0.8, br;q=0.9", true))
+                .isEqualTo(ContentEncoding.BROTLI);
+        assertThat(ContentEncoding.negotiate("gzip;q=0.5, *;q=0.8", true))
+                .isEqualTo(ContentEncoding.BROTLI);
+        assertThat(ContentEncoding.negotiate("gzip;q=0.5, br;q=0.5", true))
+                .isEqualTo(ContentEncoding.BROTLI);
+    }
+
+    @Test
+    void shouldHonourRefusedEncodings() {
+        assertThat(ContentEncoding.negotiate("br;q=0, gzip;q=0.5", true))
+                .isEqualTo(ContentEncoding.GZIP);
+        assertThat(ContentEncoding.negotiate("gzip;q=0", true)).isNull();
+        assertThat(ContentEncoding.negotiate("gzip;q=0, *", false)).isNull();
+        assertThat(ContentEncoding.negotiate("br;q=0, *", true)).isEqualTo(ContentEncoding.GZIP);
+        assertThat(ContentEncoding.negotiate("identity", true)).isNull();
+        assertThat(ContentEncoding.negotiate(" ", true)).isNull();
+        assertThat(ContentEncoding.negotiate(null, true)).isNull();
+    }
+
+    @Test
+    void shouldTreatWildcardAsAnyEncoding() {
+        assertThat(ContentEncoding.negotiate("*", true)).isEqualTo(ContentEncoding.BROTLI);
+        assertThat(ContentEncoding.negotiate("*", false)).isEqualTo(ContentEncoding.GZIP);
+    }
+
+    @Test
+    void shouldEncodeChunksIntoOneGzipStream() throws IOException {
+        byte[] chunk = "{\"productCode\":\"P001\",\"price\":10.0}".getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        try (StreamingEncoder encoder =
+                ContentEncoding.GZIP.newEncoder(new CompressionProperties())) {
+            for (int i = 0; i < 100; i++) {
+                encoded.write(encoder.encode(chunk));
+            }
+            encoded.write(encoder.finish());
+
+            assertThat(encoder.originalBytes()).isEqualTo(100L * chunk.length);
+            assertThat(encoder.encodedBytes()).isEqualTo(encoded.size());
+        }
+
+        assertThat(encoded.size()).isLessThan(100 * chunk.length);
+        try (GZIPInputStream in =
+                new GZIPInputStream(new ByteArrayInputStream(encoded.toByteArray()))) {
+            assertThat(in.readAllBytes()).hasSize(100 * chunk.length);
+        }
+    }
+}
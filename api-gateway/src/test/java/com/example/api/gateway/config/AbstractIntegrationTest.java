@@ -7,7 +7,10 @@
 package com.example.api.gateway.config;
 
 import com.example.api.gateway.filter.CorrelationIdFilterIntegrationTest;
+import com.example.api.gateway.filter.DistributedResponseCacheIntegrationTest;
+import com.example.api.gateway.filter.FieldSelectionIntegrationTest;
 import com.example.api.gateway.filter.LoggingFilterIntegrationTest;
+import com.example.api.gateway.filter.RequestCoalescingIntegrationTest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.webtestclient.autoconfigure.AutoConfigureWebTestClient;
@@ -72,7 +75,27 @@ public abstract class AbstractIntegrationTest {
                             "transform-service",
                             CacheAndTransformationIntegrationTest.class,
                             CacheAndTransformationIntegrationTest.class.getSimpleName()
-                                    + "/transform-service.json");
+                                    + "/transform-service.json")
+                    .withMappingFromResource(
+                            "distributed-cache-product-first",
+                            DistributedResponseCacheIntegrationTest.class,
+                            DistributedResponseCacheIntegrationTest.class.getSimpleName()
+                                    + "/product-first.json")
+                    .withMappingFromResource(
+                            "distributed-cache-product-updated",
+                            DistributedResponseCacheIntegrationTest.class,
+                            DistributedResponseCacheIntegrationTest.class.getSimpleName()
+                                    + "/product-updated.json")
+                    .withMappingFromResource(
+                            "coalescing-hot-product",
+                            RequestCoalescingIntegrationTest.class,
+                            RequestCoalescingIntegrationTest.class.getSimpleName()
+                                    + "/hot-product.json")
+                    .withMappingFromResource(
+                            "field-selection-product-page",
+                            FieldSelectionIntegrationTest.class,
+                            FieldSelectionIntegrationTest.class.getSimpleName()
+                                    + "/product-page.json");
 
     static {
         wireMockServer.start();
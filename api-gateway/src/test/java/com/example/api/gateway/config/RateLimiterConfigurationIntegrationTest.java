@@ -1,6 +1,6 @@
 /***
 <p>
-    Licensed under MIT License Copyright (c) 2023-2025 Raja Kolli.
+    Licensed under MIT License Copyright (c) 2023-2026 Raja Kolli.
 </p>
 ***/
 
@@ -34,13 +34,13 @@ class RateLimiterConfigurationIntegrationTest extends AbstractIntegrationTest {
                 "spring.cloud.gateway.server.webflux.routes[0].filters[0].name",
                 () -> "RequestRateLimiter");
         registry.add(
-                "spring.cloud.gateway.server.webflux.routes[0].filters[0].args.redis-rate-limiter.replenishRate",
+                "spring.cloud.gateway.server.webflux.routes[0].filters[0].args.local-rate-limiter.replenishRate",
                 () -> "1");
         registry.add(
-                "spring.cloud.gateway.server.webflux.routes[0].filters[0].args.redis-rate-limiter.burstCapacity",
+                "spring.cloud.gateway.server.webflux.routes[0].filters[0].args.local-rate-limiter.burstCapacity",
                 () -> "1");
         registry.add(
-                "spring.cloud.gateway.server.webflux.routes[0].filters[0].args.redis-rate-limiter.requestedTokens",
+                "spring.cloud.gateway.server.webflux.routes[0].filters[0].args.local-rate-limiter.requestedTokens",
                 () -> "1");
     }
 
@@ -0,0 +1,158 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.api.gateway.config.AbstractIntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+public class BulkheadIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int CONCURRENT_REQUESTS = 4;
+
+    // the upstream holds every response until the test releases it
+    private static final CountDownLatch UPSTREAM_RECEIVED = new CountDownLatch(1);
+    private static final Sinks.Empty<Void> RELEASE_UPSTREAM = Sinks.empty();
+    private static final DisposableServer UPSTREAM =
+            HttpServer.create()
+                    .host("localhost")
+                    .port(0)
+                    .handle(BulkheadIntegrationTest::answerWhenReleased)
+                    .bindNow();
+
+    @Autowired private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add(
+                "spring.cloud.gateway.server.webflux.routes[0].id",
+                () -> "inventory-service-bulkhead");
+        registry.add(
+                "spring.cloud.gateway.server.webflux.routes[0].uri",
+                () -> "http://localhost:" + UPSTREAM.port());
+        registry.add(
+                "spring.cloud.gateway.server.webflux.routes[0].predicates[0]",
+                () -> "Path=/inventory-service-bulkhead/**");
+        registry.add(
+                "spring.cloud.gateway.server.webflux.routes[0].filters[0].name", () -> "Bulkhead");
+        registry.add(
+                "spring.cloud.gateway.server.webflux.routes[0].filters[0].args.maxConcurrent",
+                () -> "1");
+        registry.add(
+                "spring.cloud.gateway.server.webflux.routes[0].filters[0].args.maxQueued",
+                () -> "1");
+        registry.add(
+                "spring.cloud.gateway.server.webflux.routes[0].filters[0].args.maxWait",
+                () -> "100ms");
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        UPSTREAM.disposeNow();
+    }
+
+    @Test
+    void shouldRejectRequestsBeyondCapacityOfBusyRoute() throws InterruptedException {
+        EntityExchangeResult<byte[]> admitted;
+        List<EntityExchangeResult<byte[]>> turnedAway;
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS)) {
+            CompletableFuture<EntityExchangeResult<byte[]>> first =
+                    CompletableFuture.supplyAsync(this::getInventory, executor);
+            assertThat(UPSTREAM_RECEIVED.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // the first request holds the only permit, one more may queue until maxWait and
+            // the rest are turned away at once
+            List<CompletableFuture<EntityExchangeResult<byte[]>>> others =
+                    IntStream.range(1, CONCURRENT_REQUESTS)
+                            .mapToObj(
+                                    i ->
+                                            CompletableFuture.supplyAsync(
+                                                    this::getInventory, executor))
+                            .toList();
+            turnedAway = others.stream().map(CompletableFuture::join).toList();
+
+            RELEASE_UPSTREAM.tryEmitEmpty();
+            admitted = first.join();
+        }
+
+        assertThat(admitted.getStatus().is2xxSuccessful()).isTrue();
+        assertThat(turnedAway)
+                .hasSize(CONCURRENT_REQUESTS - 1)
+                .allSatisfy(
+                        result -> {
+                            assertThat(result.getStatus().value()).isEqualTo(503);
+                            assertThat(
+                                            result.getResponseHeaders()
+                                                    .getFirst(HttpHeaders.RETRY_AFTER))
+                                    .isEqualTo("1");
+                        });
+        assertThat(requestCount("admitted")).isOne();
+        assertThat(requestCount("rejected") + requestCount("expired"))
+                .isEqualTo(CONCURRENT_REQUESTS - 1);
+        assertThat(
+                        meterRegistry
+                                .get("gateway.bulkhead.active")
+                                .tag("route", "inventory-service-bulkhead")
+                                .gauge()
+                                .value())
+                .isZero();
+    }
+
+    private static Publisher<Void> answerWhenReleased(
+            HttpServerRequest request, HttpServerResponse response) {
+        UPSTREAM_RECEIVED.countDown();
+        return response.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .sendString(
+                        RELEASE_UPSTREAM
+                                .asMono()
+                                .then(
+                                        Mono.just(
+                                                "{\"productCode\": \"P200\","
+                                                        + " \"availableQuantity\": 10}")));
+    }
+
+    private EntityExchangeResult<byte[]> getInventory() {
+        return webTestClient
+                .get()
+                .uri("/inventory-service-bulkhead/api/inventory/P200")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectBody()
+                .returnResult();
+    }
+
+    private double requestCount(String result) {
+        return meterRegistry
+                .get("gateway.bulkhead.requests")
+                .tags("route", "inventory-service-bulkhead", "result", result)
+                .functionCounter()
+                .count();
+    }
+}
@@ -0,0 +1,136 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.api.gateway.cache.ResponseCacheEndpoint;
+import com.example.api.gateway.config.AbstractIntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+public class DistributedResponseCacheIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String PRODUCT_URI =
+            "/catalog-service-shared/api/catalog/product-code/P001";
+
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired private ResponseCacheEndpoint responseCacheEndpoint;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add(
+                "spring.cloud.gateway.server.webflux.routes[0].id",
+                () -> "catalog-service-shared");
+        registry.add(
+                "spring.cloud.gateway.server.webflux.routes[0].uri", wireMockServer::getBaseUrl);
+        registry.add(
+                "spring.cloud.gateway.server.webflux.routes[0].predicates[0]",
+                () -> "Path=/catalog-service-shared/**");
+        registry.add(
+                "spring.cloud.gateway.server.webflux.routes[0].filters[0].name",
+                () -> "DistributedResponseCache");
+        registry.add(
+                "spring.cloud.gateway.server.webflux.routes[0].filters[0].args.timeToLive",
+                () -> "1m");
+        registry.add(
+                "spring.cloud.gateway.server.webflux.routes[0].filters[0].args.productCodePattern",
+                () -> ".*/product-code/(?<productCode>[^/]+)");
+    }
+
+    @Test
+    void shouldServeAndRevalidateFromCacheUntilProductIsPurged() {
+        // first request reaches the backend, which answers differently from then on
+        String etag =
+                webTestClient
+                        .get()
+                        .uri(PRODUCT_URI)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .exchange()
+                        .expectStatus()
+                        .isOk()
+                        .expectBody(String.class)
+                        .value(body -> assertThat(body).contains("10.0"))
+                        .returnResult()
+                        .getResponseHeaders()
+                        .getETag();
+        assertThat(etag).isNotBlank();
+
+        webTestClient
+                .get()
+                .uri(PRODUCT_URI)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .valueEquals(HttpHeaders.ETAG, etag)
+                .expectBody(String.class)
+                .value(body -> assertThat(body).contains("10.0"));
+
+        webTestClient
+                .get()
+                .uri(PRODUCT_URI)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus()
+                .isNotModified()
+                .expectBody()
+                .isEmpty();
+
+        // clients that may get an encoded body see the tag weakened and can still revalidate
+        String weakEtag = etag.startsWith("W/") ? etag : "W/" + etag;
+        webTestClient
+                .get()
+                .uri(PRODUCT_URI)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.IF_NONE_MATCH, weakEtag)
+                .exchange()
+                .expectStatus()
+                .isNotModified()
+                .expectHeader()
+                .valueEquals(HttpHeaders.ETAG, weakEtag);
+
+        // purging is left to operators, the endpoint is not exposed over HTTP
+        webTestClient
+                .delete()
+                .uri("/actuator/responsecache/{productCode}", "p001")
+                .exchange()
+                .expectStatus()
+                .isNotFound();
+        assertThat(responseCacheEndpoint.purgeProduct("p001").block())
+                .containsEntry("purged", 1);
+
+        webTestClient
+                .get()
+                .uri(PRODUCT_URI)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .value(HttpHeaders.ETAG, newEtag -> assertThat(newEtag).isNotEqualTo(etag))
+                .expectBody(String.class)
+                .value(body -> assertThat(body).contains("12.5"));
+
+        assertThat(
+                        meterRegistry
+                                .get("gateway.response.cache.hit.ratio")
+                                .tag("route", "catalog-service-shared")
+                                .gauge()
+                                .value())
+                .isEqualTo(0.6);
+    }
+}
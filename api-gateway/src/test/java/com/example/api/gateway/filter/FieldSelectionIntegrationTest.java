@@ -0,0 +1,136 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.api.gateway.config.AbstractIntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+public class FieldSelectionIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add(
+                "spring.cloud.gateway.server.webflux.routes[0].id",
+                () -> "catalog-service-fields");
+        registry.add(
+                "spring.cloud.gateway.server.webflux.routes[0].uri", wireMockServer::getBaseUrl);
+        registry.add(
+                "spring.cloud.gateway.server.webflux.routes[0].predicates[0]",
+                () -> "Path=/catalog-service-fields/**");
+        registry.add(
+                "spring.cloud.gateway.server.webflux.routes[0].filters[0].name",
+                () -> "FieldSelection");
+    }
+
+    @Test
+    void shouldReturnOnlySelectedFields() {
+        webTestClient
+                .get()
+                .uri(
+                        uriBuilder ->
+                                uriBuilder
+                                        .path("/catalog-service-fields/api/catalog")
+                                        .queryParam("pageNo", 1)
+                                        .queryParam("fields", "data(productCode,price),hasNext")
+                                        .build())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.hasNext")
+                .isEqualTo(false)
+                .jsonPath("$.data.length()")
+                .isEqualTo(10)
+                .jsonPath("$.data[0].productCode")
+                .isEqualTo("P001")
+                .jsonPath("$.data[0].price")
+                .isEqualTo(10.0)
+                .jsonPath("$.data[0].description")
+                .doesNotExist()
+                .jsonPath("$.totalElements")
+                .doesNotExist();
+    }
+
+    @Test
+    void shouldRejectInvalidSelection() {
+        webTestClient
+                .get()
+                .uri(
+                        uriBuilder ->
+                                uriBuilder
+                                        .path("/catalog-service-fields/api/catalog")
+                                        .queryParam("fields", "data(productCode")
+                                        .build())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus()
+                .isBadRequest();
+    }
+
+    @Test
+    void shouldCompressResponsesForClientsAcceptingGzip() {
+        double originalBefore = compressedBytes("original");
+        double encodedBefore = compressedBytes("encoded");
+
+        byte[] body =
+                webTestClient
+                        .get()
+                        .uri("/catalog-service-fields/api/catalog?pageNo=1")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .exchange()
+                        .expectStatus()
+                        .isOk()
+                        .expectHeader()
+                        .valueMatches(HttpHeaders.VARY, ".*Accept-Encoding.*")
+                        .expectBody(byte[].class)
+                        .returnResult()
+                        .getResponseBody();
+
+        assertThat(gunzipIfEncoded(body)).contains("\"productCode\":\"P010\"");
+        double original = compressedBytes("original") - originalBefore;
+        double encoded = compressedBytes("encoded") - encodedBefore;
+        assertThat(original).isGreaterThan(1024);
+        assertThat(encoded).isPositive().isLessThan(original);
+    }
+
+    private double compressedBytes(String stage) {
+        return meterRegistry
+                .get("gateway.compression.bytes")
+                .tags("encoding", "gzip", "stage", stage)
+                .functionCounter()
+                .count();
+    }
+
+    // the test client may already have inflated the body
+    private static String gunzipIfEncoded(byte[] body) {
+        if (body.length < 2 || (body[0] & 0xff) != 0x1f || (body[1] & 0xff) != 0x8b) {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
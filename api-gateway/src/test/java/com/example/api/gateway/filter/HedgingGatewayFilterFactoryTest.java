@@ -0,0 +1,275 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.example.api.gateway.hedge.HedgingMetrics;
+import com.example.api.gateway.upstream.UpstreamHttpClients;
+import com.example.api.gateway.upstream.UpstreamPoolProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+import org.springframework.cloud.loadbalancer.support.SimpleObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+class HedgingGatewayFilterFactoryTest {
+
+    private static final String SERVICE_ID = "inventory-service";
+    private static final String ROUTE_ID = "inventory-service-hedged";
+    private static final Duration HEDGE_AFTER = Duration.ofMillis(100);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // reactor netty registers the pool meters on the global registry
+    private final MeterRegistry poolMeterRegistry = new SimpleMeterRegistry();
+    private final HttpClientProperties httpClientProperties = new HttpClientProperties();
+    private final CountDownLatch primaryCancelled = new CountDownLatch(1);
+    private final AtomicLong hedgeReceivedAt = new AtomicLong();
+    private final AtomicInteger routedUnhedged = new AtomicInteger();
+    private final AtomicInteger largeRequests = new AtomicInteger();
+
+    private DisposableServer primary;
+    private DisposableServer secondary;
+    private ServiceInstance primaryInstance;
+    private UpstreamHttpClients upstreamHttpClients;
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        Metrics.addRegistry(poolMeterRegistry);
+        primary =
+                HttpServer.create()
+                        .host("localhost")
+                        .port(0)
+                        .route(
+                                routes ->
+                                        routes.get("/slow", this::neverAnswer)
+                                                .get("/large", this::answerLarge)
+                                                .get("/large-chunked", this::answerLargeChunked))
+                        .bindNow();
+        secondary =
+                HttpServer.create()
+                        .host("localhost")
+                        .port(0)
+                        .route(routes -> routes.get("/slow", this::answerHedge))
+                        .bindNow();
+        primaryInstance = instance("primary", primary.port());
+
+        LoadBalancerClientFactory clientFactory = mock(LoadBalancerClientFactory.class);
+        given(clientFactory.getInstance(SERVICE_ID, ServiceInstanceListSupplier.class))
+                .willReturn(
+                        ServiceInstanceListSuppliers.from(
+                                SERVICE_ID,
+                                primaryInstance,
+                                instance("secondary", secondary.port())));
+        httpClientProperties.setResponseTimeout(Duration.ofMillis(500));
+        upstreamHttpClients =
+                new UpstreamHttpClients(new UpstreamPoolProperties(), HttpClient::create);
+        HedgingGatewayFilterFactory factory =
+                new HedgingGatewayFilterFactory(
+                        HttpClient.create(),
+                        clientFactory,
+                        new SimpleObjectProvider<>(List.of()),
+                        httpClientProperties,
+                        new HedgingMetrics(meterRegistry),
+                        upstreamHttpClients);
+        HedgingGatewayFilterFactory.Config config =
+                new HedgingGatewayFilterFactory.Config()
+                        .setMinDelay(HEDGE_AFTER)
+                        .setMaxDelay(HEDGE_AFTER)
+                        .setBudgetPercent(10)
+                        .setBurst(1)
+                        .setMaxBodySize(DataSize.ofKilobytes(1));
+        config.setRouteId(ROUTE_ID);
+        filter = factory.apply(config);
+
+        // the route's latencies are learned from requests routed as usual, which also fill the
+        // budget up to its single token
+        for (int i = 0; i < 20; i++) {
+            filter.filter(exchange("/slow"), exchange -> Mono.empty()).block();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstreamHttpClients.destroy();
+        primary.disposeNow();
+        secondary.disposeNow();
+        Metrics.removeRegistry(poolMeterRegistry);
+    }
+
+    @Test
+    void shouldHedgeOnAnotherInstanceAfterTheDelayAndCancelThePrimary() throws Exception {
+        MockServerWebExchange exchange = exchange("/slow");
+        long start = System.nanoTime();
+
+        filter.filter(exchange, unhedgedChain()).block(Duration.ofSeconds(5));
+
+        assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo("secondary");
+        assertThat(hedgeReceivedAt.get() - start).isGreaterThanOrEqualTo(HEDGE_AFTER.toNanos());
+        assertThat(primaryCancelled.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(routedUnhedged).hasValue(0);
+        assertThat(hedges("issued")).isOne();
+        assertThat(hedges("won")).isOne();
+    }
+
+    @Test
+    void shouldReportThePrimaryErrorWhenTheBudgetAllowsNoHedge() {
+        filter.filter(exchange("/slow"), unhedgedChain()).block(Duration.ofSeconds(5));
+
+        // the only token went to the first request, the primary times out on its own
+        assertThatThrownBy(
+                        () ->
+                                filter.filter(exchange("/slow"), unhedgedChain())
+                                        .block(Duration.ofSeconds(5)))
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(hedges("issued")).isOne();
+        assertThat(hedges("over-budget")).isOne();
+    }
+
+    @Test
+    void shouldStreamResponsesLargerThanMaxBodySizeWithoutSendingTheRequestAgain() {
+        MockServerWebExchange sized = exchange("/large");
+        filter.filter(sized, unhedgedChain()).block(Duration.ofSeconds(5));
+        MockServerWebExchange chunked = exchange("/large-chunked");
+        filter.filter(chunked, unhedgedChain()).block(Duration.ofSeconds(5));
+
+        assertThat(sized.getResponse().getBodyAsString().block()).hasSize(2048);
+        assertThat(chunked.getResponse().getBodyAsString().block()).hasSize(64 * 64);
+        assertThat(largeRequests).hasValue(2);
+        assertThat(routedUnhedged).hasValue(0);
+        assertThat(ServerWebExchangeUtils.isAlreadyRouted(sized)).isTrue();
+        assertThat(ServerWebExchangeUtils.isAlreadyRouted(chunked)).isTrue();
+        assertThat(hedges("streamed")).isEqualTo(2);
+        assertThat(hedges("issued")).isZero();
+    }
+
+    @Test
+    void shouldSendPrimaryAndHedgeThroughThePoolNamedInTheRouteMetadata() {
+        MockServerWebExchange exchange = exchange("/slow");
+        exchange.getAttributes()
+                .put(
+                        ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+                        Route.async()
+                                .id(ROUTE_ID)
+                                .uri("lb://" + SERVICE_ID)
+                                .predicate(routed -> true)
+                                .metadata(UpstreamHttpClients.CONNECTION_POOL_METADATA, "hedging")
+                                .build());
+
+        filter.filter(exchange, unhedgedChain()).block(Duration.ofSeconds(5));
+
+        assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo("secondary");
+        assertThat(connectionProviderGauges("gateway-hedging"))
+                .extracting(gauge -> gauge.getId().getTag("remote.address"))
+                .anySatisfy(address -> assertThat(address).endsWith(":" + primary.port()))
+                .anySatisfy(address -> assertThat(address).endsWith(":" + secondary.port()));
+        assertThat(connectionProviderGauges("gateway-" + SERVICE_ID)).isEmpty();
+    }
+
+    // the connection is only closed when the request is cancelled
+    private Publisher<Void> neverAnswer(HttpServerRequest request, HttpServerResponse response) {
+        request.withConnection(connection -> connection.onDispose(primaryCancelled::countDown));
+        return response.sendString(Mono.never());
+    }
+
+    private Publisher<Void> answerHedge(HttpServerRequest request, HttpServerResponse response) {
+        hedgeReceivedAt.set(System.nanoTime());
+        return response.sendString(Mono.just("secondary"));
+    }
+
+    private Publisher<Void> answerLarge(HttpServerRequest request, HttpServerResponse response) {
+        largeRequests.incrementAndGet();
+        return response.header(HttpHeaders.CONTENT_LENGTH, "2048")
+                .sendString(Mono.just("a".repeat(2048)));
+    }
+
+    // without a Content-Length the size is only known once the body is read
+    private Publisher<Void> answerLargeChunked(
+            HttpServerRequest request, HttpServerResponse response) {
+        largeRequests.incrementAndGet();
+        return response.sendString(Flux.range(0, 64).map(i -> "a".repeat(64)));
+    }
+
+    private GatewayFilterChain unhedgedChain() {
+        return exchange -> {
+            routedUnhedged.incrementAndGet();
+            return Mono.empty();
+        };
+    }
+
+    private MockServerWebExchange exchange(String path) {
+        MockServerWebExchange exchange =
+                MockServerWebExchange.from(MockServerHttpRequest.get("/inventory" + path));
+        exchange.getAttributes()
+                .put(
+                        ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR,
+                        new DefaultResponse(primaryInstance));
+        exchange.getAttributes()
+                .put(
+                        ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR,
+                        URI.create("http://localhost:" + primary.port() + path));
+        return exchange;
+    }
+
+    private double hedges(String result) {
+        return meterRegistry
+                .get("gateway.hedge.requests")
+                .tags("route", ROUTE_ID, "result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private Collection<Gauge> connectionProviderGauges(String poolName) {
+        return poolMeterRegistry
+                .find("reactor.netty.connection.provider.total.connections")
+                .tag("name", poolName)
+                .gauges();
+    }
+
+    private static ServiceInstance instance(String instanceId, int port) {
+        return new DefaultServiceInstance(instanceId, SERVICE_ID, "localhost", port, false);
+    }
+}
@@ -0,0 +1,99 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.api.gateway.config.AbstractIntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+public class RequestCoalescingIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int CONCURRENT_REQUESTS = 8;
+
+    @Autowired private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add(
+                "spring.cloud.gateway.server.webflux.routes[0].id",
+                () -> "catalog-service-coalesced");
+        registry.add(
+                "spring.cloud.gateway.server.webflux.routes[0].uri", wireMockServer::getBaseUrl);
+        registry.add(
+                "spring.cloud.gateway.server.webflux.routes[0].predicates[0]",
+                () -> "Path=/catalog-service-coalesced/**");
+        registry.add(
+                "spring.cloud.gateway.server.webflux.routes[0].filters[0].name",
+                () -> "RequestCoalescing");
+        registry.add(
+                "spring.cloud.gateway.server.webflux.routes[0].filters[0].args.maxWait",
+                () -> "5s");
+    }
+
+    @Test
+    void shouldShareOneUpstreamResponseWithIdenticalInFlightRequests() {
+        List<String> bodies;
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS)) {
+            List<CompletableFuture<String>> requests =
+                    IntStream.range(0, CONCURRENT_REQUESTS)
+                            .mapToObj(
+                                    i ->
+                                            CompletableFuture.supplyAsync(
+                                                    this::getHotProduct, executor))
+                            .toList();
+            bodies = requests.stream().map(CompletableFuture::join).toList();
+        }
+
+        assertThat(bodies)
+                .hasSize(CONCURRENT_REQUESTS)
+                .allSatisfy(body -> assertThat(body).contains("99.0"));
+        // the backend answers after a second, long after all requests have arrived
+        assertThat(requestCount("leader")).isLessThan(CONCURRENT_REQUESTS);
+        assertThat(requestCount("follower")).isPositive();
+        assertThat(requestCount("leader") + requestCount("follower"))
+                .isEqualTo(CONCURRENT_REQUESTS);
+        assertThat(
+                        meterRegistry
+                                .get("gateway.coalescing.collapse.ratio")
+                                .tag("route", "catalog-service-coalesced")
+                                .gauge()
+                                .value())
+                .isPositive();
+    }
+
+    private String getHotProduct() {
+        return webTestClient
+                .get()
+                .uri("/catalog-service-coalesced/api/catalog/product-code/P100")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    private double requestCount(String result) {
+        return meterRegistry
+                .get("gateway.coalescing.requests")
+                .tags("route", "catalog-service-coalesced", "result", result)
+                .functionCounter()
+                .count();
+    }
+}
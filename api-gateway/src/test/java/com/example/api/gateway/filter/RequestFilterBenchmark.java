@@ -0,0 +1,91 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.filter;
+
+import com.example.api.gateway.util.RequestIds;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.util.StopWatch;
+
+/**
+ * Per-request cost of the work the logging, trace id and correlation id filters do, before and
+ * after they were rebuilt: {@code SecureRandom} backed UUIDs against {@link RequestIds}, and a
+ * {@link StopWatch} with a formatted log line against {@code nanoTime} recorded into a timer.
+ * Start it through {@link #main(String[])} after {@code ./mvnw test-compile}, with {@code -prof
+ * gc} for the allocation rates. {@code GatewayThroughputSimulation} in gatling-tests measures the
+ * effect on the throughput of a running gateway.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class RequestFilterBenchmark {
+
+    private Timer timer;
+
+    @Setup
+    public void setUp() {
+        timer =
+                Timer.builder("gateway.access")
+                        .tag("status", "200")
+                        .register(new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public String secureRandomUuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String requestId() {
+        return RequestIds.next();
+    }
+
+    @Benchmark
+    public String stopWatchLogLine() {
+        StopWatch stopWatch = new StopWatch();
+        stopWatch.start();
+        stopWatch.stop();
+        // the message the filter logged for every request
+        return String.format(
+                "Request %s %s -> status=%s took=%sms",
+                "GET", "/catalog-service/api/catalog", 200, stopWatch.getTotalTimeMillis());
+    }
+
+    @Benchmark
+    public void nanoTimeTimer() {
+        long start = System.nanoTime();
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(RequestFilterBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
@@ -0,0 +1,103 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.generation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.example.api.gateway.config.AbstractIntegrationTest;
+import com.example.api.gateway.model.GenerationResponse;
+import com.example.api.gateway.model.GenerationStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import tools.jackson.databind.json.JsonMapper;
+
+class GenerationJobServiceIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired private ReactiveStringRedisTemplate redisTemplate;
+    @Autowired private JsonMapper jsonMapper;
+
+    // the pipeline finishes when the test says so
+    private final Sinks.One<ResponseEntity<GenerationResponse>> outcome = Sinks.one();
+
+    // two services over the same redis stand in for two gateway replicas
+    private GenerationJobService replica;
+    private GenerationJobService otherReplica;
+
+    @BeforeEach
+    void setUp() {
+        GenerationPipeline pipeline = mock(GenerationPipeline.class);
+        given(pipeline.run(any())).willReturn(outcome.asMono());
+        replica =
+                new GenerationJobService(
+                        pipeline, new SimpleMeterRegistry(), redisTemplate, jsonMapper);
+        otherReplica =
+                new GenerationJobService(
+                        pipeline, new SimpleMeterRegistry(), redisTemplate, jsonMapper);
+    }
+
+    @Test
+    void shouldReportJobStartedOnAnotherReplica() {
+        String jobId = UUID.randomUUID().toString();
+        replica.start(jobId, 25);
+
+        assertThat(awaitState(jobId, "RUNNING").batchSize()).isEqualTo(25);
+
+        outcome.tryEmitValue(
+                ResponseEntity.ok(
+                        new GenerationResponse("SUCCESS", "done", Map.of("catalog", "ok"))));
+
+        GenerationStatus status = awaitState(jobId, "COMPLETED");
+        assertThat(status.step()).isEqualTo("DONE");
+        assertThat(status.message()).isEqualTo("done");
+        assertThat(status.serviceResponses()).containsEntry("catalog", "ok");
+    }
+
+    @Test
+    void shouldStreamJobRunningOnAnotherReplicaUntilItFinishes() {
+        String jobId = UUID.randomUUID().toString();
+        replica.start(jobId, 25);
+        awaitState(jobId, "RUNNING");
+
+        StepVerifier.create(otherReplica.updates(jobId).flatMapMany(updates -> updates))
+                .assertNext(status -> assertThat(status.state()).isEqualTo("RUNNING"))
+                .then(
+                        () ->
+                                outcome.tryEmitValue(
+                                        ResponseEntity.ok(
+                                                new GenerationResponse(
+                                                        "SUCCESS", "done", Map.of()))))
+                .assertNext(status -> assertThat(status.state()).isEqualTo("COMPLETED"))
+                .expectComplete()
+                .verify(Duration.ofSeconds(15));
+    }
+
+    @Test
+    void shouldNotFindUnknownJob() {
+        StepVerifier.create(otherReplica.find("unknown")).verifyComplete();
+        StepVerifier.create(otherReplica.updates("unknown")).verifyComplete();
+    }
+
+    private GenerationStatus awaitState(String jobId, String state) {
+        return otherReplica
+                .find(jobId)
+                .filter(status -> state.equals(status.state()))
+                .repeatWhenEmpty(repeat -> repeat.delayElements(Duration.ofMillis(100)))
+                .block(Duration.ofSeconds(10));
+    }
+}
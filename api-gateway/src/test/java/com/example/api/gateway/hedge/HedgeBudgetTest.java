@@ -0,0 +1,37 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.hedge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class HedgeBudgetTest {
+
+    @Test
+    void shouldAllowOneHedgePerTenRequestsAtTenPercent() {
+        HedgeBudget budget = new HedgeBudget(10, 5);
+        IntStream.range(0, 9).forEach(i -> budget.deposit());
+        assertThat(budget.tryAcquire()).isFalse();
+
+        budget.deposit();
+
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void shouldCapSavedUpHedgesAtTheBurst() {
+        HedgeBudget budget = new HedgeBudget(50, 2);
+        IntStream.range(0, 100).forEach(i -> budget.deposit());
+
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+    }
+}
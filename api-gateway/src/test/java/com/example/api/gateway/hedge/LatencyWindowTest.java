@@ -0,0 +1,44 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.hedge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class LatencyWindowTest {
+
+    @Test
+    void shouldNotAnswerPercentileWhileWarmingUp() {
+        LatencyWindow window = new LatencyWindow(100, 0.95);
+        IntStream.range(1, LatencyWindow.MIN_SAMPLES).forEach(window::record);
+
+        assertThat(window.percentile()).isNull();
+    }
+
+    @Test
+    void shouldAnswerPercentileOfRecentLatencies() {
+        LatencyWindow window = new LatencyWindow(100, 0.95);
+        IntStream.rangeClosed(1, 100).forEach(millis -> window.record(millis * 1_000_000L));
+
+        assertThat(window.percentile()).isEqualTo(Duration.ofMillis(95));
+    }
+
+    @Test
+    void shouldForgetLatenciesOlderThanTheWindow() {
+        LatencyWindow window = new LatencyWindow(32, 0.5);
+        // a slow start followed by a full window of fast responses
+        IntStream.range(0, 32).forEach(i -> window.record(Duration.ofSeconds(1).toNanos()));
+        assertThat(window.percentile()).isEqualTo(Duration.ofSeconds(1));
+
+        IntStream.range(0, 32).forEach(i -> window.record(Duration.ofMillis(5).toNanos()));
+
+        assertThat(window.percentile()).isEqualTo(Duration.ofMillis(5));
+    }
+}
@@ -0,0 +1,138 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.loadbalancer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultRequestContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+import org.springframework.cloud.loadbalancer.support.SimpleObjectProvider;
+
+class AdaptiveLoadBalancerTest {
+
+    private static final String SERVICE_ID = "inventory-service";
+    private static final Duration MAX_REQUEST_TIME = Duration.ofSeconds(30);
+
+    private final ServiceInstance fast = instance("fast", 8081);
+    private final ServiceInstance slow = instance("slow", 8082);
+    private final ServiceInstance other = instance("other", 8083);
+
+    private final InstanceLoadTracker tracker =
+            new InstanceLoadTracker(
+                    SERVICE_ID,
+                    Duration.ofSeconds(10),
+                    MAX_REQUEST_TIME,
+                    2,
+                    Duration.ofSeconds(30),
+                    Duration.ofMinutes(5),
+                    50);
+
+    @Test
+    void peakEwmaShouldPreferTheInstanceAnsweringFaster() {
+        AdaptiveLoadBalancer loadBalancer =
+                loadBalancer(LoadBalancingStrategy.PEAK_EWMA, fast, slow);
+        complete(fast, 5, CompletionContext.Status.SUCCESS);
+        complete(slow, 500, CompletionContext.Status.SUCCESS);
+
+        assertThat(chooseTimes(loadBalancer, 20)).containsOnly(fast);
+    }
+
+    @Test
+    void leastOutstandingShouldPreferTheInstanceWithFewerRequestsInFlight() {
+        AdaptiveLoadBalancer loadBalancer =
+                loadBalancer(LoadBalancingStrategy.LEAST_OUTSTANDING, fast, slow);
+        IntStream.range(0, 3).forEach(i -> start(slow));
+
+        assertThat(chooseTimes(loadBalancer, 20)).containsOnly(fast);
+    }
+
+    @Test
+    void shouldStopCountingRequestsThatNeverComplete() {
+        // cancelled requests never reach onComplete
+        IntStream.range(0, 3).forEach(i -> start(slow));
+        Request<Object> completed = start(slow);
+        tracker.onComplete(
+                new CompletionContext<>(
+                        CompletionContext.Status.SUCCESS, completed, new DefaultResponse(slow)));
+        long now = System.nanoTime();
+
+        assertThat(tracker.load(slow).outstanding(now)).isEqualTo(3);
+        assertThat(tracker.load(slow).outstanding(now + MAX_REQUEST_TIME.toNanos() + 1)).isZero();
+        // completing a request no longer counted must not take another one off
+        start(slow);
+        tracker.onComplete(
+                new CompletionContext<>(
+                        CompletionContext.Status.SUCCESS, completed, new DefaultResponse(slow)));
+        assertThat(tracker.load(slow).outstanding(System.nanoTime())).isOne();
+    }
+
+    @Test
+    void shouldEjectFailingInstancesButNeverMoreThanAllowed() {
+        AdaptiveLoadBalancer loadBalancer =
+                loadBalancer(LoadBalancingStrategy.PEAK_EWMA, fast, slow, other);
+
+        complete(slow, 5, CompletionContext.Status.FAILED);
+        complete(slow, 5, CompletionContext.Status.FAILED);
+        assertThat(chooseTimes(loadBalancer, 50)).containsOnly(fast, other);
+
+        // ejecting a second of three instances would leave out more than 50% of them, so the one
+        // ejected first, whose ejection ends soonest, is used again
+        complete(other, 5, CompletionContext.Status.FAILED);
+        complete(other, 5, CompletionContext.Status.FAILED);
+        assertThat(chooseTimes(loadBalancer, 50)).containsOnly(fast, slow);
+
+        // with every instance ejected still two of them take the calls rather than none
+        complete(fast, 5, CompletionContext.Status.FAILED);
+        complete(fast, 5, CompletionContext.Status.FAILED);
+        assertThat(chooseTimes(loadBalancer, 50)).containsOnly(slow, other);
+    }
+
+    private AdaptiveLoadBalancer loadBalancer(
+            LoadBalancingStrategy strategy, ServiceInstance... instances) {
+        ServiceInstanceListSupplier supplier =
+                ServiceInstanceListSuppliers.from(SERVICE_ID, instances);
+        return new AdaptiveLoadBalancer(
+                new SimpleObjectProvider<>(supplier), SERVICE_ID, tracker, strategy);
+    }
+
+    private List<ServiceInstance> chooseTimes(AdaptiveLoadBalancer loadBalancer, int times) {
+        return IntStream.range(0, times)
+                .mapToObj(i -> loadBalancer.choose(new DefaultRequest<>()).block().getServer())
+                .toList();
+    }
+
+    private Request<Object> start(ServiceInstance instance) {
+        Request<Object> request = new DefaultRequest<>(new DefaultRequestContext());
+        tracker.onStartRequest(request, new DefaultResponse(instance));
+        return request;
+    }
+
+    private void complete(ServiceInstance instance, long millis, CompletionContext.Status status) {
+        Request<Object> request = start(instance);
+        ((DefaultRequestContext) request.getContext())
+                .setRequestStartTime(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(millis));
+        Response<ServiceInstance> response = new DefaultResponse(instance);
+        tracker.onComplete(new CompletionContext<>(status, request, response));
+    }
+
+    private static ServiceInstance instance(String instanceId, int port) {
+        return new DefaultServiceInstance(instanceId, SERVICE_ID, "localhost", port, false);
+    }
+}
@@ -0,0 +1,77 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.projection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+class FieldSelectionTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private static final String PAGE =
+            """
+            {"data":[{"orderId":1,"status":"NEW","items":[{"productCode":"P1","quantity":2}]},
+                     {"orderId":2,"status":"CONFIRMED","items":[]}],
+             "totalElements":2,"hasNext":false}
+            """;
+
+    @Test
+    void shouldSelectAttributesOfEachElement() {
+        JsonNode selected =
+                FieldSelection.parse("data(orderId,status),hasNext")
+                        .apply(jsonMapper.readTree(PAGE));
+
+        assertThat(selected.toString())
+                .isEqualTo(
+                        "{\"data\":[{\"orderId\":1,\"status\":\"NEW\"},"
+                                + "{\"orderId\":2,\"status\":\"CONFIRMED\"}],\"hasNext\":false}");
+    }
+
+    @Test
+    void shouldSelectNestedAttributesAndKeepSourceOrder() {
+        JsonNode selected =
+                FieldSelection.parse(" hasNext , data ( items ( quantity ) ) ")
+                        .apply(jsonMapper.readTree(PAGE));
+
+        assertThat(selected.toString())
+                .isEqualTo(
+                        "{\"data\":[{\"items\":[{\"quantity\":2}]},{\"items\":[]}],"
+                                + "\"hasNext\":false}");
+    }
+
+    @Test
+    void shouldKeepWholeValueOfNamedAttribute() {
+        JsonNode selected = FieldSelection.parse("data").apply(jsonMapper.readTree(PAGE));
+
+        assertThat(selected.get("data")).isEqualTo(jsonMapper.readTree(PAGE).get("data"));
+        assertThat(selected.has("totalElements")).isFalse();
+    }
+
+    @Test
+    void shouldIgnoreUnknownAttributes() {
+        JsonNode selected =
+                FieldSelection.parse("data(unknown),missing").apply(jsonMapper.readTree(PAGE));
+
+        assertThat(selected.toString()).isEqualTo("{\"data\":[{},{}]}");
+    }
+
+    @Test
+    void shouldRejectInvalidExpressions() {
+        assertThatIllegalArgumentException().isThrownBy(() -> FieldSelection.parse(""));
+        assertThatIllegalArgumentException().isThrownBy(() -> FieldSelection.parse("data("));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> FieldSelection.parse("data(orderId"));
+        assertThatIllegalArgumentException().isThrownBy(() -> FieldSelection.parse("a,,b"));
+        assertThatIllegalArgumentException().isThrownBy(() -> FieldSelection.parse("a)"));
+        assertThatIllegalArgumentException().isThrownBy(() -> FieldSelection.parse("a b"));
+    }
+}
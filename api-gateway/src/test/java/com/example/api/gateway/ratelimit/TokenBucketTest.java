@@ -0,0 +1,65 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    // 10 tokens per second
+    private static final long NANOS_PER_TOKEN = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long CAPACITY = 3;
+
+    private final TokenBucket bucket = new TokenBucket("order-service", "key", 0);
+
+    @Test
+    void shouldGiveOutBurstThenDeny() {
+        assertThat(bucket.tryConsume(1, NANOS_PER_TOKEN, CAPACITY, 0)).isEqualTo(2);
+        assertThat(bucket.tryConsume(1, NANOS_PER_TOKEN, CAPACITY, 0)).isEqualTo(1);
+        assertThat(bucket.tryConsume(1, NANOS_PER_TOKEN, CAPACITY, 0)).isZero();
+        assertThat(bucket.tryConsume(1, NANOS_PER_TOKEN, CAPACITY, 0)).isEqualTo(-1);
+
+        assertThat(bucket.drainUnpublished()).isEqualTo(3);
+        assertThat(bucket.drainUnpublished()).isZero();
+    }
+
+    @Test
+    void shouldReplenishOverTime() {
+        for (int i = 0; i < CAPACITY; i++) {
+            bucket.tryConsume(1, NANOS_PER_TOKEN, CAPACITY, 0);
+        }
+
+        assertThat(bucket.tryConsume(1, NANOS_PER_TOKEN, CAPACITY, NANOS_PER_TOKEN / 2))
+                .isEqualTo(-1);
+        assertThat(bucket.tryConsume(1, NANOS_PER_TOKEN, CAPACITY, NANOS_PER_TOKEN)).isZero();
+    }
+
+    @Test
+    void shouldTakeTokensConsumedByOtherReplicas() {
+        // first sync only learns the global count
+        assertThat(bucket.remoteConsumed(40, 0)).isZero();
+        bucket.tryConsume(1, NANOS_PER_TOKEN, CAPACITY, 0);
+
+        // 1 own token published, the global count grew by 3
+        long remote = bucket.remoteConsumed(43, bucket.drainUnpublished());
+        assertThat(remote).isEqualTo(2);
+        bucket.charge(remote, NANOS_PER_TOKEN, CAPACITY, 0);
+
+        assertThat(bucket.tryConsume(1, NANOS_PER_TOKEN, CAPACITY, 0)).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldNotChargeMoreThanTheCapacity() {
+        bucket.charge(100, NANOS_PER_TOKEN, CAPACITY, 0);
+
+        assertThat(bucket.tryConsume(1, NANOS_PER_TOKEN, CAPACITY, 3 * NANOS_PER_TOKEN))
+                .isEqualTo(2);
+    }
+}
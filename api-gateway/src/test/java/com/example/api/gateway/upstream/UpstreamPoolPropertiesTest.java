@@ -0,0 +1,39 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.upstream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class UpstreamPoolPropertiesTest {
+
+    private final UpstreamPoolProperties properties = new UpstreamPoolProperties();
+
+    @Test
+    void shouldUseSharedPoolForServicesWithoutOwnSettings() {
+        assertThat(properties.poolFor("order-service")).isSameAs(properties.getPool());
+    }
+
+    @Test
+    void shouldTakeUnsetValuesOfServicePoolFromSharedPool() {
+        UpstreamPoolProperties.Pool catalogPool = new UpstreamPoolProperties.Pool();
+        catalogPool.setMaxConnections(50);
+        catalogPool.setH2c(true);
+        properties.getUpstreams().put("catalog-service", catalogPool);
+
+        UpstreamPoolProperties.Pool pool = properties.poolFor("CATALOG-SERVICE");
+
+        assertThat(pool.getMaxConnections()).isEqualTo(50);
+        assertThat(pool.getH2c()).isTrue();
+        assertThat(pool.getPendingAcquireMaxCount()).isEqualTo(1_000);
+        assertThat(pool.getMaxIdleTime()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(pool.getLeasingStrategy())
+                .isEqualTo(UpstreamPoolProperties.LeasingStrategy.LIFO);
+    }
+}
@@ -0,0 +1,140 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.upstream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.loadbalancer.support.SimpleObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+
+class UpstreamRoutingFilterTest {
+
+    private static final String CLIENT_HEADER = "X-Gateway-Client";
+
+    // reactor netty registers the pool meters on the global registry
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HttpClientProperties httpClientProperties = new HttpClientProperties();
+    private final AtomicReference<String> receivedClientHeader = new AtomicReference<>();
+
+    private DisposableServer upstream;
+    private UpstreamHttpClients upstreamHttpClients;
+    private UpstreamRoutingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        Metrics.addRegistry(meterRegistry);
+        upstream =
+                HttpServer.create()
+                        .host("localhost")
+                        .port(0)
+                        .handle(
+                                (request, response) -> {
+                                    receivedClientHeader.set(
+                                            request.requestHeaders().get(CLIENT_HEADER));
+                                    return response.sendString(Mono.just("ok"));
+                                })
+                        .bindNow();
+        // stands in for the gateway's factory, which configures every client it builds
+        upstreamHttpClients =
+                new UpstreamHttpClients(
+                        new UpstreamPoolProperties(),
+                        connectionProvider ->
+                                HttpClient.create(connectionProvider)
+                                        .headers(headers -> headers.set(CLIENT_HEADER, "gateway")));
+        filter =
+                new UpstreamRoutingFilter(
+                        HttpClient.create(),
+                        new SimpleObjectProvider<>(List.of()),
+                        httpClientProperties,
+                        upstreamHttpClients);
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstreamHttpClients.destroy();
+        upstream.disposeNow();
+        Metrics.removeRegistry(meterRegistry);
+    }
+
+    @Test
+    void shouldSendRequestsThroughThePoolNamedInTheRouteMetadata() {
+        Route route =
+                Route.async()
+                        .id("inventory-service-reporting")
+                        .uri("lb://inventory-service")
+                        .predicate(exchange -> true)
+                        .metadata(UpstreamHttpClients.CONNECTION_POOL_METADATA, "reporting")
+                        .build();
+
+        MockServerWebExchange exchange = route(route);
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(connectionProviderGauges("gateway-reporting"))
+                .singleElement()
+                .satisfies(
+                        gauge ->
+                                assertThat(gauge.getId().getTag("remote.address"))
+                                        .endsWith(":" + upstream.port()));
+        assertThat(connectionProviderGauges("gateway-inventory-service")).isEmpty();
+    }
+
+    @Test
+    void shouldSendRequestsOfLoadBalancedRoutesThroughThePoolOfTheService() {
+        Route route =
+                Route.async()
+                        .id("inventory-service")
+                        .uri("lb://inventory-service")
+                        .predicate(exchange -> true)
+                        .build();
+
+        MockServerWebExchange exchange = route(route);
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(connectionProviderGauges("gateway-inventory-service")).hasSize(1);
+        assertThat(receivedClientHeader).hasValue("gateway");
+    }
+
+    // the load balancer has already resolved the route to the upstream
+    private MockServerWebExchange route(Route route) {
+        MockServerWebExchange exchange =
+                MockServerWebExchange.from(MockServerHttpRequest.get("/api/inventory"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        exchange.getAttributes()
+                .put(
+                        ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR,
+                        URI.create("http://localhost:" + upstream.port() + "/api/inventory"));
+        filter.filter(exchange, routed -> Mono.empty()).block(Duration.ofSeconds(5));
+        return exchange;
+    }
+
+    private Collection<Gauge> connectionProviderGauges(String poolName) {
+        return meterRegistry
+                .find("reactor.netty.connection.provider.total.connections")
+                .tag("name", poolName)
+                .gauges();
+    }
+}
@@ -0,0 +1,38 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.api.gateway.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class RequestIdsTest {
+
+    @Test
+    void shouldGenerateVersion4Uuids() {
+        String id = RequestIds.next();
+
+        assertThat(id).matches("^[0-9a-f]{8}-[0-9a-f]{4}-4[0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}$");
+        UUID uuid = UUID.fromString(id);
+        assertThat(uuid.version()).isEqualTo(4);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.toString()).isEqualTo(id);
+    }
+
+    @Test
+    void shouldNotRepeatIds() {
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(RequestIds.next());
+        }
+
+        assertThat(ids).hasSize(10_000);
+    }
+}
@@ -8,6 +8,7 @@ package com.example.catalogservice.config;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -20,7 +21,8 @@ public record ApplicationProperties(
         @NotBlank(message = "Inventory Service URL cannot be blank") String inventoryServiceUrl,
         @NestedConfigurationProperty @Valid Cors cors,
         @Valid Resilience resilience,
-        @Valid Outbox outbox) {
+        @Valid Outbox outbox,
+        @Valid ConnectionPool connectionPool) {
 
     public ApplicationProperties {
         // Default values for nested properties
@@ -33,6 +35,9 @@ public record ApplicationProperties(
         if (outbox == null) {
             outbox = new Outbox();
         }
+        if (connectionPool == null) {
+            connectionPool = new ConnectionPool();
+        }
     }
 
     public static class Cors {
@@ -155,4 +160,101 @@ public record ApplicationProperties(
             this.lockTimeout = lockTimeout;
         }
     }
+
+    /**
+     * Connection pool of the inventory-service client, one per instance, with the settings the
+     * gateway's {@code app.gateway.http-client.pool} has.
+     */
+    public static class ConnectionPool {
+
+        @Positive(message = "Connection pool maxConnections must be positive") private int maxConnections = 500;
+
+        // requests waiting for a connection before new ones are rejected
+        private int pendingAcquireMaxCount = 1_000;
+
+        // how long a request waits for a connection
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+
+        // how often idle and expired connections are closed in the background
+        private Duration evictionInterval = Duration.ofSeconds(15);
+
+        // lifo reuses warm connections and lets the surplus idle out, fifo spreads use evenly
+        private LeasingStrategy leasingStrategy = LeasingStrategy.LIFO;
+
+        // HTTP/2 with prior knowledge, inventory-service must accept cleartext HTTP/2
+        private boolean h2c;
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public int getPendingAcquireMaxCount() {
+            return pendingAcquireMaxCount;
+        }
+
+        public void setPendingAcquireMaxCount(int pendingAcquireMaxCount) {
+            this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        }
+
+        public Duration getPendingAcquireTimeout() {
+            return pendingAcquireTimeout;
+        }
+
+        public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+            this.pendingAcquireTimeout = pendingAcquireTimeout;
+        }
+
+        public Duration getMaxIdleTime() {
+            return maxIdleTime;
+        }
+
+        public void setMaxIdleTime(Duration maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+        }
+
+        public Duration getMaxLifeTime() {
+            return maxLifeTime;
+        }
+
+        public void setMaxLifeTime(Duration maxLifeTime) {
+            this.maxLifeTime = maxLifeTime;
+        }
+
+        public Duration getEvictionInterval() {
+            return evictionInterval;
+        }
+
+        public void setEvictionInterval(Duration evictionInterval) {
+            this.evictionInterval = evictionInterval;
+        }
+
+        public LeasingStrategy getLeasingStrategy() {
+            return leasingStrategy;
+        }
+
+        public void setLeasingStrategy(LeasingStrategy leasingStrategy) {
+            this.leasingStrategy = leasingStrategy;
+        }
+
+        public boolean isH2c() {
+            return h2c;
+        }
+
+        public void setH2c(boolean h2c) {
+            this.h2c = h2c;
+        }
+
+        public enum LeasingStrategy {
+            FIFO,
+            LIFO
+        }
+    }
 }
@@ -9,6 +9,7 @@ package com.example.catalogservice.config;
 import static io.netty.channel.ChannelOption.CONNECT_TIMEOUT_MILLIS;
 import static reactor.core.publisher.Mono.just;
 
+import com.example.catalogservice.config.ApplicationProperties.ConnectionPool.LeasingStrategy;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import java.time.Duration;
@@ -27,6 +28,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
 import reactor.util.retry.Retry;
@@ -67,8 +69,29 @@ public class WebClientConfiguration {
                 .build();
     }
 
+    // shared by every WebClient, so the pool limits hold for the service as a whole
+    @Bean(destroyMethod = "dispose")
+    ConnectionProvider inventoryConnectionProvider() {
+        ApplicationProperties.ConnectionPool pool = applicationProperties.connectionPool();
+        ConnectionProvider.Builder builder =
+                ConnectionProvider.builder("inventory-service")
+                        .maxConnections(pool.getMaxConnections())
+                        .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                        .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                        .maxIdleTime(pool.getMaxIdleTime())
+                        .maxLifeTime(pool.getMaxLifeTime())
+                        .evictInBackground(pool.getEvictionInterval())
+                        .metrics(true);
+        if (pool.getLeasingStrategy() == LeasingStrategy.LIFO) {
+            builder.lifo();
+        } else {
+            builder.fifo();
+        }
+        return builder.build();
+    }
+
     @Bean
-    WebClientCustomizer webClientCustomizer() {
+    WebClientCustomizer webClientCustomizer(ConnectionProvider inventoryConnectionProvider) {
         return webClientBuilder ->
                 webClientBuilder
                         .defaultHeaders(
@@ -86,7 +109,9 @@ public class WebClientConfiguration {
                                         next.exchange(request)
                                                 .retryWhen(
                                                         Retry.backoff(3, Duration.ofMillis(100))))
-                        .clientConnector(new ReactorClientHttpConnector(clientConnectorConfig()));
+                        .clientConnector(
+                                new ReactorClientHttpConnector(
+                                        clientConnectorConfig(inventoryConnectionProvider)));
     }
 
     private ExchangeFilterFunction logRequestDetails() {
@@ -116,16 +141,12 @@ public class WebClientConfiguration {
                 });
     }
 
-    private HttpClient clientConnectorConfig() {
-        ConnectionProvider connectionProvider =
-                ConnectionProvider.builder("custom")
-                        .maxConnections(10)
-                        .pendingAcquireMaxCount(50)
-                        .maxIdleTime(Duration.ofSeconds(20))
-                        .maxLifeTime(Duration.ofSeconds(60))
-                        .build();
-
+    private HttpClient clientConnectorConfig(ConnectionProvider connectionProvider) {
         return HttpClient.create(connectionProvider)
+                .protocol(
+                        applicationProperties.connectionPool().isH2c()
+                                ? HttpProtocol.H2C
+                                : HttpProtocol.HTTP11)
                 .option(CONNECT_TIMEOUT_MILLIS, 10_000)
                 .responseTimeout(Duration.ofSeconds(10))
                 .doOnConnected(
@@ -7,6 +7,7 @@
 package com.example.catalogservice.kafka;
 
 import com.example.catalogservice.config.logging.Loggable;
+import com.example.catalogservice.utils.AppConstants;
 import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.Message;
@@ -33,12 +34,17 @@ public class CatalogKafkaProducer {
         this.streamBridge = streamBridge;
     }
 
-    public Mono<Boolean> send(String key, String payload) {
+    /**
+     * @param eventType sent as the {@value AppConstants#EVENT_TYPE_HEADER} header so that
+     *     consumers can tell deletions from creations without parsing the payload
+     */
+    public Mono<Boolean> send(String key, String eventType, String payload) {
         return Mono.fromCallable(
                         () -> {
                             Message<String> message =
                                     MessageBuilder.withPayload(payload)
                                             .setHeader(KafkaHeaders.KEY, key)
+                                            .setHeader(AppConstants.EVENT_TYPE_HEADER, eventType)
                                             .build();
                             return streamBridge.send("inventory-out-0", message);
                         })
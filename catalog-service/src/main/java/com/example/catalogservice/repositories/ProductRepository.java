@@ -9,6 +9,8 @@ package com.example.catalogservice.repositories;
 import com.example.catalogservice.entities.Product;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.data.repository.reactive.ReactiveSortingRepository;
 import reactor.core.publisher.Flux;
@@ -17,15 +19,27 @@ import reactor.core.publisher.Mono;
 public interface ProductRepository
         extends ReactiveCrudRepository<Product, Long>, ReactiveSortingRepository<Product, Long> {
 
-    Mono<Long> countDistinctByProductCodeAllIgnoreCaseIn(List<String> productCodeList);
+    // The case-insensitive lookups compare the generated product_code_key column, which holds
+    // UPPER(product_code) and carries a unique index, instead of applying UPPER to every row. The
+    // single code lookups take a code in any case.
 
-    Mono<Long> countByProductCodeAllIgnoreCase(String productCode);
+    /** Expects distinct upper-cased product codes, matching the product_code_key column. */
+    @Query("SELECT COUNT(*) FROM products WHERE product_code_key IN (:productCodeKeys)")
+    Mono<Long> countByProductCodeKeyIn(List<String> productCodeKeys);
 
-    Mono<Product> findByProductCodeAllIgnoreCase(String productCode);
+    @Query("SELECT COUNT(*) FROM products WHERE product_code_key = UPPER(:productCode)")
+    Mono<Long> countByProductCodeKey(String productCode);
 
-    Mono<Void> deleteByProductCodeAllIgnoreCase(String productCode);
+    @Query("SELECT * FROM products WHERE product_code_key = UPPER(:productCode)")
+    Mono<Product> findByProductCodeKey(String productCode);
 
-    Mono<Boolean> existsByProductCodeAllIgnoreCase(String productCode);
+    @Modifying
+    @Query("DELETE FROM products WHERE product_code_key = UPPER(:productCode)")
+    Mono<Void> deleteByProductCodeKey(String productCode);
+
+    @Query(
+            "SELECT EXISTS (SELECT 1 FROM products WHERE product_code_key = UPPER(:productCode))")
+    Mono<Boolean> existsByProductCodeKey(String productCode);
 
     Flux<Product> findAllBy(Pageable pageable);
 
@@ -21,6 +21,7 @@ import io.micrometer.observation.annotation.Observed;
 import java.security.SecureRandom;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -147,7 +148,7 @@ public class ProductService {
             String productCode, boolean fetchInStock) {
         Mono<ProductResponse> productResponseMono =
                 productRepository
-                        .findByProductCodeAllIgnoreCase(productCode)
+                        .findByProductCodeKey(productCode)
                         .map(productMapper::toProductResponse)
                         .switchIfEmpty(Mono.error(new ProductNotFoundException(productCode)));
 
@@ -173,7 +174,7 @@ public class ProductService {
     public Mono<ProductResponse> saveProduct(ProductRequest productRequest) {
         // First, check if product already exists - idempotent approach
         return productRepository
-                .findByProductCodeAllIgnoreCase(productRequest.productCode())
+                .findByProductCodeKey(productRequest.productCode())
                 .map(productMapper::toProductResponse)
                 .switchIfEmpty(Mono.defer(() -> self.createAndSaveProduct(productRequest)))
                 // Catch DuplicateKeyException from unique constraint violation
@@ -186,7 +187,7 @@ public class ProductService {
                             // Recovery mechanism: fetch the existing product that was concurrently
                             // saved
                             return productRepository
-                                    .findByProductCodeAllIgnoreCase(productRequest.productCode())
+                                    .findByProductCodeKey(productRequest.productCode())
                                     .map(productMapper::toProductResponse)
                                     .switchIfEmpty(
                                             // This should never happen, but just in case
@@ -240,9 +241,18 @@ public class ProductService {
 
     public Mono<Boolean> productExistsByProductCodes(List<String> productCodes) {
         log.info("checking if products Exists :{}", productCodes);
+        List<String> productCodeKeys =
+                productCodes.stream()
+                        .map(productCode -> productCode.toUpperCase(Locale.ROOT))
+                        .distinct()
+                        .toList();
+        if (productCodeKeys.isEmpty()) {
+            return Mono.just(true);
+        }
         return productRepository
-                .countDistinctByProductCodeAllIgnoreCaseIn(productCodes)
-                .map(count -> count == productCodes.size());
+                .countByProductCodeKeyIn(productCodeKeys)
+                // codes repeated in the request, in any case, name one product
+                .map(count -> count == productCodeKeys.size());
     }
 
     @Observed(name = "product.findById", contextualName = "findById")
@@ -16,4 +16,5 @@ public final class AppConstants {
     public static final String DEFAULT_PAGE_SIZE = "10";
     public static final String DEFAULT_SORT_BY = "id";
     public static final String DEFAULT_SORT_DIRECTION = "asc";
+    public static final String EVENT_TYPE_HEADER = "eventType";
 }
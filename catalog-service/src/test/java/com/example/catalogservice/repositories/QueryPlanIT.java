@@ -0,0 +1,236 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.catalogservice.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.catalogservice.common.AbstractIntegrationTest;
+import com.example.catalogservice.entities.OutboxEventStatus;
+import io.r2dbc.proxy.ProxyConnectionFactory;
+import io.r2dbc.proxy.core.Binding;
+import io.r2dbc.proxy.core.Bindings;
+import io.r2dbc.proxy.core.BoundValue;
+import io.r2dbc.proxy.core.QueryExecutionInfo;
+import io.r2dbc.proxy.core.QueryInfo;
+import io.r2dbc.proxy.listener.ProxyExecutionListener;
+import io.r2dbc.spi.ConnectionFactory;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+/**
+ * Guards the indexes behind the hot repository queries. The tables are filled with a realistic
+ * volume and analyzed, then every hot repository method is called and each statement it issues is
+ * captured through an R2DBC proxy and run through {@code EXPLAIN} with its own bind values,
+ * failing the build when the planner falls back to a sequential scan. Add any new hot repository
+ * method to {@link #hotQueries()}.
+ */
+class QueryPlanIT extends AbstractIntegrationTest {
+
+    private static final String CODE_PREFIX = "QUERY-PLAN-";
+    private static final String AGGREGATE_TYPE = "query-plan-it";
+
+    private static final CapturingListener CAPTURED = new CapturingListener();
+
+    @Autowired private DatabaseClient databaseClient;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private OutboxEventRepository outboxEventRepository;
+
+    @BeforeEach
+    void setUp() {
+        // no PENDING rows are seeded so the outbox publisher leaves them alone
+        execute(
+                """
+                INSERT INTO products (id, product_code, product_name, description, price)
+                SELECT 10000000 + g, '%s' || g, 'Product ' || g, 'Description ' || g, 10
+                  FROM generate_series(1, 100000) AS g
+                """
+                        .formatted(CODE_PREFIX));
+        execute(
+                """
+                INSERT INTO outbox_events
+                       (id, aggregate_type, aggregate_id, event_type, payload, status,
+                        created_at, processed_at, retry_count)
+                SELECT gen_random_uuid(), '%s', g::text, 'ProductCreatedEvent', '{}'::jsonb,
+                       CASE WHEN g %% 100 = 0 THEN 'FAILED' ELSE 'PUBLISHED' END,
+                       now() - make_interval(mins => g), now() - make_interval(mins => g), 0
+                  FROM generate_series(1, 100000) AS g
+                """
+                        .formatted(AGGREGATE_TYPE));
+        // vacuum sets the visibility map, without it index-only scans are costed as heap fetches
+        execute("VACUUM ANALYZE products, outbox_events");
+    }
+
+    @AfterEach
+    void tearDown() {
+        execute("DELETE FROM products WHERE product_code LIKE '" + CODE_PREFIX + "%'");
+        execute("DELETE FROM outbox_events WHERE aggregate_type = '" + AGGREGATE_TYPE + "'");
+    }
+
+    @Test
+    void hotQueriesShouldNotScanWholeTables() {
+        SoftAssertions softly = new SoftAssertions();
+        hotQueries()
+                .forEach(
+                        (name, query) -> {
+                            List<CapturedStatement> issued = capture(query);
+                            softly.assertThat(issued).as("statements of %s", name).isNotEmpty();
+                            for (CapturedStatement statement : issued) {
+                                softly.assertThat(explain(statement))
+                                        .as("query plan of %s%n%s", name, statement.sql())
+                                        .doesNotContain("Seq Scan");
+                            }
+                        });
+        softly.assertAll();
+    }
+
+    @Test
+    void productExistenceCheckShouldBeOneIndexOnlyProbeSet() {
+        List<String> productCodeKeys =
+                IntStream.rangeClosed(1, 1_000).mapToObj(i -> CODE_PREFIX + i).toList();
+
+        List<CapturedStatement> issued =
+                capture(() -> productRepository.countByProductCodeKeyIn(productCodeKeys));
+
+        assertThat(issued)
+                .filteredOn(statement -> statement.sql().contains("product_code_key IN"))
+                .singleElement()
+                .extracting(this::explain)
+                .asString()
+                .contains("Index Only Scan using uk_products_product_code_key")
+                .doesNotContain("Seq Scan");
+    }
+
+    // no PENDING or PROCESSING rows are seeded, so the outbox updates leave every row alone
+    private Map<String, Supplier<Publisher<?>>> hotQueries() {
+        Map<String, Supplier<Publisher<?>>> queries = new LinkedHashMap<>();
+        queries.put(
+                "findByProductCodeKey",
+                () -> productRepository.findByProductCodeKey("query-plan-42"));
+        queries.put(
+                "countByProductCodeKey",
+                () -> productRepository.countByProductCodeKey("query-plan-42"));
+        queries.put(
+                "existsByProductCodeKey",
+                () -> productRepository.existsByProductCodeKey("query-plan-42"));
+        queries.put(
+                "countByProductCodeKeyIn",
+                () ->
+                        productRepository.countByProductCodeKeyIn(
+                                List.of(CODE_PREFIX + 1, CODE_PREFIX + 2, CODE_PREFIX + 3)));
+        queries.put("claimPendingEvents", () -> outboxEventRepository.claimPendingEvents(100));
+        queries.put(
+                "reapOrphanedEvents",
+                () ->
+                        outboxEventRepository.reapOrphanedEvents(
+                                OffsetDateTime.now().minusMinutes(5), 3));
+        // the backlog gauge
+        queries.put(
+                "countByStatus",
+                () -> outboxEventRepository.countByStatus(OutboxEventStatus.PENDING));
+        return queries;
+    }
+
+    // the outbox jobs run on their own schedule, any statement of theirs caught here is a hot
+    // repository query as well
+    private List<CapturedStatement> capture(Supplier<Publisher<?>> query) {
+        CAPTURED.drain();
+        Flux.from(query.get()).blockLast();
+        return CAPTURED.drain();
+    }
+
+    private String explain(CapturedStatement statement) {
+        DatabaseClient.GenericExecuteSpec explain =
+                databaseClient.sql("EXPLAIN " + statement.sql());
+        for (Binding binding : statement.bindings()) {
+            explain = bind(explain, binding);
+        }
+        List<String> planLines =
+                explain.map(row -> row.get(0, String.class)).all().collectList().block();
+        return String.join("\n", planLines);
+    }
+
+    // replays the value the driver saw, so the plan is made for the same values and types
+    private static DatabaseClient.GenericExecuteSpec bind(
+            DatabaseClient.GenericExecuteSpec spec, Binding binding) {
+        BoundValue value = binding.getBoundValue();
+        if (binding.getKey() instanceof Integer index) {
+            return value.isNull()
+                    ? spec.bindNull(index, value.getNullType())
+                    : spec.bind(index, value.getValue());
+        }
+        String name = String.valueOf(binding.getKey());
+        return value.isNull()
+                ? spec.bindNull(name, value.getNullType())
+                : spec.bind(name, value.getValue());
+    }
+
+    private void execute(String sql) {
+        databaseClient.sql(sql).fetch().rowsUpdated().block();
+    }
+
+    record CapturedStatement(String sql, List<Binding> bindings) {}
+
+    static class CapturingListener implements ProxyExecutionListener {
+
+        private final List<CapturedStatement> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void afterQuery(QueryExecutionInfo execInfo) {
+            for (QueryInfo queryInfo : execInfo.getQueries()) {
+                List<Binding> bindings = new ArrayList<>();
+                if (!queryInfo.getBindingsList().isEmpty()) {
+                    Bindings first = queryInfo.getBindingsList().getFirst();
+                    bindings.addAll(first.getIndexBindings());
+                    bindings.addAll(first.getNamedBindings());
+                }
+                statements.add(new CapturedStatement(queryInfo.getQuery(), bindings));
+            }
+        }
+
+        List<CapturedStatement> drain() {
+            List<CapturedStatement> drained = new ArrayList<>(statements);
+            statements.clear();
+            return drained;
+        }
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class CapturingConnectionFactoryConfig {
+
+        @Bean
+        static BeanPostProcessor capturingConnectionFactoryPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof ConnectionFactory connectionFactory) {
+                        return ProxyConnectionFactory.builder(connectionFactory)
+                                .listener(CAPTURED)
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
@@ -34,22 +34,22 @@ class ProductServiceConcurrencyIT extends AbstractIntegrationTest {
     @BeforeEach
     void setUp() {
         // Clean up any existing test products using StepVerifier
-        StepVerifier.create(productRepository.deleteByProductCodeAllIgnoreCase(TEST_PRODUCT_CODE))
+        StepVerifier.create(productRepository.deleteByProductCodeKey(TEST_PRODUCT_CODE))
                 .verifyComplete();
-        StepVerifier.create(productRepository.deleteByProductCodeAllIgnoreCase(TEST_PRODUCT_CODE_2))
+        StepVerifier.create(productRepository.deleteByProductCodeKey(TEST_PRODUCT_CODE_2))
                 .verifyComplete();
-        StepVerifier.create(productRepository.deleteByProductCodeAllIgnoreCase(TEST_PRODUCT_CODE_3))
+        StepVerifier.create(productRepository.deleteByProductCodeKey(TEST_PRODUCT_CODE_3))
                 .verifyComplete();
     }
 
     @AfterEach
     void cleanUp() {
         // Clean up test products after each test using StepVerifier
-        StepVerifier.create(productRepository.deleteByProductCodeAllIgnoreCase(TEST_PRODUCT_CODE))
+        StepVerifier.create(productRepository.deleteByProductCodeKey(TEST_PRODUCT_CODE))
                 .verifyComplete();
-        StepVerifier.create(productRepository.deleteByProductCodeAllIgnoreCase(TEST_PRODUCT_CODE_2))
+        StepVerifier.create(productRepository.deleteByProductCodeKey(TEST_PRODUCT_CODE_2))
                 .verifyComplete();
-        StepVerifier.create(productRepository.deleteByProductCodeAllIgnoreCase(TEST_PRODUCT_CODE_3))
+        StepVerifier.create(productRepository.deleteByProductCodeKey(TEST_PRODUCT_CODE_3))
                 .verifyComplete();
     }
 
@@ -95,12 +95,12 @@ class ProductServiceConcurrencyIT extends AbstractIntegrationTest {
                 .verifyComplete();
 
         // Then: Only one product with this code should exist in DB using StepVerifier
-        StepVerifier.create(productRepository.countByProductCodeAllIgnoreCase(TEST_PRODUCT_CODE))
+        StepVerifier.create(productRepository.countByProductCodeKey(TEST_PRODUCT_CODE))
                 .expectNext(1L)
                 .verifyComplete();
 
         // Verify the product was saved correctly using StepVerifier and has the original values
-        StepVerifier.create(productRepository.findByProductCodeAllIgnoreCase(TEST_PRODUCT_CODE))
+        StepVerifier.create(productRepository.findByProductCodeKey(TEST_PRODUCT_CODE))
                 .assertNext(
                         savedProduct -> {
                             assertThat(savedProduct).isNotNull();
@@ -238,7 +238,7 @@ class ProductServiceConcurrencyIT extends AbstractIntegrationTest {
                 .verifyComplete();
 
         // Verify only one product was actually saved in the database
-        StepVerifier.create(productRepository.countByProductCodeAllIgnoreCase(TEST_PRODUCT_CODE_3))
+        StepVerifier.create(productRepository.countByProductCodeKey(TEST_PRODUCT_CODE_3))
                 .assertNext(count -> assertThat(count).isEqualTo(1L))
                 .verifyComplete(); // Now create a more intense race condition with multiple
         // concurrent save attempts
@@ -314,12 +314,12 @@ class ProductServiceConcurrencyIT extends AbstractIntegrationTest {
                 .verifyComplete();
 
         // Final verification that only one product exists with this code
-        StepVerifier.create(productRepository.countByProductCodeAllIgnoreCase(TEST_PRODUCT_CODE_3))
+        StepVerifier.create(productRepository.countByProductCodeKey(TEST_PRODUCT_CODE_3))
                 .assertNext(count -> assertThat(count).isEqualTo(1L))
                 .verifyComplete();
 
         // Verify the product in the database matches what we expect
-        StepVerifier.create(productRepository.findByProductCodeAllIgnoreCase(TEST_PRODUCT_CODE_3))
+        StepVerifier.create(productRepository.findByProductCodeKey(TEST_PRODUCT_CODE_3))
                 .assertNext(
                         product -> {
                             assertThat(product).isNotNull();
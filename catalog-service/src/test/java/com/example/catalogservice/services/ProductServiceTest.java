@@ -103,9 +103,9 @@ class ProductServiceTest {
 
         given(outboxService.createOutboxEvent(any(), any(), any(), any())).willReturn(Mono.empty());
 
-        // Mock the repository findByProductCodeAllIgnoreCase method to return empty Mono
+        // Mock the repository findByProductCodeKey method to return empty Mono
         // This is needed for the idempotency check in saveProduct
-        given(productRepository.findByProductCodeAllIgnoreCase(any(String.class)))
+        given(productRepository.findByProductCodeKey(any(String.class)))
                 .willReturn(Mono.empty());
 
         // Stubbing productRepository.save()
@@ -150,7 +150,7 @@ class ProductServiceTest {
         given(productMapper.toProductResponse(any(Product.class)))
                 .willReturn(new ProductResponse(1L, "code", "name", "description", null, 1, true));
         given(outboxService.createOutboxEvent(any(), any(), any(), any())).willReturn(Mono.empty());
-        given(productRepository.findByProductCodeAllIgnoreCase(any(String.class)))
+        given(productRepository.findByProductCodeKey(any(String.class)))
                 .willReturn(Mono.empty());
         given(productRepository.save(any(Product.class))).willReturn(Mono.just(new Product()));
 
@@ -185,7 +185,7 @@ class ProductServiceTest {
         ProductResponse response =
                 new ProductResponse(1L, "P001", "name", "desc", null, 10.0, true);
 
-        given(productRepository.findByProductCodeAllIgnoreCase("P001")).willReturn(Mono.empty());
+        given(productRepository.findByProductCodeKey("P001")).willReturn(Mono.empty());
         given(productMapper.toEntity(request)).willReturn(product);
         given(productRepository.save(any(Product.class))).willReturn(Mono.just(product));
         given(outboxService.createOutboxEvent(any(), any(), any(), any())).willReturn(Mono.empty());
@@ -218,4 +218,16 @@ class ProductServiceTest {
                 ProductService.class.getMethod("createAndSaveProduct", ProductRequest.class);
         assertThat(createMethod.isAnnotationPresent(Transactional.class)).isTrue();
     }
+
+    @Test
+    void productExistsByProductCodesShouldCountRepeatedCodesOnce() {
+        given(productRepository.countByProductCodeKeyIn(List.of("P001", "P002")))
+                .willReturn(Mono.just(2L));
+
+        StepVerifier.create(
+                        productService.productExistsByProductCodes(
+                                List.of("P001", "p001", "P002", "P002")))
+                .expectNext(true)
+                .verifyComplete();
+    }
 }
@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import mockwebserver3.MockResponse;
@@ -575,6 +576,55 @@ class ProductControllerIT extends AbstractCircuitBreakerTest {
                 .isEqualTo(Boolean.TRUE);
     }
 
+    @Test
+    void productsShouldExistsByProductCodesIgnoringCase() {
+        List<String> productCodeList =
+                savedProductList.stream()
+                        .map(product -> product.getProductCode().toLowerCase(Locale.ROOT))
+                        .toList();
+
+        webTestClient
+                .get()
+                .uri(
+                        uriBuilder -> {
+                            uriBuilder.queryParam("productCodes", productCodeList);
+                            uriBuilder.path("/api/catalog/exists");
+                            return uriBuilder.build();
+                        })
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.exists")
+                .isEqualTo(Boolean.TRUE);
+    }
+
+    @Test
+    void productsShouldExistsByRepeatedProductCodesInAnyCase() {
+        String productCode = savedProductList.getFirst().getProductCode();
+        List<String> productCodeList =
+                List.of(
+                        productCode,
+                        productCode,
+                        productCode.toLowerCase(Locale.ROOT),
+                        savedProductList.get(1).getProductCode());
+
+        webTestClient
+                .get()
+                .uri(
+                        uriBuilder -> {
+                            uriBuilder.queryParam("productCodes", productCodeList);
+                            uriBuilder.path("/api/catalog/exists");
+                            return uriBuilder.build();
+                        })
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.exists")
+                .isEqualTo(Boolean.TRUE);
+    }
+
     @Test
     void productsShouldNotExistsByProductCodes() {
         List<String> productCodeList = List.of("P1", "P2", "P3", "P4", "P5");
@@ -628,7 +678,7 @@ class ProductControllerIT extends AbstractCircuitBreakerTest {
         // Verify product was created in the database instead of relying on Kafka
         // message
         // Use StepVerifier instead of blocking
-        StepVerifier.create(productRepository.existsByProductCodeAllIgnoreCase("code 4"))
+        StepVerifier.create(productRepository.existsByProductCodeKey("code 4"))
                 .expectNext(Boolean.TRUE)
                 .verifyComplete();
 
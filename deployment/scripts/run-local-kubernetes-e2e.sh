@@ -150,7 +150,7 @@ for resource in \
   deployment/service-registry \
   deployment/catalog-service \
   deployment/inventory-service \
-  deployment/order-service \
+  statefulset/order-service \
   deployment/payment-service \
   deployment/api-gateway \
   deployment/retail-store-webapp; do
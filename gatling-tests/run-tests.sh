@@ -97,13 +97,23 @@ done
 echo "All services are healthy. Proceeding with tests."
 
 echo "Warming up services via API Gateway /api/v1/generate endpoint..."
-BATCH_ID=$(cat /proc/sys/kernel/random/uuid 2>/dev/null || uuidgen 2>/dev/null || echo "$(date +%s)-$RANDOM")
-if ! curl -X POST -f -m 30 -s -k -H "Idempotency-Key: ${BATCH_ID}" "${BASE_URL}/api/v1/generate" > /dev/null 2>&1; then
+if ! GENERATION=$(curl -X POST -f -m 30 -s -k "${BASE_URL}/api/v1/generate"); then
     echo "ERROR: Warm-up request failed. Aborting."
     exit 1
 fi
-echo "Sleeping for 10 sec for warmup processing to complete..."
-sleep 10
+JOB_ID=$(echo "$GENERATION" | sed -n 's/.*"jobId":"\([^"]*\)".*/\1/p')
+# The gateway runs generation as a job that moves on as soon as each step's data is ready
+echo "Waiting for warm-up generation job ${JOB_ID} to complete..."
+for _ in $(seq 1 300); do
+    GENERATION=$(curl -f -m 10 -s -k "${BASE_URL}/api/v1/generate/${JOB_ID}")
+    STATE=$(echo "$GENERATION" | sed -n 's/.*"state":"\([^"]*\)".*/\1/p')
+    if [ -n "$STATE" ] && [ "$STATE" != "RUNNING" ]; then
+        break
+    fi
+    sleep 1
+done
+ELAPSED=$(echo "$GENERATION" | sed -n 's/.*"elapsedMillis":\([0-9]*\).*/\1/p')
+echo "Warm-up generation ${STATE:-UNKNOWN} in ${ELAPSED:-?} ms"
 
 # Set Maven command based on the selected profile
 case $TEST_PROFILE in
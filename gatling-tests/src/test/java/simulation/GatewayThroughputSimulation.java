@@ -0,0 +1,55 @@
+package simulation;
+
+import static config.Configuration.*;
+import static io.gatling.javaapi.core.CoreDsl.constantConcurrentUsers;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.global;
+import static io.gatling.javaapi.core.CoreDsl.rampConcurrentUsers;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the requests per second the API Gateway sustains on its own. A fixed number of users
+ * requests the same catalog page back to back without pauses; after the first request it is served
+ * from the gateway's response cache, so the run is dominated by the gateway's filter chain rather
+ * than by the services behind it. Compare the reported throughput of two gateway builds started
+ * with the same settings.
+ */
+public class GatewayThroughputSimulation extends Simulation {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GatewayThroughputSimulation.class);
+
+    private static final Duration RAMP_DURATION = Duration.ofSeconds(RAMP_DURATION_SECONDS);
+    private static final Duration SUSTAIN_DURATION = Duration.ofSeconds(TEST_DURATION_SECONDS);
+
+    private final ScenarioBuilder throughputScenario =
+            scenario("Gateway Throughput Test")
+                    .forever()
+                    .on(
+                            exec(
+                                    http("Cached catalog page")
+                                            .get("/catalog-service/api/catalog?pageNo=0&pageSize=10")
+                                            .check(status().is(200))));
+
+    public GatewayThroughputSimulation() {
+        LOGGER.info(
+                "Starting GatewayThroughputSimulation with {} concurrent users", CONSTANT_USERS);
+
+        setUp(
+                        throughputScenario.injectClosed(
+                                rampConcurrentUsers(0).to(CONSTANT_USERS).during(RAMP_DURATION),
+                                constantConcurrentUsers(CONSTANT_USERS).during(SUSTAIN_DURATION)))
+                .protocols(HTTP_PROTOCOL)
+                .maxDuration(RAMP_DURATION.plus(SUSTAIN_DURATION))
+                .assertions(
+                        global().responseTime().percentile(99).lt(1000),
+                        global().failedRequests().percent().lt(1.0));
+    }
+}
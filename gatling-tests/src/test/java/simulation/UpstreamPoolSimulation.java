@@ -0,0 +1,84 @@
+package simulation;
+
+import static config.Configuration.*;
+import static io.gatling.javaapi.core.CoreDsl.constantConcurrentUsers;
+import static io.gatling.javaapi.core.CoreDsl.details;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.global;
+import static io.gatling.javaapi.core.CoreDsl.rampConcurrentUsers;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps many more requests in flight than the old connection pools allowed (10 connections and 50
+ * waiting requests in catalog-service) to show where requests queue for connections. Inventory
+ * requests go through the gateway's inventory-service pool, product requests through its
+ * catalog-service pool and then catalog-service's pool to inventory-service. Product codes are
+ * random, so neither the response cache nor request coalescing answers for the services. Compare
+ * the throughput and the {@code reactor.netty.connection.provider.pending.connections.time} timer
+ * of two builds, a request rejected for want of a connection fails the run.
+ */
+public class UpstreamPoolSimulation extends Simulation {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UpstreamPoolSimulation.class);
+
+    private static final Duration RAMP_DURATION = Duration.ofSeconds(RAMP_DURATION_SECONDS);
+    private static final Duration SUSTAIN_DURATION = Duration.ofSeconds(TEST_DURATION_SECONDS);
+
+    // the request rate that the pool limits bite at
+    private static final int CONCURRENT_USERS = CONSTANT_USERS * 10;
+
+    private static Iterator<Map<String, Object>> productCodeFeeder() {
+        return Stream.generate(
+                        () ->
+                                Map.<String, Object>of(
+                                        "productCode",
+                                        String.format(
+                                                "P%06d",
+                                                ThreadLocalRandom.current().nextInt(1, 100_000))))
+                .iterator();
+    }
+
+    private final ScenarioBuilder upstreamScenario =
+            scenario("Upstream Connection Pool Test")
+                    .feed(productCodeFeeder())
+                    .forever()
+                    .on(
+                            exec(http("Get inventory")
+                                            .get("/inventory-service/api/inventory/#{productCode}")
+                                            .check(status().in(200, 404)))
+                                    .feed(productCodeFeeder())
+                                    .exec(
+                                            http("Get product with stock")
+                                                    .get(
+                                                            "/catalog-service/api/catalog/product-code/#{productCode}")
+                                                    .check(status().in(200, 404))));
+
+    public UpstreamPoolSimulation() {
+        LOGGER.info(
+                "Starting UpstreamPoolSimulation with {} concurrent users", CONCURRENT_USERS);
+
+        setUp(
+                        upstreamScenario.injectClosed(
+                                rampConcurrentUsers(0).to(CONCURRENT_USERS).during(RAMP_DURATION),
+                                constantConcurrentUsers(CONCURRENT_USERS)
+                                        .during(SUSTAIN_DURATION)))
+                .protocols(HTTP_PROTOCOL)
+                .maxDuration(RAMP_DURATION.plus(SUSTAIN_DURATION))
+                .assertions(
+                        global().failedRequests().percent().lt(1.0),
+                        details("Get inventory").responseTime().percentile(99).lt(2000),
+                        details("Get product with stock").responseTime().percentile(99).lt(2000));
+    }
+}
@@ -1,12 +1,15 @@
 /***
 <p>
-    Licensed under MIT License Copyright (c) 2021-2025 Raja Kolli.
+    Licensed under MIT License Copyright (c) 2021-2026 Raja Kolli.
 </p>
 ***/
 
 package com.example.inventoryservice.config;
 
+import com.example.sqlbudget.SqlBudget;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
@@ -15,6 +18,11 @@ public class ApplicationProperties {
 
     @NestedConfigurationProperty @Valid private Cors cors = new Cors();
 
+    @NestedConfigurationProperty @Valid
+    private IdempotencyKeys idempotencyKeys = new IdempotencyKeys();
+
+    @NestedConfigurationProperty @Valid private SqlBudget sqlBudget = new SqlBudget();
+
     public static final class Cors {
         private String pathPattern = "/api/**";
         private String allowedMethods = "*";
@@ -63,6 +71,38 @@ public class ApplicationProperties {
         }
     }
 
+    public static final class IdempotencyKeys {
+        // how long a completed response is replayed for the same key
+        private Duration ttl = Duration.ofHours(24);
+        // how long a claimed key blocks retries when the instance that claimed it never completes
+        private Duration lockTimeout = Duration.ofMinutes(5);
+        @Min(1) private long cacheMaxSize = 10_000;
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public Duration getLockTimeout() {
+            return lockTimeout;
+        }
+
+        public void setLockTimeout(Duration lockTimeout) {
+            this.lockTimeout = lockTimeout;
+        }
+
+        public long getCacheMaxSize() {
+            return cacheMaxSize;
+        }
+
+        public void setCacheMaxSize(long cacheMaxSize) {
+            this.cacheMaxSize = cacheMaxSize;
+        }
+    }
+
     public Cors getCors() {
         return cors;
     }
@@ -70,4 +110,20 @@ public class ApplicationProperties {
     public void setCors(Cors cors) {
         this.cors = cors;
     }
+
+    public IdempotencyKeys getIdempotencyKeys() {
+        return idempotencyKeys;
+    }
+
+    public void setIdempotencyKeys(IdempotencyKeys idempotencyKeys) {
+        this.idempotencyKeys = idempotencyKeys;
+    }
+
+    public SqlBudget getSqlBudget() {
+        return sqlBudget;
+    }
+
+    public void setSqlBudget(SqlBudget sqlBudget) {
+        this.sqlBudget = sqlBudget;
+    }
 }
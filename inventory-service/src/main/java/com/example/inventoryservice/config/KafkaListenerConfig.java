@@ -8,13 +8,19 @@ package com.example.inventoryservice.config;
 
 import com.example.inventoryservice.model.payload.OrderDto;
 import com.example.inventoryservice.model.payload.ProductDto;
+import com.example.inventoryservice.model.payload.ProductEvent;
 import com.example.inventoryservice.services.InventoryOrderManageService;
 import com.example.inventoryservice.services.ProductManageService;
 import com.example.inventoryservice.utils.AppConstants;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Validator;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Configuration;
@@ -23,10 +29,10 @@ import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.json.JsonMapper;
 
@@ -69,11 +75,36 @@ class KafkaListenerConfig {
         }
     }
 
-    @KafkaListener(id = "products", topics = AppConstants.PRODUCT_TOPIC, groupId = "product")
-    public void onSaveProductEvent(@Payload String productDtoStr) throws JacksonException {
-        log.info("Received Product: {}", productDtoStr);
-        ProductDto productDto = validate(jsonMapper.readValue(productDtoStr, ProductDto.class));
-        productManageService.manage(productDto);
+    // one batch per poll so that bursts of products are written with a single statement
+    @KafkaListener(
+            id = "products",
+            topics = AppConstants.PRODUCT_TOPIC,
+            groupId = "product",
+            batch = "true")
+    public void onProductEvents(List<ConsumerRecord<String, String>> records) {
+        log.info("Received {} product events", records.size());
+        List<ProductEvent> productEvents = new ArrayList<>(records.size());
+        for (int index = 0; index < records.size(); index++) {
+            ConsumerRecord<String, String> record = records.get(index);
+            try {
+                ProductDto productDto =
+                        validate(jsonMapper.readValue(record.value(), ProductDto.class));
+                productEvents.add(new ProductEvent(productDto.code(), isProductDeleted(record)));
+            } catch (JacksonException | ConstraintViolationException | IllegalArgumentException e) {
+                // apply the events ahead of the invalid one, the error handler takes it from there
+                productManageService.manage(productEvents);
+                throw new BatchListenerFailedException("Invalid product event", e, index);
+            }
+        }
+        productManageService.manage(productEvents);
+    }
+
+    private static boolean isProductDeleted(ConsumerRecord<String, String> record) {
+        // events published before the header was introduced are creates
+        return Optional.ofNullable(record.headers().lastHeader(AppConstants.EVENT_TYPE_HEADER))
+                .map(eventType -> new String(eventType.value(), StandardCharsets.UTF_8))
+                .filter(AppConstants.PRODUCT_DELETED::equals)
+                .isPresent();
     }
 
     private <T> T validate(T object) {
@@ -0,0 +1,63 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.inventoryservice.config;
+
+import com.example.sqlbudget.SqlStatementBudgetFilter;
+import com.example.sqlbudget.SqlStatementBudgetListenerAdvice;
+import com.example.sqlbudget.SqlStatementBudgetReporter;
+import com.example.sqlbudget.SqlStatementCountingListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.kafka.config.ContainerCustomizer;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnBooleanProperty(name = "application.sql-budget.enabled", matchIfMissing = true)
+class SqlStatementBudgetConfig {
+
+    // picked up by datasource-micrometer and added to the listeners of its datasource proxy
+    @Bean
+    SqlStatementCountingListener sqlStatementCountingListener() {
+        return new SqlStatementCountingListener();
+    }
+
+    @Bean
+    SqlStatementBudgetReporter sqlStatementBudgetReporter(
+            MeterRegistry meterRegistry, ApplicationProperties applicationProperties) {
+        return new SqlStatementBudgetReporter(
+                meterRegistry, applicationProperties.getSqlBudget());
+    }
+
+    @Bean
+    FilterRegistrationBean<SqlStatementBudgetFilter> sqlStatementBudgetFilter(
+            SqlStatementBudgetReporter reporter, ApplicationProperties applicationProperties) {
+        FilterRegistrationBean<SqlStatementBudgetFilter> registration =
+                new FilterRegistrationBean<>(
+                        new SqlStatementBudgetFilter(
+                                reporter, applicationProperties.getSqlBudget()));
+        registration.addUrlPatterns("/api/*");
+        // wrap the idempotency filter so the key bookkeeping is counted with the request
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 20);
+        return registration;
+    }
+
+    // an advice rather than a record interceptor, the scope must be closed on every outcome
+    @Bean
+    ContainerCustomizer<Object, Object, ConcurrentMessageListenerContainer<Object, Object>>
+            sqlStatementBudgetContainerCustomizer(
+                    SqlStatementBudgetReporter reporter,
+                    ApplicationProperties applicationProperties) {
+        SqlStatementBudgetListenerAdvice advice =
+                new SqlStatementBudgetListenerAdvice(
+                        reporter, applicationProperties.getSqlBudget());
+        return container -> container.getContainerProperties().setAdviceChain(advice);
+    }
+}
@@ -0,0 +1,50 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.inventoryservice.config.idempotency;
+
+import com.example.inventoryservice.config.ApplicationProperties;
+import java.time.Clock;
+import org.jooq.DSLContext;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+@Configuration(proxyBeanMethods = false)
+class IdempotencyKeyConfig {
+
+    @Bean
+    IdempotencyKeyStore idempotencyKeyStore(
+            DSLContext dslContext,
+            PlatformTransactionManager transactionManager,
+            ApplicationProperties applicationProperties) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        // key bookkeeping must commit on its own, independent of the request it guards
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return new IdempotencyKeyStore(
+                dslContext,
+                transactionTemplate,
+                applicationProperties.getIdempotencyKeys(),
+                Clock.systemUTC());
+    }
+
+    @Bean
+    FilterRegistrationBean<IdempotencyKeyFilter> idempotencyKeyFilter(
+            IdempotencyKeyStore idempotencyKeyStore, JsonMapper jsonMapper) {
+        FilterRegistrationBean<IdempotencyKeyFilter> registration =
+                new FilterRegistrationBean<>(
+                        new IdempotencyKeyFilter(idempotencyKeyStore, jsonMapper));
+        registration.addUrlPatterns("/api/*");
+        // run after the tracing and security filters so replays are still observed
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 10);
+        return registration;
+    }
+}
@@ -0,0 +1,266 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.inventoryservice.config.idempotency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import org.jspecify.annotations.NonNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Makes every {@code POST} that carries an {@code Idempotency-Key} header safe to retry across
+ * replicas. The first request claims the key and, when it succeeds, its response is stored; a retry
+ * with the same key gets that response replayed, marked with {@value #REPLAYED_HEADER}, without
+ * reaching the controller. A retry that arrives while the first request is still running is
+ * answered with {@code 409 Conflict}, one that reuses the key for a different method, path, query
+ * or body with {@code 422 Unprocessable Content}. Keys are scoped to the caller, the authenticated
+ * user or else the {@value #CALLER_HEADER} header, so two callers never see each other's responses.
+ * Unsuccessful responses release the key again so that the client can retry with it. Streamed
+ * request bodies, such as {@code application/x-ndjson} feeds, pass through unguarded: they are
+ * consumed as they arrive and would otherwise be buffered whole, together with their response.
+ */
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    // the header the api-gateway identifies users by
+    public static final String CALLER_HEADER = "X-User-ID";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final List<MediaType> STREAMING_MEDIA_TYPES =
+            List.of(MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM);
+    private static final URI PROBLEM_TYPE =
+            URI.create("https://api.microservices.com/errors/idempotency-key");
+
+    private final IdempotencyKeyStore idempotencyKeyStore;
+    private final JsonMapper jsonMapper;
+
+    public IdempotencyKeyFilter(IdempotencyKeyStore idempotencyKeyStore, JsonMapper jsonMapper) {
+        this.idempotencyKeyStore = idempotencyKeyStore;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !StringUtils.hasText(request.getHeader(IDEMPOTENCY_KEY_HEADER))
+                || isStreaming(request.getContentType());
+    }
+
+    private static boolean isStreaming(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return STREAMING_MEDIA_TYPES.stream()
+                    .anyMatch(streaming -> streaming.includes(mediaType));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (key.length() > MAX_KEY_LENGTH) {
+            writeProblem(
+                    response,
+                    HttpStatus.BAD_REQUEST,
+                    "Idempotency-Key must not be longer than " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+        ScopedIdempotencyKey scopedKey = new ScopedIdempotencyKey(caller(request), key);
+        // the body is read up front so that it is part of the fingerprint, the chain reads the copy
+        CachedBodyRequest cachedRequest =
+                new CachedBodyRequest(request, request.getInputStream().readAllBytes());
+        String fingerprint = fingerprint(cachedRequest);
+
+        Optional<IdempotentResponse> previous = idempotencyKeyStore.findCompleted(scopedKey);
+        if (previous.isEmpty() && !idempotencyKeyStore.tryAcquire(scopedKey, fingerprint)) {
+            // lost the claim, the key is either still running or completed in the meantime
+            previous = idempotencyKeyStore.findCompleted(scopedKey);
+            if (previous.isEmpty()) {
+                writeProblem(
+                        response,
+                        HttpStatus.CONFLICT,
+                        "A request with this Idempotency-Key is still being processed");
+                return;
+            }
+        }
+        if (previous.isPresent()) {
+            replay(previous.get(), fingerprint, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(cachedRequest, responseWrapper);
+            if (HttpStatusCode.valueOf(responseWrapper.getStatus()).is2xxSuccessful()) {
+                idempotencyKeyStore.complete(
+                        scopedKey,
+                        new IdempotentResponse(
+                                fingerprint,
+                                responseWrapper.getStatus(),
+                                responseWrapper.getContentType(),
+                                responseWrapper.getHeader(HttpHeaders.LOCATION),
+                                responseWrapper.getContentAsByteArray()));
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                idempotencyKeyStore.release(scopedKey);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(
+            IdempotentResponse previous, String fingerprint, HttpServletResponse response)
+            throws IOException {
+        if (!previous.requestFingerprint().equals(fingerprint)) {
+            writeProblem(
+                    response,
+                    HttpStatus.UNPROCESSABLE_CONTENT,
+                    "Idempotency-Key has already been used for a different request");
+            return;
+        }
+        response.setStatus(previous.status());
+        response.setHeader(REPLAYED_HEADER, Boolean.TRUE.toString());
+        if (previous.contentType() != null) {
+            response.setContentType(previous.contentType());
+        }
+        if (previous.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, previous.location());
+        }
+        if (previous.body() != null) {
+            response.setContentLength(previous.body().length);
+            response.getOutputStream().write(previous.body());
+        }
+    }
+
+    private void writeProblem(HttpServletResponse response, HttpStatus status, String detail)
+            throws IOException {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, detail);
+        problemDetail.setTitle("Idempotency Key Conflict");
+        problemDetail.setType(PROBLEM_TYPE);
+        problemDetail.setProperty("errorCategory", "Generic");
+        problemDetail.setProperty("timestamp", Instant.now());
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        jsonMapper.writeValue(response.getOutputStream(), problemDetail);
+    }
+
+    private static String caller(HttpServletRequest request) {
+        String remoteUser = request.getRemoteUser();
+        if (remoteUser != null) {
+            return remoteUser;
+        }
+        String caller = request.getHeader(CALLER_HEADER);
+        return caller != null ? caller : "";
+    }
+
+    private static String fingerprint(CachedBodyRequest request) {
+        String queryString = request.getQueryString();
+        return request.getMethod()
+                + ' '
+                + request.getRequestURI()
+                + (queryString != null ? '?' + queryString : "")
+                + ' '
+                + sha256(request.body);
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /** Serves a body that has already been read from the request to the rest of the chain. */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException("Asynchronous reads are not supported");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
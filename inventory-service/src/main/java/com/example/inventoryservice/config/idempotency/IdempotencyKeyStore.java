@@ -0,0 +1,188 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.inventoryservice.config.idempotency;
+
+import static com.example.inventoryservice.jooq.tables.IdempotencyKeys.IDEMPOTENCY_KEYS;
+import static org.jooq.impl.DSL.row;
+import static org.jooq.impl.DSL.select;
+
+import com.example.inventoryservice.config.ApplicationProperties.IdempotencyKeys;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import org.jooq.DSLContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Durable store of idempotency keys backed by the {@code idempotency_keys} table, so a key claimed
+ * on one replica is honoured by every other replica and survives restarts. A key is claimed before
+ * the request runs and completed with a snapshot of its response afterwards; completed snapshots
+ * are also held in a bounded Caffeine cache so replays rarely reach the database. Expired rows are
+ * removed in small batches whenever a new key is claimed, which keeps the table bounded by the TTL.
+ */
+public class IdempotencyKeyStore {
+
+    private static final String STATE_IN_PROGRESS = "IN_PROGRESS";
+    private static final String STATE_COMPLETED = "COMPLETED";
+    private static final int PURGE_BATCH_SIZE = 100;
+
+    private final DSLContext dslContext;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration lockTimeout;
+    private final Cache<ScopedIdempotencyKey, IdempotentResponse> completedResponses;
+
+    public IdempotencyKeyStore(
+            DSLContext dslContext,
+            TransactionTemplate transactionTemplate,
+            IdempotencyKeys idempotencyKeys,
+            Clock clock) {
+        this.dslContext = dslContext;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.ttl = idempotencyKeys.getTtl();
+        this.lockTimeout = idempotencyKeys.getLockTimeout();
+        this.completedResponses =
+                Caffeine.newBuilder()
+                        .maximumSize(idempotencyKeys.getCacheMaxSize())
+                        .expireAfterWrite(ttl)
+                        .build();
+    }
+
+    /** Returns the unexpired response snapshot stored for the key, if the key has completed. */
+    Optional<IdempotentResponse> findCompleted(ScopedIdempotencyKey key) {
+        IdempotentResponse cached = completedResponses.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<IdempotentResponse> stored =
+                transactionTemplate.execute(
+                        status ->
+                                dslContext
+                                        .select(
+                                                IDEMPOTENCY_KEYS.REQUEST_FINGERPRINT,
+                                                IDEMPOTENCY_KEYS.RESPONSE_STATUS,
+                                                IDEMPOTENCY_KEYS.CONTENT_TYPE,
+                                                IDEMPOTENCY_KEYS.LOCATION,
+                                                IDEMPOTENCY_KEYS.RESPONSE_BODY)
+                                        .from(IDEMPOTENCY_KEYS)
+                                        .where(
+                                                IDEMPOTENCY_KEYS.CALLER.eq(key.caller()),
+                                                IDEMPOTENCY_KEYS.IDEMPOTENCY_KEY.eq(key.key()),
+                                                IDEMPOTENCY_KEYS.STATE.eq(STATE_COMPLETED),
+                                                IDEMPOTENCY_KEYS.EXPIRES_AT.gt(
+                                                        OffsetDateTime.now(clock)))
+                                        .fetchOptional(
+                                                row ->
+                                                        new IdempotentResponse(
+                                                                row.value1(),
+                                                                row.value2(),
+                                                                row.value3(),
+                                                                row.value4(),
+                                                                row.value5())));
+        if (stored == null || stored.isEmpty()) {
+            return Optional.empty();
+        }
+        completedResponses.put(key, stored.get());
+        return stored;
+    }
+
+    /**
+     * Claims the key for the calling request.
+     *
+     * @return {@code false} when another request already holds or completed the key
+     */
+    boolean tryAcquire(ScopedIdempotencyKey key, String requestFingerprint) {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        Boolean acquired =
+                transactionTemplate.execute(
+                        status -> {
+                            // an expired snapshot or abandoned claim no longer blocks its key
+                            dslContext
+                                    .deleteFrom(IDEMPOTENCY_KEYS)
+                                    .where(
+                                            IDEMPOTENCY_KEYS.CALLER.eq(key.caller()),
+                                            IDEMPOTENCY_KEYS.IDEMPOTENCY_KEY.eq(key.key()),
+                                            IDEMPOTENCY_KEYS.EXPIRES_AT.le(now))
+                                    .execute();
+                            int inserted =
+                                    dslContext
+                                            .insertInto(IDEMPOTENCY_KEYS)
+                                            .set(IDEMPOTENCY_KEYS.CALLER, key.caller())
+                                            .set(IDEMPOTENCY_KEYS.IDEMPOTENCY_KEY, key.key())
+                                            .set(
+                                                    IDEMPOTENCY_KEYS.REQUEST_FINGERPRINT,
+                                                    requestFingerprint)
+                                            .set(IDEMPOTENCY_KEYS.STATE, STATE_IN_PROGRESS)
+                                            .set(IDEMPOTENCY_KEYS.CREATED_AT, now)
+                                            .set(IDEMPOTENCY_KEYS.EXPIRES_AT, now.plus(lockTimeout))
+                                            .onConflictDoNothing()
+                                            .execute();
+                            if (inserted == 1) {
+                                purgeExpired(now);
+                            }
+                            return inserted == 1;
+                        });
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    /** Stores the response of a claimed key so that retries replay it until the TTL elapses. */
+    void complete(ScopedIdempotencyKey key, IdempotentResponse response) {
+        transactionTemplate.executeWithoutResult(
+                status ->
+                        dslContext
+                                .update(IDEMPOTENCY_KEYS)
+                                .set(IDEMPOTENCY_KEYS.STATE, STATE_COMPLETED)
+                                .set(IDEMPOTENCY_KEYS.RESPONSE_STATUS, response.status())
+                                .set(IDEMPOTENCY_KEYS.CONTENT_TYPE, response.contentType())
+                                .set(IDEMPOTENCY_KEYS.LOCATION, response.location())
+                                .set(IDEMPOTENCY_KEYS.RESPONSE_BODY, response.body())
+                                .set(
+                                        IDEMPOTENCY_KEYS.EXPIRES_AT,
+                                        OffsetDateTime.now(clock).plus(ttl))
+                                .where(
+                                        IDEMPOTENCY_KEYS.CALLER.eq(key.caller()),
+                                        IDEMPOTENCY_KEYS.IDEMPOTENCY_KEY.eq(key.key()))
+                                .execute());
+        completedResponses.put(key, response);
+    }
+
+    /** Gives up a claimed key that did not complete, so the client may retry with it. */
+    void release(ScopedIdempotencyKey key) {
+        transactionTemplate.executeWithoutResult(
+                status ->
+                        dslContext
+                                .deleteFrom(IDEMPOTENCY_KEYS)
+                                .where(
+                                        IDEMPOTENCY_KEYS.CALLER.eq(key.caller()),
+                                        IDEMPOTENCY_KEYS.IDEMPOTENCY_KEY.eq(key.key()),
+                                        IDEMPOTENCY_KEYS.STATE.eq(STATE_IN_PROGRESS))
+                                .execute());
+    }
+
+    private void purgeExpired(OffsetDateTime now) {
+        // SKIP LOCKED keeps concurrent claimers from queueing up behind each other's purge
+        dslContext
+                .deleteFrom(IDEMPOTENCY_KEYS)
+                .where(
+                        row(IDEMPOTENCY_KEYS.CALLER, IDEMPOTENCY_KEYS.IDEMPOTENCY_KEY)
+                                .in(
+                                        select(
+                                                        IDEMPOTENCY_KEYS.CALLER,
+                                                        IDEMPOTENCY_KEYS.IDEMPOTENCY_KEY)
+                                                .from(IDEMPOTENCY_KEYS)
+                                                .where(IDEMPOTENCY_KEYS.EXPIRES_AT.le(now))
+                                                .limit(PURGE_BATCH_SIZE)
+                                                .forUpdate()
+                                                .skipLocked()))
+                .execute();
+    }
+}
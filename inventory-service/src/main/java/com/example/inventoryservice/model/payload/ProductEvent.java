@@ -0,0 +1,14 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.inventoryservice.model.payload;
+
+/**
+ * A product change received on the product topic, reduced to what inventory keeps of it.
+ *
+ * @param deleted whether the product was deleted, any other event type creates the product
+ */
+public record ProductEvent(String productCode, boolean deleted) {}
@@ -0,0 +1,9 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.inventoryservice.model.response;
+
+public record GeneratedInventoryResponse(long inventories) {}
@@ -7,6 +7,7 @@
 package com.example.inventoryservice.repositories;
 
 import com.example.inventoryservice.entities.Inventory;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -27,4 +28,15 @@ public interface InventoryJOOQRepository {
     boolean existsByProductCode(String productCode);
 
     int deleteByProductCode(String productCode);
+
+    int deleteByProductCodeIn(Collection<String> productCodes);
+
+    /**
+     * Creates an empty inventory for each product code that has none yet, in a single statement.
+     *
+     * @return the number of inventories created
+     */
+    int insertIfAbsent(Collection<String> productCodes);
+
+    long countByProductCodeStartingWith(String prefix);
 }
@@ -7,155 +7,340 @@
 package com.example.inventoryservice.repositories;
 
 import static com.example.inventoryservice.jooq.tables.Inventory.INVENTORY;
+import static org.jooq.impl.DSL.any;
+import static org.jooq.impl.DSL.exists;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.param;
+import static org.jooq.impl.DSL.selectOne;
+import static org.jooq.impl.DSL.table;
 
 import com.example.inventoryservice.entities.Inventory;
-import com.example.inventoryservice.jooq.tables.records.InventoryRecord;
-import java.lang.reflect.Field;
-import java.util.ArrayList;
+import com.example.inventoryservice.entities.TsidSupplier;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.hypersistence.tsid.TSID;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Param;
+import org.jooq.SelectJoinStep;
 import org.jooq.SortField;
-import org.jooq.TableField;
+import org.jooq.SortOrder;
+import org.jooq.Table;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Every query is rendered to SQL once, either up front or, for paged queries, once per distinct
+ * {@link Sort}, and executed with plain bind values afterwards. A sort is normalized to the
+ * sortable columns before the lookup and the paged queries are held in size-capped caches, so
+ * callers cannot grow them without bound.
+ */
 @Repository
 @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 public class InventoryJOOQRepositoryImpl implements InventoryJOOQRepository {
 
+    // entity property and column names of the sortable fields
+    private static final Map<String, Field<?>> SORT_FIELDS =
+            Map.of(
+                    "id", INVENTORY.ID,
+                    "productCode", INVENTORY.PRODUCT_CODE,
+                    "product_code", INVENTORY.PRODUCT_CODE,
+                    "availableQuantity", INVENTORY.QUANTITY,
+                    "quantity", INVENTORY.QUANTITY,
+                    "reservedItems", INVENTORY.RESERVED_ITEMS,
+                    "reserved_items", INVENTORY.RESERVED_ITEMS,
+                    "version", INVENTORY.VERSION);
+
+    private static final int MAX_CACHED_SORTS = 64;
+
+    private static final TSID.Factory TSID_FACTORY = new TsidSupplier().get();
+
+    private static final Param<Long> ID = param("id", Long.class);
+    private static final Param<String> PRODUCT_CODE = param("productCode", String.class);
+    private static final Param<String[]> PRODUCT_CODES = param("productCodes", String[].class);
+    private static final Param<String> PRODUCT_CODE_PATTERN =
+            param("productCodePattern", String.class);
+    private static final Param<Long[]> IDS = param("ids", Long[].class);
+    private static final Param<Integer> LIMIT = param("limit", Integer.class);
+    private static final Param<Long> OFFSET = param("offset", Long.class);
+
     private final DSLContext dslContext;
 
+    private final PreRenderedQuery findByIdQuery;
+    private final PreRenderedQuery findByProductCodeQuery;
+    private final PreRenderedQuery existsByProductCodeQuery;
+    private final PreRenderedQuery deleteByProductCodeQuery;
+    private final PreRenderedQuery deleteByProductCodeInQuery;
+    private final PreRenderedQuery insertIfAbsentQuery;
+    private final PreRenderedQuery countQuery;
+    private final PreRenderedQuery countByProductCodeInQuery;
+    private final PreRenderedQuery countByProductCodeStartingWithQuery;
+    private final Cache<Sort, PreRenderedQuery> findAllQueries =
+            Caffeine.newBuilder().maximumSize(MAX_CACHED_SORTS).build();
+    private final Cache<Sort, PreRenderedQuery> findByProductCodeInQueries =
+            Caffeine.newBuilder().maximumSize(MAX_CACHED_SORTS).build();
+
     public InventoryJOOQRepositoryImpl(DSLContext dslContext) {
         this.dslContext = dslContext;
+        this.findByIdQuery =
+                PreRenderedQuery.of(
+                        dslContext, dslContext.selectFrom(INVENTORY).where(INVENTORY.ID.eq(ID)));
+        this.findByProductCodeQuery =
+                PreRenderedQuery.of(
+                        dslContext,
+                        selectInventory().where(INVENTORY.PRODUCT_CODE.eq(PRODUCT_CODE)));
+        this.existsByProductCodeQuery =
+                PreRenderedQuery.of(
+                        dslContext,
+                        dslContext.select(
+                                field(
+                                        exists(
+                                                selectOne()
+                                                        .from(INVENTORY)
+                                                        .where(
+                                                                INVENTORY.PRODUCT_CODE.eq(
+                                                                        PRODUCT_CODE))))));
+        this.deleteByProductCodeQuery =
+                PreRenderedQuery.of(
+                        dslContext,
+                        dslContext
+                                .deleteFrom(INVENTORY)
+                                .where(INVENTORY.PRODUCT_CODE.eq(PRODUCT_CODE)));
+        this.deleteByProductCodeInQuery =
+                PreRenderedQuery.of(
+                        dslContext,
+                        dslContext
+                                .deleteFrom(INVENTORY)
+                                .where(INVENTORY.PRODUCT_CODE.eq(any(PRODUCT_CODES))));
+        // unnest the rows from two array binds so the multi-row insert has the same SQL text for
+        // any number of rows
+        Table<?> newRows =
+                table("unnest({0}, {1})", IDS, PRODUCT_CODES).as("new_rows", "id", "code");
+        this.insertIfAbsentQuery =
+                PreRenderedQuery.of(
+                        dslContext,
+                        dslContext
+                                .insertInto(INVENTORY, INVENTORY.ID, INVENTORY.PRODUCT_CODE)
+                                .select(
+                                        dslContext
+                                                .select(
+                                                        field(name("new_rows", "id"), Long.class),
+                                                        field(
+                                                                name("new_rows", "code"),
+                                                                String.class))
+                                                .from(newRows))
+                                .onConflict(INVENTORY.PRODUCT_CODE)
+                                .doNothing());
+        this.countQuery = PreRenderedQuery.of(dslContext, dslContext.selectCount().from(INVENTORY));
+        this.countByProductCodeInQuery =
+                PreRenderedQuery.of(
+                        dslContext,
+                        dslContext
+                                .selectCount()
+                                .from(INVENTORY)
+                                .where(INVENTORY.PRODUCT_CODE.eq(any(PRODUCT_CODES))));
+        this.countByProductCodeStartingWithQuery =
+                PreRenderedQuery.of(
+                        dslContext,
+                        dslContext
+                                .selectCount()
+                                .from(INVENTORY)
+                                .where(INVENTORY.PRODUCT_CODE.like(PRODUCT_CODE_PATTERN, '!')));
     }
 
     @Override
     public Optional<Inventory> findById(Long inventoryId) {
         return dslContext
-                .selectFrom(INVENTORY)
-                .where(INVENTORY.ID.eq(inventoryId))
+                .resultQuery(
+                        findByIdQuery.sql(), findByIdQuery.bindValues(Map.of("id", inventoryId)))
                 .fetchOptionalInto(Inventory.class);
     }
 
     @Override
     public Page<Inventory> findAll(Pageable pageable) {
-        return new PageImpl<>(
+        PreRenderedQuery query =
+                findAllQueries.get(
+                        normalize(pageable.getSort()),
+                        sort ->
+                                PreRenderedQuery.of(
+                                        dslContext,
+                                        selectInventory()
+                                                .orderBy(getSortFields(sort))
+                                                .limit(LIMIT)
+                                                .offset(OFFSET)));
+        // the count is skipped when the page alone tells the total, e.g. a short first page
+        return PageableExecutionUtils.getPage(
                 dslContext
-                        .select(
-                                INVENTORY.ID,
-                                INVENTORY.PRODUCT_CODE,
-                                INVENTORY.QUANTITY,
-                                INVENTORY.RESERVED_ITEMS,
-                                INVENTORY.VERSION)
-                        .from(INVENTORY)
-                        .orderBy(getSortFields(pageable.getSort()))
-                        .limit(pageable.getPageSize())
-                        .offset(pageable.getOffset())
+                        .resultQuery(query.sql(), query.bindValues(pageValues(pageable)))
                         .fetchInto(Inventory.class),
                 pageable,
-                dslContext.fetchCount(INVENTORY));
+                () -> dslContext.resultQuery(countQuery.sql()).fetchOne(0, long.class));
     }
 
     @Override
     public Optional<Inventory> findByProductCode(String productCode) {
         return dslContext
-                .select(
-                        INVENTORY.ID,
-                        INVENTORY.PRODUCT_CODE,
-                        INVENTORY.QUANTITY,
-                        INVENTORY.RESERVED_ITEMS,
-                        INVENTORY.VERSION)
-                .from(INVENTORY)
-                .where(INVENTORY.PRODUCT_CODE.eq(productCode))
+                .resultQuery(
+                        findByProductCodeQuery.sql(),
+                        findByProductCodeQuery.bindValues(Map.of("productCode", productCode)))
                 .fetchOptionalInto(Inventory.class);
     }
 
     @Override
     public Page<Inventory> findByProductCodeIn(List<String> productCodes, Pageable pageable) {
-        return new PageImpl<>(
+        PreRenderedQuery query =
+                findByProductCodeInQueries.get(
+                        normalize(pageable.getSort()),
+                        sort ->
+                                PreRenderedQuery.of(
+                                        dslContext,
+                                        selectInventory()
+                                                .where(
+                                                        INVENTORY.PRODUCT_CODE.eq(
+                                                                any(PRODUCT_CODES)))
+                                                .orderBy(getSortFields(sort))
+                                                .limit(LIMIT)
+                                                .offset(OFFSET)));
+        // a single array bind keeps the SQL text stable for any number of product codes
+        String[] productCodeArray = productCodes.toArray(String[]::new);
+        Map<String, Object> values = pageValues(pageable);
+        values.put("productCodes", productCodeArray);
+        return PageableExecutionUtils.getPage(
                 dslContext
-                        .select(
-                                INVENTORY.ID,
-                                INVENTORY.PRODUCT_CODE,
-                                INVENTORY.QUANTITY,
-                                INVENTORY.RESERVED_ITEMS,
-                                INVENTORY.VERSION)
-                        .from(INVENTORY)
-                        .where(INVENTORY.PRODUCT_CODE.in(productCodes))
-                        .orderBy(getSortFields(pageable.getSort()))
-                        .limit(pageable.getPageSize())
-                        .offset(pageable.getOffset())
+                        .resultQuery(query.sql(), query.bindValues(values))
                         .fetchInto(Inventory.class),
                 pageable,
-                dslContext.fetchCount(INVENTORY, INVENTORY.PRODUCT_CODE.in(productCodes)));
+                () ->
+                        dslContext
+                                .resultQuery(
+                                        countByProductCodeInQuery.sql(),
+                                        countByProductCodeInQuery.bindValues(
+                                                Map.of("productCodes", productCodeArray)))
+                                .fetchOne(0, long.class));
     }
 
     @Override
     public boolean existsByProductCode(String productCode) {
-        return dslContext.fetchExists(
+        return Boolean.TRUE.equals(
                 dslContext
-                        .selectOne()
-                        .from(INVENTORY)
-                        .where(INVENTORY.PRODUCT_CODE.eq(productCode)));
+                        .resultQuery(
+                                existsByProductCodeQuery.sql(),
+                                existsByProductCodeQuery.bindValues(
+                                        Map.of("productCode", productCode)))
+                        .fetchOne(0, Boolean.class));
     }
 
     @Override
     @Transactional
     public int deleteByProductCode(String productCode) {
         return dslContext
-                .deleteFrom(INVENTORY)
-                .where(INVENTORY.PRODUCT_CODE.eq(productCode))
+                .query(
+                        deleteByProductCodeQuery.sql(),
+                        deleteByProductCodeQuery.bindValues(Map.of("productCode", productCode)))
                 .execute();
     }
 
-    private Collection<SortField<?>> getSortFields(Sort sortSpecification) {
-        Collection<SortField<?>> querySortFields = new ArrayList<>();
+    @Override
+    @Transactional
+    public int deleteByProductCodeIn(Collection<String> productCodes) {
+        return dslContext
+                .query(
+                        deleteByProductCodeInQuery.sql(),
+                        deleteByProductCodeInQuery.bindValues(
+                                Map.of("productCodes", productCodes.toArray(String[]::new))))
+                .execute();
+    }
 
-        if (sortSpecification == null) {
-            return querySortFields;
+    @Override
+    @Transactional
+    public int insertIfAbsent(Collection<String> productCodes) {
+        // ids come from the factory the entity uses, a conflicting row simply wastes its id
+        Long[] ids = new Long[productCodes.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = TSID_FACTORY.generate().toLong();
         }
+        return dslContext
+                .query(
+                        insertIfAbsentQuery.sql(),
+                        insertIfAbsentQuery.bindValues(
+                                Map.of(
+                                        "ids",
+                                        ids,
+                                        "productCodes",
+                                        productCodes.toArray(String[]::new))))
+                .execute();
+    }
 
-        for (Sort.Order specifiedField : sortSpecification) {
-            String sortFieldName = specifiedField.getProperty();
-            Sort.Direction sortDirection = specifiedField.getDirection();
+    @Override
+    public long countByProductCodeStartingWith(String prefix) {
+        // the prefix is matched literally, e.g. the underscores of generated product codes, and
+        // served by the text_pattern_ops index since the unique index cannot match prefixes
+        String pattern = prefix.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+        return dslContext
+                .resultQuery(
+                        countByProductCodeStartingWithQuery.sql(),
+                        countByProductCodeStartingWithQuery.bindValues(
+                                Map.of("productCodePattern", pattern)))
+                .fetchOne(0, long.class);
+    }
 
-            TableField<InventoryRecord, Object> tableField = getTableField(sortFieldName);
-            SortField<?> querySortField = convertTableFieldToSortField(tableField, sortDirection);
-            querySortFields.add(querySortField);
-        }
+    private SelectJoinStep<?> selectInventory() {
+        return dslContext
+                .select(
+                        INVENTORY.ID,
+                        INVENTORY.PRODUCT_CODE,
+                        INVENTORY.QUANTITY,
+                        INVENTORY.RESERVED_ITEMS,
+                        INVENTORY.VERSION)
+                .from(INVENTORY);
+    }
 
-        return querySortFields;
+    private static Map<String, Object> pageValues(Pageable pageable) {
+        Map<String, Object> values = new HashMap<>(4);
+        values.put("limit", pageable.getPageSize());
+        values.put("offset", pageable.getOffset());
+        return values;
     }
 
-    private TableField<InventoryRecord, Object> getTableField(String sortFieldName) {
-        TableField<InventoryRecord, Object> sortField;
-        try {
-            String jooqFieldName =
-                    sortFieldName.replaceAll("([a-z])([A-Z]+)", "$1_$2").toUpperCase(Locale.ROOT);
-            Field tableField = INVENTORY.getClass().getField(jooqFieldName);
-            sortField = (TableField<InventoryRecord, Object>) tableField.get(INVENTORY);
-        } catch (NoSuchFieldException | IllegalAccessException ex) {
-            String errorMessage = "Could not find table field: %s".formatted(sortFieldName);
-            throw new InvalidDataAccessApiUsageException(errorMessage, ex);
+    // one order per column, named after the column, so that aliases and repeated properties share
+    // a cached query; unknown properties are rejected before anything is cached
+    private static Sort normalize(Sort sortSpecification) {
+        Map<String, Sort.Order> orders = new LinkedHashMap<>();
+        for (Sort.Order order : sortSpecification) {
+            String column = getSortField(order.getProperty()).getName();
+            orders.putIfAbsent(column, Sort.Order.by(column).with(order.getDirection()));
         }
-        return sortField;
+        return Sort.by(List.copyOf(orders.values()));
     }
 
-    private SortField<?> convertTableFieldToSortField(
-            TableField<InventoryRecord, Object> tableField, Sort.Direction sortDirection) {
-        if (sortDirection == Sort.Direction.ASC) {
-            return tableField.asc();
-        } else {
-            return tableField.desc();
+    private static List<SortField<?>> getSortFields(Sort sortSpecification) {
+        return sortSpecification.stream()
+                .<SortField<?>>map(
+                        order ->
+                                getSortField(order.getProperty())
+                                        .sort(order.isAscending() ? SortOrder.ASC : SortOrder.DESC))
+                .toList();
+    }
+
+    private static Field<?> getSortField(String sortFieldName) {
+        Field<?> sortField = SORT_FIELDS.get(sortFieldName);
+        if (sortField == null) {
+            String errorMessage = "Could not find table field: %s".formatted(sortFieldName);
+            throw new InvalidDataAccessApiUsageException(errorMessage);
         }
+        return sortField;
     }
 }
@@ -0,0 +1,40 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.inventoryservice.repositories;
+
+import java.util.List;
+import java.util.Map;
+import org.jooq.DSLContext;
+import org.jooq.Param;
+import org.jooq.QueryPart;
+
+/**
+ * SQL rendered once from a jOOQ query whose bind values are named {@link Param}s, so that a call
+ * only supplies the values instead of rebuilding and rendering the query tree again. The SQL text
+ * is identical on every call, which also lets pgjdbc promote it to a server-side prepared
+ * statement.
+ */
+record PreRenderedQuery(String sql, List<String> parameterNames) {
+
+    static PreRenderedQuery of(DSLContext dslContext, QueryPart query) {
+        return new PreRenderedQuery(
+                dslContext.render(query), List.copyOf(dslContext.extractParams(query).keySet()));
+    }
+
+    /** Bind values in the order their placeholders appear in {@link #sql()}. */
+    Object[] bindValues(Map<String, ?> values) {
+        Object[] bindValues = new Object[parameterNames.size()];
+        for (int i = 0; i < bindValues.length; i++) {
+            String parameterName = parameterNames.get(i);
+            if (!values.containsKey(parameterName)) {
+                throw new IllegalArgumentException("No value bound for " + parameterName);
+            }
+            bindValues[i] = values.get(parameterName);
+        }
+        return bindValues;
+    }
+}
@@ -18,8 +18,6 @@ import com.example.inventoryservice.utils.logging.Loggable;
 import java.security.SecureRandom;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.IntStream;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -41,8 +39,6 @@ public class InventoryService {
     public static final int MAX_GENERATION_BATCH_SIZE = 10_000;
     private static final int DEFAULT_GENERATION_BATCH_SIZE = 101;
 
-    private final Set<String> processedIdempotencyKeys = ConcurrentHashMap.newKeySet();
-
     private final InventoryRepository inventoryRepository;
 
     private final InventoryMapper inventoryMapper;
@@ -125,11 +121,8 @@ public class InventoryService {
     }
 
     public void updateGeneratedInventory(String idempotencyKey, Integer batchSize) {
+        // retries with the same key are answered by the idempotency key filter
         validateBatchSize(batchSize);
-        if (!processedIdempotencyKeys.add(idempotencyKey)) {
-            return;
-        }
-
         int resolvedBatchSize = batchSize != null ? batchSize : DEFAULT_GENERATION_BATCH_SIZE;
 
         IntStream.range(0, resolvedBatchSize)
@@ -157,6 +150,16 @@ public class InventoryService {
                         });
     }
 
+    /**
+     * Number of inventories created so far for the products of a generation batch. They appear as
+     * the catalog outbox publishes the generated products, so this tells when the batch has made it
+     * through Kafka and {@link #updateGeneratedInventory} can find all of them.
+     */
+    public long countGeneratedInventories(String idempotencyKey) {
+        return inventoryJOOQRepository.countByProductCodeStartingWith(
+                "ProductCode_" + idempotencyKey + "_");
+    }
+
     private static void validateBatchSize(Integer batchSize) {
         if (batchSize != null && (batchSize < 1 || batchSize > MAX_GENERATION_BATCH_SIZE)) {
             throw new IllegalArgumentException(
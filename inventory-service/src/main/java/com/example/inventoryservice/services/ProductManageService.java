@@ -6,44 +6,61 @@
 
 package com.example.inventoryservice.services;
 
-import com.example.inventoryservice.entities.Inventory;
-import com.example.inventoryservice.model.payload.ProductDto;
+import com.example.inventoryservice.model.payload.ProductEvent;
 import com.example.inventoryservice.repositories.InventoryJOOQRepository;
-import com.example.inventoryservice.repositories.InventoryRepository;
 import com.example.inventoryservice.utils.logging.Loggable;
-import org.springframework.dao.DataIntegrityViolationException;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Loggable
 public class ProductManageService {
 
-    private final InventoryRepository inventoryRepository;
+    private static final Logger log = LoggerFactory.getLogger(ProductManageService.class);
+
     private final InventoryJOOQRepository inventoryJOOQRepository;
 
-    public ProductManageService(
-            InventoryRepository inventoryRepository,
-            InventoryJOOQRepository inventoryJOOQRepository) {
-        this.inventoryRepository = inventoryRepository;
+    public ProductManageService(InventoryJOOQRepository inventoryJOOQRepository) {
         this.inventoryJOOQRepository = inventoryJOOQRepository;
     }
 
-    public void manage(ProductDto productDto) {
-        String productCode = productDto.code();
-        // avoid inserting duplicate inventory records when retries or duplicate events arrive
-        if (this.inventoryJOOQRepository.existsByProductCode(productCode)) {
-            return;
-        }
-
-        Inventory inventory = new Inventory().setProductCode(productCode);
-        try {
-            this.inventoryRepository.save(inventory);
-        } catch (DataIntegrityViolationException ex) {
-            if (!this.inventoryJOOQRepository.existsByProductCode(productCode)) {
-                throw ex;
+    /**
+     * Applies the product events of one poll with at most two statements. Deleted products lose
+     * their inventory row and created products get one unless it already exists, so retried and
+     * duplicate events are harmless. A product deleted and created again within the same events
+     * starts over with a fresh inventory row.
+     */
+    @Transactional
+    public void manage(List<ProductEvent> productEvents) {
+        Set<String> deletedProductCodes = new HashSet<>();
+        Set<String> createdProductCodes = new LinkedHashSet<>();
+        for (ProductEvent productEvent : productEvents) {
+            if (productEvent.deleted()) {
+                deletedProductCodes.add(productEvent.productCode());
+                createdProductCodes.remove(productEvent.productCode());
+            } else {
+                createdProductCodes.add(productEvent.productCode());
             }
-            // Another thread created the same product_code concurrently; ignore to keep
-            // idempotency. Logging is handled by the @Loggable aspect.
         }
+
+        int deleted =
+                deletedProductCodes.isEmpty()
+                        ? 0
+                        : inventoryJOOQRepository.deleteByProductCodeIn(deletedProductCodes);
+        int created =
+                createdProductCodes.isEmpty()
+                        ? 0
+                        : inventoryJOOQRepository.insertIfAbsent(createdProductCodes);
+        log.debug(
+                "Applied {} product events, created {} and deleted {} inventories",
+                productEvents.size(),
+                created,
+                deleted);
     }
 }
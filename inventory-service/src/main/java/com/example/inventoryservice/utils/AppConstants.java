@@ -20,4 +20,6 @@ public final class AppConstants {
     public static final String DEFAULT_SORT_BY = "id";
     public static final String DEFAULT_SORT_DIRECTION = "asc";
     public static final String PRODUCT_TOPIC = "productTopic";
+    public static final String EVENT_TYPE_HEADER = "eventType";
+    public static final String PRODUCT_DELETED = "PRODUCT_DELETED";
 }
@@ -8,6 +8,7 @@ package com.example.inventoryservice.web.controllers;
 
 import com.example.inventoryservice.mapper.InventoryMapper;
 import com.example.inventoryservice.model.request.InventoryRequest;
+import com.example.inventoryservice.model.response.GeneratedInventoryResponse;
 import com.example.inventoryservice.model.response.InventoryResponse;
 import com.example.inventoryservice.model.response.PagedResult;
 import com.example.inventoryservice.services.InventoryService;
@@ -110,6 +111,12 @@ class InventoryController {
         return true;
     }
 
+    @GetMapping("/generate/{idempotencyKey}")
+    GeneratedInventoryResponse getGeneratedInventories(@PathVariable String idempotencyKey) {
+        return new GeneratedInventoryResponse(
+                inventoryService.countGeneratedInventories(idempotencyKey));
+    }
+
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
     @ResponseStatus(HttpStatus.CREATED)
     InventoryResponse createInventory(@RequestBody @Valid InventoryRequest inventoryRequest) {
@@ -15,7 +15,9 @@ import com.example.inventoryservice.model.payload.OrderDto;
 import com.example.inventoryservice.model.payload.ProductDto;
 import com.example.inventoryservice.util.MockTestData;
 import com.example.inventoryservice.utils.AppConstants;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.junit.jupiter.api.Test;
 
 class KafkaListenerConfigIntTest extends AbstractIntegrationTest {
@@ -65,4 +67,25 @@ class KafkaListenerConfigIntTest extends AbstractIntegrationTest {
                                     .isPresent();
                         });
     }
+
+    @Test
+    void onDeleteProductEvent() {
+        inventoryJOOQRepository.deleteByProductCode("P002");
+        inventoryRepository.save(new Inventory().setProductCode("P002"));
+
+        ProductDto productDto = new ProductDto("P002", "Product 2", "Description 2", 10.0);
+        ProducerRecord<String, Object> productDeleted =
+                new ProducerRecord<>(AppConstants.PRODUCT_TOPIC, "1002", productDto);
+        productDeleted
+                .headers()
+                .add(
+                        AppConstants.EVENT_TYPE_HEADER,
+                        AppConstants.PRODUCT_DELETED.getBytes(StandardCharsets.UTF_8));
+        kafkaTemplate.send(productDeleted);
+
+        await().untilAsserted(
+                        () ->
+                                assertThat(inventoryJOOQRepository.findByProductCode("P002"))
+                                        .isEmpty());
+    }
 }
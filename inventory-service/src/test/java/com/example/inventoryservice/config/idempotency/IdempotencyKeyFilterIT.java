@@ -0,0 +1,100 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.inventoryservice.config.idempotency;
+
+import static com.example.inventoryservice.config.idempotency.IdempotencyKeyFilter.CALLER_HEADER;
+import static com.example.inventoryservice.config.idempotency.IdempotencyKeyFilter.IDEMPOTENCY_KEY_HEADER;
+import static com.example.inventoryservice.config.idempotency.IdempotencyKeyFilter.REPLAYED_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.inventoryservice.common.AbstractIntegrationTest;
+import com.example.inventoryservice.entities.Inventory;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IdempotencyKeyFilterIT extends AbstractIntegrationTest {
+
+    private String idempotencyKey;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyKey = UUID.randomUUID().toString();
+        inventoryRepository.deleteAllInBatch();
+        inventoryRepository.save(
+                new Inventory()
+                        .setProductCode("ProductCode_" + idempotencyKey + "_0")
+                        .setAvailableQuantity(0)
+                        .setReservedItems(0));
+    }
+
+    @Test
+    void shouldReplayGenerationForRetriedKey() throws Exception {
+        mockMvc.perform(
+                        post("/api/inventory/generate?batchSize=1")
+                                .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(REPLAYED_HEADER))
+                .andExpect(content().string("true"));
+        int generatedQuantity =
+                inventoryRepository
+                        .findByProductCode("ProductCode_" + idempotencyKey + "_0")
+                        .orElseThrow()
+                        .getAvailableQuantity();
+
+        mockMvc.perform(
+                        post("/api/inventory/generate?batchSize=1")
+                                .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey))
+                .andExpect(status().isOk())
+                .andExpect(header().string(REPLAYED_HEADER, "true"))
+                .andExpect(content().string("true"));
+
+        // the retry must not have touched the inventory again
+        assertThat(
+                        inventoryRepository
+                                .findByProductCode("ProductCode_" + idempotencyKey + "_0")
+                                .orElseThrow()
+                                .getAvailableQuantity())
+                .isEqualTo(generatedQuantity);
+    }
+
+    @Test
+    void shouldRejectKeyReusedForDifferentRequest() throws Exception {
+        mockMvc.perform(
+                        post("/api/inventory/generate?batchSize=1")
+                                .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(
+                        post("/api/inventory/generate?batchSize=2")
+                                .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey))
+                .andExpect(status().isUnprocessableContent())
+                .andExpect(jsonPath("$.detail", containsString("different request")));
+    }
+
+    @Test
+    void shouldNotReplayGenerationOfAnotherCaller() throws Exception {
+        mockMvc.perform(
+                        post("/api/inventory/generate?batchSize=1")
+                                .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                                .header(CALLER_HEADER, "customer-1"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(
+                        post("/api/inventory/generate?batchSize=1")
+                                .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                                .header(CALLER_HEADER, "customer-2"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(REPLAYED_HEADER));
+    }
+}
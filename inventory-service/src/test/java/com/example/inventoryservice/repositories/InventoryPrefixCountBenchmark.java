@@ -0,0 +1,149 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.inventoryservice.repositories;
+
+import com.example.inventoryservice.InventoryServiceApplication;
+import com.example.inventoryservice.common.NonSQLContainersConfig;
+import com.example.inventoryservice.common.SQLContainersConfig;
+import com.example.inventoryservice.utils.AppConstants;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Time to count the inventories of one generation batch of {@code batchProducts} products, as the
+ * gateway does on every readiness poll, while {@code otherProducts} inventories of earlier batches
+ * share the table. Compares the prefix match served by the {@code text_pattern_ops} index with the
+ * sequential scan the query fell back to without it. The plans of both are printed once the table
+ * is seeded. Boots the application against Testcontainers, so Docker has to be running; start it
+ * through {@link #main(String[])} after {@code ./mvnw test-compile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class InventoryPrefixCountBenchmark {
+
+    private static final String BATCH_PREFIX = "ProductCode_benchmark-batch_";
+    private static final String COUNT_SQL =
+            "SELECT count(*) FROM inventory WHERE product_code LIKE ? ESCAPE '!'";
+    private static final String BATCH_PATTERN = "ProductCode!_benchmark-batch!_%";
+    private static final int SEED_CHUNK_SIZE = 5_000;
+
+    @Param({"10000"})
+    public int batchProducts;
+
+    @Param({"0", "100000"})
+    public int otherProducts;
+
+    private ConfigurableApplicationContext context;
+    private InventoryJOOQRepository inventoryJOOQRepository;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context =
+                SpringApplication.from(InventoryServiceApplication::main)
+                        .with(SQLContainersConfig.class, NonSQLContainersConfig.class)
+                        .withAdditionalProfiles(AppConstants.PROFILE_TEST)
+                        .run("--server.port=0")
+                        .getApplicationContext();
+        inventoryJOOQRepository = context.getBean(InventoryJOOQRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        transactionTemplate =
+                new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        jdbcTemplate.update("DELETE FROM inventory");
+        seed("ProductCode_other-batch_", otherProducts);
+        seed(BATCH_PREFIX, batchProducts);
+        jdbcTemplate.execute("ANALYZE inventory");
+
+        System.out.println("With the pattern index:");
+        explain(false).forEach(System.out::println);
+        System.out.println("Sequential scan:");
+        explain(true).forEach(System.out::println);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM inventory");
+        context.close();
+    }
+
+    @Benchmark
+    public long countWithPatternIndex() {
+        return inventoryJOOQRepository.countByProductCodeStartingWith(BATCH_PREFIX);
+    }
+
+    @Benchmark
+    public Long countWithSequentialScan() {
+        return transactionTemplate.execute(
+                status -> {
+                    disableIndexes();
+                    return jdbcTemplate.queryForObject(COUNT_SQL, Long.class, BATCH_PATTERN);
+                });
+    }
+
+    private void seed(String prefix, int products) {
+        for (int offset = 0; offset < products; offset += SEED_CHUNK_SIZE) {
+            inventoryJOOQRepository.insertIfAbsent(
+                    IntStream.range(offset, Math.min(products, offset + SEED_CHUNK_SIZE))
+                            .mapToObj(i -> prefix + i)
+                            .toList());
+        }
+    }
+
+    private List<String> explain(boolean sequentialScan) {
+        return transactionTemplate.execute(
+                status -> {
+                    if (sequentialScan) {
+                        disableIndexes();
+                    }
+                    return jdbcTemplate.queryForList(
+                            "EXPLAIN (ANALYZE, BUFFERS) " + COUNT_SQL, String.class, BATCH_PATTERN);
+                });
+    }
+
+    // the plan the query had before the text_pattern_ops index existed
+    private void disableIndexes() {
+        jdbcTemplate.execute("SET LOCAL enable_indexscan = off");
+        jdbcTemplate.execute("SET LOCAL enable_indexonlyscan = off");
+        jdbcTemplate.execute("SET LOCAL enable_bitmapscan = off");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(InventoryPrefixCountBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
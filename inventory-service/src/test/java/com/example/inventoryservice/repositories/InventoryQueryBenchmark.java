@@ -0,0 +1,125 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.inventoryservice.repositories;
+
+import static com.example.inventoryservice.jooq.tables.Inventory.INVENTORY;
+import static org.jooq.impl.DSL.any;
+import static org.jooq.impl.DSL.param;
+
+import com.example.inventoryservice.jooq.tables.records.InventoryRecord;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.TableField;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Per-call overhead of the paged {@code findByProductCodeIn} query before the driver is reached:
+ * building the jOOQ tree with a reflective sort-field lookup and rendering it, against binding
+ * values into the SQL rendered once by {@link PreRenderedQuery}. Runs without a database, start it
+ * through {@link #main(String[])} after {@code ./mvnw test-compile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InventoryQueryBenchmark {
+
+    private static final List<String> PRODUCT_CODES = List.of("P001", "P002", "P003", "P004");
+
+    private final DSLContext dslContext = DSL.using(SQLDialect.POSTGRES);
+
+    private PreRenderedQuery preRenderedQuery;
+
+    @Setup
+    public void setUp() {
+        preRenderedQuery =
+                PreRenderedQuery.of(
+                        dslContext,
+                        dslContext
+                                .select(
+                                        INVENTORY.ID,
+                                        INVENTORY.PRODUCT_CODE,
+                                        INVENTORY.QUANTITY,
+                                        INVENTORY.RESERVED_ITEMS,
+                                        INVENTORY.VERSION)
+                                .from(INVENTORY)
+                                .where(
+                                        INVENTORY.PRODUCT_CODE.eq(
+                                                any(param("productCodes", String[].class))))
+                                .orderBy(INVENTORY.PRODUCT_CODE.desc())
+                                .limit(param("limit", Integer.class))
+                                .offset(param("offset", Long.class)));
+    }
+
+    @Benchmark
+    public String rebuildAndRender() throws ReflectiveOperationException {
+        Query query =
+                dslContext
+                        .select(
+                                INVENTORY.ID,
+                                INVENTORY.PRODUCT_CODE,
+                                INVENTORY.QUANTITY,
+                                INVENTORY.RESERVED_ITEMS,
+                                INVENTORY.VERSION)
+                        .from(INVENTORY)
+                        .where(INVENTORY.PRODUCT_CODE.in(PRODUCT_CODES))
+                        .orderBy(reflectiveTableField("productCode").desc())
+                        .limit(10)
+                        .offset(0);
+        return query.getSQL();
+    }
+
+    @Benchmark
+    public String bindPreRendered() {
+        Map<String, Object> values = new HashMap<>(4);
+        values.put("productCodes", PRODUCT_CODES.toArray(String[]::new));
+        values.put("limit", 10);
+        values.put("offset", 0L);
+        return dslContext
+                .resultQuery(preRenderedQuery.sql(), preRenderedQuery.bindValues(values))
+                .getSQL();
+    }
+
+    // the sort-field lookup the repository used before the static field map
+    @SuppressWarnings("unchecked")
+    private static TableField<InventoryRecord, Object> reflectiveTableField(String sortFieldName)
+            throws ReflectiveOperationException {
+        String jooqFieldName =
+                sortFieldName.replaceAll("([a-z])([A-Z]+)", "$1_$2").toUpperCase(Locale.ROOT);
+        return (TableField<InventoryRecord, Object>)
+                INVENTORY.getClass().getField(jooqFieldName).get(INVENTORY);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(InventoryQueryBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
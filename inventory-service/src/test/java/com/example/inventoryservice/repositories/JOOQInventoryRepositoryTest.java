@@ -8,6 +8,7 @@ package com.example.inventoryservice.repositories;
 
 import static com.example.inventoryservice.jooq.tables.Inventory.INVENTORY;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.example.inventoryservice.common.SQLContainersConfig;
 import com.example.inventoryservice.config.JooqConfig;
@@ -20,6 +21,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
 import org.springframework.boot.jooq.test.autoconfigure.JooqTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 @JooqTest(properties = {"spring.cloud.config.enabled=false"})
 @Import({SQLContainersConfig.class, JooqConfig.class})
@@ -78,4 +83,137 @@ class JOOQInventoryRepositoryTest {
                                 .where(INVENTORY.PRODUCT_CODE.eq("product200")));
         assertThat(exists).isFalse();
     }
+
+    @Test
+    void findByProductCodeInShouldPageAndSortThroughPreRenderedQueries() {
+        insertInventory("product1", 5);
+        insertInventory("product2", 15);
+        insertInventory("product3", 10);
+        InventoryJOOQRepositoryImpl repository = new InventoryJOOQRepositoryImpl(dslContext);
+        List<String> productCodes = List.of("product1", "product2", "product3", "product4");
+        Sort sort = Sort.by("availableQuantity").descending();
+
+        Page<Inventory> firstPage =
+                repository.findByProductCodeIn(productCodes, PageRequest.of(0, 2, sort));
+        Page<Inventory> secondPage =
+                repository.findByProductCodeIn(productCodes, PageRequest.of(1, 2, sort));
+
+        assertThat(firstPage.getTotalElements()).isEqualTo(3);
+        assertThat(firstPage.getContent())
+                .extracting(Inventory::getProductCode)
+                .containsExactly("product2", "product3");
+        assertThat(secondPage.getContent())
+                .extracting(Inventory::getProductCode)
+                .containsExactly("product1");
+        assertThat(repository.findAll(PageRequest.of(0, 10, Sort.by("productCode"))).getContent())
+                .extracting(Inventory::getProductCode)
+                .containsExactly("product1", "product2", "product3");
+    }
+
+    @Test
+    void lookupsByProductCodeShouldBindValuesIntoPreRenderedQueries() {
+        insertInventory("product1", 5);
+        InventoryJOOQRepositoryImpl repository = new InventoryJOOQRepositoryImpl(dslContext);
+
+        assertThat(repository.findByProductCode("product1"))
+                .get()
+                .satisfies(inventory -> assertThat(inventory.getAvailableQuantity()).isEqualTo(5));
+        assertThat(repository.existsByProductCode("product1")).isTrue();
+        assertThat(repository.existsByProductCode("product2")).isFalse();
+        assertThat(repository.deleteByProductCode("product1")).isOne();
+        assertThat(repository.findByProductCode("product1")).isEmpty();
+    }
+
+    @Test
+    void insertIfAbsentShouldOnlyCreateMissingInventoriesInOneStatement() {
+        insertInventory("product1", 5);
+        InventoryJOOQRepositoryImpl repository = new InventoryJOOQRepositoryImpl(dslContext);
+
+        assertThat(repository.insertIfAbsent(List.of("product1", "product2", "product3")))
+                .isEqualTo(2);
+        // replaying the same products is a no-op
+        assertThat(repository.insertIfAbsent(List.of("product2", "product3"))).isZero();
+
+        assertThat(repository.findByProductCode("product1"))
+                .get()
+                .satisfies(inventory -> assertThat(inventory.getAvailableQuantity()).isEqualTo(5));
+        assertThat(repository.findByProductCode("product2"))
+                .get()
+                .satisfies(
+                        inventory -> {
+                            assertThat(inventory.getId()).isNotNull();
+                            assertThat(inventory.getAvailableQuantity()).isZero();
+                            assertThat(inventory.getReservedItems()).isZero();
+                            assertThat(inventory.getVersion()).isZero();
+                        });
+
+        assertThat(repository.deleteByProductCodeIn(List.of("product1", "product2", "product4")))
+                .isEqualTo(2);
+        assertThat(repository.findAll(PageRequest.of(0, 10)).getContent())
+                .extracting(Inventory::getProductCode)
+                .containsExactly("product3");
+    }
+
+    @Test
+    void countByProductCodeStartingWithShouldMatchThePrefixLiterally() {
+        insertInventory("ProductCode_batch-1_0", 1);
+        insertInventory("ProductCode_batch-1_1", 1);
+        insertInventory("ProductCode_batch-10_0", 1);
+        insertInventory("ProductCodeXbatch-1X2", 1);
+        InventoryJOOQRepositoryImpl repository = new InventoryJOOQRepositoryImpl(dslContext);
+
+        assertThat(repository.countByProductCodeStartingWith("ProductCode_batch-1_")).isEqualTo(2);
+        assertThat(repository.countByProductCodeStartingWith("ProductCode_batch-2_")).isZero();
+    }
+
+    @Test
+    void countByProductCodeStartingWithShouldBeServedByThePatternIndex() {
+        // a handful of rows is cheaper to scan, only the index matters here
+        dslContext.execute("SET LOCAL enable_seqscan = off");
+
+        String plan =
+                dslContext
+                        .fetch(
+                                "EXPLAIN SELECT count(*) FROM inventory"
+                                        + " WHERE product_code LIKE 'ProductCode!_batch-1!_%'"
+                                        + " ESCAPE '!'")
+                        .formatCSV(false);
+
+        assertThat(plan).contains("idx_inventory_product_code_pattern").contains("Index Cond");
+    }
+
+    @Test
+    void shouldSortByTheFirstOrderOfEachColumn() {
+        insertInventory("product1", 5);
+        insertInventory("product2", 15);
+        insertInventory("product3", 10);
+        InventoryJOOQRepositoryImpl repository = new InventoryJOOQRepositoryImpl(dslContext);
+        // quantity is the column behind availableQuantity, repeating it must not change the order
+        Sort sort = Sort.by(Sort.Order.desc("availableQuantity"), Sort.Order.asc("quantity"));
+
+        assertThat(repository.findAll(PageRequest.of(0, 10, sort)).getContent())
+                .extracting(Inventory::getProductCode)
+                .containsExactly("product2", "product3", "product1");
+    }
+
+    @Test
+    void shouldRejectUnknownSortField() {
+        InventoryJOOQRepositoryImpl repository = new InventoryJOOQRepositoryImpl(dslContext);
+
+        assertThatThrownBy(() -> repository.findAll(PageRequest.of(0, 10, Sort.by("unknown"))))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                .hasMessage("Could not find table field: unknown");
+    }
+
+    private void insertInventory(String productCode, int availableQuantity) {
+        dslContext
+                .newRecord(
+                        INVENTORY,
+                        new Inventory()
+                                .setId(io.hypersistence.tsid.TSID.fast().toLong())
+                                .setProductCode(productCode)
+                                .setAvailableQuantity(availableQuantity)
+                                .setReservedItems(0))
+                .insert();
+    }
 }
@@ -6,31 +6,26 @@
 
 package com.example.inventoryservice.services;
 
-import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
-import com.example.inventoryservice.entities.Inventory;
-import com.example.inventoryservice.model.payload.ProductDto;
+import com.example.inventoryservice.model.payload.ProductEvent;
 import com.example.inventoryservice.repositories.InventoryJOOQRepository;
-import com.example.inventoryservice.repositories.InventoryRepository;
-import org.instancio.Instancio;
-import org.instancio.junit.InstancioExtension;
+import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-@ExtendWith({MockitoExtension.class, InstancioExtension.class})
+@ExtendWith(MockitoExtension.class)
 class ProductManageServiceTest {
 
-    @Captor private ArgumentCaptor<Inventory> argumentCaptor;
-
-    @Mock private InventoryRepository inventoryRepository;
     @Mock private InventoryJOOQRepository inventoryJOOQRepository;
 
     @InjectMocks private ProductManageService productManageService;
@@ -38,24 +33,38 @@ class ProductManageServiceTest {
     @Test
     void manage() {
         // Arrange
+        given(inventoryJOOQRepository.insertIfAbsent(anyCollection())).willReturn(2);
 
-        ProductDto productDto = Instancio.create(ProductDto.class);
+        // Act
+        productManageService.manage(
+                List.of(
+                        new ProductEvent("P001", false),
+                        new ProductEvent("P002", false),
+                        new ProductEvent("P001", false)));
 
-        given(inventoryJOOQRepository.existsByProductCode(productDto.code())).willReturn(false);
-        given(inventoryRepository.save(argumentCaptor.capture()))
-                .willAnswer(invocationOnMock -> invocationOnMock.getArgument(0));
+        // Assert
+        verify(inventoryJOOQRepository).insertIfAbsent(Set.of("P001", "P002"));
+        verify(inventoryJOOQRepository, never()).deleteByProductCodeIn(anyCollection());
+    }
+
+    @Test
+    void manageShouldApplyDeletesBeforeCreates() {
+        // Arrange
+        given(inventoryJOOQRepository.deleteByProductCodeIn(anyCollection())).willReturn(2);
+        given(inventoryJOOQRepository.insertIfAbsent(anyCollection())).willReturn(1);
 
         // Act
-        productManageService.manage(productDto);
+        productManageService.manage(
+                List.of(
+                        new ProductEvent("P001", false),
+                        new ProductEvent("P001", true),
+                        new ProductEvent("P002", true),
+                        new ProductEvent("P002", false)));
 
         // Assert
-        verify(inventoryRepository, times(1)).save(argumentCaptor.capture());
-        assertThat(argumentCaptor.getValue())
-                .isNotNull()
-                .satisfies(
-                        inventory -> {
-                            assertThat(inventory.getProductCode()).isNotBlank();
-                            assertThat(inventory.getId()).isNull();
-                        });
+        // P001 ends up deleted, P002 is re-created with a fresh inventory
+        InOrder inOrder = inOrder(inventoryJOOQRepository);
+        inOrder.verify(inventoryJOOQRepository).deleteByProductCodeIn(Set.of("P001", "P002"));
+        inOrder.verify(inventoryJOOQRepository).insertIfAbsent(Set.of("P002"));
     }
 }
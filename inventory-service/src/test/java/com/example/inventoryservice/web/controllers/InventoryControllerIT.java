@@ -6,6 +6,7 @@
 
 package com.example.inventoryservice.web.controllers;
 
+import static com.example.sqlbudget.SqlStatementAssert.assertThatSqlStatements;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.instancio.Select.field;
@@ -75,6 +76,36 @@ class InventoryControllerIT extends AbstractIntegrationTest {
                 .andExpect(jsonPath("$.reservedItems").value(inventory.getReservedItems()));
     }
 
+    @Test
+    void shouldFindInventoryByProductCodeWithSingleStatement() {
+        String productCode = inventoryList.getFirst().getProductCode();
+
+        assertThatSqlStatements(
+                        () ->
+                                this.mockMvc
+                                        .perform(get("/api/inventory/{productCode}", productCode))
+                                        .andExpect(status().isOk()))
+                .hasStatementCount(1);
+    }
+
+    @Test
+    void shouldFindInventoriesByProductCodesWithoutRepeatedStatements() {
+        String[] productCodes =
+                inventoryList.stream().map(Inventory::getProductCode).toArray(String[]::new);
+
+        // a page smaller than the page size needs no count query
+        assertThatSqlStatements(
+                        () ->
+                                this.mockMvc
+                                        .perform(
+                                                get("/api/inventory/product")
+                                                        .param("codes", productCodes)
+                                                        .param("pageSize", "20"))
+                                        .andExpect(status().isOk()))
+                .hasStatementCount(1)
+                .hasNoRepeatedStatements();
+    }
+
     @Test
     void shouldFindInventoriesByProductCodes() throws Exception {
         String[] productCodeList =
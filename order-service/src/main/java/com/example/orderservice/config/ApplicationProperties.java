@@ -1,11 +1,12 @@
 /***
 <p>
-    Licensed under MIT License Copyright (c) 2021-2025 Raja Kolli.
+    Licensed under MIT License Copyright (c) 2021-2026 Raja Kolli.
 </p>
 ***/
 
 package com.example.orderservice.config;
 
+import com.example.sqlbudget.SqlBudget;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -17,9 +18,29 @@ import org.springframework.validation.annotation.Validated;
 public record ApplicationProperties(
         @NotBlank(message = "CatalogServiceUrl Cant be Blank") String catalogServiceUrl,
         boolean byPassCircuitBreaker,
-        @NestedConfigurationProperty @Valid Cors cors) {
+        @NestedConfigurationProperty @Valid Cors cors,
+        @NestedConfigurationProperty @Valid OrderGenerator orderGenerator,
+        @NestedConfigurationProperty @Valid IdempotencyKeys idempotencyKeys,
+        @NestedConfigurationProperty @Valid OrderRetry orderRetry,
+        @NestedConfigurationProperty @Valid EventPublications eventPublications,
+        @NestedConfigurationProperty @Valid SqlBudget sqlBudget) {
 
     public ApplicationProperties {
         cors = new Cors();
+        if (orderGenerator == null) {
+            orderGenerator = new OrderGenerator();
+        }
+        if (idempotencyKeys == null) {
+            idempotencyKeys = new IdempotencyKeys();
+        }
+        if (orderRetry == null) {
+            orderRetry = new OrderRetry();
+        }
+        if (eventPublications == null) {
+            eventPublications = new EventPublications();
+        }
+        if (sqlBudget == null) {
+            sqlBudget = new SqlBudget();
+        }
     }
 }
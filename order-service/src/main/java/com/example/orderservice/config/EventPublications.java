@@ -0,0 +1,65 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.config;
+
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+
+public class EventPublications {
+
+    // completed publications are kept in the archive for this long before being purged
+    private Duration archiveRetention = Duration.ofDays(7);
+
+    @Min(1) private int purgeBatchSize = 10_000;
+
+    @Min(1) private int republishBatchSize = 100;
+
+    @Min(1) private int republishMaxInFlight = 4;
+
+    // backlog and lag gauges query the registry at most once per interval
+    private Duration metricsRefreshInterval = Duration.ofSeconds(15);
+
+    public Duration getArchiveRetention() {
+        return archiveRetention;
+    }
+
+    public void setArchiveRetention(Duration archiveRetention) {
+        this.archiveRetention = archiveRetention;
+    }
+
+    public int getPurgeBatchSize() {
+        return purgeBatchSize;
+    }
+
+    public void setPurgeBatchSize(int purgeBatchSize) {
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    public int getRepublishBatchSize() {
+        return republishBatchSize;
+    }
+
+    public void setRepublishBatchSize(int republishBatchSize) {
+        this.republishBatchSize = republishBatchSize;
+    }
+
+    public int getRepublishMaxInFlight() {
+        return republishMaxInFlight;
+    }
+
+    public void setRepublishMaxInFlight(int republishMaxInFlight) {
+        this.republishMaxInFlight = republishMaxInFlight;
+    }
+
+    public Duration getMetricsRefreshInterval() {
+        return metricsRefreshInterval;
+    }
+
+    public void setMetricsRefreshInterval(Duration metricsRefreshInterval) {
+        this.metricsRefreshInterval = metricsRefreshInterval;
+    }
+}
@@ -0,0 +1,45 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.config;
+
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+
+public class IdempotencyKeys {
+
+    // how long a completed response is replayed for the same key
+    private Duration ttl = Duration.ofHours(24);
+
+    // how long a claimed key blocks retries when the instance that claimed it never completes it
+    private Duration lockTimeout = Duration.ofMinutes(5);
+
+    @Min(1) private long cacheMaxSize = 10_000;
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public Duration getLockTimeout() {
+        return lockTimeout;
+    }
+
+    public void setLockTimeout(Duration lockTimeout) {
+        this.lockTimeout = lockTimeout;
+    }
+
+    public long getCacheMaxSize() {
+        return cacheMaxSize;
+    }
+
+    public void setCacheMaxSize(long cacheMaxSize) {
+        this.cacheMaxSize = cacheMaxSize;
+    }
+}
@@ -6,7 +6,9 @@
 
 package com.example.orderservice.config;
 
-import com.example.orderservice.services.OrderService;
+import com.example.orderservice.services.EventPublicationMaintenanceService;
+import com.example.orderservice.services.OrderRetryService;
+import org.jobrunr.jobs.context.JobContext;
 import org.jobrunr.scheduling.BackgroundJob;
 import org.jobrunr.scheduling.cron.Cron;
 import org.slf4j.Logger;
@@ -19,17 +21,27 @@ class Initializer implements CommandLineRunner {
 
     private final Logger log = LoggerFactory.getLogger(this.getClass());
 
-    private final OrderService orderService;
+    private final OrderRetryService orderRetryService;
+    private final EventPublicationMaintenanceService eventPublicationMaintenanceService;
 
-    public Initializer(OrderService orderService) {
-        this.orderService = orderService;
+    public Initializer(
+            OrderRetryService orderRetryService,
+            EventPublicationMaintenanceService eventPublicationMaintenanceService) {
+        this.orderRetryService = orderRetryService;
+        this.eventPublicationMaintenanceService = eventPublicationMaintenanceService;
     }
 
     @Override
     public void run(String... args) {
         log.info("Running Initializer.....");
         BackgroundJob.scheduleRecurrently(
-                "retry-new-orders", Cron.minutely(), orderService::retryNewOrders);
-        log.info("Completed scheduling recurring jobs: retryNewOrders");
+                "retry-new-orders",
+                Cron.minutely(),
+                () -> orderRetryService.retryNewOrders(JobContext.Null));
+        BackgroundJob.scheduleRecurrently(
+                "purge-event-publication-archive",
+                Cron.hourly(),
+                () -> eventPublicationMaintenanceService.purgeArchivedPublications());
+        log.info("Completed scheduling recurring jobs: retryNewOrders, purgeArchivedPublications");
     }
 }
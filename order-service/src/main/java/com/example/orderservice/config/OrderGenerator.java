@@ -0,0 +1,33 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.config;
+
+import jakarta.validation.constraints.Min;
+
+public class OrderGenerator {
+
+    // keep below the JDBC pool size so generation never starves request traffic of connections
+    @Min(1) private int parallelism = 4;
+
+    @Min(1) private int batchSize = 100;
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
@@ -0,0 +1,34 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.config;
+
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+
+public class OrderRetry {
+
+    // NEW orders untouched for this long are considered stuck and re-published
+    private Duration staleAfter = Duration.ofMinutes(5);
+
+    @Min(1) private int chunkSize = 500;
+
+    public Duration getStaleAfter() {
+        return staleAfter;
+    }
+
+    public void setStaleAfter(Duration staleAfter) {
+        this.staleAfter = staleAfter;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+}
@@ -0,0 +1,35 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.config.events;
+
+import com.example.orderservice.config.ApplicationProperties;
+import java.time.Clock;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.modulith.events.IncompleteEventPublications;
+
+@Configuration(proxyBeanMethods = false)
+class EventPublicationConfig {
+
+    @Bean
+    EventPublicationMetrics eventPublicationMetrics(
+            JdbcTemplate jdbcTemplate, ApplicationProperties applicationProperties) {
+        return new EventPublicationMetrics(
+                jdbcTemplate,
+                applicationProperties.eventPublications().getMetricsRefreshInterval(),
+                Clock.systemUTC());
+    }
+
+    @Bean
+    EventPublicationRepublisher eventPublicationRepublisher(
+            IncompleteEventPublications incompleteEventPublications,
+            ApplicationProperties applicationProperties) {
+        return new EventPublicationRepublisher(
+                incompleteEventPublications, applicationProperties.eventPublications());
+    }
+}
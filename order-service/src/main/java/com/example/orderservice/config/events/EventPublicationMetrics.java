@@ -0,0 +1,107 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.config.events;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Publishes the externalization backlog ({@code modulith.events.incomplete}) and lag ({@code
+ * modulith.events.externalization.lag}, the age of the oldest incomplete publication) of the
+ * Spring Modulith event publication registry. Both come from a single query served by the partial
+ * index on incomplete publications, and the result is reused for the refresh interval so frequent
+ * scrapes do not turn into frequent queries.
+ */
+public class EventPublicationMetrics implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(EventPublicationMetrics.class);
+
+    private static final String BACKLOG_SQL =
+            """
+            SELECT count(*) AS backlog, min(publication_date) AS oldest_publication_date
+              FROM event_publication
+             WHERE completion_date IS NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration refreshInterval;
+    private final Clock clock;
+
+    private volatile Snapshot snapshot = new Snapshot(0, null, Instant.EPOCH);
+
+    public EventPublicationMetrics(
+            JdbcTemplate jdbcTemplate, Duration refreshInterval, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.refreshInterval = refreshInterval;
+        this.clock = clock;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("modulith.events.incomplete", this, EventPublicationMetrics::backlog)
+                .description("Event publications not completed yet")
+                .register(registry);
+        TimeGauge.builder(
+                        "modulith.events.externalization.lag",
+                        this,
+                        TimeUnit.MILLISECONDS,
+                        EventPublicationMetrics::lagMillis)
+                .description("Age of the oldest incomplete event publication")
+                .register(registry);
+    }
+
+    double backlog() {
+        return currentSnapshot().backlog();
+    }
+
+    double lagMillis() {
+        Instant oldest = currentSnapshot().oldestPublicationDate();
+        return oldest == null ? 0 : Duration.between(oldest, clock.instant()).toMillis();
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        Instant now = clock.instant();
+        if (current.takenAt().plus(refreshInterval).isAfter(now)) {
+            return current;
+        }
+        // concurrent scrapes may both refresh, either result is equally fresh
+        try {
+            current =
+                    jdbcTemplate.queryForObject(
+                            BACKLOG_SQL,
+                            (rs, rowNum) ->
+                                    new Snapshot(
+                                            rs.getLong("backlog"),
+                                            toInstant(rs.getTimestamp("oldest_publication_date")),
+                                            now));
+        } catch (DataAccessException e) {
+            log.debug("Unable to read event publication backlog: {}", e.getMessage());
+            // keep the last values and back off until the next interval
+            current = new Snapshot(current.backlog(), current.oldestPublicationDate(), now);
+        }
+        snapshot = current;
+        return current;
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+
+    private record Snapshot(long backlog, Instant oldestPublicationDate, Instant takenAt) {}
+}
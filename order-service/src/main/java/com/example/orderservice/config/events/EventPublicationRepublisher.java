@@ -0,0 +1,64 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.config.events;
+
+import com.example.orderservice.config.EventPublications;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.modulith.events.IncompleteEventPublications;
+import org.springframework.modulith.events.ResubmissionOptions;
+
+/**
+ * Replaces {@code spring.modulith.events.republish-outstanding-events-on-restart}, which loads and
+ * resubmits every incomplete publication synchronously while the context starts. Here the
+ * publications left over from before the start are resubmitted in pages of {@code
+ * republish-batch-size} with at most {@code republish-max-in-flight} resubmissions running at
+ * once, on a virtual thread once the application is ready, so a large backlog neither delays
+ * startup nor has to fit in the heap.
+ */
+public class EventPublicationRepublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(EventPublicationRepublisher.class);
+
+    private final IncompleteEventPublications incompleteEventPublications;
+    private final EventPublications eventPublications;
+
+    public EventPublicationRepublisher(
+            IncompleteEventPublications incompleteEventPublications,
+            EventPublications eventPublications) {
+        this.incompleteEventPublications = incompleteEventPublications;
+        this.eventPublications = eventPublications;
+    }
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        Instant readyAt = Instant.ofEpochMilli(event.getTimestamp());
+        Thread.ofVirtual()
+                .name("event-publication-republisher")
+                .start(() -> republishOutstanding(readyAt));
+    }
+
+    void republishOutstanding(Instant publishedBefore) {
+        // publications made after startup are still being processed by their own listeners
+        ResubmissionOptions options =
+                ResubmissionOptions.defaults()
+                        .withBatchSize(eventPublications.getRepublishBatchSize())
+                        .withMaxInFlight(eventPublications.getRepublishMaxInFlight())
+                        .withFilter(
+                                publication ->
+                                        publication.getPublicationDate().isBefore(publishedBefore));
+        try {
+            incompleteEventPublications.resubmitIncompletePublications(options);
+            log.info("Resubmitted incomplete event publications made before {}", publishedBefore);
+        } catch (RuntimeException e) {
+            log.error("Failed to resubmit incomplete event publications", e);
+        }
+    }
+}
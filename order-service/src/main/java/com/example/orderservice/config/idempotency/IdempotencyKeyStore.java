@@ -0,0 +1,190 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.config.idempotency;
+
+import com.example.orderservice.config.IdempotencyKeys;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Durable store of idempotency keys backed by the {@code idempotency_keys} table, so a key claimed
+ * on one replica is honoured by every other replica and survives restarts. A key is claimed before
+ * the request runs and completed with a snapshot of its response afterwards; completed snapshots
+ * are also held in a bounded Caffeine cache so replays rarely reach the database. Expired rows are
+ * removed in small batches whenever a new key is claimed, which keeps the table bounded by the TTL.
+ */
+public class IdempotencyKeyStore {
+
+    private static final String STATE_IN_PROGRESS = "IN_PROGRESS";
+    private static final String STATE_COMPLETED = "COMPLETED";
+    private static final int PURGE_BATCH_SIZE = 100;
+
+    private static final String SELECT_COMPLETED_SQL =
+            """
+            SELECT request_fingerprint, response_status, content_type, location, response_body
+              FROM idempotency_keys
+             WHERE caller = ? AND idempotency_key = ? AND state = ? AND expires_at > ?
+            """;
+    private static final String DELETE_EXPIRED_KEY_SQL =
+            """
+            DELETE FROM idempotency_keys
+             WHERE caller = ? AND idempotency_key = ? AND expires_at <= ?
+            """;
+    private static final String INSERT_CLAIM_SQL =
+            """
+            INSERT INTO idempotency_keys
+                   (caller, idempotency_key, request_fingerprint, state, created_at, expires_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (caller, idempotency_key) DO NOTHING
+            """;
+    private static final String COMPLETE_SQL =
+            """
+            UPDATE idempotency_keys
+               SET state = ?, response_status = ?, content_type = ?, location = ?,
+                   response_body = ?, expires_at = ?
+             WHERE caller = ? AND idempotency_key = ?
+            """;
+    private static final String RELEASE_SQL =
+            "DELETE FROM idempotency_keys WHERE caller = ? AND idempotency_key = ? AND state = ?";
+    // SKIP LOCKED keeps concurrent claimers from queueing up behind each other's purge
+    private static final String PURGE_EXPIRED_SQL =
+            """
+            DELETE FROM idempotency_keys
+             WHERE (caller, idempotency_key) IN (SELECT caller, idempotency_key
+                                                   FROM idempotency_keys
+                                                  WHERE expires_at <= ?
+                                                  LIMIT ?
+                                                    FOR UPDATE SKIP LOCKED)
+            """;
+
+    private static final RowMapper<IdempotentResponse> RESPONSE_ROW_MAPPER =
+            (rs, rowNum) ->
+                    new IdempotentResponse(
+                            rs.getString("request_fingerprint"),
+                            rs.getInt("response_status"),
+                            rs.getString("content_type"),
+                            rs.getString("location"),
+                            rs.getBytes("response_body"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration lockTimeout;
+    private final Cache<ScopedIdempotencyKey, IdempotentResponse> completedResponses;
+
+    public IdempotencyKeyStore(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            IdempotencyKeys idempotencyKeys,
+            Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.ttl = idempotencyKeys.getTtl();
+        this.lockTimeout = idempotencyKeys.getLockTimeout();
+        this.completedResponses =
+                Caffeine.newBuilder()
+                        .maximumSize(idempotencyKeys.getCacheMaxSize())
+                        .expireAfterWrite(ttl)
+                        .build();
+    }
+
+    /** Returns the unexpired response snapshot stored for the key, if the key has completed. */
+    Optional<IdempotentResponse> findCompleted(ScopedIdempotencyKey key) {
+        IdempotentResponse cached = completedResponses.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        List<IdempotentResponse> stored =
+                transactionTemplate.execute(
+                        status ->
+                                jdbcTemplate.query(
+                                        SELECT_COMPLETED_SQL,
+                                        RESPONSE_ROW_MAPPER,
+                                        key.caller(),
+                                        key.key(),
+                                        STATE_COMPLETED,
+                                        Timestamp.from(clock.instant())));
+        if (stored == null || stored.isEmpty()) {
+            return Optional.empty();
+        }
+        completedResponses.put(key, stored.getFirst());
+        return Optional.of(stored.getFirst());
+    }
+
+    /**
+     * Claims the key for the calling request.
+     *
+     * @return {@code false} when another request already holds or completed the key
+     */
+    boolean tryAcquire(ScopedIdempotencyKey key, String requestFingerprint) {
+        Instant now = clock.instant();
+        Boolean acquired =
+                transactionTemplate.execute(
+                        status -> {
+                            // an expired snapshot or abandoned claim no longer blocks its key
+                            jdbcTemplate.update(
+                                    DELETE_EXPIRED_KEY_SQL,
+                                    key.caller(),
+                                    key.key(),
+                                    Timestamp.from(now));
+                            int inserted =
+                                    jdbcTemplate.update(
+                                            INSERT_CLAIM_SQL,
+                                            key.caller(),
+                                            key.key(),
+                                            requestFingerprint,
+                                            STATE_IN_PROGRESS,
+                                            Timestamp.from(now),
+                                            Timestamp.from(now.plus(lockTimeout)));
+                            if (inserted == 1) {
+                                purgeExpired(now);
+                            }
+                            return inserted == 1;
+                        });
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    /** Stores the response of a claimed key so that retries replay it until the TTL elapses. */
+    void complete(ScopedIdempotencyKey key, IdempotentResponse response) {
+        transactionTemplate.executeWithoutResult(
+                status ->
+                        jdbcTemplate.update(
+                                COMPLETE_SQL,
+                                STATE_COMPLETED,
+                                response.status(),
+                                response.contentType(),
+                                response.location(),
+                                response.body(),
+                                Timestamp.from(clock.instant().plus(ttl)),
+                                key.caller(),
+                                key.key()));
+        completedResponses.put(key, response);
+    }
+
+    /** Gives up a claimed key that did not complete, so the client may retry with it. */
+    void release(ScopedIdempotencyKey key) {
+        transactionTemplate.executeWithoutResult(
+                status ->
+                        jdbcTemplate.update(
+                                RELEASE_SQL, key.caller(), key.key(), STATE_IN_PROGRESS));
+    }
+
+    private void purgeExpired(Instant now) {
+        jdbcTemplate.update(PURGE_EXPIRED_SQL, Timestamp.from(now), PURGE_BATCH_SIZE);
+    }
+}
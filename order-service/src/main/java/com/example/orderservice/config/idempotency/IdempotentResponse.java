@@ -0,0 +1,14 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.config.idempotency;
+
+/**
+ * Snapshot of the response a request with an {@code Idempotency-Key} completed with, replayed to
+ * every retry carrying the same key and request fingerprint.
+ */
+record IdempotentResponse(
+        String requestFingerprint, int status, String contentType, String location, byte[] body) {}
@@ -0,0 +1,13 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.config.idempotency;
+
+/**
+ * An {@code Idempotency-Key} together with the caller that sent it, the same key sent by two
+ * callers names two different requests.
+ */
+record ScopedIdempotencyKey(String caller, String key) {}
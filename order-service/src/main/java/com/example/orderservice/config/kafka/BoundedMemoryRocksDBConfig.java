@@ -0,0 +1,166 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.config.kafka;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.Map;
+import org.apache.kafka.streams.state.RocksDBConfigSetter;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.LRUCache;
+import org.rocksdb.Options;
+import org.rocksdb.WriteBufferManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounds the off-heap memory of every RocksDB instance in this application by a single block cache
+ * and write buffer manager shared across all state stores and stream threads. Kafka Streams
+ * instantiates this class reflectively per store, so the shared resources are held statically and
+ * sized from the {@code rocksdb.bounded.*} entries of the streams configuration.
+ */
+public class BoundedMemoryRocksDBConfig implements RocksDBConfigSetter {
+
+    public static final String TOTAL_MEMORY_RATIO_CONFIG = "rocksdb.bounded.total-memory-ratio";
+    public static final String MAX_TOTAL_MEMORY_BYTES_CONFIG =
+            "rocksdb.bounded.max-total-memory-bytes";
+    public static final String WRITE_BUFFER_RATIO_CONFIG = "rocksdb.bounded.write-buffer-ratio";
+    public static final String INDEX_FILTER_RATIO_CONFIG =
+            "rocksdb.bounded.index-filter-block-ratio";
+    public static final String MAX_WRITE_BUFFER_NUMBER_CONFIG =
+            "rocksdb.bounded.max-write-buffer-number";
+    public static final String BLOOM_FILTER_BITS_PER_KEY_CONFIG =
+            "rocksdb.bounded.bloom-filter-bits-per-key";
+    public static final String COMPACTION_STYLE_CONFIG = "rocksdb.bounded.compaction-style";
+
+    private static final double DEFAULT_TOTAL_MEMORY_RATIO = 0.10;
+    private static final long DEFAULT_MAX_TOTAL_MEMORY_BYTES = 256L * 1024 * 1024;
+    private static final double DEFAULT_WRITE_BUFFER_RATIO = 0.5;
+    private static final double DEFAULT_INDEX_FILTER_RATIO = 0.1;
+    private static final int DEFAULT_MAX_WRITE_BUFFER_NUMBER = 3;
+    private static final double DEFAULT_BLOOM_FILTER_BITS_PER_KEY = 10;
+    private static final String DEFAULT_COMPACTION_STYLE = CompactionStyle.LEVEL.name();
+
+    private static final Logger log = LoggerFactory.getLogger(BoundedMemoryRocksDBConfig.class);
+
+    private static volatile Cache sharedCache;
+    private static volatile WriteBufferManager sharedWriteBufferManager;
+    private static volatile long totalOffHeapBytes;
+
+    private BloomFilter bloomFilter;
+
+    @Override
+    public void setConfig(
+            final String storeName, final Options options, final Map<String, Object> configs) {
+        initSharedResources(configs);
+
+        BlockBasedTableConfig tableConfig = (BlockBasedTableConfig) options.tableFormatConfig();
+        tableConfig.setBlockCache(sharedCache);
+        // count index and filter blocks against the cache so the bound really holds
+        tableConfig.setCacheIndexAndFilterBlocks(true);
+        tableConfig.setCacheIndexAndFilterBlocksWithHighPriority(true);
+        tableConfig.setPinTopLevelIndexAndFilter(true);
+        bloomFilter =
+                new BloomFilter(
+                        getDouble(
+                                configs,
+                                BLOOM_FILTER_BITS_PER_KEY_CONFIG,
+                                DEFAULT_BLOOM_FILTER_BITS_PER_KEY));
+        tableConfig.setFilterPolicy(bloomFilter);
+        options.setTableFormatConfig(tableConfig);
+
+        options.setWriteBufferManager(sharedWriteBufferManager);
+        options.setMaxWriteBufferNumber(
+                getInt(configs, MAX_WRITE_BUFFER_NUMBER_CONFIG, DEFAULT_MAX_WRITE_BUFFER_NUMBER));
+        options.setCompactionStyle(
+                CompactionStyle.valueOf(
+                        getString(configs, COMPACTION_STYLE_CONFIG, DEFAULT_COMPACTION_STYLE)
+                                .toUpperCase(Locale.ROOT)));
+        log.debug("Applied bounded memory RocksDB configuration to store {}", storeName);
+    }
+
+    @Override
+    public void close(final String storeName, final Options options) {
+        // the cache and write buffer manager are shared across stores and must not be closed here
+        if (bloomFilter != null) {
+            bloomFilter.close();
+        }
+    }
+
+    /** Shared block cache, or {@code null} until the first store has been opened. */
+    static Cache sharedCache() {
+        return sharedCache;
+    }
+
+    /** Off-heap bytes the shared cache (including memtables) has been bounded to. */
+    static long totalOffHeapBytes() {
+        return totalOffHeapBytes;
+    }
+
+    private static void initSharedResources(Map<String, Object> configs) {
+        if (sharedCache != null) {
+            return;
+        }
+        synchronized (BoundedMemoryRocksDBConfig.class) {
+            if (sharedCache != null) {
+                return;
+            }
+            long totalBytes = resolveTotalOffHeapBytes(configs);
+            double writeBufferRatio =
+                    getDouble(configs, WRITE_BUFFER_RATIO_CONFIG, DEFAULT_WRITE_BUFFER_RATIO);
+            double indexFilterRatio =
+                    getDouble(configs, INDEX_FILTER_RATIO_CONFIG, DEFAULT_INDEX_FILTER_RATIO);
+            long writeBufferBytes = (long) (totalBytes * writeBufferRatio);
+
+            Cache cache = new LRUCache(totalBytes, -1, false, indexFilterRatio);
+            // memtable memory is charged against the block cache, keeping one overall bound
+            sharedWriteBufferManager = new WriteBufferManager(writeBufferBytes, cache);
+            totalOffHeapBytes = totalBytes;
+            sharedCache = cache;
+            log.info(
+                    "RocksDB bounded to {} bytes off-heap with {} bytes reserved for memtables",
+                    totalBytes,
+                    writeBufferBytes);
+        }
+    }
+
+    private static long resolveTotalOffHeapBytes(Map<String, Object> configs) {
+        double ratio = getDouble(configs, TOTAL_MEMORY_RATIO_CONFIG, DEFAULT_TOTAL_MEMORY_RATIO);
+        long maxBytes =
+                getLong(configs, MAX_TOTAL_MEMORY_BYTES_CONFIG, DEFAULT_MAX_TOTAL_MEMORY_BYTES);
+        // container aware on Linux, falls back to the physical memory of the host
+        long physicalMemory =
+                ((com.sun.management.OperatingSystemMXBean)
+                                ManagementFactory.getOperatingSystemMXBean())
+                        .getTotalMemorySize();
+        long ratioBytes = (long) (physicalMemory * ratio);
+        return maxBytes > 0 ? Math.min(ratioBytes, maxBytes) : ratioBytes;
+    }
+
+    private static String getString(Map<String, Object> configs, String key, String defaultValue) {
+        Object value = configs.get(key);
+        return value == null ? defaultValue : value.toString().trim();
+    }
+
+    private static double getDouble(Map<String, Object> configs, String key, double defaultValue) {
+        Object value = configs.get(key);
+        return value == null ? defaultValue : Double.parseDouble(value.toString().trim());
+    }
+
+    private static long getLong(Map<String, Object> configs, String key, long defaultValue) {
+        Object value = configs.get(key);
+        return value == null ? defaultValue : Long.parseLong(value.toString().trim());
+    }
+
+    private static int getInt(Map<String, Object> configs, String key, int defaultValue) {
+        Object value = configs.get(key);
+        return value == null ? defaultValue : Integer.parseInt(value.toString().trim());
+    }
+}
@@ -0,0 +1,59 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.config.kafka;
+
+import com.example.orderservice.model.dtos.OrderDto;
+import com.example.orderservice.services.OrderManageService;
+import com.example.orderservice.utils.AppConstants;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.messaging.handler.annotation.Payload;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+@Configuration(proxyBeanMethods = false)
+class KafkaListenerConfig {
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    private final OrderManageService orderManageService;
+    private final JsonMapper jsonMapper;
+
+    KafkaListenerConfig(OrderManageService orderManageService, JsonMapper jsonMapper) {
+        this.orderManageService = orderManageService;
+        this.jsonMapper = jsonMapper;
+    }
+
+    // Applies the statuses resolved by the Kafka Streams join outside the stream threads, so a
+    // slow database never stalls the exactly-once stream transaction. Only committed records are
+    // read as the join output is written transactionally.
+    @KafkaListener(
+            id = "order-status-updates",
+            topics = AppConstants.ORDERS_TOPIC,
+            groupId = "order-status",
+            batch = "true",
+            properties = {"isolation.level=read_committed"})
+    public void onOrderEvents(@Payload List<String> orderDtoStrs) {
+        log.debug("Received {} Order events", orderDtoStrs.size());
+        List<OrderDto> orders = new ArrayList<>(orderDtoStrs.size());
+        for (int index = 0; index < orderDtoStrs.size(); index++) {
+            try {
+                orders.add(jsonMapper.readValue(orderDtoStrs.get(index), OrderDto.class));
+            } catch (JacksonException e) {
+                // apply the events ahead of the malformed one, the error handler takes the rest
+                orderManageService.updateOrderStatuses(orders);
+                throw new BatchListenerFailedException("Malformed order event", e, index);
+            }
+        }
+        orderManageService.updateOrderStatuses(orders);
+    }
+}
@@ -14,6 +14,7 @@ import static com.example.orderservice.utils.AppConstants.STOCK_ORDERS_TOPIC;
 
 import com.example.orderservice.model.dtos.OrderDto;
 import com.example.orderservice.services.OrderManageService;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Properties;
@@ -42,6 +43,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.kafka.annotation.EnableKafkaStreams;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
 import org.springframework.kafka.config.StreamsBuilderFactoryBeanConfigurer;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -65,14 +67,20 @@ class KafkaStreamsConfig {
     @Bean
     @Order(Ordered.HIGHEST_PRECEDENCE)
     StreamsBuilderFactoryBeanConfigurer configurer(
-            DeadLetterPublishingRecoverer deadLetterPublishingRecoverer) {
+            DeadLetterPublishingRecoverer deadLetterPublishingRecoverer,
+            StoreRestoreListener storeRestoreListener,
+            QueryableStoreManager<String, OrderDto> ordersStoreManager) {
         return factoryBean -> {
+            factoryBean.setStateRestoreListener(storeRestoreListener);
+            factoryBean.addListener(ordersStoreManager);
             factoryBean.setStateListener(
-                    (newState, oldState) ->
-                            log.info(
-                                    "Kafka Streams state transition from {} to {}",
-                                    oldState,
-                                    newState));
+                    (newState, oldState) -> {
+                        log.info(
+                                "Kafka Streams state transition from {} to {}",
+                                oldState,
+                                newState);
+                        ordersStoreManager.onChange(newState, oldState);
+                    });
 
             Properties streamsConfiguration = factoryBean.getStreamsConfiguration();
             Assert.notNull(streamsConfiguration, "streamsConfiguration must not be null");
@@ -94,9 +102,13 @@ class KafkaStreamsConfig {
             // Memory management
             streamsConfiguration.put(
                     StreamsConfig.STATESTORE_CACHE_MAX_BYTES_CONFIG, "10485760"); // 10MB
+            // off-heap bound for RocksDB, sized by rocksdb.bounded.* streams properties
+            streamsConfiguration.put(
+                    StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG,
+                    BoundedMemoryRocksDBConfig.class);
 
-            // Enhanced monitoring
-            streamsConfiguration.put(StreamsConfig.METRICS_RECORDING_LEVEL_CONFIG, "INFO");
+            // Enhanced monitoring, DEBUG additionally records RocksDB block cache hit ratios
+            streamsConfiguration.putIfAbsent(StreamsConfig.METRICS_RECORDING_LEVEL_CONFIG, "INFO");
 
             log.info("Kafka Streams configured with enhanced error handling and monitoring");
         };
@@ -116,6 +128,28 @@ class KafkaStreamsConfig {
                 (record, ex) -> new TopicPartition(RECOVER_DLQ_TOPIC, -1));
     }
 
+    @Bean
+    QueryableStoreManager<String, OrderDto> ordersStoreManager() {
+        return new QueryableStoreManager<>(ORDERS_STORE, 3, Duration.ofMillis(100));
+    }
+
+    @Bean
+    StoreRestoreListener storeRestoreListener() {
+        return new StoreRestoreListener();
+    }
+
+    @Bean
+    OrdersStoreHealthIndicator ordersStoreHealthIndicator(
+            StreamsBuilderFactoryBean streamsBuilderFactoryBean,
+            StoreRestoreListener storeRestoreListener) {
+        return new OrdersStoreHealthIndicator(streamsBuilderFactoryBean, storeRestoreListener);
+    }
+
+    @Bean
+    MeterBinder rocksDBMetricsBinder() {
+        return new RocksDBMetricsBinder();
+    }
+
     @Bean
     Serde<@NonNull OrderDto> orderDtoSerde() {
         return new JacksonJsonSerde<>(OrderDto.class).noTypeInfo();
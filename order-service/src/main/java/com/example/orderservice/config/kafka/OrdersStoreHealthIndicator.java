@@ -0,0 +1,49 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.config.kafka;
+
+import static com.example.orderservice.utils.AppConstants.ORDERS_STORE;
+
+import org.apache.kafka.streams.KafkaStreams;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+
+/**
+ * Reports the orders store as out of service until Kafka Streams is running and the local store has
+ * caught up with its changelog. Published in its own {@code orders-store} health group rather than
+ * readiness: every rebalance would take every replica out of service, while the store endpoints
+ * answer from the database in the meantime.
+ */
+class OrdersStoreHealthIndicator implements HealthIndicator {
+
+    private final StreamsBuilderFactoryBean streamsBuilderFactoryBean;
+    private final StoreRestoreListener storeRestoreListener;
+
+    OrdersStoreHealthIndicator(
+            StreamsBuilderFactoryBean streamsBuilderFactoryBean,
+            StoreRestoreListener storeRestoreListener) {
+        this.streamsBuilderFactoryBean = streamsBuilderFactoryBean;
+        this.storeRestoreListener = storeRestoreListener;
+    }
+
+    @Override
+    public Health health() {
+        KafkaStreams kafkaStreams = streamsBuilderFactoryBean.getKafkaStreams();
+        KafkaStreams.State state = kafkaStreams == null ? null : kafkaStreams.state();
+        boolean restoring = storeRestoreListener.isRestoring(ORDERS_STORE);
+        Health.Builder builder =
+                state == KafkaStreams.State.RUNNING && !restoring
+                        ? Health.up()
+                        : Health.outOfService();
+        return builder.withDetail("store", ORDERS_STORE)
+                .withDetail("streamsState", String.valueOf(state))
+                .withDetail("restoring", restoring)
+                .withDetail("remainingRecords", storeRestoreListener.remainingRecords())
+                .build();
+    }
+}
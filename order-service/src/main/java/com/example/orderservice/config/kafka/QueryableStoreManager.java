@@ -0,0 +1,131 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.config.kafka;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.StoreQueryParameters;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+
+/**
+ * Holds the {@link ReadOnlyKeyValueStore} handle of a single state store and keeps it valid across
+ * rebalances. The handle is rebuilt whenever Kafka Streams transitions to RUNNING and dropped on any
+ * other state, and is published through an {@link AtomicReference} so the read path never locks.
+ * Transient {@link InvalidStateStoreException}s raised while a query runs are retried with a bounded
+ * exponential backoff.
+ */
+public class QueryableStoreManager<K, V>
+        implements StreamsBuilderFactoryBean.Listener, KafkaStreams.StateListener {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryableStoreManager.class);
+
+    private final String storeName;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+
+    private final AtomicReference<KafkaStreams> kafkaStreamsRef = new AtomicReference<>();
+    private final AtomicReference<ReadOnlyKeyValueStore<K, V>> storeRef = new AtomicReference<>();
+
+    public QueryableStoreManager(String storeName, int maxAttempts, Duration initialBackoff) {
+        this.storeName = storeName;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+    }
+
+    @Override
+    public void streamsAdded(String id, KafkaStreams streams) {
+        kafkaStreamsRef.set(streams);
+        storeRef.set(null);
+    }
+
+    @Override
+    public void streamsRemoved(String id, KafkaStreams streams) {
+        kafkaStreamsRef.compareAndSet(streams, null);
+        storeRef.set(null);
+    }
+
+    @Override
+    public void onChange(KafkaStreams.State newState, KafkaStreams.State oldState) {
+        if (newState == KafkaStreams.State.RUNNING) {
+            ReadOnlyKeyValueStore<K, V> store = openStore();
+            storeRef.set(store);
+            log.debug("Store {} handle refreshed, available: {}", storeName, store != null);
+        } else {
+            storeRef.set(null);
+        }
+    }
+
+    /**
+     * Runs the query against the current store handle, reopening the handle and retrying when the
+     * store is transiently unavailable.
+     *
+     * @throws IllegalStateException when the store is still unavailable after all attempts
+     */
+    public <T> T query(Function<ReadOnlyKeyValueStore<K, V>, T> query) {
+        InvalidStateStoreException lastException = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            ReadOnlyKeyValueStore<K, V> store = currentStore();
+            if (store != null) {
+                try {
+                    return query.apply(store);
+                } catch (InvalidStateStoreException ex) {
+                    lastException = ex;
+                    storeRef.compareAndSet(store, null);
+                }
+            }
+            if (attempt < maxAttempts) {
+                backOff(attempt);
+            }
+        }
+        throw new IllegalStateException(storeName + " store not ready", lastException);
+    }
+
+    private ReadOnlyKeyValueStore<K, V> currentStore() {
+        ReadOnlyKeyValueStore<K, V> store = storeRef.get();
+        if (store != null) {
+            return store;
+        }
+        ReadOnlyKeyValueStore<K, V> opened = openStore();
+        // concurrent openers may race here, any of the resulting handles is equally valid
+        if (opened != null && !storeRef.compareAndSet(null, opened)) {
+            return storeRef.get() != null ? storeRef.get() : opened;
+        }
+        return opened;
+    }
+
+    private ReadOnlyKeyValueStore<K, V> openStore() {
+        KafkaStreams kafkaStreams = kafkaStreamsRef.get();
+        if (kafkaStreams == null || kafkaStreams.state() != KafkaStreams.State.RUNNING) {
+            return null;
+        }
+        try {
+            return kafkaStreams.store(
+                    StoreQueryParameters.fromNameAndType(
+                            storeName, QueryableStoreTypes.<K, V>keyValueStore()));
+        } catch (InvalidStateStoreException ex) {
+            log.debug("Store {} not queryable yet: {}", storeName, ex.getMessage());
+            return null;
+        }
+    }
+
+    private void backOff(int attempt) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(initialBackoff.toMillis() << (attempt - 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(storeName + " store query interrupted", e);
+        }
+    }
+}
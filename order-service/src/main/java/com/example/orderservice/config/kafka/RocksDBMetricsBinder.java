@@ -0,0 +1,47 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.config.kafka;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.rocksdb.Cache;
+
+/**
+ * Publishes the usage of the RocksDB memory shared through {@link BoundedMemoryRocksDBConfig}.
+ * Per-store RocksDB metrics (memtable size, pending compaction and the block cache hit ratio, which
+ * needs the DEBUG {@code metrics.recording.level} set in application.yml) are bridged by Spring
+ * Boot's Kafka Streams Micrometer listener under the {@code kafka.stream.state} prefix.
+ */
+class RocksDBMetricsBinder implements MeterBinder {
+
+    private static final String PREFIX = "kafka.stream.rocksdb.shared.cache";
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(PREFIX + ".capacity", BoundedMemoryRocksDBConfig::totalOffHeapBytes)
+                .description("Off-heap bytes RocksDB block cache and memtables are bounded to")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder(PREFIX + ".usage", () -> usage(false))
+                .description("Bytes currently held by the shared RocksDB block cache")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder(PREFIX + ".pinned.usage", () -> usage(true))
+                .description("Bytes pinned in the shared RocksDB block cache")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private static long usage(boolean pinned) {
+        Cache cache = BoundedMemoryRocksDBConfig.sharedCache();
+        if (cache == null) {
+            return 0;
+        }
+        return pinned ? cache.getPinnedUsage() : cache.getUsage();
+    }
+}
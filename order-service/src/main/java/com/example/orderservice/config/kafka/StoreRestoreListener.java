@@ -0,0 +1,118 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.config.kafka;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.streams.processor.StateRestoreListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracks changelog restoration of the local state stores so callers can tell whether a store is
+ * still being rebuilt, and publishes restore progress as metrics. Callbacks run on the stream
+ * threads and only update in-memory counters.
+ */
+public class StoreRestoreListener implements StateRestoreListener, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(StoreRestoreListener.class);
+
+    private final Map<TopicPartition, RestoringPartition> restoringPartitions =
+            new ConcurrentHashMap<>();
+    private final AtomicLong restoredRecords = new AtomicLong();
+    private final AtomicLong completedRestorations = new AtomicLong();
+
+    @Override
+    public void onRestoreStart(
+            TopicPartition topicPartition,
+            String storeName,
+            long startingOffset,
+            long endingOffset) {
+        log.info(
+                "Restoring store {} from {} offsets {} to {}",
+                storeName,
+                topicPartition,
+                startingOffset,
+                endingOffset);
+        restoringPartitions.put(
+                topicPartition,
+                new RestoringPartition(storeName, new AtomicLong(endingOffset - startingOffset)));
+    }
+
+    @Override
+    public void onBatchRestored(
+            TopicPartition topicPartition,
+            String storeName,
+            long batchEndOffset,
+            long numRestored) {
+        restoredRecords.addAndGet(numRestored);
+        RestoringPartition restoringPartition = restoringPartitions.get(topicPartition);
+        if (restoringPartition != null) {
+            restoringPartition
+                    .remainingRecords()
+                    .updateAndGet(remaining -> Math.max(0, remaining - numRestored));
+        }
+    }
+
+    @Override
+    public void onRestoreEnd(TopicPartition topicPartition, String storeName, long totalRestored) {
+        log.info(
+                "Restored {} records into store {} from {}",
+                totalRestored,
+                storeName,
+                topicPartition);
+        restoringPartitions.remove(topicPartition);
+        completedRestorations.incrementAndGet();
+    }
+
+    @Override
+    public void onRestoreSuspended(
+            TopicPartition topicPartition, String storeName, long totalRestored) {
+        // partition migrated to another instance during restoration
+        restoringPartitions.remove(topicPartition);
+    }
+
+    public boolean isRestoring(String storeName) {
+        return restoringPartitions.values().stream()
+                .anyMatch(restoringPartition -> restoringPartition.storeName().equals(storeName));
+    }
+
+    public long remainingRecords() {
+        return restoringPartitions.values().stream()
+                .mapToLong(restoringPartition -> restoringPartition.remainingRecords().get())
+                .sum();
+    }
+
+    public int restoringPartitionCount() {
+        return restoringPartitions.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("kafka.stream.restore.partitions", this::restoringPartitionCount)
+                .description("Changelog partitions currently being restored")
+                .register(registry);
+        Gauge.builder("kafka.stream.restore.remaining.records", this::remainingRecords)
+                .description("Changelog records left to restore across all partitions")
+                .register(registry);
+        FunctionCounter.builder("kafka.stream.restore.records", restoredRecords, AtomicLong::get)
+                .description("Changelog records restored into local state stores")
+                .register(registry);
+        FunctionCounter.builder(
+                        "kafka.stream.restore.completed", completedRestorations, AtomicLong::get)
+                .description("Changelog partitions fully restored")
+                .register(registry);
+    }
+
+    private record RestoringPartition(String storeName, AtomicLong remainingRecords) {}
+}
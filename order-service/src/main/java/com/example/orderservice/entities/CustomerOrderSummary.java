@@ -0,0 +1,168 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Denormalized, per customer view of an order used to serve order history without hydrating the
+ * order aggregate. Rows share the id of their {@link Order} and are written in the same
+ * transaction as the order itself.
+ */
+@Entity
+@Table(name = "customer_order_summaries")
+public class CustomerOrderSummary implements Persistable<Long>, Serializable {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+
+    private String source;
+
+    @Column(name = "item_count", nullable = false)
+    private int itemCount;
+
+    @Column(name = "total_price", nullable = false, columnDefinition = "NUMERIC(19,2)")
+    private BigDecimal totalPrice = BigDecimal.ZERO;
+
+    private LocalDateTime createdDate;
+
+    private LocalDateTime lastModifiedDate;
+
+    // ids are assigned from the order, so tell Spring Data to persist rather than merge new rows
+    @Transient private boolean isNew = true;
+
+    public static CustomerOrderSummary of(Order order) {
+        return new CustomerOrderSummary().setOrderId(order.getId()).refresh(order);
+    }
+
+    /** Copies the summarized state of the given order onto this projection row. */
+    public CustomerOrderSummary refresh(Order order) {
+        this.customerId = order.getCustomerId();
+        this.status = order.getStatus();
+        this.source = order.getSource();
+        this.itemCount = order.getItems().size();
+        this.totalPrice =
+                order.getItems().stream()
+                        .map(
+                                item ->
+                                        item.getProductPrice()
+                                                .multiply(new BigDecimal(item.getQuantity()))
+                                                .setScale(2, RoundingMode.HALF_UP))
+                        .reduce(BigDecimal.ZERO, BigDecimal::add);
+        this.createdDate = order.getCreatedDate();
+        this.lastModifiedDate = order.getLastModifiedDate();
+        return this;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public Long getId() {
+        return orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public CustomerOrderSummary setOrderId(Long orderId) {
+        this.orderId = orderId;
+        return this;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public CustomerOrderSummary setCustomerId(Long customerId) {
+        this.customerId = customerId;
+        return this;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public CustomerOrderSummary setStatus(OrderStatus status) {
+        this.status = status;
+        return this;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public CustomerOrderSummary setSource(String source) {
+        this.source = source;
+        return this;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public CustomerOrderSummary setItemCount(int itemCount) {
+        this.itemCount = itemCount;
+        return this;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public CustomerOrderSummary setTotalPrice(BigDecimal totalPrice) {
+        this.totalPrice = totalPrice;
+        return this;
+    }
+
+    public BigDecimal getTotalPrice() {
+        return totalPrice;
+    }
+
+    public CustomerOrderSummary setCreatedDate(LocalDateTime createdDate) {
+        this.createdDate = createdDate;
+        return this;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    public CustomerOrderSummary setLastModifiedDate(LocalDateTime lastModifiedDate) {
+        this.lastModifiedDate = lastModifiedDate;
+        return this;
+    }
+
+    public LocalDateTime getLastModifiedDate() {
+        return lastModifiedDate;
+    }
+}
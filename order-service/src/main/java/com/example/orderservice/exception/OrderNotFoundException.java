@@ -10,4 +10,8 @@ public class OrderNotFoundException extends RuntimeException {
     public OrderNotFoundException(Long orderId) {
         super("Order with Id " + orderId + " not found");
     }
+
+    public OrderNotFoundException(String orderId) {
+        super("Order with Id " + orderId + " not found");
+    }
 }
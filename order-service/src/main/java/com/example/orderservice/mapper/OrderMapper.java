@@ -6,12 +6,14 @@
 
 package com.example.orderservice.mapper;
 
+import com.example.orderservice.entities.CustomerOrderSummary;
 import com.example.orderservice.entities.Order;
 import com.example.orderservice.entities.OrderItem;
 import com.example.orderservice.model.dtos.OrderDto;
 import com.example.orderservice.model.dtos.OrderItemDto;
 import com.example.orderservice.model.request.OrderItemRequest;
 import com.example.orderservice.model.request.OrderRequest;
+import com.example.orderservice.model.response.CustomerOrderSummaryResponse;
 import com.example.orderservice.model.response.OrderItemResponse;
 import com.example.orderservice.model.response.OrderResponse;
 import java.math.RoundingMode;
@@ -72,6 +74,8 @@ public interface OrderMapper {
     @Mapping(source = "id", target = "orderId")
     OrderResponse toResponse(Order order);
 
+    CustomerOrderSummaryResponse toSummaryResponse(CustomerOrderSummary customerOrderSummary);
+
     @Mapping(
             target = "price",
             expression =
@@ -0,0 +1,10 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.model.response;
+
+public record BulkOrderResponse(
+        int accepted, int chunks, long elapsedMillis, long ordersPerSecond) {}
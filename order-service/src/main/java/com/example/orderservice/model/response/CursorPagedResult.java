@@ -0,0 +1,17 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.model.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * Page of a keyset paged result. {@code nextCursor} is passed back as the {@code cursor} request
+ * parameter to fetch the following page and is {@code null} on the last page.
+ */
+public record CursorPagedResult<T>(
+        List<T> data, Long nextCursor, @JsonProperty("hasNext") boolean hasNext) {}
@@ -0,0 +1,20 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.model.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record CustomerOrderSummaryResponse(
+        Long orderId,
+        Long customerId,
+        String status,
+        String source,
+        int itemCount,
+        @JsonFormat(shape = JsonFormat.Shape.NUMBER_FLOAT, pattern = "0.00") BigDecimal totalPrice,
+        LocalDateTime createdDate) {}
@@ -0,0 +1,16 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.model.response;
+
+public record OrderGenerationStatus(
+        String jobId,
+        String state,
+        int requested,
+        int generated,
+        int failed,
+        long elapsedMillis,
+        long ordersPerSecond) {}
@@ -0,0 +1,32 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.repositories;
+
+import com.example.orderservice.entities.Order;
+import com.example.orderservice.model.dtos.OrderDto;
+import java.util.List;
+
+public interface CustomOrderRepository {
+
+    /**
+     * Applies the resolved status and source of every given order in a single JDBC batch.
+     *
+     * @param orders orders carrying the status and source to persist
+     * @return total number of rows updated
+     */
+    int updateOrderStatusAndSourceInBatch(List<OrderDto> orders);
+
+    /**
+     * Inserts new orders, their items and customer order summaries with one multi-row statement per
+     * table. Ids are generated client side as TSIDs and audit columns are filled in, bypassing the
+     * persistence context entirely.
+     *
+     * @param orders new orders with their items attached
+     * @return the given orders carrying their generated ids
+     */
+    List<Order> bulkInsert(List<Order> orders);
+}
@@ -0,0 +1,198 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.repositories;
+
+import com.example.orderservice.entities.CustomerOrderSummary;
+import com.example.orderservice.entities.Order;
+import com.example.orderservice.entities.OrderItem;
+import com.example.orderservice.entities.TsidSupplier;
+import com.example.orderservice.model.dtos.OrderDto;
+import io.hypersistence.tsid.TSID;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+public class CustomOrderRepositoryImpl implements CustomOrderRepository {
+
+    private static final String UPDATE_STATUS_AND_SOURCE_SQL =
+            "UPDATE orders SET status = ?, source = ? WHERE id = ?";
+    private static final String UPDATE_SUMMARY_STATUS_AND_SOURCE_SQL =
+            "UPDATE customer_order_summaries SET status = ?, source = ? WHERE order_id = ?";
+
+    // one statement per table and chunk, each column bound as a single array parameter
+    private static final String BULK_INSERT_ORDERS_SQL =
+            """
+            INSERT INTO orders (id, customer_id, status, source, delivery_address_line1,
+                delivery_address_line2, delivery_address_city, delivery_address_state,
+                delivery_address_zip_code, delivery_address_country, version, created_by,
+                created_date, last_modified_by, last_modified_date)
+            SELECT * FROM unnest(?::bigint[], ?::bigint[], ?::text[], ?::text[], ?::text[],
+                ?::text[], ?::text[], ?::text[], ?::text[], ?::text[], ?::smallint[], ?::text[],
+                ?::timestamp[], ?::text[], ?::timestamp[])
+            """;
+    private static final String BULK_INSERT_ORDER_ITEMS_SQL =
+            """
+            INSERT INTO order_items (id, product_code, quantity, product_price, order_id)
+            SELECT * FROM unnest(?::bigint[], ?::text[], ?::int[], ?::numeric[], ?::bigint[])
+            """;
+    private static final String BULK_INSERT_SUMMARIES_SQL =
+            """
+            INSERT INTO customer_order_summaries (order_id, customer_id, status, source,
+                item_count, total_price, created_date, last_modified_date)
+            SELECT * FROM unnest(?::bigint[], ?::bigint[], ?::text[], ?::text[], ?::int[],
+                ?::numeric[], ?::timestamp[], ?::timestamp[])
+            """;
+
+    private static final String BIGINT = "bigint";
+    private static final String INTEGER = "integer";
+    private static final String SMALLINT = "smallint";
+    private static final String TEXT = "text";
+
+    private static final TSID.Factory TSID_FACTORY = new TsidSupplier().get();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditorAware<String> auditorAware;
+
+    public CustomOrderRepositoryImpl(JdbcTemplate jdbcTemplate, AuditorAware<String> auditorAware) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditorAware = auditorAware;
+    }
+
+    @Override
+    @Transactional
+    public int updateOrderStatusAndSourceInBatch(List<OrderDto> orders) {
+        if (orders.isEmpty()) {
+            return 0;
+        }
+        int[][] updateCounts = batchUpdateStatusAndSource(UPDATE_STATUS_AND_SOURCE_SQL, orders);
+        // keep the customer order summaries projection in step within the same transaction
+        batchUpdateStatusAndSource(UPDATE_SUMMARY_STATUS_AND_SOURCE_SQL, orders);
+        // drivers may report Statement.SUCCESS_NO_INFO (-2) for batched statements
+        return Arrays.stream(updateCounts)
+                .flatMapToInt(Arrays::stream)
+                .map(count -> Math.max(count, 0))
+                .sum();
+    }
+
+    @Override
+    @Transactional
+    public List<Order> bulkInsert(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return orders;
+        }
+        String auditor = auditorAware.getCurrentAuditor().orElse(null);
+        LocalDateTime now = LocalDateTime.now();
+        orders.forEach(
+                order -> {
+                    order.setId(TSID_FACTORY.generate().toLong());
+                    order.setVersion((short) 0);
+                    order.setCreatedBy(auditor);
+                    order.setCreatedDate(now);
+                    order.setLastModifiedBy(auditor);
+                    order.setLastModifiedDate(now);
+                    order.getItems().forEach(item -> item.setId(TSID_FACTORY.generate().toLong()));
+                });
+        List<OrderItem> items =
+                orders.stream().flatMap(order -> order.getItems().stream()).toList();
+        List<CustomerOrderSummary> summaries =
+                orders.stream().map(CustomerOrderSummary::of).toList();
+
+        insertAll(
+                BULK_INSERT_ORDERS_SQL,
+                orders,
+                column(BIGINT, Order::getId),
+                column(BIGINT, Order::getCustomerId),
+                column(TEXT, order -> order.getStatus().name()),
+                column(TEXT, Order::getSource),
+                column(TEXT, order -> order.getDeliveryAddress().addressLine1()),
+                column(TEXT, order -> order.getDeliveryAddress().addressLine2()),
+                column(TEXT, order -> order.getDeliveryAddress().city()),
+                column(TEXT, order -> order.getDeliveryAddress().state()),
+                column(TEXT, order -> order.getDeliveryAddress().zipCode()),
+                column(TEXT, order -> order.getDeliveryAddress().country()),
+                column(SMALLINT, Order::getVersion),
+                column(TEXT, Order::getCreatedBy),
+                column(TEXT, Order::getCreatedDate),
+                column(TEXT, Order::getLastModifiedBy),
+                column(TEXT, Order::getLastModifiedDate));
+        insertAll(
+                BULK_INSERT_ORDER_ITEMS_SQL,
+                items,
+                column(BIGINT, OrderItem::getId),
+                column(TEXT, OrderItem::getProductCode),
+                column(INTEGER, OrderItem::getQuantity),
+                column(TEXT, OrderItem::getProductPrice),
+                column(BIGINT, item -> item.getOrder().getId()));
+        insertAll(
+                BULK_INSERT_SUMMARIES_SQL,
+                summaries,
+                column(BIGINT, CustomerOrderSummary::getOrderId),
+                column(BIGINT, CustomerOrderSummary::getCustomerId),
+                column(TEXT, summary -> summary.getStatus().name()),
+                column(TEXT, CustomerOrderSummary::getSource),
+                column(INTEGER, CustomerOrderSummary::getItemCount),
+                column(TEXT, CustomerOrderSummary::getTotalPrice),
+                column(TEXT, CustomerOrderSummary::getCreatedDate),
+                column(TEXT, CustomerOrderSummary::getLastModifiedDate));
+        return orders;
+    }
+
+    private int[][] batchUpdateStatusAndSource(String sql, List<OrderDto> orders) {
+        return jdbcTemplate.batchUpdate(
+                sql,
+                orders,
+                orders.size(),
+                (ps, orderDto) -> {
+                    ps.setString(1, orderDto.status());
+                    ps.setString(2, orderDto.source());
+                    ps.setLong(3, orderDto.orderId());
+                });
+    }
+
+    @SafeVarargs
+    private <T> void insertAll(String sql, List<T> rows, Column<T>... columns) {
+        jdbcTemplate.update(
+                connection -> {
+                    PreparedStatement ps = connection.prepareStatement(sql);
+                    for (int i = 0; i < columns.length; i++) {
+                        ps.setArray(i + 1, columns[i].toArray(connection, rows));
+                    }
+                    return ps;
+                });
+    }
+
+    private static <T> Column<T> column(String sqlType, Function<T, ?> accessor) {
+        return new Column<>(sqlType, accessor);
+    }
+
+    /**
+     * One column of a bulk insert, bound as a single SQL array. Decimals and timestamps travel as
+     * their ISO text form and are cast to the column type by the statement.
+     */
+    private record Column<T>(String sqlType, Function<T, ?> accessor) {
+
+        Array toArray(Connection connection, List<T> rows) throws SQLException {
+            Object[] values =
+                    TEXT.equals(sqlType)
+                            ? rows.stream()
+                                    .map(accessor)
+                                    .map(value -> Objects.toString(value, null))
+                                    .toArray(String[]::new)
+                            : rows.stream().map(accessor).toArray();
+            return connection.createArrayOf(sqlType, values);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.repositories;
+
+import com.example.orderservice.entities.CustomerOrderSummary;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CustomerOrderSummaryRepository extends JpaRepository<CustomerOrderSummary, Long> {
+
+    List<CustomerOrderSummary> findByCustomerIdOrderByOrderIdDesc(Long customerId, Limit limit);
+
+    List<CustomerOrderSummary> findByCustomerIdAndOrderIdLessThanOrderByOrderIdDesc(
+            Long customerId, Long orderId, Limit limit);
+}
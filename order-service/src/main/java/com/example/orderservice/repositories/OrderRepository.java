@@ -11,6 +11,7 @@ import com.example.orderservice.entities.OrderStatus;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -18,9 +19,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import org.springframework.transaction.annotation.Transactional;
 
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, CustomOrderRepository {
 
     // @Query("select o from Order o join fetch o.items where o.id in :orderIds ")
     @EntityGraph(attributePaths = {"items"})
@@ -37,18 +37,38 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("select o.id from Order o where o.customerId = :customerId")
     Page<Long> findAllOrdersByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
 
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Transactional
-    @Query("update Order o set o.status =:status, o.source =:source where o.id = :id")
-    int updateOrderStatusAndSourceById(
-            @Param("id") Long orderId,
-            @Param("status") OrderStatus status,
-            @Param("source") String source);
-
     @Query("select o.id from Order o")
     Page<Long> findAllOrders(Pageable pageable);
 
-    @EntityGraph(attributePaths = {"items"})
-    List<Order> findByStatusAndLastModifiedDateLessThanOrderByIdAsc(
+    long countByStatusAndLastModifiedDateLessThan(
             OrderStatus status, LocalDateTime lastModifiedDate);
+
+    /**
+     * Next chunk of orders in the given status last modified before {@code staleBefore}, in
+     * (lastModifiedDate, id) order after the given keyset position. Served by the partial index
+     * {@code idx_orders_new_status_last_modified_date}.
+     */
+    @Query(
+            """
+            select new com.example.orderservice.repositories.OrderRetryCandidate(
+                       o.id, o.lastModifiedDate)
+            from Order o
+            where o.status = :status
+              and o.lastModifiedDate < :staleBefore
+              and (o.lastModifiedDate > :afterDate
+                   or (o.lastModifiedDate = :afterDate and o.id > :afterId))
+            order by o.lastModifiedDate, o.id
+            """)
+    List<OrderRetryCandidate> findRetryCandidates(
+            @Param("status") OrderStatus status,
+            @Param("staleBefore") LocalDateTime staleBefore,
+            @Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") Long afterId,
+            Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.lastModifiedDate = :lastModifiedDate where o.id in :ids")
+    int updateLastModifiedDate(
+            @Param("ids") List<Long> ids,
+            @Param("lastModifiedDate") LocalDateTime lastModifiedDate);
 }
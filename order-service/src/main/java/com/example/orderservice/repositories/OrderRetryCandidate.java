@@ -0,0 +1,12 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.repositories;
+
+import java.time.LocalDateTime;
+
+/** Keyset position of a stuck {@code NEW} order in the retry sweep. */
+public record OrderRetryCandidate(Long id, LocalDateTime lastModifiedDate) {}
@@ -0,0 +1,93 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.services;
+
+import com.example.orderservice.config.ApplicationProperties;
+import com.example.orderservice.config.logging.Loggable;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import org.jobrunr.jobs.annotations.Job;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps the Spring Modulith {@code event_publication_archive} table bounded. With {@code
+ * completion-mode: archive} every externalized event is moved there on completion and never
+ * removed, so publications completed longer ago than {@code
+ * application.event-publications.archive-retention} are deleted in batches, each in its own short
+ * transaction, instead of one large delete that would hold locks and flood the WAL.
+ */
+@Service
+@Loggable
+public class EventPublicationMaintenanceService {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(EventPublicationMaintenanceService.class);
+
+    // SKIP LOCKED lets an overlapping run on another replica carry on with the next batch
+    private static final String PURGE_ARCHIVE_SQL =
+            """
+            DELETE FROM event_publication_archive
+             WHERE id IN (SELECT id
+                            FROM event_publication_archive
+                           WHERE completion_date < ?
+                           LIMIT ?
+                             FOR UPDATE SKIP LOCKED)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter purgedCounter;
+    private final Duration archiveRetention;
+    private final int purgeBatchSize;
+
+    public EventPublicationMaintenanceService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            ApplicationProperties applicationProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.purgedCounter =
+                Counter.builder("modulith.events.archive.purged")
+                        .description("Archived event publications removed by the purge job")
+                        .register(meterRegistry);
+        this.archiveRetention = applicationProperties.eventPublications().getArchiveRetention();
+        this.purgeBatchSize = applicationProperties.eventPublications().getPurgeBatchSize();
+    }
+
+    @Job(name = "purgeEventPublicationArchive", retries = 2)
+    public void purgeArchivedPublications() {
+        Timestamp completedBefore = Timestamp.from(Instant.now().minus(archiveRetention));
+        long purged = 0;
+        int deleted;
+        do {
+            deleted =
+                    Objects.requireNonNull(
+                            transactionTemplate.execute(
+                                    status ->
+                                            jdbcTemplate.update(
+                                                    PURGE_ARCHIVE_SQL,
+                                                    completedBefore,
+                                                    purgeBatchSize)));
+            purged += deleted;
+            purgedCounter.increment(deleted);
+        } while (deleted == purgeBatchSize);
+
+        log.info(
+                "Purged {} archived event publications completed before {}",
+                purged,
+                completedBefore);
+    }
+}
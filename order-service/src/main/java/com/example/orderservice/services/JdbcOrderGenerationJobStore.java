@@ -0,0 +1,139 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.services;
+
+import com.example.orderservice.config.ApplicationProperties;
+import com.example.orderservice.model.response.OrderGenerationStatus;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@link OrderGenerationJobStore} backed by the {@code order_generation_jobs} table. Counters are
+ * incremented in place so concurrent batches never overwrite each other, and every timestamp is
+ * taken from the database clock so the elapsed time does not depend on which replica is asked. A
+ * job expires with the idempotency key it was started with; expired rows are removed in small
+ * batches whenever a new job starts.
+ */
+@Component
+class JdbcOrderGenerationJobStore implements OrderGenerationJobStore {
+
+    private static final int PURGE_BATCH_SIZE = 100;
+
+    private static final String INSERT_SQL =
+            """
+            INSERT INTO order_generation_jobs (job_id, state, requested, started_at, expires_at)
+            VALUES (?, ?, ?, now(), now() + make_interval(secs => ?))
+            ON CONFLICT (job_id) DO NOTHING
+            """;
+    private static final String ADD_GENERATED_SQL =
+            "UPDATE order_generation_jobs SET generated = generated + ? WHERE job_id = ?";
+    private static final String ADD_FAILED_SQL =
+            "UPDATE order_generation_jobs SET failed = failed + ? WHERE job_id = ?";
+    private static final String FINISH_SQL =
+            """
+            UPDATE order_generation_jobs
+               SET state = CASE WHEN failed = 0 THEN ? ELSE ? END,
+                   finished_at = now(), expires_at = now() + make_interval(secs => ?)
+             WHERE job_id = ?
+            """;
+    private static final String SELECT_SQL =
+            """
+            SELECT job_id, state, requested, generated, failed,
+                   (extract(epoch FROM coalesce(finished_at, now()) - started_at) * 1000)::bigint
+                       AS elapsed_millis
+              FROM order_generation_jobs
+             WHERE job_id = ? AND expires_at > now()
+            """;
+    // SKIP LOCKED keeps concurrently starting jobs from queueing up behind each other's purge
+    private static final String PURGE_EXPIRED_SQL =
+            """
+            DELETE FROM order_generation_jobs
+             WHERE job_id IN (SELECT job_id
+                                FROM order_generation_jobs
+                               WHERE expires_at <= now()
+                               LIMIT ?
+                                 FOR UPDATE SKIP LOCKED)
+            """;
+
+    private static final RowMapper<OrderGenerationStatus> STATUS_ROW_MAPPER =
+            (rs, rowNum) -> {
+                int generated = rs.getInt("generated");
+                long elapsedMillis = rs.getLong("elapsed_millis");
+                return new OrderGenerationStatus(
+                        rs.getString("job_id"),
+                        rs.getString("state"),
+                        rs.getInt("requested"),
+                        generated,
+                        rs.getInt("failed"),
+                        elapsedMillis,
+                        elapsedMillis > 0 ? generated * 1000L / elapsedMillis : 0);
+            };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long ttlSeconds;
+
+    JdbcOrderGenerationJobStore(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ApplicationProperties applicationProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.ttlSeconds = applicationProperties.idempotencyKeys().getTtl().toSeconds();
+    }
+
+    @Override
+    public boolean start(String jobId, int requested) {
+        Boolean started =
+                transactionTemplate.execute(
+                        status -> {
+                            int inserted =
+                                    jdbcTemplate.update(
+                                            INSERT_SQL,
+                                            jobId,
+                                            STATE_RUNNING,
+                                            requested,
+                                            ttlSeconds);
+                            if (inserted == 1) {
+                                jdbcTemplate.update(PURGE_EXPIRED_SQL, PURGE_BATCH_SIZE);
+                            }
+                            return inserted == 1;
+                        });
+        return Boolean.TRUE.equals(started);
+    }
+
+    @Override
+    public void batchGenerated(String jobId, int orders) {
+        update(ADD_GENERATED_SQL, orders, jobId);
+    }
+
+    @Override
+    public void batchFailed(String jobId, int orders) {
+        update(ADD_FAILED_SQL, orders, jobId);
+    }
+
+    @Override
+    public void finish(String jobId) {
+        update(FINISH_SQL, STATE_COMPLETED, STATE_FAILED, ttlSeconds, jobId);
+    }
+
+    @Override
+    public Optional<OrderGenerationStatus> find(String jobId) {
+        List<OrderGenerationStatus> statuses =
+                transactionTemplate.execute(
+                        status -> jdbcTemplate.query(SELECT_SQL, STATUS_ROW_MAPPER, jobId));
+        return statuses == null ? Optional.empty() : statuses.stream().findFirst();
+    }
+
+    private void update(String sql, Object... args) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(sql, args));
+    }
+}
@@ -0,0 +1,107 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.services;
+
+import com.example.orderservice.config.logging.Loggable;
+import com.example.orderservice.model.request.OrderRequest;
+import com.example.orderservice.model.response.BulkOrderResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Streams newline delimited {@link OrderRequest}s from a request body into {@link
+ * OrderService#ingestOrders(List)} in fixed size chunks, so arbitrarily large feeds are ingested
+ * with bounded memory. Every chunk is committed in its own transaction; an invalid line aborts the
+ * remainder of the stream while the chunks before it stay committed.
+ */
+@Service
+@Loggable
+public class OrderBulkIngestService {
+
+    public static final int INGEST_CHUNK_SIZE = 500;
+
+    private static final Logger log = LoggerFactory.getLogger(OrderBulkIngestService.class);
+
+    private final OrderService orderService;
+    private final JsonMapper jsonMapper;
+    private final Validator validator;
+
+    public OrderBulkIngestService(
+            OrderService orderService, JsonMapper jsonMapper, Validator validator) {
+        this.orderService = orderService;
+        this.jsonMapper = jsonMapper;
+        this.validator = validator;
+    }
+
+    public BulkOrderResponse ingest(InputStream orders) {
+        long start = System.nanoTime();
+        int accepted = 0;
+        int chunks = 0;
+        List<OrderRequest> chunk = new ArrayList<>(INGEST_CHUNK_SIZE);
+        MappingIterator<OrderRequest> iterator = openIterator(orders);
+        OrderRequest orderRequest;
+        while ((orderRequest = nextOrder(iterator, accepted + chunk.size())) != null) {
+            validate(orderRequest, accepted + chunk.size());
+            chunk.add(orderRequest);
+            if (chunk.size() == INGEST_CHUNK_SIZE) {
+                accepted += orderService.ingestOrders(chunk).size();
+                chunks++;
+                chunk = new ArrayList<>(INGEST_CHUNK_SIZE);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            accepted += orderService.ingestOrders(chunk).size();
+            chunks++;
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        long ordersPerSecond =
+                elapsedNanos > 0 ? accepted * TimeUnit.SECONDS.toNanos(1) / elapsedNanos : 0;
+        log.info(
+                "Ingested {} orders in {} chunks within {} ms ({} orders/s)",
+                accepted,
+                chunks,
+                elapsedMillis,
+                ordersPerSecond);
+        return new BulkOrderResponse(accepted, chunks, elapsedMillis, ordersPerSecond);
+    }
+
+    private MappingIterator<OrderRequest> openIterator(InputStream orders) {
+        try {
+            return jsonMapper.readerFor(OrderRequest.class).readValues(orders);
+        } catch (JacksonException e) {
+            throw new IllegalArgumentException("Malformed bulk order stream", e);
+        }
+    }
+
+    private static OrderRequest nextOrder(MappingIterator<OrderRequest> iterator, int index) {
+        try {
+            return iterator.hasNext() ? iterator.next() : null;
+        } catch (JacksonException e) {
+            throw new IllegalArgumentException("Malformed order at index " + index, e);
+        }
+    }
+
+    private void validate(OrderRequest orderRequest, int index) {
+        Set<ConstraintViolation<OrderRequest>> violations = validator.validate(orderRequest);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException("Invalid order at index " + index, violations);
+        }
+    }
+}
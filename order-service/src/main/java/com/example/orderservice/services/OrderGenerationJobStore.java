@@ -0,0 +1,37 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.services;
+
+import com.example.orderservice.model.response.OrderGenerationStatus;
+import java.util.Optional;
+
+/**
+ * Progress of order generation jobs, shared by every replica so a job can be polled on any of them
+ * and outlives the replica that runs it.
+ */
+public interface OrderGenerationJobStore {
+
+    String STATE_RUNNING = "RUNNING";
+    String STATE_COMPLETED = "COMPLETED";
+    String STATE_FAILED = "FAILED";
+
+    /**
+     * Registers a new running job.
+     *
+     * @return {@code false} when a job with this id is already known
+     */
+    boolean start(String jobId, int requested);
+
+    void batchGenerated(String jobId, int orders);
+
+    void batchFailed(String jobId, int orders);
+
+    /** Marks the job completed, or failed when any of its batches failed. */
+    void finish(String jobId);
+
+    Optional<OrderGenerationStatus> find(String jobId);
+}
@@ -6,77 +6,142 @@
 
 package com.example.orderservice.services;
 
+import com.example.orderservice.config.ApplicationProperties;
 import com.example.orderservice.config.logging.Loggable;
 import com.example.orderservice.model.Address;
 import com.example.orderservice.model.request.OrderItemRequest;
 import com.example.orderservice.model.request.OrderRequest;
+import com.example.orderservice.model.response.OrderGenerationStatus;
+import com.example.orderservice.utils.LogSanitizer;
 import java.math.BigDecimal;
-import java.security.SecureRandom;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.IntStream;
-import org.springframework.scheduling.annotation.Async;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.stereotype.Service;
 
+/**
+ * Generates mock orders as a bounded pipeline on virtual threads. A driver thread per job cuts the
+ * requested orders into batches and hands each batch to its own virtual thread, but only after
+ * acquiring one of {@code application.order-generator.parallelism} permits, so at most that many
+ * batches hold a database connection at a time and the driver blocks instead of queueing work.
+ * Progress is kept in the {@link OrderGenerationJobStore}, so any replica can answer a status poll.
+ */
 @Service
 @Loggable
-public class OrderGeneratorService {
+public class OrderGeneratorService implements DisposableBean {
 
     public static final int MAX_GENERATION_BATCH_SIZE = 10_000;
     private static final int NUM_ORDERS = MAX_GENERATION_BATCH_SIZE;
-    private static final int BATCH_SIZE = 100;
-    private static final SecureRandom RAND = new SecureRandom();
 
-    private final Set<String> processedIdempotencyKeys = ConcurrentHashMap.newKeySet();
+    private static final Logger log = LoggerFactory.getLogger(OrderGeneratorService.class);
 
-    private final OrderService orderService;
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
 
-    public OrderGeneratorService(OrderService orderService) {
+    private final OrderService orderService;
+    private final OrderGenerationJobStore jobStore;
+    private final int parallelism;
+    private final int batchSize;
+
+    public OrderGeneratorService(
+            OrderService orderService,
+            OrderGenerationJobStore jobStore,
+            ApplicationProperties applicationProperties) {
         this.orderService = orderService;
+        this.jobStore = jobStore;
+        this.parallelism = applicationProperties.orderGenerator().getParallelism();
+        this.batchSize = applicationProperties.orderGenerator().getBatchSize();
     }
 
-    @Async
-    public void generateOrders(String idempotencyKey, Integer batchSize) {
+    /**
+     * Starts generating orders in the background, the idempotency key doubles as the job id.
+     * Calling again with a key that is already known returns that job instead of starting another
+     * one.
+     */
+    public OrderGenerationStatus generateOrders(String idempotencyKey, Integer batchSize) {
         validateBatchSize(batchSize);
-        if (!processedIdempotencyKeys.add(idempotencyKey)) {
-            return;
+        int requested = batchSize != null ? batchSize : NUM_ORDERS;
+        // the insert doubles as the claim, only one replica starts a job for a given key
+        if (jobStore.start(idempotencyKey, requested)) {
+            executorService.execute(() -> run(idempotencyKey, requested));
         }
+        return getJobStatus(idempotencyKey).orElseThrow();
+    }
 
-        int resolvedBatchSize = batchSize != null ? batchSize : NUM_ORDERS;
-
-        IntStream.range(0, resolvedBatchSize)
-                .boxed()
-                .collect(Collectors.groupingBy(i -> i / BATCH_SIZE))
-                .values()
-                .parallelStream()
-                .forEach(
-                        batch -> {
-                            List<OrderRequest> orderRequests =
-                                    batch.stream()
-                                            .map(
-                                                    value -> {
-                                                        List<OrderItemRequest> orderItems =
-                                                                generateOrderItems(idempotencyKey);
-                                                        long customerId =
-                                                                RAND.nextLong(100)
-                                                                        + 1; // Range 1-100
-                                                        return new OrderRequest(
-                                                                customerId,
-                                                                orderItems,
-                                                                new Address(
-                                                                        "Junit Address1"
-                                                                                + customerId,
-                                                                        "AddressLine2" + customerId,
-                                                                        "city" + customerId,
-                                                                        "state" + customerId,
-                                                                        "zipCode" + customerId,
-                                                                        "country" + customerId));
-                                                    })
-                                            .toList();
-                            orderService.saveBatchOrders(orderRequests);
+    public Optional<OrderGenerationStatus> getJobStatus(String jobId) {
+        return jobStore.find(jobId);
+    }
+
+    private void run(String idempotencyKey, int requested) {
+        Semaphore permits = new Semaphore(parallelism);
+        try (ExecutorService batchExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int offset = 0; offset < requested; offset += batchSize) {
+                int size = Math.min(batchSize, requested - offset);
+                // backpressure: wait for a running batch to finish before starting the next one
+                permits.acquire();
+                batchExecutor.execute(
+                        () -> {
+                            try {
+                                generateBatch(idempotencyKey, size);
+                            } finally {
+                                permits.release();
+                            }
                         });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn(
+                    "Order generation {} interrupted",
+                    LogSanitizer.sanitizeForLog(idempotencyKey));
+        } finally {
+            jobStore.finish(idempotencyKey);
+            jobStore.find(idempotencyKey)
+                    .ifPresent(
+                            status ->
+                                    log.info(
+                                            "Order generation {} finished as {}: {} orders at {}"
+                                                    + " orders/s",
+                                            LogSanitizer.sanitizeForLog(idempotencyKey),
+                                            status.state(),
+                                            status.generated(),
+                                            status.ordersPerSecond()));
+        }
+    }
+
+    private void generateBatch(String idempotencyKey, int size) {
+        try {
+            List<OrderRequest> orderRequests =
+                    IntStream.range(0, size).mapToObj(i -> generateOrder(idempotencyKey)).toList();
+            jobStore.batchGenerated(
+                    idempotencyKey, orderService.ingestOrders(orderRequests).size());
+        } catch (RuntimeException e) {
+            jobStore.batchFailed(idempotencyKey, size);
+            log.error(
+                    "Failed to generate a batch of {} orders for {}",
+                    size,
+                    LogSanitizer.sanitizeForLog(idempotencyKey),
+                    e);
+        }
+    }
+
+    private static OrderRequest generateOrder(String idempotencyKey) {
+        long customerId = ThreadLocalRandom.current().nextLong(1, 101); // Range 1-100
+        return new OrderRequest(
+                customerId,
+                generateOrderItems(idempotencyKey),
+                new Address(
+                        "Junit Address1" + customerId,
+                        "AddressLine2" + customerId,
+                        "city" + customerId,
+                        "state" + customerId,
+                        "zipCode" + customerId,
+                        "country" + customerId));
     }
 
     private static void validateBatchSize(Integer batchSize) {
@@ -86,10 +151,11 @@ public class OrderGeneratorService {
         }
     }
 
-    private List<OrderItemRequest> generateOrderItems(String idempotencyKey) {
-        int x = RAND.nextInt(5) + 1;
-        int orderItem1 = RAND.nextInt(100);
-        int orderItem2 = RAND.nextInt(100);
+    private static List<OrderItemRequest> generateOrderItems(String idempotencyKey) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int x = random.nextInt(5) + 1;
+        int orderItem1 = random.nextInt(100);
+        int orderItem2 = random.nextInt(100);
         if (orderItem1 == orderItem2) {
             orderItem2 = orderItem2 + 1;
         }
@@ -100,7 +166,7 @@ public class OrderGeneratorService {
                         x,
                         new BigDecimal(100 * x));
 
-        int y = RAND.nextInt(5) + 1;
+        int y = random.nextInt(5) + 1;
 
         OrderItemRequest orderItemRequest2 =
                 new OrderItemRequest(
@@ -110,4 +176,9 @@ public class OrderGeneratorService {
 
         return List.of(orderItemRequest, orderItemRequest2);
     }
+
+    @Override
+    public void destroy() {
+        executorService.shutdownNow();
+    }
 }
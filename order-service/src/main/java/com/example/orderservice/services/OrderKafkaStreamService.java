@@ -6,21 +6,23 @@
 
 package com.example.orderservice.services;
 
+import com.example.orderservice.config.kafka.QueryableStoreManager;
+import com.example.orderservice.config.kafka.StoreRestoreListener;
 import com.example.orderservice.config.logging.Loggable;
+import com.example.orderservice.mapper.OrderMapper;
 import com.example.orderservice.model.dtos.OrderDto;
+import com.example.orderservice.repositories.OrderRepository;
 import com.example.orderservice.utils.AppConstants;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
-import org.apache.kafka.streams.StoreQueryParameters;
-import org.apache.kafka.streams.errors.InvalidStateStoreException;
 import org.apache.kafka.streams.state.KeyValueIterator;
-import org.apache.kafka.streams.state.QueryableStoreTypes;
 import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -29,24 +31,61 @@ public class OrderKafkaStreamService {
 
     private final Logger log = LoggerFactory.getLogger(this.getClass());
 
-    private final StreamsBuilderFactoryBean kafkaStreamsFactory;
+    private final QueryableStoreManager<String, OrderDto> ordersStoreManager;
+    private final StoreRestoreListener storeRestoreListener;
+    private final OrderRepository orderRepository;
+    private final OrderMapper orderMapper;
+
+    public OrderKafkaStreamService(
+            QueryableStoreManager<String, OrderDto> ordersStoreManager,
+            StoreRestoreListener storeRestoreListener,
+            OrderRepository orderRepository,
+            OrderMapper orderMapper) {
+        this.ordersStoreManager = ordersStoreManager;
+        this.storeRestoreListener = storeRestoreListener;
+        this.orderRepository = orderRepository;
+        this.orderMapper = orderMapper;
+    }
 
-    private ReadOnlyKeyValueStore<String, OrderDto> store = null;
+    public List<OrderDto> getAllOrders(int pageNo, int pageSize) {
+        if (storeRestoreListener.isRestoring(AppConstants.ORDERS_STORE)) {
+            return getAllOrdersFromDatabase(pageNo, pageSize);
+        }
+        try {
+            return getAllOrdersFromStore(pageNo, pageSize);
+        } catch (IllegalStateException ex) {
+            log.warn("Orders store unavailable, serving page from database: {}", ex.getMessage());
+            return getAllOrdersFromDatabase(pageNo, pageSize);
+        }
+    }
 
-    public OrderKafkaStreamService(StreamsBuilderFactoryBean kafkaStreamsFactory) {
-        this.kafkaStreamsFactory = kafkaStreamsFactory;
+    public Optional<OrderDto> getOrderFromStoreById(String orderId) {
+        if (storeRestoreListener.isRestoring(AppConstants.ORDERS_STORE)) {
+            return getOrderFromDatabaseById(orderId);
+        }
+        log.info("Fetching order from Kafka Store with orderId :{}", orderId);
+        try {
+            return Optional.ofNullable(ordersStoreManager.query(store -> store.get(orderId)));
+        } catch (IllegalStateException ex) {
+            log.warn("Orders store unavailable, serving order from database: {}", ex.getMessage());
+            return getOrderFromDatabaseById(orderId);
+        }
     }
 
-    public List<OrderDto> getAllOrders(int pageNo, int pageSize) {
+    private List<OrderDto> getAllOrdersFromStore(int pageNo, int pageSize) {
         log.info(
                 "Fetching all orders from Kafka Store with pageNo :{} and pageSize : {}",
                 pageNo,
                 pageSize);
-        List<OrderDto> orders = new ArrayList<>();
-
         long startIndex = (long) pageNo * pageSize;
         long endIndex = startIndex + pageSize;
-        try (KeyValueIterator<String, OrderDto> it = getReadOnlyKeyValueStore().all()) {
+        return ordersStoreManager.query(store -> readPage(store, startIndex, endIndex));
+    }
+
+    private List<OrderDto> readPage(
+            ReadOnlyKeyValueStore<String, OrderDto> store, long startIndex, long endIndex) {
+        List<OrderDto> orders = new ArrayList<>();
+        try (KeyValueIterator<String, OrderDto> it = store.all()) {
             long currentIndex = 0;
 
             log.info("Store iteration - startIndex: {}, endIndex: {}", startIndex, endIndex);
@@ -72,24 +111,28 @@ public class OrderKafkaStreamService {
         return orders;
     }
 
-    public Optional<OrderDto> getOrderFromStoreById(String orderId) {
-        log.info("Fetching order from Kafka Store with orderId :{}", orderId);
-        return Optional.ofNullable(getReadOnlyKeyValueStore().get(orderId));
+    // Local store is still being rebuilt from its changelog, the database holds the same state
+    private List<OrderDto> getAllOrdersFromDatabase(int pageNo, int pageSize) {
+        log.info(
+                "Fetching all orders from database with pageNo :{} and pageSize : {}",
+                pageNo,
+                pageSize);
+        Page<Long> page =
+                orderRepository.findAllOrders(PageRequest.of(pageNo, pageSize, Sort.by("id")));
+        return orderRepository.findByIdIn(page.getContent()).stream()
+                .map(orderMapper::toDto)
+                .toList();
     }
 
-    private ReadOnlyKeyValueStore<String, OrderDto> getReadOnlyKeyValueStore() {
-        if (store == null) {
-            try {
-                store =
-                        Objects.requireNonNull(kafkaStreamsFactory.getKafkaStreams())
-                                .store(
-                                        StoreQueryParameters.fromNameAndType(
-                                                AppConstants.ORDERS_STORE,
-                                                QueryableStoreTypes.keyValueStore()));
-            } catch (InvalidStateStoreException ex) {
-                throw new IllegalStateException("Orders store not ready", ex);
-            }
+    private Optional<OrderDto> getOrderFromDatabaseById(String orderId) {
+        log.info("Fetching order from database with orderId :{}", orderId);
+        long id;
+        try {
+            id = Long.parseLong(orderId);
+        } catch (NumberFormatException ex) {
+            // the store takes any key, an id that is not a number names no order in the database
+            return Optional.empty();
         }
-        return store;
+        return orderRepository.findOrderById(id).map(orderMapper::toDto);
     }
 }
@@ -11,9 +11,14 @@ import com.example.orderservice.entities.OrderStatus;
 import com.example.orderservice.model.dtos.OrderDto;
 import com.example.orderservice.repositories.OrderRepository;
 import com.example.orderservice.utils.AppConstants;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Loggable
@@ -27,20 +32,60 @@ public class OrderManageService {
         this.orderRepository = orderRepository;
     }
 
+    /**
+     * Resolves the final order state from the payment and stock outcomes. Invoked as the {@code
+     * ValueJoiner} of the Kafka Streams join, so it must stay free of I/O; the resolved status is
+     * persisted by {@link #updateOrderStatuses(List)} once it is read back from the orders topic.
+     */
     public OrderDto confirm(OrderDto orderPayment, OrderDto orderStock) {
-        log.info("Setting Status for order :{}", orderPayment);
         OrderDto orderDto = getOrderDto(orderPayment, orderStock);
+        log.info("Resolved Status as {} for orderId :{}", orderDto.status(), orderDto.orderId());
+        return orderDto;
+    }
+
+    /**
+     * Persists the status and source of a batch of resolved orders using one JDBC batch update.
+     * Events still in {@code NEW} status are order-created externalizations and are skipped, and
+     * only the latest event per order within the batch is applied.
+     */
+    @Transactional
+    public int updateOrderStatuses(List<OrderDto> orders) {
+        Map<Long, OrderDto> latestByOrderId = LinkedHashMap.newLinkedHashMap(orders.size());
+        for (OrderDto orderDto : orders) {
+            if (isResolvedStatus(orderDto)) {
+                latestByOrderId.put(orderDto.orderId(), orderDto);
+            }
+        }
+        if (latestByOrderId.isEmpty()) {
+            return 0;
+        }
         int rows =
-                this.orderRepository.updateOrderStatusAndSourceById(
-                        orderDto.orderId(),
-                        OrderStatus.valueOf(orderDto.status()),
-                        orderDto.source());
+                this.orderRepository.updateOrderStatusAndSourceInBatch(
+                        new ArrayList<>(latestByOrderId.values()));
         log.info(
-                "Updated Status as {} for orderId :{} in {} rows",
-                orderDto.status(),
-                orderDto.orderId(),
+                "Updated Status for {} orders out of {} events in {} rows",
+                latestByOrderId.size(),
+                orders.size(),
                 rows);
-        return orderDto;
+        return rows;
+    }
+
+    private boolean isResolvedStatus(OrderDto orderDto) {
+        if (orderDto.orderId() == null
+                || orderDto.status() == null
+                || OrderStatus.NEW.name().equals(orderDto.status())) {
+            return false;
+        }
+        try {
+            OrderStatus.valueOf(orderDto.status());
+            return true;
+        } catch (IllegalArgumentException e) {
+            log.warn(
+                    "Skipping unknown status {} for orderId :{}",
+                    orderDto.status(),
+                    orderDto.orderId());
+            return false;
+        }
     }
 
     private OrderDto getOrderDto(OrderDto orderPayment, OrderDto orderStock) {
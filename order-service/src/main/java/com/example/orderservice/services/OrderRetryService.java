@@ -0,0 +1,157 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.services;
+
+import com.example.orderservice.config.ApplicationProperties;
+import com.example.orderservice.config.logging.Loggable;
+import com.example.orderservice.entities.Order;
+import com.example.orderservice.entities.OrderStatus;
+import com.example.orderservice.mapper.OrderMapper;
+import com.example.orderservice.repositories.OrderRepository;
+import com.example.orderservice.repositories.OrderRetryCandidate;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.jobrunr.jobs.annotations.Job;
+import org.jobrunr.jobs.context.JobContext;
+import org.jobrunr.jobs.context.JobDashboardProgressBar;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Re-publishes orders that have been stuck in {@code NEW} for longer than {@code
+ * application.order-retry.stale-after}, typically because the broker or a downstream service was
+ * unavailable when they were placed. The backlog is walked in keyset-ordered chunks on
+ * (lastModifiedDate, id), each chunk in its own transaction and behind the {@value
+ * #RATE_LIMITER_NAME} rate limiter, so a large backlog after an outage is neither loaded into the
+ * heap at once nor re-published inside one long transaction.
+ */
+@Service
+@Loggable
+public class OrderRetryService {
+
+    static final String RATE_LIMITER_NAME = "retry-new-orders";
+
+    private static final Logger log = LoggerFactory.getLogger(OrderRetryService.class);
+
+    // keyset position before the first chunk, older than any order could be
+    private static final LocalDateTime SWEEP_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final OrderRepository orderRepository;
+    private final OrderMapper orderMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final RateLimiter rateLimiter;
+    private final Counter chunkCounter;
+    private final Counter republishedCounter;
+    private final Duration staleAfter;
+    private final int chunkSize;
+
+    public OrderRetryService(
+            OrderRepository orderRepository,
+            OrderMapper orderMapper,
+            ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            RateLimiterRegistry rateLimiterRegistry,
+            MeterRegistry meterRegistry,
+            ApplicationProperties applicationProperties) {
+        this.orderRepository = orderRepository;
+        this.orderMapper = orderMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.rateLimiter = rateLimiterRegistry.rateLimiter(RATE_LIMITER_NAME);
+        this.chunkCounter =
+                Counter.builder("orders.retry.chunks")
+                        .description("Chunks of stuck NEW orders processed by the retry sweep")
+                        .register(meterRegistry);
+        this.republishedCounter =
+                Counter.builder("orders.retry.republished")
+                        .description("Stuck NEW orders re-published by the retry sweep")
+                        .register(meterRegistry);
+        this.staleAfter = applicationProperties.orderRetry().getStaleAfter();
+        this.chunkSize = applicationProperties.orderRetry().getChunkSize();
+    }
+
+    @Job(name = "reProcessNewOrders", retries = 2)
+    public void retryNewOrders(JobContext jobContext) {
+        LocalDateTime staleBefore = LocalDateTime.now().minus(staleAfter);
+        long backlog =
+                orderRepository.countByStatusAndLastModifiedDateLessThan(
+                        OrderStatus.NEW, staleBefore);
+        if (backlog == 0) {
+            return;
+        }
+        JobDashboardProgressBar progressBar = jobContext.progressBar(backlog);
+
+        LocalDateTime afterDate = SWEEP_START;
+        long afterId = 0;
+        long processed = 0;
+        long republished = 0;
+        List<OrderRetryCandidate> chunk;
+        do {
+            chunk =
+                    orderRepository.findRetryCandidates(
+                            OrderStatus.NEW, staleBefore, afterDate, afterId, Limit.of(chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            // throttle chunks so a large backlog does not flood the broker and downstream services
+            RateLimiter.waitForPermission(rateLimiter);
+            List<Long> orderIds = chunk.stream().map(OrderRetryCandidate::id).toList();
+            int republishedInChunk =
+                    Objects.requireNonNull(
+                            transactionTemplate.execute(status -> retryChunk(orderIds)));
+
+            OrderRetryCandidate last = chunk.getLast();
+            afterDate = last.lastModifiedDate();
+            afterId = last.id();
+            processed += chunk.size();
+            republished += republishedInChunk;
+            chunkCounter.increment();
+            republishedCounter.increment(republishedInChunk);
+            progressBar.setProgress(Math.min(processed, backlog));
+        } while (chunk.size() == chunkSize);
+
+        log.info(
+                "Retry sweep re-published {} of {} stuck orders older than {}",
+                republished,
+                processed,
+                staleBefore);
+    }
+
+    private int retryChunk(List<Long> orderIds) {
+        List<Long> republishedIds = new ArrayList<>(orderIds.size());
+        for (Order order : orderRepository.findByIdIn(orderIds)) {
+            // the order may have moved on since the chunk was selected
+            if (order.getStatus() != OrderStatus.NEW) {
+                continue;
+            }
+            try {
+                eventPublisher.publishEvent(orderMapper.toDto(order));
+                republishedIds.add(order.getId());
+            } catch (RuntimeException e) {
+                log.error("Failed to retry publishing order :{}", order.getId(), e);
+            }
+        }
+        if (!republishedIds.isEmpty()) {
+            // move re-published orders out of the stale window so the next run skips them
+            orderRepository.updateLastModifiedDate(republishedIds, LocalDateTime.now());
+        }
+        log.debug("Re-published {} of {} orders in chunk", republishedIds.size(), orderIds.size());
+        return republishedIds.size();
+    }
+}
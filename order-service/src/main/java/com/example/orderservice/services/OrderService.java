@@ -7,27 +7,29 @@
 package com.example.orderservice.services;
 
 import com.example.orderservice.config.logging.Loggable;
+import com.example.orderservice.entities.CustomerOrderSummary;
 import com.example.orderservice.entities.Order;
-import com.example.orderservice.entities.OrderStatus;
 import com.example.orderservice.exception.ProductNotFoundException;
 import com.example.orderservice.mapper.OrderMapper;
 import com.example.orderservice.model.dtos.OrderDto;
 import com.example.orderservice.model.request.OrderItemRequest;
 import com.example.orderservice.model.request.OrderRequest;
+import com.example.orderservice.model.response.CursorPagedResult;
+import com.example.orderservice.model.response.CustomerOrderSummaryResponse;
 import com.example.orderservice.model.response.OrderResponse;
 import com.example.orderservice.model.response.PagedResult;
+import com.example.orderservice.repositories.CustomerOrderSummaryRepository;
 import com.example.orderservice.repositories.OrderRepository;
 import com.example.orderservice.utils.LogSanitizer;
 import io.micrometer.observation.annotation.Observed;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.IntStream;
-import org.jobrunr.jobs.annotations.Job;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -46,16 +48,19 @@ public class OrderService {
     private static final Logger log = LoggerFactory.getLogger(OrderService.class);
 
     private final OrderRepository orderRepository;
+    private final CustomerOrderSummaryRepository customerOrderSummaryRepository;
     private final OrderMapper orderMapper;
     private final CatalogService catalogService;
     private final ApplicationEventPublisher eventPublisher;
 
     public OrderService(
             OrderRepository orderRepository,
+            CustomerOrderSummaryRepository customerOrderSummaryRepository,
             OrderMapper orderMapper,
             CatalogService catalogService,
             ApplicationEventPublisher eventPublisher) {
         this.orderRepository = orderRepository;
+        this.customerOrderSummaryRepository = customerOrderSummaryRepository;
         this.orderMapper = orderMapper;
         this.catalogService = catalogService;
         this.eventPublisher = eventPublisher;
@@ -96,6 +101,7 @@ public class OrderService {
                     LogSanitizer.sanitizeCollection(productCodes));
             Order orderEntity = this.orderMapper.orderRequestToEntity(orderRequest);
             Order savedOrder = this.orderRepository.save(orderEntity);
+            this.customerOrderSummaryRepository.save(CustomerOrderSummary.of(savedOrder));
             OrderDto persistedOrderDto = this.orderMapper.toDto(savedOrder);
             // Should send persistedOrderDto as it contains OrderId used for subsequent processing
             eventPublisher.publishEvent(persistedOrderDto);
@@ -111,30 +117,9 @@ public class OrderService {
     @Transactional
     public List<OrderResponse> saveBatchOrders(List<OrderRequest> orderRequests) {
         // Collect all product codes to validate
-        List<String> allProductCodes =
-                orderRequests.stream()
-                        .flatMap(order -> order.items().stream())
-                        .map(OrderItemRequest::productCode)
-                        .map(String::toUpperCase)
-                        .distinct()
-                        .toList();
-        // TODO once Catalog-service migrates to QUERY HttpMethod we should change below
-        // implementation to validate all product codes in a single call instead of batch processing
-        boolean allProductsExist =
-                IntStream.iterate(
-                                0,
-                                index -> index < allProductCodes.size(),
-                                index -> index + PRODUCT_VALIDATION_BATCH_SIZE)
-                        .mapToObj(
-                                start ->
-                                        allProductCodes.subList(
-                                                start,
-                                                Math.min(
-                                                        start + PRODUCT_VALIDATION_BATCH_SIZE,
-                                                        allProductCodes.size())))
-                        .allMatch(productBatch -> productsExistsAndInStock(productBatch).exists());
-
-        if (allProductsExist) {
+        List<String> allProductCodes = distinctProductCodes(orderRequests);
+
+        if (allProductsExist(allProductCodes)) {
             log.debug(
                     "All ProductCodes exist in db, proceeding with batch save: {}",
                     LogSanitizer.sanitizeCollection(allProductCodes));
@@ -142,6 +127,8 @@ public class OrderService {
                     orderRequests.stream().map(this.orderMapper::orderRequestToEntity).toList();
 
             List<Order> savedOrders = this.orderRepository.saveAll(orderEntities);
+            this.customerOrderSummaryRepository.saveAll(
+                    savedOrders.stream().map(CustomerOrderSummary::of).toList());
 
             // Publish an OrderCreatedEvent per saved order; Kafka dispatch happens in
             // OrderEventPublisher
@@ -160,6 +147,57 @@ public class OrderService {
         }
     }
 
+    /**
+     * High throughput variant of {@link #saveBatchOrders(List)} for bulk intake. Orders, items and
+     * their customer summaries are written with one multi-row insert per table instead of going
+     * through the persistence context, and no response bodies are built. The order created events
+     * still go through the Modulith event publication registry so they are externalized right
+     * after commit.
+     *
+     * @return ids of the ingested orders, in request order
+     */
+    @Transactional
+    public List<Long> ingestOrders(List<OrderRequest> orderRequests) {
+        List<String> allProductCodes = distinctProductCodes(orderRequests);
+        if (!allProductsExist(allProductCodes)) {
+            log.debug(
+                    "One or more product codes do not exist in db: {}",
+                    LogSanitizer.sanitizeCollection(allProductCodes));
+            throw new ProductNotFoundException(allProductCodes);
+        }
+        List<Order> orderEntities =
+                orderRequests.stream().map(this.orderMapper::orderRequestToEntity).toList();
+        List<Order> orders = this.orderRepository.bulkInsert(orderEntities);
+        orders.forEach(order -> eventPublisher.publishEvent(orderMapper.toDto(order)));
+        return orders.stream().map(Order::getId).toList();
+    }
+
+    private static List<String> distinctProductCodes(List<OrderRequest> orderRequests) {
+        return orderRequests.stream()
+                .flatMap(order -> order.items().stream())
+                .map(OrderItemRequest::productCode)
+                .map(String::toUpperCase)
+                .distinct()
+                .toList();
+    }
+
+    private boolean allProductsExist(List<String> allProductCodes) {
+        // TODO once Catalog-service migrates to QUERY HttpMethod we should change below
+        // implementation to validate all product codes in a single call instead of batch processing
+        return IntStream.iterate(
+                        0,
+                        index -> index < allProductCodes.size(),
+                        index -> index + PRODUCT_VALIDATION_BATCH_SIZE)
+                .mapToObj(
+                        start ->
+                                allProductCodes.subList(
+                                        start,
+                                        Math.min(
+                                                start + PRODUCT_VALIDATION_BATCH_SIZE,
+                                                allProductCodes.size())))
+                .allMatch(productBatch -> productsExistsAndInStock(productBatch).exists());
+    }
+
     private CatalogServiceProxy.ProductExistsResponse productsExistsAndInStock(
             List<String> productIds) {
         return catalogService.productsExistsByCodes(productIds);
@@ -168,12 +206,20 @@ public class OrderService {
     @Transactional
     public void deleteOrderById(Long id) {
         orderRepository.deleteById(id);
+        customerOrderSummaryRepository.deleteById(id);
     }
 
     @Transactional
     public OrderResponse updateOrder(OrderRequest orderRequest, Order orderObj) {
         this.orderMapper.updateOrderFromOrderRequest(orderRequest, orderObj);
         Order persistedOrder = this.orderRepository.save(orderObj);
+        this.customerOrderSummaryRepository
+                .findById(persistedOrder.getId())
+                .ifPresentOrElse(
+                        summary -> summary.refresh(persistedOrder),
+                        () ->
+                                this.customerOrderSummaryRepository.save(
+                                        CustomerOrderSummary.of(persistedOrder)));
         return this.orderMapper.toResponse(persistedOrder);
     }
 
@@ -195,6 +241,31 @@ public class OrderService {
         return getOrderResponsePagedResult(page);
     }
 
+    /**
+     * Serves a customer's order history, newest first, straight from the customer order summaries
+     * projection. Each page costs a single indexed query regardless of how many items the orders
+     * hold; one extra row is read to know whether another page follows.
+     */
+    public CursorPagedResult<CustomerOrderSummaryResponse> getOrderSummariesByCustomerId(
+            Long customerId, Long cursor, int size) {
+        Limit limit = Limit.of(size + 1);
+        List<CustomerOrderSummary> summaries =
+                cursor == null
+                        ? customerOrderSummaryRepository.findByCustomerIdOrderByOrderIdDesc(
+                                customerId, limit)
+                        : customerOrderSummaryRepository
+                                .findByCustomerIdAndOrderIdLessThanOrderByOrderIdDesc(
+                                        customerId, cursor, limit);
+        boolean hasNext = summaries.size() > size;
+        List<CustomerOrderSummaryResponse> content =
+                summaries.stream()
+                        .limit(size)
+                        .map(this.orderMapper::toSummaryResponse)
+                        .toList();
+        Long nextCursor = hasNext ? content.getLast().orderId() : null;
+        return new CursorPagedResult<>(content, nextCursor, hasNext);
+    }
+
     private PagedResult<OrderResponse> getOrderResponsePagedResult(Page<Long> page) {
         // fetching parent along With ChildEntries
         List<Order> ordersWithOrderItems = orderRepository.findByIdIn(page.getContent());
@@ -219,29 +290,4 @@ public class OrderService {
                 page.hasNext(),
                 page.hasPrevious());
     }
-
-    @Job(name = "reProcessNewOrders", retries = 2)
-    @Transactional
-    public void retryNewOrders() {
-        // fetch all orders where Status is New in Order
-        List<Order> byStatusOrderByIdAsc =
-                orderRepository.findByStatusAndLastModifiedDateLessThanOrderByIdAsc(
-                        OrderStatus.NEW, LocalDateTime.now().minusMinutes(5));
-        byStatusOrderByIdAsc.forEach(
-                order -> {
-                    try {
-                        OrderDto persistedOrderDto = this.orderMapper.toDto(order);
-                        log.info(
-                                "Retrying Order :{}",
-                                LogSanitizer.sanitizeForLog(String.valueOf(persistedOrderDto)));
-                        eventPublisher.publishEvent(persistedOrderDto);
-
-                        // Update lastModifiedDate to prevent immediate repolling and endless spam
-                        order.setLastModifiedDate(LocalDateTime.now());
-                        orderRepository.save(order);
-                    } catch (Exception e) {
-                        log.error("Failed to retry publishing order :{}", order.getId(), e);
-                    }
-                });
-    }
 }
@@ -19,6 +19,7 @@ public final class AppConstants {
     public static final String ROLLBACK = "ROLLBACK";
     public static final String DEFAULT_PAGE_NUMBER = "0";
     public static final String DEFAULT_PAGE_SIZE = "10";
+    public static final int MAX_PAGE_SIZE = 100;
     public static final String DEFAULT_SORT_BY = "id";
     public static final String DEFAULT_SORT_DIRECTION = "asc";
 }
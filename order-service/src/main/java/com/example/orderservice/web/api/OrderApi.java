@@ -7,6 +7,8 @@
 package com.example.orderservice.web.api;
 
 import com.example.orderservice.model.dtos.OrderDto;
+import com.example.orderservice.model.response.CursorPagedResult;
+import com.example.orderservice.model.response.CustomerOrderSummaryResponse;
 import com.example.orderservice.model.response.OrderResponse;
 import com.example.orderservice.model.response.PagedResult;
 import com.example.orderservice.utils.AppConstants;
@@ -85,4 +87,34 @@ public interface OrderApi {
     ResponseEntity<PagedResult<OrderResponse>> ordersByCustomerId(
             @Parameter(name = "id", in = ParameterIn.PATH) Long id,
             @Parameter(hidden = true) Pageable pageable);
+
+    @Operation(
+            summary = "fetches order summaries for a customer, newest first, using cursor paging",
+            tags = {"order-controller"},
+            responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Success",
+                        content = {
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = CursorPagedResult.class))
+                        }),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Bad Request",
+                        content = {
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ProblemDetail.class))
+                        })
+            })
+    CursorPagedResult<CustomerOrderSummaryResponse> orderSummariesByCustomerId(
+            @Parameter(name = "id", in = ParameterIn.PATH) Long id,
+            @Parameter(name = "cursor", in = ParameterIn.QUERY) Long cursor,
+            @Parameter(
+                            name = "size",
+                            example = AppConstants.DEFAULT_PAGE_SIZE,
+                            in = ParameterIn.QUERY)
+                    int size);
 }
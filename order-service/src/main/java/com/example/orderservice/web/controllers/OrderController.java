@@ -10,8 +10,13 @@ import com.example.orderservice.config.logging.Loggable;
 import com.example.orderservice.exception.OrderNotFoundException;
 import com.example.orderservice.model.dtos.OrderDto;
 import com.example.orderservice.model.request.OrderRequest;
+import com.example.orderservice.model.response.BulkOrderResponse;
+import com.example.orderservice.model.response.CursorPagedResult;
+import com.example.orderservice.model.response.CustomerOrderSummaryResponse;
+import com.example.orderservice.model.response.OrderGenerationStatus;
 import com.example.orderservice.model.response.OrderResponse;
 import com.example.orderservice.model.response.PagedResult;
+import com.example.orderservice.services.OrderBulkIngestService;
 import com.example.orderservice.services.OrderGeneratorService;
 import com.example.orderservice.services.OrderKafkaStreamService;
 import com.example.orderservice.services.OrderService;
@@ -24,6 +29,7 @@ import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -44,6 +50,7 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
 
 @RestController
 @RequestMapping("/api/orders")
@@ -55,14 +62,17 @@ class OrderController implements OrderApi {
     private final OrderService orderService;
     private final OrderGeneratorService orderGeneratorService;
     private final OrderKafkaStreamService orderKafkaStreamService;
+    private final OrderBulkIngestService orderBulkIngestService;
 
     OrderController(
             OrderService orderService,
             OrderGeneratorService orderGeneratorService,
-            OrderKafkaStreamService orderKafkaStreamService) {
+            OrderKafkaStreamService orderKafkaStreamService,
+            OrderBulkIngestService orderBulkIngestService) {
         this.orderService = orderService;
         this.orderGeneratorService = orderGeneratorService;
         this.orderKafkaStreamService = orderKafkaStreamService;
+        this.orderBulkIngestService = orderBulkIngestService;
     }
 
     @GetMapping
@@ -115,6 +125,12 @@ class OrderController implements OrderApi {
                 .body(orderResponse);
     }
 
+    // one order per line, consumed as a stream so large feeds never sit in memory
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<BulkOrderResponse> createOrdersInBulk(InputStream orders) {
+        return ResponseEntity.ok(orderBulkIngestService.ingest(orders));
+    }
+
     @PutMapping("/{id}")
     ResponseEntity<OrderResponse> updateOrder(
             @PathVariable Long id, @RequestBody @Valid OrderRequest orderRequest) {
@@ -139,14 +155,29 @@ class OrderController implements OrderApi {
     }
 
     @PostMapping("/generate")
-    GenericResponse createMockOrders(
+    ResponseEntity<OrderGenerationStatus> createMockOrders(
             @RequestHeader(name = "Idempotency-Key", required = true) String idempotencyKey,
             @RequestParam(required = false)
                     @Min(1)
                     @Max(OrderGeneratorService.MAX_GENERATION_BATCH_SIZE)
                     Integer batchSize) {
-        orderGeneratorService.generateOrders(idempotencyKey, batchSize);
-        return new GenericResponse(true);
+        OrderGenerationStatus generationStatus =
+                orderGeneratorService.generateOrders(idempotencyKey, batchSize);
+        return ResponseEntity.accepted()
+                .location(
+                        UriComponentsBuilder.fromPath("/api/orders/generate/{jobId}")
+                                .buildAndExpand(generationStatus.jobId())
+                                .encode()
+                                .toUri())
+                .body(generationStatus);
+    }
+
+    @GetMapping("/generate/{jobId}")
+    ResponseEntity<OrderGenerationStatus> getGenerationStatus(@PathVariable String jobId) {
+        return orderGeneratorService
+                .getJobStatus(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @GetMapping("/store")
@@ -164,7 +195,7 @@ class OrderController implements OrderApi {
         return orderKafkaStreamService
                 .getOrderFromStoreById(id)
                 .map(ResponseEntity::ok)
-                .orElseThrow(() -> new OrderNotFoundException(Long.valueOf(id)));
+                .orElseThrow(() -> new OrderNotFoundException(id));
     }
 
     @GetMapping("/customer/{id}")
@@ -174,5 +205,15 @@ class OrderController implements OrderApi {
         return ResponseEntity.ok(orderService.getOrdersByCustomerId(id, pageable));
     }
 
-    private record GenericResponse(boolean success) {}
+    @GetMapping("/customer/{id}/summaries")
+    @Override
+    public CursorPagedResult<CustomerOrderSummaryResponse> orderSummariesByCustomerId(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = AppConstants.DEFAULT_PAGE_SIZE, required = false)
+                    @Min(1)
+                    @Max(AppConstants.MAX_PAGE_SIZE)
+                    int size) {
+        return orderService.getOrderSummariesByCustomerId(id, cursor, size);
+    }
 }
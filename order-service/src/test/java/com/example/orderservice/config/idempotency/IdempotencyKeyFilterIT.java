@@ -0,0 +1,192 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.config.idempotency;
+
+import static com.example.orderservice.config.idempotency.IdempotencyKeyFilter.CALLER_HEADER;
+import static com.example.orderservice.config.idempotency.IdempotencyKeyFilter.IDEMPOTENCY_KEY_HEADER;
+import static com.example.orderservice.config.idempotency.IdempotencyKeyFilter.REPLAYED_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.orderservice.common.AbstractIntegrationTest;
+import com.example.orderservice.model.Address;
+import com.example.orderservice.model.request.OrderItemRequest;
+import com.example.orderservice.model.request.OrderRequest;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+class IdempotencyKeyFilterIT extends AbstractIntegrationTest {
+
+    @Autowired private IdempotencyKeyStore idempotencyKeyStore;
+
+    private String idempotencyKey;
+    private String orderRequestJson;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyKey = UUID.randomUUID().toString();
+        orderRequestJson = orderRequestJson(2);
+    }
+
+    @Test
+    void shouldReplayCompletedResponseForRetriedRequest() throws Exception {
+        mockProductsExistsRequest(true, "PRODUCT11");
+        long ordersBefore = orderRepository.count();
+
+        MvcResult first =
+                mockMvc.perform(createOrder(idempotencyKey))
+                        .andExpect(status().isCreated())
+                        .andExpect(header().doesNotExist(REPLAYED_HEADER))
+                        .andReturn();
+
+        mockMvc.perform(createOrder(idempotencyKey))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(REPLAYED_HEADER, "true"))
+                .andExpect(
+                        header().string(
+                                        HttpHeaders.LOCATION,
+                                        first.getResponse().getHeader(HttpHeaders.LOCATION)))
+                .andExpect(
+                        result ->
+                                assertThat(result.getResponse().getContentAsString())
+                                        .isEqualTo(first.getResponse().getContentAsString()));
+
+        assertThat(orderRepository.count()).isEqualTo(ordersBefore + 1);
+        assertThat(
+                        jdbcTemplate.queryForObject(
+                                """
+                                SELECT state FROM idempotency_keys
+                                 WHERE caller = '' AND idempotency_key = ?
+                                """,
+                                String.class,
+                                idempotencyKey))
+                .isEqualTo("COMPLETED");
+    }
+
+    @Test
+    void shouldRejectKeyReusedForDifferentRequest() throws Exception {
+        mockProductsExistsRequest(true, "PRODUCT11");
+        mockMvc.perform(createOrder(idempotencyKey)).andExpect(status().isCreated());
+
+        mockMvc.perform(
+                        post("/api/orders/generate?batchSize=1")
+                                .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey))
+                .andExpect(status().isUnprocessableContent())
+                .andExpect(
+                        header().string(
+                                        HttpHeaders.CONTENT_TYPE,
+                                        is(MediaType.APPLICATION_PROBLEM_JSON_VALUE)))
+                .andExpect(jsonPath("$.detail", containsString("different request")));
+    }
+
+    @Test
+    void shouldRejectKeyReusedForDifferentBody() throws Exception {
+        mockProductsExistsRequest(true, "PRODUCT11");
+        mockMvc.perform(createOrder(idempotencyKey)).andExpect(status().isCreated());
+
+        mockMvc.perform(
+                        post("/api/orders")
+                                .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(orderRequestJson(3)))
+                .andExpect(status().isUnprocessableContent())
+                .andExpect(jsonPath("$.detail", containsString("different request")));
+    }
+
+    @Test
+    void shouldNotReplayResponseOfAnotherCaller() throws Exception {
+        mockProductsExistsRequest(true, "PRODUCT11");
+        long ordersBefore = orderRepository.count();
+        mockMvc.perform(createOrder(idempotencyKey).header(CALLER_HEADER, "customer-1"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(createOrder(idempotencyKey).header(CALLER_HEADER, "customer-2"))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(REPLAYED_HEADER));
+
+        assertThat(orderRepository.count()).isEqualTo(ordersBefore + 2);
+    }
+
+    @Test
+    void shouldRejectRetryWhileOriginalRequestIsInProgress() throws Exception {
+        // another replica has claimed the key and not finished yet
+        assertThat(
+                        idempotencyKeyStore.tryAcquire(
+                                new ScopedIdempotencyKey("", idempotencyKey), "POST /api/orders"))
+                .isTrue();
+
+        mockMvc.perform(createOrder(idempotencyKey))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.detail", containsString("still being processed")));
+    }
+
+    @Test
+    void shouldReleaseKeyWhenRequestFails() throws Exception {
+        mockProductsExistsRequest(false, "PRODUCT11");
+        mockMvc.perform(createOrder(idempotencyKey)).andExpect(status().isNotFound());
+
+        mockProductsExistsRequest(true, "PRODUCT11");
+        mockMvc.perform(createOrder(idempotencyKey))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(REPLAYED_HEADER));
+    }
+
+    @Test
+    void shouldNotBufferStreamedBulkRequests() throws Exception {
+        mockProductsExistsRequest(true, "PRODUCT11");
+
+        mockMvc.perform(
+                        post("/api/orders/bulk")
+                                .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                                .content(orderRequestJson + "\n"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(REPLAYED_HEADER))
+                .andExpect(jsonPath("$.accepted", is(1)));
+
+        assertThat(
+                        jdbcTemplate.queryForObject(
+                                "SELECT count(*) FROM idempotency_keys WHERE idempotency_key = ?",
+                                Long.class,
+                                idempotencyKey))
+                .isZero();
+    }
+
+    private String orderRequestJson(int quantity) {
+        return jsonMapper.writeValueAsString(
+                new OrderRequest(
+                        11L,
+                        List.of(new OrderItemRequest("Product11", quantity, BigDecimal.TEN)),
+                        new Address(
+                                "Junit Address1",
+                                "AddressLine2",
+                                "city",
+                                "state",
+                                "zipCode",
+                                "country")));
+    }
+
+    private MockHttpServletRequestBuilder createOrder(String key) {
+        return post("/api/orders")
+                .header(IDEMPOTENCY_KEY_HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(orderRequestJson);
+    }
+}
@@ -0,0 +1,52 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.config.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.Options;
+
+class BoundedMemoryRocksDBConfigTest {
+
+    @Test
+    void setConfig_SharesBoundedCacheAcrossStores() {
+        Map<String, Object> configs =
+                Map.of(
+                        BoundedMemoryRocksDBConfig.MAX_TOTAL_MEMORY_BYTES_CONFIG, "16777216",
+                        BoundedMemoryRocksDBConfig.COMPACTION_STYLE_CONFIG, "universal",
+                        BoundedMemoryRocksDBConfig.MAX_WRITE_BUFFER_NUMBER_CONFIG, "2");
+        BoundedMemoryRocksDBConfig first = new BoundedMemoryRocksDBConfig();
+        BoundedMemoryRocksDBConfig second = new BoundedMemoryRocksDBConfig();
+
+        try (Options firstOptions = newOptions();
+                Options secondOptions = newOptions()) {
+            first.setConfig("orders-store", firstOptions, configs);
+            var cache = BoundedMemoryRocksDBConfig.sharedCache();
+            second.setConfig("other-store", secondOptions, configs);
+
+            assertThat(cache).isNotNull().isSameAs(BoundedMemoryRocksDBConfig.sharedCache());
+            assertThat(BoundedMemoryRocksDBConfig.totalOffHeapBytes())
+                    .isPositive()
+                    .isLessThanOrEqualTo(16_777_216L);
+            assertThat(firstOptions.compactionStyle()).isEqualTo(CompactionStyle.UNIVERSAL);
+            assertThat(firstOptions.maxWriteBufferNumber()).isEqualTo(2);
+
+            first.close("orders-store", firstOptions);
+            second.close("other-store", secondOptions);
+        }
+    }
+
+    private static Options newOptions() {
+        Options options = new Options();
+        options.setTableFormatConfig(new BlockBasedTableConfig());
+        return options;
+    }
+}
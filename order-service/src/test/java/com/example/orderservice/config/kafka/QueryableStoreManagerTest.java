@@ -0,0 +1,74 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.config.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class QueryableStoreManagerTest {
+
+    private final KafkaStreams kafkaStreams = mock(KafkaStreams.class);
+
+    @SuppressWarnings("unchecked")
+    private final ReadOnlyKeyValueStore<String, String> store = mock(ReadOnlyKeyValueStore.class);
+
+    private QueryableStoreManager<String, String> storeManager;
+
+    @BeforeEach
+    void setUp() {
+        storeManager = new QueryableStoreManager<>("test-store", 3, Duration.ofMillis(1));
+        storeManager.streamsAdded("defaultKafkaStreamsBuilder", kafkaStreams);
+    }
+
+    @Test
+    void query_ReusesHandleOpenedOnRunning() {
+        given(kafkaStreams.state()).willReturn(KafkaStreams.State.RUNNING);
+        given(kafkaStreams.<ReadOnlyKeyValueStore<String, String>>store(any())).willReturn(store);
+        given(store.get("key")).willReturn("value");
+
+        storeManager.onChange(KafkaStreams.State.RUNNING, KafkaStreams.State.REBALANCING);
+
+        assertThat(storeManager.query(s -> s.get("key"))).isEqualTo("value");
+        assertThat(storeManager.query(s -> s.get("key"))).isEqualTo("value");
+        verify(kafkaStreams, times(1)).store(any());
+    }
+
+    @Test
+    void query_RetriesTransientInvalidStateStoreException() {
+        given(kafkaStreams.state()).willReturn(KafkaStreams.State.RUNNING);
+        given(kafkaStreams.<ReadOnlyKeyValueStore<String, String>>store(any())).willReturn(store);
+        given(store.get("key"))
+                .willThrow(new InvalidStateStoreException("migrated"))
+                .willReturn("value");
+
+        assertThat(storeManager.query(s -> s.get("key"))).isEqualTo("value");
+        verify(kafkaStreams, times(2)).store(any());
+    }
+
+    @Test
+    void query_FailsAfterBoundedAttemptsWhileRebalancing() {
+        given(kafkaStreams.state()).willReturn(KafkaStreams.State.REBALANCING);
+
+        storeManager.onChange(KafkaStreams.State.REBALANCING, KafkaStreams.State.RUNNING);
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> storeManager.query(s -> s.get("key")))
+                .withMessage("test-store store not ready");
+    }
+}
@@ -0,0 +1,133 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.orderservice.common.AbstractIntegrationTest;
+import com.example.orderservice.config.events.EventPublicationMetrics;
+import com.example.orderservice.services.EventPublicationMaintenanceService;
+import com.example.orderservice.util.TestApplicationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class EventPublicationMaintenanceIT extends AbstractIntegrationTest {
+
+    private static final String LISTENER_ID = "event-publication-maintenance-it";
+
+    // distinct payloads keep the hash index on serialized_event from degenerating
+    private static final String INSERT_ARCHIVED_SQL =
+            """
+            INSERT INTO event_publication_archive
+                   (id, listener_id, event_type, serialized_event, publication_date,
+                    completion_date, status, completion_attempts)
+            SELECT gen_random_uuid(), ?, 'com.example.orderservice.model.dtos.OrderDto',
+                   '{"orderId":' || g || '}', ?, ?, 'COMPLETED', 1
+              FROM generate_series(1, ?) AS g
+            """;
+    private static final String INSERT_INCOMPLETE_SQL =
+            """
+            INSERT INTO event_publication
+                   (id, listener_id, event_type, serialized_event, publication_date, status)
+            SELECT gen_random_uuid(), ?, 'com.example.orderservice.model.dtos.OrderDto',
+                   '{"orderId":' || g || '}', ?, 'PUBLISHED'
+              FROM generate_series(1, ?) AS g
+            """;
+
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    jdbcTemplate.execute("TRUNCATE event_publication_archive");
+                    jdbcTemplate.update(
+                            "DELETE FROM event_publication WHERE listener_id = ?", LISTENER_ID);
+                });
+    }
+
+    @AfterEach
+    void tearDown() {
+        setUp();
+    }
+
+    @Test
+    void shouldPurgeMillionsOfArchivedPublicationsInBatches() {
+        Instant now = Instant.now();
+        insertArchived(750_000, now.minus(Duration.ofDays(30)));
+        insertArchived(250_000, now.minus(Duration.ofDays(1)));
+
+        EventPublicationMaintenanceService maintenanceService =
+                new EventPublicationMaintenanceService(
+                        jdbcTemplate,
+                        transactionTemplate,
+                        meterRegistry,
+                        TestApplicationProperties.bind(
+                                Map.of(
+                                        "application.event-publications.archive-retention",
+                                        "7d",
+                                        "application.event-publications.purge-batch-size",
+                                        50_000)));
+
+        maintenanceService.purgeArchivedPublications();
+
+        assertThat(meterRegistry.get("modulith.events.archive.purged").counter().count())
+                .isEqualTo(750_000);
+        assertThat(
+                        jdbcTemplate.queryForObject(
+                                "SELECT count(*) FROM event_publication_archive", Long.class))
+                .isEqualTo(250_000);
+    }
+
+    @Test
+    void shouldReportBacklogAndLagOfIncompletePublications() {
+        Instant publishedAt = Instant.now().minus(Duration.ofMinutes(10));
+        transactionTemplate.executeWithoutResult(
+                status ->
+                        jdbcTemplate.update(
+                                INSERT_INCOMPLETE_SQL,
+                                LISTENER_ID,
+                                Timestamp.from(publishedAt),
+                                3));
+        new EventPublicationMetrics(jdbcTemplate, Duration.ZERO, Clock.systemUTC())
+                .bindTo(meterRegistry);
+
+        assertThat(meterRegistry.get("modulith.events.incomplete").gauge().value())
+                .isGreaterThanOrEqualTo(3);
+        assertThat(
+                        meterRegistry
+                                .get("modulith.events.externalization.lag")
+                                .timeGauge()
+                                .value(TimeUnit.MINUTES))
+                .isGreaterThanOrEqualTo(10);
+    }
+
+    private void insertArchived(int count, Instant completedAt) {
+        Timestamp completionDate = Timestamp.from(completedAt);
+        Timestamp publicationDate = Timestamp.from(completedAt.minusSeconds(1));
+        transactionTemplate.executeWithoutResult(
+                status ->
+                        jdbcTemplate.update(
+                                INSERT_ARCHIVED_SQL,
+                                LISTENER_ID,
+                                publicationDate,
+                                completionDate,
+                                count));
+    }
+}
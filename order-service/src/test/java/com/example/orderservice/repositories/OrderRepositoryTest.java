@@ -11,7 +11,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.example.orderservice.common.OrderServicePostGreSQLContainer;
 import com.example.orderservice.entities.Order;
+import com.example.orderservice.entities.OrderStatus;
 import com.example.orderservice.util.TestData;
+import jakarta.persistence.EntityManager;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +34,7 @@ class OrderRepositoryTest {
 
     @Autowired private OrderRepository orderRepository;
     @Autowired private OrderItemRepository orderItemRepository;
+    @Autowired private EntityManager entityManager;
 
     @BeforeEach
     void setUp() {
@@ -138,4 +141,34 @@ class OrderRepositoryTest {
         long totalOrders = this.orderRepository.count();
         assertThat(totalOrders).isEqualTo(5);
     }
+
+    @Test
+    void updateOrderStatusAndSourceInBatch() {
+        // Arrange
+        Order confirmedOrder = this.orderRepository.saveAndFlush(TestData.getOrder());
+        Order rollbackOrder = this.orderRepository.saveAndFlush(TestData.getOrder());
+
+        // Act
+        int rows =
+                this.orderRepository.updateOrderStatusAndSourceInBatch(
+                        List.of(
+                                TestData.getStockOrderDto("CONFIRMED", confirmedOrder),
+                                TestData.getStockOrderDto("ROLLBACK", rollbackOrder)
+                                        .withStatusAndSource("ROLLBACK", "PAYMENT")));
+        entityManager.clear();
+
+        // Assert
+        assertThat(rows).isEqualTo(2);
+        assertThat(this.orderRepository.findById(confirmedOrder.getId()))
+                .get()
+                .extracting(Order::getStatus)
+                .isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(this.orderRepository.findById(rollbackOrder.getId()))
+                .get()
+                .satisfies(
+                        order -> {
+                            assertThat(order.getStatus()).isEqualTo(OrderStatus.ROLLBACK);
+                            assertThat(order.getSource()).isEqualTo("PAYMENT");
+                        });
+    }
 }
@@ -0,0 +1,252 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.repositories;
+
+import static com.example.orderservice.utils.AppConstants.PROFILE_TEST;
+
+import com.example.orderservice.common.OrderServicePostGreSQLContainer;
+import com.example.orderservice.entities.OrderStatus;
+import jakarta.persistence.EntityManager;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.assertj.core.api.SoftAssertions;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Guards the indexes behind the hot repository queries. The tables are filled with a realistic
+ * volume and analyzed inside the test transaction, then every hot repository method is called and
+ * each statement it issues is captured through a datasource proxy and run through {@code EXPLAIN}
+ * with its own bind values, failing the build when the planner falls back to a sequential scan.
+ * Add any new hot repository method to {@link #hotQueries()}.
+ */
+@ActiveProfiles({PROFILE_TEST})
+@Import(OrderServicePostGreSQLContainer.class)
+@DataJpaTest(properties = {"spring.jpa.hibernate.ddl-auto=validate"})
+class QueryPlanTest {
+
+    private static final int ORDERS = 200_000;
+    private static final int CUSTOMERS = 10_000;
+
+    private static final CapturingListener CAPTURED = new CapturingListener();
+
+    @Autowired private OrderRepository orderRepository;
+    @Autowired private CustomerOrderSummaryRepository customerOrderSummaryRepository;
+    @Autowired private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        execute("DELETE FROM customer_order_summaries");
+        execute("DELETE FROM order_items");
+        execute("DELETE FROM orders");
+        // one order in a thousand is still NEW, the rest have been confirmed
+        execute(
+                """
+                INSERT INTO orders
+                       (id, customer_id, source, status, delivery_address_line1,
+                        delivery_address_city, delivery_address_state, delivery_address_zip_code,
+                        delivery_address_country, version, created_date, last_modified_date)
+                SELECT g, g %% %d, 'ORDER', CASE WHEN g %% 1000 = 0 THEN 'NEW' ELSE 'CONFIRMED' END,
+                       'line1', 'city', 'state', 'zip', 'country', 0,
+                       now() - make_interval(mins => g %% 10000),
+                       now() - make_interval(mins => g %% 10000)
+                  FROM generate_series(1, %d) AS g
+                """
+                        .formatted(CUSTOMERS, ORDERS));
+        execute(
+                """
+                INSERT INTO order_items (id, product_code, quantity, product_price, order_id)
+                SELECT g, 'P' || g %% 2, 1, 10, (g + 1) / 2
+                  FROM generate_series(1, %d) AS g
+                """
+                        .formatted(ORDERS * 2));
+        execute(
+                """
+                INSERT INTO customer_order_summaries
+                       (order_id, customer_id, status, source, item_count, total_price,
+                        created_date, last_modified_date)
+                SELECT id, customer_id, status, source, 2, 20, created_date, last_modified_date
+                  FROM orders
+                """);
+        execute("ANALYZE orders, order_items, customer_order_summaries");
+    }
+
+    @Test
+    void hotQueriesShouldNotScanWholeTables() {
+        SoftAssertions softly = new SoftAssertions();
+        hotQueries()
+                .forEach(
+                        (name, query) -> {
+                            entityManager.clear();
+                            CAPTURED.drain();
+                            query.run();
+                            List<CapturedStatement> issued = CAPTURED.drain();
+                            softly.assertThat(issued).as("statements of %s", name).isNotEmpty();
+                            for (CapturedStatement statement : issued) {
+                                softly.assertThat(explain(statement))
+                                        .as("query plan of %s%n%s", name, statement.sql())
+                                        .doesNotContain("Seq Scan");
+                            }
+                        });
+        softly.assertAll();
+    }
+
+    private Map<String, Runnable> hotQueries() {
+        LocalDateTime staleBefore = LocalDateTime.now().minusMinutes(5);
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put(
+                "findAllOrdersByCustomerId",
+                () ->
+                        orderRepository.findAllOrdersByCustomerId(
+                                42L, PageRequest.of(0, 10, Sort.by("id").descending())));
+        queries.put(
+                "findByCustomerId",
+                () -> orderRepository.findByCustomerId(42L, PageRequest.of(0, 10)));
+        queries.put("findByIdIn", () -> orderRepository.findByIdIn(List.of(10L, 20L, 30L)));
+        queries.put("findOrderById", () -> orderRepository.findOrderById(10L));
+        queries.put(
+                "countByStatusAndLastModifiedDateLessThan",
+                () ->
+                        orderRepository.countByStatusAndLastModifiedDateLessThan(
+                                OrderStatus.NEW, staleBefore));
+        // the first chunk of a sweep, as OrderRetryService asks for it
+        queries.put(
+                "findRetryCandidates",
+                () ->
+                        orderRepository.findRetryCandidates(
+                                OrderStatus.NEW,
+                                staleBefore,
+                                LocalDateTime.of(1970, 1, 1, 0, 0),
+                                0L,
+                                Limit.of(500)));
+        queries.put(
+                "findByCustomerIdOrderByOrderIdDesc",
+                () ->
+                        customerOrderSummaryRepository.findByCustomerIdOrderByOrderIdDesc(
+                                42L, Limit.of(20)));
+        queries.put(
+                "findByCustomerIdAndOrderIdLessThanOrderByOrderIdDesc",
+                () ->
+                        customerOrderSummaryRepository
+                                .findByCustomerIdAndOrderIdLessThanOrderByOrderIdDesc(
+                                        42L, 100_000L, Limit.of(20)));
+        return queries;
+    }
+
+    // runs on the connection of the test transaction, which sees the seeded rows and statistics
+    private String explain(CapturedStatement statement) {
+        return entityManager
+                .unwrap(Session.class)
+                .doReturningWork(
+                        connection -> {
+                            try (PreparedStatement explain =
+                                    connection.prepareStatement("EXPLAIN " + statement.sql())) {
+                                for (ParameterSetOperation parameter : statement.parameters()) {
+                                    bind(explain, parameter);
+                                }
+                                StringJoiner plan = new StringJoiner("\n");
+                                try (ResultSet lines = explain.executeQuery()) {
+                                    while (lines.next()) {
+                                        plan.add(lines.getString(1));
+                                    }
+                                }
+                                return plan.toString();
+                            }
+                        });
+    }
+
+    // replays the setter the driver saw, so the plan is made for the same values and types
+    private static void bind(PreparedStatement explain, ParameterSetOperation parameter)
+            throws SQLException {
+        try {
+            parameter.getMethod().invoke(explain, parameter.getArgs());
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void execute(String sql) {
+        entityManager.createNativeQuery(sql).executeUpdate();
+    }
+
+    record CapturedStatement(String sql, List<ParameterSetOperation> parameters) {}
+
+    static class CapturingListener implements QueryExecutionListener {
+
+        private final List<CapturedStatement> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {}
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            for (QueryInfo queryInfo : queryInfoList) {
+                List<List<ParameterSetOperation>> parameters = queryInfo.getParametersList();
+                statements.add(
+                        new CapturedStatement(
+                                queryInfo.getQuery(),
+                                parameters.isEmpty() ? List.of() : parameters.getFirst()));
+            }
+        }
+
+        List<CapturedStatement> drain() {
+            List<CapturedStatement> drained = new ArrayList<>(statements);
+            statements.clear();
+            return drained;
+        }
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class CapturingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor capturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                                .listener(CAPTURED)
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
@@ -15,6 +15,7 @@ import com.example.orderservice.entities.OrderStatus;
 import com.example.orderservice.model.dtos.OrderDto;
 import com.example.orderservice.util.TestData;
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
@@ -112,6 +113,7 @@ class DistributedTransactionFailureIT extends AbstractIntegrationTest {
 
         // Act
         OrderDto result = orderManageService.confirm(paymentOrderDto, inventoryOrderDto);
+        orderManageService.updateOrderStatuses(List.of(result));
 
         // Assert
         assertThat(result.status()).isEqualTo("ROLLBACK");
@@ -0,0 +1,104 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.orderservice.common.AbstractIntegrationTest;
+import com.example.orderservice.config.ApplicationProperties;
+import com.example.orderservice.model.response.OrderGenerationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class JdbcOrderGenerationJobStoreIT extends AbstractIntegrationTest {
+
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private ApplicationProperties applicationProperties;
+
+    // two stores over the same database stand in for two replicas
+    private JdbcOrderGenerationJobStore replica;
+    private JdbcOrderGenerationJobStore otherReplica;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(
+                status -> jdbcTemplate.update("DELETE FROM order_generation_jobs"));
+        replica =
+                new JdbcOrderGenerationJobStore(
+                        jdbcTemplate, transactionTemplate, applicationProperties);
+        otherReplica =
+                new JdbcOrderGenerationJobStore(
+                        jdbcTemplate, transactionTemplate, applicationProperties);
+    }
+
+    @Test
+    void shouldReportProgressOfJobStartedOnAnotherReplica() {
+        assertThat(replica.start("job-1", 300)).isTrue();
+        replica.batchGenerated("job-1", 100);
+        replica.batchGenerated("job-1", 100);
+
+        assertThat(otherReplica.find("job-1"))
+                .hasValueSatisfying(
+                        status -> {
+                            assertThat(status.state()).isEqualTo("RUNNING");
+                            assertThat(status.requested()).isEqualTo(300);
+                            assertThat(status.generated()).isEqualTo(200);
+                            assertThat(status.failed()).isZero();
+                        });
+    }
+
+    @Test
+    void shouldStartJobOnlyOnce() {
+        assertThat(replica.start("job-2", 100)).isTrue();
+
+        assertThat(otherReplica.start("job-2", 100)).isFalse();
+        assertThat(replica.start("job-2", 100)).isFalse();
+    }
+
+    @Test
+    void shouldFinishAsFailedWhenAnyBatchFailed() {
+        replica.start("completed-job", 200);
+        replica.batchGenerated("completed-job", 200);
+        replica.finish("completed-job");
+        replica.start("failed-job", 200);
+        replica.batchGenerated("failed-job", 100);
+        replica.batchFailed("failed-job", 100);
+        replica.finish("failed-job");
+
+        assertThat(otherReplica.find("completed-job"))
+                .map(OrderGenerationStatus::state)
+                .hasValue("COMPLETED");
+        assertThat(otherReplica.find("failed-job"))
+                .hasValueSatisfying(
+                        status -> {
+                            assertThat(status.state()).isEqualTo("FAILED");
+                            assertThat(status.generated()).isEqualTo(100);
+                            assertThat(status.failed()).isEqualTo(100);
+                        });
+    }
+
+    @Test
+    void shouldForgetExpiredJobs() {
+        replica.start("expired-job", 100);
+        transactionTemplate.executeWithoutResult(
+                status ->
+                        jdbcTemplate.update(
+                                "UPDATE order_generation_jobs SET expires_at = now() - interval '1"
+                                        + " second'"));
+
+        assertThat(otherReplica.find("expired-job")).isEmpty();
+        assertThat(otherReplica.find("unknown-job")).isEmpty();
+        // a new job purges the expired one
+        assertThat(otherReplica.start("next-job", 100)).isTrue();
+        assertThat(
+                        jdbcTemplate.queryForObject(
+                                "SELECT count(*) FROM order_generation_jobs", Integer.class))
+                .isOne();
+    }
+}
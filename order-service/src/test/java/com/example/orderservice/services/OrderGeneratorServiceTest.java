@@ -1,39 +1,77 @@
 /***
 <p>
-    Licensed under MIT License Copyright (c) 2023-2025 Raja Kolli.
+    Licensed under MIT License Copyright (c) 2023-2026 Raja Kolli.
 </p>
 ***/
 
 package com.example.orderservice.services;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import com.example.orderservice.model.request.OrderRequest;
+import com.example.orderservice.model.response.OrderGenerationStatus;
+import com.example.orderservice.util.TestApplicationProperties;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
 
 @ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 class OrderGeneratorServiceTest {
 
+    private static final int PARALLELISM = 2;
+
     @Mock private OrderService orderService;
-    @InjectMocks private OrderGeneratorService orderGeneratorService;
+    private OrderGeneratorService orderGeneratorService;
 
     @Captor private ArgumentCaptor<List<OrderRequest>> orderRequestsCaptor;
 
+    @BeforeEach
+    void setUp() {
+        orderGeneratorService =
+                new OrderGeneratorService(
+                        orderService,
+                        new InMemoryOrderGenerationJobStore(),
+                        TestApplicationProperties.bind(
+                                Map.of("application.order-generator.parallelism", PARALLELISM)));
+        given(orderService.ingestOrders(anyList()))
+                .willAnswer(
+                        invocation ->
+                                Collections.nCopies(
+                                        invocation.<List<OrderRequest>>getArgument(0).size(),
+                                        1L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderGeneratorService.destroy();
+    }
+
     @Test
     void shouldGenerateOrdersInBatches() {
         // Arrange
@@ -42,11 +80,16 @@ class OrderGeneratorServiceTest {
 
         // Act
         orderGeneratorService.generateOrders("dummy-key", null);
+        OrderGenerationStatus status = awaitCompletion("dummy-key");
 
         // Assert
+        assertThat(status.state()).isEqualTo("COMPLETED");
+        assertThat(status.requested()).isEqualTo(expectedOrderCount);
+        assertThat(status.generated()).isEqualTo(expectedOrderCount);
+        assertThat(status.failed()).isZero();
         // Capture all batch calls and verify their structure
         verify(orderService, times(expectedBatchCount))
-                .saveBatchOrders(orderRequestsCaptor.capture());
+                .ingestOrders(orderRequestsCaptor.capture());
         List<List<OrderRequest>> allBatches = orderRequestsCaptor.getAllValues();
 
         // Verify batch size
@@ -67,9 +110,10 @@ class OrderGeneratorServiceTest {
     void shouldGenerateValidOrderRequests() {
         // Act
         orderGeneratorService.generateOrders("dummy-key", null);
+        awaitCompletion("dummy-key");
 
         // Assert
-        verify(orderService, atLeastOnce()).saveBatchOrders(orderRequestsCaptor.capture());
+        verify(orderService, atLeastOnce()).ingestOrders(orderRequestsCaptor.capture());
         List<List<OrderRequest>> allBatches = orderRequestsCaptor.getAllValues();
 
         for (List<OrderRequest> batch : allBatches) {
@@ -94,7 +138,7 @@ class OrderGeneratorServiceTest {
                                                             .startsWith("ProductCode");
                                                     assertThat(item.quantity())
                                                             .isPositive()
-                                                            .isBetween(1, 6); // RAND.nextInt(5) + 1
+                                                            .isBetween(1, 6); // nextInt(5) + 1
                                                     assertThat(item.productPrice())
                                                             .isNotNull()
                                                             .isPositive();
@@ -131,6 +175,9 @@ class OrderGeneratorServiceTest {
                     .isTrue()
                     .as("Executor service should terminate within the timeout");
         }
+        for (int i = 0; i < numThreads; i++) {
+            awaitCompletion("dummy-key-" + i);
+        }
 
         // Assert
         // Each thread will generate 10,000 orders in batches of 100
@@ -139,7 +186,7 @@ class OrderGeneratorServiceTest {
 
         // Capture all batch calls to verify their structure
         verify(orderService, times(totalExpectedBatches))
-                .saveBatchOrders(orderRequestsCaptor.capture());
+                .ingestOrders(orderRequestsCaptor.capture());
         List<List<OrderRequest>> allBatches = orderRequestsCaptor.getAllValues();
 
         // Verify we got the expected number of batches
@@ -163,8 +210,9 @@ class OrderGeneratorServiceTest {
     @Test
     void shouldGenerateRequestedOrderBatchSize() {
         orderGeneratorService.generateOrders("batch-size-key", 250);
+        awaitCompletion("batch-size-key");
 
-        verify(orderService, times(3)).saveBatchOrders(orderRequestsCaptor.capture());
+        verify(orderService, times(3)).ingestOrders(orderRequestsCaptor.capture());
         List<List<OrderRequest>> allBatches = orderRequestsCaptor.getAllValues();
 
         assertThat(allBatches).extracting(List::size).containsExactlyInAnyOrder(100, 100, 50);
@@ -178,14 +226,114 @@ class OrderGeneratorServiceTest {
 
         // Act
         // Call it multiple times with the same key
+        OrderGenerationStatus first = orderGeneratorService.generateOrders(idempotencyKey, null);
+        OrderGenerationStatus second = orderGeneratorService.generateOrders(idempotencyKey, null);
         orderGeneratorService.generateOrders(idempotencyKey, null);
-        orderGeneratorService.generateOrders(idempotencyKey, null);
-        orderGeneratorService.generateOrders(idempotencyKey, null);
+        awaitCompletion(idempotencyKey);
 
         // Assert
+        assertThat(second.jobId()).isEqualTo(first.jobId());
         // Only one generation (10_000 orders / 100 per batch = 100 batches) should have been
         // triggered
         int expectedBatches = 10_000 / 100;
-        verify(orderService, times(expectedBatches)).saveBatchOrders(anyList());
+        verify(orderService, times(expectedBatches)).ingestOrders(anyList());
+    }
+
+    @Test
+    void shouldNeverRunMoreBatchesThanTheParallelismLimit() {
+        // Arrange
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        given(orderService.ingestOrders(anyList()))
+                .willAnswer(
+                        invocation -> {
+                            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                            TimeUnit.MILLISECONDS.sleep(5);
+                            inFlight.decrementAndGet();
+                            return List.of(1L);
+                        });
+
+        // Act
+        orderGeneratorService.generateOrders("bounded-key", 2_000);
+        awaitCompletion("bounded-key");
+
+        // Assert
+        assertThat(maxInFlight.get()).isPositive().isLessThanOrEqualTo(PARALLELISM);
+    }
+
+    @Test
+    void shouldReportFailedBatchesInJobStatus() {
+        // Arrange
+        given(orderService.ingestOrders(anyList()))
+                .willThrow(new IllegalStateException("database unavailable"));
+
+        // Act
+        orderGeneratorService.generateOrders("failing-key", 150);
+        OrderGenerationStatus status = awaitCompletion("failing-key");
+
+        // Assert
+        assertThat(status.state()).isEqualTo("FAILED");
+        assertThat(status.generated()).isZero();
+        assertThat(status.failed()).isEqualTo(150);
+        assertThat(orderGeneratorService.getJobStatus("unknown-key")).isEmpty();
+    }
+
+    private OrderGenerationStatus awaitCompletion(String jobId) {
+        return await().atMost(Duration.ofSeconds(10))
+                .until(
+                        () -> orderGeneratorService.getJobStatus(jobId).orElseThrow(),
+                        status -> !"RUNNING".equals(status.state()));
+    }
+
+    private static final class InMemoryOrderGenerationJobStore implements OrderGenerationJobStore {
+
+        private final ConcurrentMap<String, Job> jobs = new ConcurrentHashMap<>();
+
+        @Override
+        public boolean start(String jobId, int requested) {
+            return jobs.putIfAbsent(jobId, new Job(requested)) == null;
+        }
+
+        @Override
+        public void batchGenerated(String jobId, int orders) {
+            jobs.get(jobId).generated.addAndGet(orders);
+        }
+
+        @Override
+        public void batchFailed(String jobId, int orders) {
+            jobs.get(jobId).failed.addAndGet(orders);
+        }
+
+        @Override
+        public void finish(String jobId) {
+            Job job = jobs.get(jobId);
+            job.state = job.failed.get() == 0 ? STATE_COMPLETED : STATE_FAILED;
+        }
+
+        @Override
+        public Optional<OrderGenerationStatus> find(String jobId) {
+            return Optional.ofNullable(jobs.get(jobId))
+                    .map(
+                            job ->
+                                    new OrderGenerationStatus(
+                                            jobId,
+                                            job.state,
+                                            job.requested,
+                                            job.generated.get(),
+                                            job.failed.get(),
+                                            0,
+                                            0));
+        }
+
+        private static final class Job {
+            private final int requested;
+            private final AtomicInteger generated = new AtomicInteger();
+            private final AtomicInteger failed = new AtomicInteger();
+            private volatile String state = STATE_RUNNING;
+
+            private Job(int requested) {
+                this.requested = requested;
+            }
+        }
     }
 }
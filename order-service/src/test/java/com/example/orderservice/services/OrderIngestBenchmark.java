@@ -0,0 +1,144 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.services;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+import com.example.orderservice.OrderServiceApplication;
+import com.example.orderservice.common.ContainersConfig;
+import com.example.orderservice.common.OrderServicePostGreSQLContainer;
+import com.example.orderservice.model.Address;
+import com.example.orderservice.model.request.OrderItemRequest;
+import com.example.orderservice.model.request.OrderRequest;
+import com.example.orderservice.model.response.OrderResponse;
+import com.example.orderservice.utils.AppConstants;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Time to write one batch of orders through {@link OrderService#saveBatchOrders(List)}, which goes
+ * through the persistence context, against the multi-row inserts of {@link
+ * OrderService#ingestOrders(List)}. Boots the application against Testcontainers and a stubbed
+ * catalog service, so Docker has to be running; start it through {@link #main(String[])} after
+ * {@code ./mvnw test-compile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class OrderIngestBenchmark {
+
+    private static final String PRODUCT_CODE = "PERF-PROD";
+
+    @Param({"100", "1000"})
+    public int batchSize;
+
+    private WireMockServer catalogService;
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private JdbcTemplate jdbcTemplate;
+    private List<OrderRequest> orders;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        catalogService = new WireMockServer(options().dynamicPort());
+        catalogService.start();
+        catalogService.stubFor(
+                get(urlPathEqualTo("/api/catalog/exists"))
+                        .willReturn(okJson("{\"exists\": true}")));
+        context =
+                SpringApplication.from(OrderServiceApplication::main)
+                        .with(ContainersConfig.class, OrderServicePostGreSQLContainer.class)
+                        .withAdditionalProfiles(AppConstants.PROFILE_TEST)
+                        .run(
+                                "--server.port=0",
+                                "--spring.jpa.show-sql=false",
+                                "--jdbc.datasource-proxy.query.enable-logging=false",
+                                "--application.catalog-service-url=" + catalogService.baseUrl())
+                        .getApplicationContext();
+        orderService = context.getBean(OrderService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        orders =
+                IntStream.range(0, batchSize)
+                        .mapToObj(
+                                i ->
+                                        new OrderRequest(
+                                                1L,
+                                                List.of(
+                                                        new OrderItemRequest(
+                                                                PRODUCT_CODE,
+                                                                1,
+                                                                BigDecimal.valueOf(9.99))),
+                                                new Address(
+                                                        "Benchmark Address",
+                                                        "Line 2",
+                                                        "Benchmark City",
+                                                        "Benchmark State",
+                                                        "12345",
+                                                        "Benchmark Country")))
+                        .toList();
+    }
+
+    // both paths start every iteration from empty tables
+    @TearDown(Level.Iteration)
+    public void deleteOrders() {
+        jdbcTemplate.update("DELETE FROM customer_order_summaries");
+        jdbcTemplate.update("DELETE FROM order_items");
+        jdbcTemplate.update("DELETE FROM orders");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        catalogService.stop();
+    }
+
+    @Benchmark
+    public List<OrderResponse> saveBatchOrders() {
+        return orderService.saveBatchOrders(orders);
+    }
+
+    @Benchmark
+    public List<Long> ingestOrders() {
+        return orderService.ingestOrders(orders);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(OrderIngestBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
@@ -0,0 +1,101 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.example.orderservice.config.kafka.QueryableStoreManager;
+import com.example.orderservice.config.kafka.StoreRestoreListener;
+import com.example.orderservice.entities.Order;
+import com.example.orderservice.mapper.OrderMapper;
+import com.example.orderservice.model.dtos.OrderDto;
+import com.example.orderservice.repositories.OrderRepository;
+import com.example.orderservice.util.TestData;
+import com.example.orderservice.utils.AppConstants;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class OrderKafkaStreamServiceTest {
+
+    @Mock private OrderRepository orderRepository;
+    @Mock private OrderMapper orderMapper;
+
+    private final StoreRestoreListener storeRestoreListener = new StoreRestoreListener();
+    private final QueryableStoreManager<String, OrderDto> ordersStoreManager =
+            new QueryableStoreManager<>(AppConstants.ORDERS_STORE, 2, Duration.ofMillis(1));
+
+    private OrderKafkaStreamService orderKafkaStreamService;
+
+    @BeforeEach
+    void setUp() {
+        orderKafkaStreamService =
+                new OrderKafkaStreamService(
+                        ordersStoreManager, storeRestoreListener, orderRepository, orderMapper);
+    }
+
+    @Test
+    void getOrderFromStoreById_WhileStoreIsRestoring_ServesFromDatabase() {
+        Order order = TestData.getOrder().setId(151L);
+        OrderDto orderDto = TestData.getOrderDto("INVENTORY");
+        storeRestoreListener.onRestoreStart(
+                new TopicPartition("orders-store-changelog", 0), AppConstants.ORDERS_STORE, 0, 10);
+        given(orderRepository.findOrderById(151L)).willReturn(Optional.of(order));
+        given(orderMapper.toDto(order)).willReturn(orderDto);
+
+        assertThat(orderKafkaStreamService.getOrderFromStoreById("151")).contains(orderDto);
+    }
+
+    @Test
+    void getOrderFromStoreById_WhileStoreIsRestoring_FindsNoOrderForNonNumericId() {
+        storeRestoreListener.onRestoreStart(
+                new TopicPartition("orders-store-changelog", 0), AppConstants.ORDERS_STORE, 0, 10);
+
+        assertThat(orderKafkaStreamService.getOrderFromStoreById("not-an-id")).isEmpty();
+        then(orderRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void getAllOrders_WhenStreamsNotStarted_ServesFromDatabase() {
+        Order order = TestData.getOrder().setId(151L);
+        OrderDto orderDto = TestData.getOrderDto("INVENTORY");
+        given(orderRepository.findAllOrders(any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(151L)));
+        given(orderRepository.findByIdIn(List.of(151L))).willReturn(List.of(order));
+        given(orderMapper.toDto(order)).willReturn(orderDto);
+
+        assertThat(orderKafkaStreamService.getAllOrders(0, 10)).containsExactly(orderDto);
+    }
+
+    @Test
+    void restoreListener_TracksRemainingRecordsUntilRestoreEnds() {
+        TopicPartition changelog = new TopicPartition("orders-store-changelog", 0);
+
+        storeRestoreListener.onRestoreStart(changelog, AppConstants.ORDERS_STORE, 0, 100);
+        storeRestoreListener.onBatchRestored(changelog, AppConstants.ORDERS_STORE, 40, 40);
+
+        assertThat(storeRestoreListener.isRestoring(AppConstants.ORDERS_STORE)).isTrue();
+        assertThat(storeRestoreListener.remainingRecords()).isEqualTo(60);
+
+        storeRestoreListener.onRestoreEnd(changelog, AppConstants.ORDERS_STORE, 100);
+
+        assertThat(storeRestoreListener.isRestoring(AppConstants.ORDERS_STORE)).isFalse();
+        assertThat(storeRestoreListener.remainingRecords()).isZero();
+    }
+}
@@ -15,6 +15,7 @@ import com.example.orderservice.entities.Order;
 import com.example.orderservice.entities.OrderStatus;
 import com.example.orderservice.model.dtos.OrderDto;
 import com.example.orderservice.util.TestData;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -41,6 +42,7 @@ class OrderManageServiceIT extends AbstractIntegrationTest {
 
         // Act
         OrderDto result = orderManageService.confirm(paymentOrderDto, stockOrderDto);
+        orderManageService.updateOrderStatuses(List.of(result));
 
         // Assert
         assertThat(result).isNotNull();
@@ -69,6 +71,7 @@ class OrderManageServiceIT extends AbstractIntegrationTest {
 
         // Act
         OrderDto result = orderManageService.confirm(paymentOrderDto, stockOrderDto);
+        orderManageService.updateOrderStatuses(List.of(result));
 
         // Assert
         assertThat(result).isNotNull();
@@ -98,6 +101,7 @@ class OrderManageServiceIT extends AbstractIntegrationTest {
 
         // Act
         OrderDto result = orderManageService.confirm(paymentOrderDto, stockOrderDto);
+        orderManageService.updateOrderStatuses(List.of(result));
 
         // Assert
         assertThat(result).isNotNull();
@@ -131,6 +135,7 @@ class OrderManageServiceIT extends AbstractIntegrationTest {
 
         // Act
         OrderDto result = orderManageService.confirm(paymentOrderDto, stockOrderDto);
+        orderManageService.updateOrderStatuses(List.of(result));
 
         // Assert
         assertThat(result).isNotNull();
@@ -165,6 +170,7 @@ class OrderManageServiceIT extends AbstractIntegrationTest {
 
         // Act
         OrderDto result = orderManageService.confirm(paymentOrderDto, stockOrderDto);
+        orderManageService.updateOrderStatuses(List.of(result));
 
         // Assert
         // Verify that the result has all original order properties except for the changed status
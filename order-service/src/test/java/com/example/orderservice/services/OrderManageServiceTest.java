@@ -7,17 +7,18 @@
 package com.example.orderservice.services;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
-import com.example.orderservice.entities.OrderStatus;
 import com.example.orderservice.model.dtos.OrderDto;
 import com.example.orderservice.repositories.OrderRepository;
 import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -142,61 +143,57 @@ class OrderManageServiceTest {
     }
 
     @Test
-    void confirm_VerifiesRepositoryIsCalledWithCorrectParameters() {
+    void confirm_DoesNotTouchRepository() {
         // Arrange
         OrderDto orderPayment =
                 new OrderDto(12345L, 67890L, "ACCEPT", "PAYMENT", Collections.emptyList());
 
         OrderDto orderStock =
-                new OrderDto(12345L, 67890L, "ACCEPT", "INVENTORY", Collections.emptyList());
-
-        when(orderRepository.updateOrderStatusAndSourceById(any(), any(), any())).thenReturn(1);
+                new OrderDto(12345L, 67890L, "REJECT", "INVENTORY", Collections.emptyList());
 
         // Act
         OrderDto result = orderManageService.confirm(orderPayment, orderStock);
 
-        // Assert
-        verify(orderRepository, times(1))
-                .updateOrderStatusAndSourceById(eq(12345L), eq(OrderStatus.CONFIRMED), eq(null));
-
-        // Additional assertions for the returned OrderDto
-        assertThat(result).isNotNull();
-        assertThat(result.status()).isEqualTo("CONFIRMED");
-        assertThat(result.source()).isNull();
-        assertThat(result.orderId()).isEqualTo(12345L);
-        assertThat(result.customerId()).isEqualTo(67890L);
-
-        // Verify no other interactions with the repository
-        verifyNoMoreInteractions(orderRepository);
+        // Assert - joiner must stay pure, persistence happens in updateOrderStatuses
+        assertThat(result.status()).isEqualTo("ROLLBACK");
+        verifyNoInteractions(orderRepository);
     }
 
     @Test
-    void confirm_RollbackCase_VerifiesRepositoryIsCalledWithCorrectParameters() {
+    void updateOrderStatuses_AppliesLatestResolvedStatusPerOrderInSingleBatch() {
         // Arrange
-        OrderDto orderPayment =
-                new OrderDto(12345L, 67890L, "ACCEPT", "PAYMENT", Collections.emptyList());
-
-        OrderDto orderStock =
-                new OrderDto(12345L, 67890L, "REJECT", "INVENTORY", Collections.emptyList());
+        OrderDto newOrder = new OrderDto(1L, 67890L, "NEW", null, Collections.emptyList());
+        OrderDto rollback =
+                new OrderDto(2L, 67890L, "ROLLBACK", "INVENTORY", Collections.emptyList());
+        OrderDto confirmed = new OrderDto(3L, 67890L, "CONFIRMED", null, Collections.emptyList());
+        OrderDto rejected =
+                new OrderDto(2L, 67890L, "REJECTED", "INVENTORY", Collections.emptyList());
 
-        when(orderRepository.updateOrderStatusAndSourceById(any(), any(), any())).thenReturn(1);
+        when(orderRepository.updateOrderStatusAndSourceInBatch(anyList())).thenReturn(2);
 
         // Act
-        OrderDto result = orderManageService.confirm(orderPayment, orderStock);
+        int rows =
+                orderManageService.updateOrderStatuses(
+                        List.of(newOrder, rollback, confirmed, rejected));
 
         // Assert
+        assertThat(rows).isEqualTo(2);
         verify(orderRepository, times(1))
-                .updateOrderStatusAndSourceById(
-                        eq(12345L), eq(OrderStatus.ROLLBACK), eq("INVENTORY"));
+                .updateOrderStatusAndSourceInBatch(eq(List.of(rejected, confirmed)));
+        verifyNoMoreInteractions(orderRepository);
+    }
 
-        // Additional assertions
-        assertThat(result).isNotNull();
-        assertThat(result.status()).isEqualTo("ROLLBACK");
-        assertThat(result.source()).isEqualTo("INVENTORY");
+    @Test
+    void updateOrderStatuses_SkipsBatchWhenOnlyNewOrUnknownStatuses() {
+        // Arrange
+        OrderDto newOrder = new OrderDto(1L, 67890L, "NEW", null, Collections.emptyList());
+        OrderDto unknown = new OrderDto(2L, 67890L, "UNKNOWN", null, Collections.emptyList());
 
-        // Verify the return value matches what would be expected from the service's logic
-        assertThat(result)
-                .usingRecursiveComparison()
-                .isEqualTo(orderStock.withStatusAndSource("ROLLBACK", "INVENTORY"));
+        // Act
+        int rows = orderManageService.updateOrderStatuses(List.of(newOrder, unknown));
+
+        // Assert
+        assertThat(rows).isZero();
+        verifyNoInteractions(orderRepository);
     }
 }
@@ -0,0 +1,130 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.example.orderservice.common.AbstractIntegrationTest;
+import com.example.orderservice.entities.Order;
+import com.example.orderservice.entities.OrderStatus;
+import com.example.orderservice.mapper.OrderMapper;
+import com.example.orderservice.model.dtos.OrderDto;
+import com.example.orderservice.util.TestApplicationProperties;
+import com.example.orderservice.util.TestData;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.jobrunr.jobs.context.JobContext;
+import org.jobrunr.jobs.context.JobDashboardProgressBar;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class OrderRetryServiceIT extends AbstractIntegrationTest {
+
+    @Autowired private OrderMapper orderMapper;
+    @Autowired private ApplicationEventPublisher eventPublisher;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OrderRetryService orderRetryService;
+    private List<Long> stuckOrderIds;
+    private Order confirmedOrder;
+
+    @BeforeEach
+    void setUp() {
+        orderItemRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        testKafkaListenerConfig.reset();
+
+        stuckOrderIds =
+                IntStream.range(0, 5)
+                        .mapToObj(i -> orderRepository.save(TestData.getOrder()).getId())
+                        .toList();
+        confirmedOrder =
+                orderRepository.save(TestData.getOrder().setStatus(OrderStatus.CONFIRMED));
+        // all orders were last touched an hour ago
+        transactionTemplate.executeWithoutResult(
+                status ->
+                        jdbcTemplate.update(
+                                "UPDATE orders SET last_modified_date = ?",
+                                LocalDateTime.now().minusHours(1)));
+
+        orderRetryService =
+                new OrderRetryService(
+                        orderRepository,
+                        orderMapper,
+                        eventPublisher,
+                        transactionTemplate,
+                        RateLimiterRegistry.ofDefaults(),
+                        meterRegistry,
+                        TestApplicationProperties.bind(
+                                Map.of("application.order-retry.chunk-size", 2)));
+    }
+
+    @Test
+    void shouldRepublishStuckNewOrdersInChunks() throws InterruptedException {
+        JobContext jobContext = mock(JobContext.class);
+        JobDashboardProgressBar progressBar = mock(JobDashboardProgressBar.class);
+        given(jobContext.progressBar(5L)).willReturn(progressBar);
+        LocalDateTime sweepStartedAt = LocalDateTime.now().minusSeconds(1);
+
+        orderRetryService.retryNewOrders(jobContext);
+
+        // 5 stuck orders in chunks of 2
+        assertThat(meterRegistry.get("orders.retry.chunks").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("orders.retry.republished").counter().count()).isEqualTo(5);
+        verify(progressBar).setProgress(5L);
+
+        assertThat(orderRepository.findAllById(stuckOrderIds))
+                .allSatisfy(
+                        order -> assertThat(order.getLastModifiedDate()).isAfter(sweepStartedAt));
+        assertThat(orderRepository.findById(confirmedOrder.getId()))
+                .get()
+                .satisfies(
+                        order ->
+                                assertThat(order.getLastModifiedDate()).isBefore(sweepStartedAt));
+
+        Set<Long> republishedOrderIds = new HashSet<>();
+        await().atMost(Duration.ofSeconds(30))
+                .until(
+                        () -> {
+                            OrderDto orderDto =
+                                    testKafkaListenerConfig.pollPayload(1, TimeUnit.SECONDS);
+                            if (orderDto != null) {
+                                republishedOrderIds.add(orderDto.orderId());
+                            }
+                            return republishedOrderIds.containsAll(stuckOrderIds);
+                        });
+    }
+
+    @Test
+    void shouldSkipRecentlyModifiedOrders() {
+        transactionTemplate.executeWithoutResult(
+                status ->
+                        jdbcTemplate.update(
+                                "UPDATE orders SET last_modified_date = ?", LocalDateTime.now()));
+
+        orderRetryService.retryNewOrders(mock(JobContext.class));
+
+        assertThat(meterRegistry.find("orders.retry.chunks").counter().count()).isZero();
+    }
+}
@@ -6,6 +6,7 @@
 
 package com.example.orderservice.services;
 
+import static com.example.sqlbudget.SqlStatementAssert.assertThatSqlStatements;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.data.Offset.offset;
 
@@ -17,6 +18,7 @@ import com.example.orderservice.model.response.OrderResponse;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +33,7 @@ class OrderServicePerformanceIT extends AbstractIntegrationTest {
 
     @BeforeEach
     void setUp() {
+        jdbcTemplate.update("DELETE FROM customer_order_summaries");
         orderItemRepository.deleteAllInBatch();
         orderRepository.deleteAllInBatch();
     }
@@ -51,6 +54,29 @@ class OrderServicePerformanceIT extends AbstractIntegrationTest {
         assertThat(duration).isLessThan(Duration.ofSeconds(10)); // Performance target
     }
 
+    // the throughput of both paths is compared by OrderIngestBenchmark, here only the shape of
+    // the writes is pinned
+    @Test
+    void bulkIngest_ShouldWriteEachTableWithOneMultiRowInsert() {
+        // Arrange
+        mockProductsExistsRequest(true, "PERF-PROD");
+        List<OrderRequest> orders = generateLargeOrderBatch(BATCH_SIZE);
+        List<Long> ingestedIds = new ArrayList<>();
+
+        // Act & Assert
+        assertThatSqlStatements(() -> ingestedIds.addAll(orderService.ingestOrders(orders)))
+                .hasExecutedOnce("INSERT INTO orders ")
+                .hasExecutedOnce("INSERT INTO order_items ")
+                .hasExecutedOnce("INSERT INTO customer_order_summaries ");
+        assertThat(ingestedIds).hasSize(BATCH_SIZE).doesNotHaveDuplicates();
+        assertThat(orderRepository.count()).isEqualTo(BATCH_SIZE);
+        assertThat(orderItemRepository.count()).isEqualTo(BATCH_SIZE);
+        assertThat(
+                        jdbcTemplate.queryForObject(
+                                "SELECT count(*) FROM customer_order_summaries", Long.class))
+                .isEqualTo(BATCH_SIZE);
+    }
+
     @Test
     void orderRetrieval_ShouldMeetPerformanceTarget() {
         // Arrange
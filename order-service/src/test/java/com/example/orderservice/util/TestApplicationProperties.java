@@ -0,0 +1,36 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.orderservice.util;
+
+import com.example.orderservice.config.ApplicationProperties;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+/**
+ * Binds {@link ApplicationProperties} the way the application context does, from {@code
+ * application.*} properties, so tests only name the settings they care about and keep compiling as
+ * settings are added.
+ *
+ * <pre>{@code
+ * ApplicationProperties properties = TestApplicationProperties.bind(
+ *         Map.of("application.order-retry.chunk-size", 2));
+ * }</pre>
+ */
+public final class TestApplicationProperties {
+
+    private TestApplicationProperties() {}
+
+    public static ApplicationProperties bind(Map<String, ?> properties) {
+        Map<String, Object> source = new HashMap<>();
+        source.put("application.catalog-service-url", "http://localhost:18080/catalog-service");
+        source.putAll(properties);
+        return new Binder(new MapConfigurationPropertySource(source))
+                .bindOrCreate("application", ApplicationProperties.class);
+    }
+}
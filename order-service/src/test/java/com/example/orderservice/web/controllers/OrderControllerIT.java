@@ -7,6 +7,7 @@
 package com.example.orderservice.web.controllers;
 
 import static com.example.orderservice.util.TestData.getOrderDto;
+import static com.example.sqlbudget.SqlStatementAssert.assertThatSqlStatements;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
@@ -25,6 +26,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.example.orderservice.common.AbstractIntegrationTest;
+import com.example.orderservice.entities.CustomerOrderSummary;
 import com.example.orderservice.entities.Order;
 import com.example.orderservice.entities.OrderItem;
 import com.example.orderservice.entities.OrderStatus;
@@ -32,6 +34,7 @@ import com.example.orderservice.model.Address;
 import com.example.orderservice.model.dtos.OrderDto;
 import com.example.orderservice.model.request.OrderItemRequest;
 import com.example.orderservice.model.request.OrderRequest;
+import com.example.orderservice.repositories.CustomerOrderSummaryRepository;
 import com.example.orderservice.util.TestData;
 import java.math.BigDecimal;
 import java.time.Duration;
@@ -43,16 +46,21 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
 class OrderControllerIT extends AbstractIntegrationTest {
 
+    @Autowired private CustomerOrderSummaryRepository customerOrderSummaryRepository;
+
     private List<Order> orderList = null;
 
     @BeforeEach
     void setUp() {
         testKafkaListenerConfig.reset();
+        customerOrderSummaryRepository.deleteAllInBatch();
         orderItemRepository.deleteAllInBatch();
         orderRepository.deleteAllInBatch();
 
@@ -93,6 +101,8 @@ class OrderControllerIT extends AbstractIntegrationTest {
         this.orderList.add(order3);
 
         orderList = orderRepository.saveAll(orderList);
+        customerOrderSummaryRepository.saveAll(
+                orderList.stream().map(CustomerOrderSummary::of).toList());
     }
 
     @Nested
@@ -157,6 +167,17 @@ class OrderControllerIT extends AbstractIntegrationTest {
                     .andExpect(jsonPath("$.items.size()", is(order.getItems().size())));
         }
 
+        @Test
+        void shouldFindOrderByIdWithSingleStatement() {
+            Long orderId = orderList.getFirst().getId();
+
+            assertThatSqlStatements(
+                            () ->
+                                    mockMvc.perform(get("/api/orders/{id}", orderId))
+                                            .andExpect(status().isOk()))
+                    .hasStatementCount(1);
+        }
+
         @Test
         void shouldReturn404WhenFetchingNonExistingOrder() throws Exception {
             Long orderId = 10_000L;
@@ -181,6 +202,67 @@ class OrderControllerIT extends AbstractIntegrationTest {
     @DisplayName("save methods")
     class SaveOrder {
 
+        @Test
+        void shouldIngestOrdersInBulkFromNdjsonStream() throws Exception {
+            Address address =
+                    new Address(
+                            "Bulk Address1", "AddressLine2", "city", "state", "zipCode", "country");
+            String ndjson =
+                    jsonMapper.writeValueAsString(
+                                    new OrderRequest(
+                                            7L,
+                                            List.of(
+                                                    new OrderItemRequest(
+                                                            "Product10", 2, BigDecimal.TEN)),
+                                            address))
+                            + "\n"
+                            + jsonMapper.writeValueAsString(
+                                    new OrderRequest(
+                                            7L,
+                                            List.of(
+                                                    new OrderItemRequest(
+                                                            "Product10", 1, BigDecimal.ONE)),
+                                            address))
+                            + "\n";
+            mockProductsExistsRequest(true, "PRODUCT10");
+
+            mockMvc.perform(
+                            post("/api/orders/bulk")
+                                    .contentType(MediaType.APPLICATION_NDJSON)
+                                    .content(ndjson))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.accepted", is(2)))
+                    .andExpect(jsonPath("$.chunks", is(1)));
+
+            List<Order> ingested =
+                    orderRepository.findAll().stream()
+                            .filter(order -> order.getCustomerId() == 7L)
+                            .toList();
+            assertThat(ingested)
+                    .hasSize(2)
+                    .allSatisfy(
+                            order -> {
+                                assertThat(order.getStatus()).isEqualTo(OrderStatus.NEW);
+                                assertThat(order.getCreatedDate()).isNotNull();
+                                assertThat(order.getVersion()).isZero();
+                            });
+            assertThat(
+                            customerOrderSummaryRepository.findByCustomerIdOrderByOrderIdDesc(
+                                    7L, Limit.of(10)))
+                    .extracting(summary -> summary.getTotalPrice().intValue())
+                    .containsExactlyInAnyOrder(20, 1);
+            // order created events still go through the outbox and reach the orders topic
+            await().atMost(Duration.ofSeconds(10))
+                    .pollInterval(Duration.ofSeconds(1))
+                    .untilAsserted(
+                            () -> {
+                                OrderDto orderDto = testKafkaListenerConfig.pollPayload(1, SECONDS);
+                                assertThat(orderDto).isNotNull();
+                                assertThat(orderDto.customerId()).isEqualTo(7L);
+                                assertThat(orderDto.status()).isEqualTo("NEW");
+                            });
+        }
+
         @Test
         void shouldCreateNewOrder() throws Exception {
             OrderRequest orderRequest =
@@ -609,6 +691,48 @@ class OrderControllerIT extends AbstractIntegrationTest {
                                 BigDecimal.class));
     }
 
+    @Test
+    void shouldPageOrdersByCustomerIdWithoutRepeatedStatements() {
+        // ids page, count and one fetch of the orders with their items
+        assertThatSqlStatements(
+                        () ->
+                                mockMvc.perform(
+                                                get(
+                                                                "/api/orders/customer/{id}",
+                                                                orderList
+                                                                        .getFirst()
+                                                                        .getCustomerId())
+                                                        .queryParam("page", "0")
+                                                        .queryParam("size", "2"))
+                                        .andExpect(status().isOk()))
+                .hasAtMostStatements(3)
+                .hasNoRepeatedStatements();
+    }
+
+    @Test
+    void shouldPageOrderSummariesByCustomerIdUsingCursor() throws Exception {
+        List<Long> idsNewestFirst =
+                orderList.stream().map(Order::getId).sorted(Comparator.reverseOrder()).toList();
+
+        mockMvc.perform(get("/api/orders/customer/{id}/summaries", 1L).queryParam("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[0].orderId", is(idsNewestFirst.get(0)), Long.class))
+                .andExpect(jsonPath("$.data[1].orderId", is(idsNewestFirst.get(1)), Long.class))
+                .andExpect(jsonPath("$.nextCursor", is(idsNewestFirst.get(1)), Long.class))
+                .andExpect(jsonPath("$.hasNext", is(true)));
+
+        mockMvc.perform(
+                        get("/api/orders/customer/{id}/summaries", 1L)
+                                .queryParam("cursor", String.valueOf(idsNewestFirst.get(1)))
+                                .queryParam("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].orderId", is(idsNewestFirst.get(2)), Long.class))
+                .andExpect(jsonPath("$.nextCursor", nullValue()))
+                .andExpect(jsonPath("$.hasNext", is(false)));
+    }
+
     @Test
     void shouldPreserveOrderStructureAfterUpdate() throws Exception {
         // Get an order from the existing list
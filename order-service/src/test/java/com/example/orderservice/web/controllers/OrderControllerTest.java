@@ -29,9 +29,14 @@ import com.example.orderservice.entities.OrderStatus;
 import com.example.orderservice.model.Address;
 import com.example.orderservice.model.request.OrderItemRequest;
 import com.example.orderservice.model.request.OrderRequest;
+import com.example.orderservice.model.response.BulkOrderResponse;
+import com.example.orderservice.model.response.CursorPagedResult;
+import com.example.orderservice.model.response.CustomerOrderSummaryResponse;
+import com.example.orderservice.model.response.OrderGenerationStatus;
 import com.example.orderservice.model.response.OrderItemResponse;
 import com.example.orderservice.model.response.OrderResponse;
 import com.example.orderservice.model.response.PagedResult;
+import com.example.orderservice.services.OrderBulkIngestService;
 import com.example.orderservice.services.OrderGeneratorService;
 import com.example.orderservice.services.OrderKafkaStreamService;
 import com.example.orderservice.services.OrderService;
@@ -69,6 +74,8 @@ class OrderControllerTest {
 
     @MockitoBean private OrderKafkaStreamService orderKafkaStreamService;
 
+    @MockitoBean private OrderBulkIngestService orderBulkIngestService;
+
     @Autowired private JsonMapper jsonMapper;
 
     @ParameterizedTest
@@ -82,6 +89,48 @@ class OrderControllerTest {
         verifyNoMoreInteractions(orderGeneratorService);
     }
 
+    @Test
+    void shouldAcceptGenerationAsBackgroundJob() throws Exception {
+        given(orderGeneratorService.generateOrders("test-batch-123", 500))
+                .willReturn(
+                        new OrderGenerationStatus("test-batch-123", "RUNNING", 500, 0, 0, 0, 0));
+
+        mockMvc.perform(
+                        post("/api/orders/generate?batchSize=500")
+                                .header("Idempotency-Key", "test-batch-123"))
+                .andExpect(status().isAccepted())
+                .andExpect(
+                        header().string(
+                                        HttpHeaders.LOCATION,
+                                        "/api/orders/generate/test-batch-123"))
+                .andExpect(jsonPath("$.jobId", is("test-batch-123")))
+                .andExpect(jsonPath("$.state", is("RUNNING")))
+                .andExpect(jsonPath("$.requested", is(500)));
+    }
+
+    @Test
+    void shouldFetchGenerationJobStatus() throws Exception {
+        given(orderGeneratorService.getJobStatus("test-batch-123"))
+                .willReturn(
+                        Optional.of(
+                                new OrderGenerationStatus(
+                                        "test-batch-123", "COMPLETED", 500, 500, 0, 250, 2000)));
+
+        mockMvc.perform(get("/api/orders/generate/{jobId}", "test-batch-123"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state", is("COMPLETED")))
+                .andExpect(jsonPath("$.generated", is(500)))
+                .andExpect(jsonPath("$.ordersPerSecond", is(2000)));
+    }
+
+    @Test
+    void shouldReturn404WhenGenerationJobIsUnknown() throws Exception {
+        given(orderGeneratorService.getJobStatus("unknown")).willReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/orders/generate/{jobId}", "unknown"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void shouldFetchAllOrders() throws Exception {
 
@@ -162,6 +211,23 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.data[0].totalPrice").value(10));
     }
 
+    @Test
+    void shouldStreamBulkOrdersToIngestService() throws Exception {
+        given(orderBulkIngestService.ingest(any()))
+                .willReturn(new BulkOrderResponse(2, 1, 15, 133));
+
+        mockMvc.perform(
+                        post("/api/orders/bulk")
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                                .content("{\"customerId\":1}\n{\"customerId\":2}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted", is(2)))
+                .andExpect(jsonPath("$.chunks", is(1)))
+                .andExpect(jsonPath("$.ordersPerSecond", is(133)));
+
+        verify(orderBulkIngestService).ingest(any());
+    }
+
     @Nested
     @DisplayName("find methods")
     class Find {
@@ -254,6 +320,37 @@ class OrderControllerTest {
                             jsonPath("$.detail")
                                     .value("Order with Id %d not found".formatted(orderId)));
         }
+
+        @Test
+        void shouldFindOrderSummariesByCustomerIdUsingCursor() throws Exception {
+            CustomerOrderSummaryResponse summary =
+                    new CustomerOrderSummaryResponse(
+                            30L, 1L, "NEW", null, 2, BigDecimal.TEN, LocalDateTime.now());
+            given(orderService.getOrderSummariesByCustomerId(1L, 40L, 1))
+                    .willReturn(new CursorPagedResult<>(List.of(summary), 30L, true));
+
+            mockMvc.perform(
+                            get("/api/orders/customer/{id}/summaries", 1L)
+                                    .queryParam("cursor", "40")
+                                    .queryParam("size", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", hasSize(1)))
+                    .andExpect(jsonPath("$.data[0].orderId", is(30)))
+                    .andExpect(jsonPath("$.data[0].itemCount", is(2)))
+                    .andExpect(jsonPath("$.nextCursor", is(30)))
+                    .andExpect(jsonPath("$.hasNext", is(true)));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, 101})
+        void shouldRejectInvalidOrderSummariesPageSize(int size) throws Exception {
+            mockMvc.perform(
+                            get("/api/orders/customer/{id}/summaries", 1L)
+                                    .queryParam("size", String.valueOf(size)))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoMoreInteractions(orderService);
+        }
     }
 
     @Nested
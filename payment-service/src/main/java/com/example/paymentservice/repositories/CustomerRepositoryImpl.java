@@ -2,20 +2,25 @@
 package com.example.paymentservice.repositories;
 
 import static com.example.paymentservice.jooq.tables.Customers.CUSTOMERS;
+import static org.jooq.impl.DSL.param;
 
 import com.example.paymentservice.entities.Customer;
 import com.example.paymentservice.jooq.tables.records.CustomersRecord;
 import com.example.paymentservice.model.response.CustomerResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.hypersistence.tsid.TSID;
-import java.lang.reflect.Field;
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.InsertSetMoreStep;
+import org.jooq.Param;
 import org.jooq.SortField;
-import org.jooq.TableField;
+import org.jooq.SortOrder;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -29,57 +34,126 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 public class CustomerRepositoryImpl implements CustomerRepository {
 
+    // entity property and column names of the sortable fields
+    private static final Map<String, Field<?>> SORT_FIELDS =
+            Map.ofEntries(
+                    Map.entry("id", CUSTOMERS.ID),
+                    Map.entry("name", CUSTOMERS.NAME),
+                    Map.entry("email", CUSTOMERS.EMAIL),
+                    Map.entry("phone", CUSTOMERS.PHONE),
+                    Map.entry("address", CUSTOMERS.ADDRESS),
+                    Map.entry("amountAvailable", CUSTOMERS.AMOUNT_AVAILABLE),
+                    Map.entry("amount_available", CUSTOMERS.AMOUNT_AVAILABLE),
+                    Map.entry("amountReserved", CUSTOMERS.AMOUNT_RESERVED),
+                    Map.entry("amount_reserved", CUSTOMERS.AMOUNT_RESERVED));
+
+    // bounds the paged queries cached per sort, on top of normalizing the sort to known columns
+    private static final int MAX_CACHED_SORTS = 64;
+
+    private static final Param<Long> ID = param("id", Long.class);
+    private static final Param<String> NAME = param("name", String.class);
+    private static final Param<String> EMAIL = param("email", String.class);
+    private static final Param<Integer> LIMIT = param("limit", Integer.class);
+    private static final Param<Long> OFFSET = param("offset", Long.class);
+
     private final DSLContext dslContext;
     private final TSID.Factory tsidFactory;
 
+    // rendered once here, or once per distinct Sort for the paged query, and bound per call
+    private final PreRenderedQuery findByIdQuery;
+    private final PreRenderedQuery findByNameQuery;
+    private final PreRenderedQuery findByEmailQuery;
+    private final PreRenderedQuery deleteByIdQuery;
+    private final PreRenderedQuery countQuery;
+    private final Cache<Sort, PreRenderedQuery> findAllQueries =
+            Caffeine.newBuilder().maximumSize(MAX_CACHED_SORTS).build();
+
     public CustomerRepositoryImpl(DSLContext dslContext, TSID.Factory tsidFactory) {
         this.dslContext = dslContext;
         this.tsidFactory = tsidFactory;
+        this.findByIdQuery =
+                PreRenderedQuery.of(
+                        dslContext, dslContext.selectFrom(CUSTOMERS).where(CUSTOMERS.ID.eq(ID)));
+        this.findByNameQuery =
+                PreRenderedQuery.of(
+                        dslContext,
+                        dslContext
+                                .select(
+                                        CUSTOMERS.ID,
+                                        CUSTOMERS.NAME,
+                                        CUSTOMERS.EMAIL,
+                                        CUSTOMERS.PHONE,
+                                        CUSTOMERS.ADDRESS,
+                                        CUSTOMERS.AMOUNT_AVAILABLE)
+                                .from(CUSTOMERS)
+                                .where(CUSTOMERS.NAME.eq(NAME)));
+        this.findByEmailQuery =
+                PreRenderedQuery.of(
+                        dslContext,
+                        dslContext.selectFrom(CUSTOMERS).where(CUSTOMERS.EMAIL.eq(EMAIL)));
+        this.deleteByIdQuery =
+                PreRenderedQuery.of(
+                        dslContext, dslContext.deleteFrom(CUSTOMERS).where(CUSTOMERS.ID.eq(ID)));
+        this.countQuery = PreRenderedQuery.of(dslContext, dslContext.selectCount().from(CUSTOMERS));
     }
 
     @Override
     public Page<Customer> findAll(Pageable pageable) {
+        PreRenderedQuery query =
+                findAllQueries.get(
+                        normalize(pageable.getSort()),
+                        sort ->
+                                PreRenderedQuery.of(
+                                        dslContext,
+                                        dslContext
+                                                .select()
+                                                .from(CUSTOMERS)
+                                                .orderBy(getSortFields(sort))
+                                                .limit(LIMIT)
+                                                .offset(OFFSET)));
         return new PageImpl<>(
                 dslContext
-                        .select()
-                        .from(CUSTOMERS)
-                        .orderBy(getSortFields(pageable.getSort()))
-                        .limit(pageable.getPageSize())
-                        .offset(pageable.getOffset())
+                        .resultQuery(
+                                query.sql(),
+                                query.bindValues(
+                                        Map.of(
+                                                "limit",
+                                                pageable.getPageSize(),
+                                                "offset",
+                                                pageable.getOffset())))
                         .fetchInto(Customer.class),
                 pageable,
-                dslContext.fetchCount(CUSTOMERS));
+                dslContext.resultQuery(countQuery.sql()).fetchOne(0, long.class));
     }
 
     @Override
     public Optional<CustomerResponse> findByName(String name) {
         return dslContext
-                .select(
-                        CUSTOMERS.ID,
-                        CUSTOMERS.NAME,
-                        CUSTOMERS.EMAIL,
-                        CUSTOMERS.PHONE,
-                        CUSTOMERS.ADDRESS,
-                        CUSTOMERS.AMOUNT_AVAILABLE)
-                .from(CUSTOMERS)
-                .where(CUSTOMERS.NAME.eq(name))
+                .resultQuery(
+                        findByNameQuery.sql(), findByNameQuery.bindValues(Map.of("name", name)))
                 .fetchOptionalInto(CustomerResponse.class);
     }
 
     @Override
     public Optional<Customer> findById(Long customerId) {
         return dslContext
-                .fetchOptional(CUSTOMERS, CUSTOMERS.ID.eq(customerId))
-                .map(r -> r.into(Customer.class));
+                .resultQuery(
+                        findByIdQuery.sql(), findByIdQuery.bindValues(Map.of("id", customerId)))
+                .fetchOptionalInto(Customer.class);
     }
 
     @Override
     public Optional<Customer> findByEmail(String customerEmail) {
-        String normalizedEmail =
-                customerEmail == null ? null : customerEmail.toLowerCase(Locale.ROOT);
+        if (customerEmail == null) {
+            // email is a NOT NULL column, so no customer can match
+            return Optional.empty();
+        }
         return dslContext
-                .fetchOptional(CUSTOMERS, CUSTOMERS.EMAIL.eq(normalizedEmail))
-                .map(r -> r.into(Customer.class));
+                .resultQuery(
+                        findByEmailQuery.sql(),
+                        findByEmailQuery.bindValues(
+                                Map.of("email", customerEmail.toLowerCase(Locale.ROOT))))
+                .fetchOptionalInto(Customer.class);
     }
 
     @Override
@@ -139,47 +213,37 @@ public class CustomerRepositoryImpl implements CustomerRepository {
     @Override
     @Transactional
     public void deleteById(Long id) {
-        dslContext.deleteFrom(CUSTOMERS).where(CUSTOMERS.ID.eq(id)).execute();
+        dslContext
+                .query(deleteByIdQuery.sql(), deleteByIdQuery.bindValues(Map.of("id", id)))
+                .execute();
     }
 
-    private List<SortField<?>> getSortFields(Sort sortSpecification) {
-        List<SortField<?>> querySortFields = new ArrayList<>();
-
-        if (sortSpecification == null) {
-            return querySortFields;
-        }
-
-        for (Sort.Order specifiedField : sortSpecification) {
-            String sortFieldName = specifiedField.getProperty();
-            Sort.Direction sortDirection = specifiedField.getDirection();
-
-            TableField<CustomersRecord, Object> tableField = getTableField(sortFieldName);
-            SortField<?> querySortField = convertTableFieldToSortField(tableField, sortDirection);
-            querySortFields.add(querySortField);
+    // one order per column, named after the column, so that aliases and repeated properties share
+    // a cached query; unknown properties are rejected before anything is cached
+    private static Sort normalize(Sort sortSpecification) {
+        Map<String, Sort.Order> orders = new LinkedHashMap<>();
+        for (Sort.Order order : sortSpecification) {
+            String column = getSortField(order.getProperty()).getName();
+            orders.putIfAbsent(column, Sort.Order.by(column).with(order.getDirection()));
         }
+        return Sort.by(List.copyOf(orders.values()));
+    }
 
-        return querySortFields;
+    private static List<SortField<?>> getSortFields(Sort sortSpecification) {
+        return sortSpecification.stream()
+                .<SortField<?>>map(
+                        order ->
+                                getSortField(order.getProperty())
+                                        .sort(order.isAscending() ? SortOrder.ASC : SortOrder.DESC))
+                .toList();
     }
 
-    private TableField<CustomersRecord, Object> getTableField(String sortFieldName) {
-        TableField<CustomersRecord, Object> sortField;
-        try {
-            Field tableField =
-                    CUSTOMERS.getClass().getField(sortFieldName.toUpperCase(Locale.ROOT));
-            sortField = (TableField<CustomersRecord, Object>) tableField.get(CUSTOMERS);
-        } catch (NoSuchFieldException | IllegalAccessException ex) {
+    private static Field<?> getSortField(String sortFieldName) {
+        Field<?> sortField = SORT_FIELDS.get(sortFieldName);
+        if (sortField == null) {
             String errorMessage = "Could not find table field: %s".formatted(sortFieldName);
-            throw new InvalidDataAccessApiUsageException(errorMessage, ex);
+            throw new InvalidDataAccessApiUsageException(errorMessage);
         }
         return sortField;
     }
-
-    private SortField<?> convertTableFieldToSortField(
-            TableField<CustomersRecord, Object> tableField, Sort.Direction sortDirection) {
-        if (sortDirection == Sort.Direction.ASC) {
-            return tableField.asc();
-        } else {
-            return tableField.desc();
-        }
-    }
 }
@@ -0,0 +1,100 @@
+/*** Licensed under MIT License Copyright (c) 2026 Raja Kolli. ***/
+package com.example.paymentservice.repositories;
+
+import static com.example.paymentservice.jooq.tables.Customers.CUSTOMERS;
+import static org.jooq.impl.DSL.param;
+
+import com.example.paymentservice.jooq.tables.records.CustomersRecord;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.TableField;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Per-call overhead of the paged {@code findAll} query of {@link CustomerRepositoryImpl} before the
+ * driver is reached: building the jOOQ tree with a reflective sort-field lookup and rendering it,
+ * against binding values into the SQL rendered once by {@link PreRenderedQuery}. Runs without a
+ * database, start it through {@link #main(String[])} after {@code ./mvnw test-compile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomerQueryBenchmark {
+
+    private final DSLContext dslContext = DSL.using(SQLDialect.POSTGRES);
+
+    private PreRenderedQuery preRenderedQuery;
+
+    @Setup
+    public void setUp() {
+        preRenderedQuery =
+                PreRenderedQuery.of(
+                        dslContext,
+                        dslContext
+                                .select()
+                                .from(CUSTOMERS)
+                                .orderBy(CUSTOMERS.NAME.asc())
+                                .limit(param("limit", Integer.class))
+                                .offset(param("offset", Long.class)));
+    }
+
+    @Benchmark
+    public String rebuildAndRender() throws ReflectiveOperationException {
+        Query query =
+                dslContext
+                        .select()
+                        .from(CUSTOMERS)
+                        .orderBy(reflectiveTableField("name").asc())
+                        .limit(10)
+                        .offset(0);
+        return query.getSQL();
+    }
+
+    @Benchmark
+    public String bindPreRendered() {
+        return dslContext
+                .resultQuery(
+                        preRenderedQuery.sql(),
+                        preRenderedQuery.bindValues(Map.of("limit", 10, "offset", 0L)))
+                .getSQL();
+    }
+
+    // the sort-field lookup the repository used before the static field map
+    @SuppressWarnings("unchecked")
+    private static TableField<CustomersRecord, Object> reflectiveTableField(String sortFieldName)
+            throws ReflectiveOperationException {
+        return (TableField<CustomersRecord, Object>)
+                CUSTOMERS
+                        .getClass()
+                        .getField(sortFieldName.toUpperCase(Locale.ROOT))
+                        .get(CUSTOMERS);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(CustomerQueryBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.retailstore.webapp.clients;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+public record CursorPagedResult<T>(List<T> data, Long nextCursor, @JsonProperty("hasNext") Boolean hasNext) {}
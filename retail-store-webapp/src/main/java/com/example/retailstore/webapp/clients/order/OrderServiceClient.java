@@ -1,11 +1,13 @@
 package com.example.retailstore.webapp.clients.order;
 
+import com.example.retailstore.webapp.clients.CursorPagedResult;
 import com.example.retailstore.webapp.clients.PagedResult;
 import jakarta.validation.Valid;
 import java.util.Map;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.service.annotation.GetExchange;
 import org.springframework.web.service.annotation.HttpExchange;
 import org.springframework.web.service.annotation.PostExchange;
@@ -23,6 +25,12 @@ public interface OrderServiceClient {
     PagedResult<OrderResponse> getOrdersByCustomer(
             @RequestHeader Map<String, ?> headers, @PathVariable("customerId") Long customerId);
 
+    @GetExchange("/api/orders/customer/{customerId}/summaries")
+    CursorPagedResult<OrderSummaryResponse> getOrderSummariesByCustomer(
+            @RequestHeader Map<String, ?> headers,
+            @PathVariable("customerId") Long customerId,
+            @RequestParam(required = false) Long cursor);
+
     @PostExchange("/api/orders")
     OrderConfirmationDTO createOrder(
             @RequestHeader Map<String, ?> headers, @Valid @RequestBody OrderRequestExternal orderRequestExternal);
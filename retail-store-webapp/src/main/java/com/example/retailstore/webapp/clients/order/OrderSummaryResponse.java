@@ -0,0 +1,17 @@
+package com.example.retailstore.webapp.clients.order;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record OrderSummaryResponse(
+        Long orderId,
+        Long customerId,
+        String status,
+        String source,
+        int itemCount,
+
+        @JsonFormat(shape = JsonFormat.Shape.NUMBER_FLOAT, pattern = "0.00")
+        BigDecimal totalPrice,
+
+        LocalDateTime createdDate) {}
@@ -1,6 +1,6 @@
 package com.example.retailstore.webapp.web.controller;
 
-import com.example.retailstore.webapp.clients.PagedResult;
+import com.example.retailstore.webapp.clients.CursorPagedResult;
 import com.example.retailstore.webapp.clients.customer.CustomerResponse;
 import com.example.retailstore.webapp.clients.customer.CustomerServiceClient;
 import com.example.retailstore.webapp.clients.order.CreateOrderRequest;
@@ -8,6 +8,7 @@ import com.example.retailstore.webapp.clients.order.OrderConfirmationDTO;
 import com.example.retailstore.webapp.clients.order.OrderRequestExternal;
 import com.example.retailstore.webapp.clients.order.OrderResponse;
 import com.example.retailstore.webapp.clients.order.OrderServiceClient;
+import com.example.retailstore.webapp.clients.order.OrderSummaryResponse;
 import com.example.retailstore.webapp.exception.InvalidRequestException;
 import com.example.retailstore.webapp.exception.ResourceNotFoundException;
 import com.example.retailstore.webapp.services.SecurityHelper;
@@ -22,6 +23,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
 @Controller
@@ -94,11 +96,11 @@ class OrderController {
 
     @GetMapping("/api/orders")
     @ResponseBody
-    PagedResult<OrderResponse> getOrders() {
+    CursorPagedResult<OrderSummaryResponse> getOrders(@RequestParam(required = false) Long cursor) {
         log.info("Fetching orders");
         String email = securityHelper.getLoggedInUserEmail();
         CustomerResponse loggedInCustomer = customerServiceClient.getCustomerByEmail(email);
-        return orderServiceClient.getOrdersByCustomer(getHeaders(), loggedInCustomer.customerId());
+        return orderServiceClient.getOrderSummariesByCustomer(getHeaders(), loggedInCustomer.customerId(), cursor);
     }
 
     private Map<String, ?> getHeaders() {
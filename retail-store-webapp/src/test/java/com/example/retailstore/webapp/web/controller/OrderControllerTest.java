@@ -5,6 +5,7 @@ import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -14,7 +15,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
-import com.example.retailstore.webapp.clients.PagedResult;
+import com.example.retailstore.webapp.clients.CursorPagedResult;
 import com.example.retailstore.webapp.clients.customer.CustomerRequest;
 import com.example.retailstore.webapp.clients.customer.CustomerResponse;
 import com.example.retailstore.webapp.clients.customer.CustomerServiceClient;
@@ -26,6 +27,7 @@ import com.example.retailstore.webapp.clients.order.OrderItemResponse;
 import com.example.retailstore.webapp.clients.order.OrderRequestExternal;
 import com.example.retailstore.webapp.clients.order.OrderResponse;
 import com.example.retailstore.webapp.clients.order.OrderServiceClient;
+import com.example.retailstore.webapp.clients.order.OrderSummaryResponse;
 import com.example.retailstore.webapp.config.TestSecurityConfig;
 import com.example.retailstore.webapp.services.SecurityHelper;
 import java.math.BigDecimal;
@@ -68,7 +70,7 @@ class OrderControllerTest {
     private JsonMapper jsonMapper;
 
     private List<OrderResponse> orderResponseList;
-    private PagedResult<OrderResponse> pagedResult;
+    private CursorPagedResult<OrderSummaryResponse> orderSummaries;
     private CustomerResponse customerResponse;
     private OrderConfirmationDTO orderConfirmation;
 
@@ -96,15 +98,13 @@ class OrderControllerTest {
 
         orderResponseList = List.of(order1, order2);
 
-        pagedResult = new PagedResult<>(
-                orderResponseList,
-                2L, // Total elements
-                0, // Page number
-                1, // Total pages
-                true, // Is first
-                true, // Is last
-                false, // Has next
-                false // Has previous
+        orderSummaries = new CursorPagedResult<>(
+                List.of(
+                        new OrderSummaryResponse(1L, 1L, "NEW", "", 2, new BigDecimal("42.97"), order1.createdDate()),
+                        new OrderSummaryResponse(
+                                2L, 1L, "DELIVERED", "", 1, new BigDecimal("30.99"), order2.createdDate())),
+                null, // Next cursor
+                false // Has next
                 );
 
         // Set up customer response
@@ -193,7 +193,8 @@ class OrderControllerTest {
     @Test
     @WithMockUser
     void getOrders_shouldReturnPagedOrders() throws Exception {
-        when(orderServiceClient.getOrdersByCustomer(anyMap(), any(Long.class))).thenReturn(pagedResult);
+        when(orderServiceClient.getOrderSummariesByCustomer(anyMap(), any(Long.class), isNull()))
+                .thenReturn(orderSummaries);
 
         mockMvc.perform(get("/api/orders").with(csrf()))
                 .andExpect(status().isOk())
@@ -201,10 +202,10 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.data[0].orderId", is(1)))
                 .andExpect(jsonPath("$.data[0].customerId", is(1)))
                 .andExpect(jsonPath("$.data[0].status", is("NEW")))
-                .andExpect(jsonPath("$.data[0].items", hasSize(2)))
+                .andExpect(jsonPath("$.data[0].itemCount", is(2)))
                 .andExpect(jsonPath("$.data[1].orderId", is(2)))
                 .andExpect(jsonPath("$.data[1].status", is("DELIVERED")))
-                .andExpect(jsonPath("$.totalElements", is(2)));
+                .andExpect(jsonPath("$.hasNext", is(false)));
     }
 
     @Test
@@ -252,7 +253,7 @@ class OrderControllerTest {
     @Test
     @WithMockUser
     void getOrders_shouldHandleErrorWhenServiceFails() throws Exception {
-        when(orderServiceClient.getOrdersByCustomer(anyMap(), any(Long.class)))
+        when(orderServiceClient.getOrderSummariesByCustomer(anyMap(), any(Long.class), isNull()))
                 .thenThrow(new HttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR, "Service unavailable"));
 
         mockMvc.perform(get("/api/orders").with(csrf())).andExpect(status().isInternalServerError());
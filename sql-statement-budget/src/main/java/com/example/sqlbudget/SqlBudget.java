@@ -0,0 +1,67 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.sqlbudget;
+
+import jakarta.validation.constraints.Min;
+
+/** Settings of the SQL statement budget, bound under {@code application.sql-budget}. */
+public class SqlBudget {
+
+    private boolean enabled = true;
+
+    // statements a single HTTP request may issue before it is reported
+    @Min(1) private int perRequest = 20;
+
+    // statements a single Kafka record may issue, a batch is allowed this many per record
+    @Min(1) private int perRecord = 20;
+
+    // executions of the same statement within one request or record that are reported as N+1
+    @Min(2) private int repeatedStatementThreshold = 5;
+
+    // throw instead of logging once the budget is exceeded, meant for tests and staging
+    private boolean failOnExceeded;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getPerRequest() {
+        return perRequest;
+    }
+
+    public void setPerRequest(int perRequest) {
+        this.perRequest = perRequest;
+    }
+
+    public int getPerRecord() {
+        return perRecord;
+    }
+
+    public void setPerRecord(int perRecord) {
+        this.perRecord = perRecord;
+    }
+
+    public int getRepeatedStatementThreshold() {
+        return repeatedStatementThreshold;
+    }
+
+    public void setRepeatedStatementThreshold(int repeatedStatementThreshold) {
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    public boolean isFailOnExceeded() {
+        return failOnExceeded;
+    }
+
+    public void setFailOnExceeded(boolean failOnExceeded) {
+        this.failOnExceeded = failOnExceeded;
+    }
+}
@@ -0,0 +1,18 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.sqlbudget;
+
+/**
+ * Raised before a statement is sent when the enclosing request or record has already used up its
+ * budget and {@code application.sql-budget.fail-on-exceeded} is set.
+ */
+public class SqlStatementBudgetExceededException extends RuntimeException {
+
+    public SqlStatementBudgetExceededException(int budget) {
+        super("SQL statement budget of " + budget + " exceeded");
+    }
+}
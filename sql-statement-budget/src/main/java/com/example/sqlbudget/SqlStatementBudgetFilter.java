@@ -0,0 +1,51 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.sqlbudget;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.jspecify.annotations.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/** Counts the SQL statements of each HTTP request against {@code application.sql-budget}. */
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private final SqlStatementBudgetReporter reporter;
+    private final int perRequest;
+    private final boolean failOnExceeded;
+
+    public SqlStatementBudgetFilter(SqlStatementBudgetReporter reporter, SqlBudget sqlBudget) {
+        this.reporter = reporter;
+        this.perRequest = sqlBudget.getPerRequest();
+        this.failOnExceeded = sqlBudget.isFailOnExceeded();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementScope scope = SqlStatementScope.open(perRequest, failOnExceeded);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            reporter.report(scope, "http", requestName(request));
+        }
+    }
+
+    private static String requestName(HttpServletRequest request) {
+        // the pattern is only known once the request has been dispatched to a handler
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "UNMATCHED");
+    }
+}
@@ -0,0 +1,72 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.sqlbudget;
+
+import java.util.List;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Counts the SQL statements of each consumed Kafka record against {@code application.sql-budget}.
+ * Batch listeners are counted per batch with a budget of {@code per-record} times the batch size.
+ * Belongs in the advice chain of the listener containers, so the scope is opened and closed around
+ * the listener call itself and never stays open on the consumer thread after a record that was
+ * skipped or failed.
+ */
+public class SqlStatementBudgetListenerAdvice implements MethodInterceptor {
+
+    private final SqlStatementBudgetReporter reporter;
+    private final int perRecord;
+    private final boolean failOnExceeded;
+
+    public SqlStatementBudgetListenerAdvice(
+            SqlStatementBudgetReporter reporter, SqlBudget sqlBudget) {
+        this.reporter = reporter;
+        this.perRecord = sqlBudget.getPerRecord();
+        this.failOnExceeded = sqlBudget.isFailOnExceeded();
+    }
+
+    @Override
+    public @Nullable Object invoke(MethodInvocation invocation) throws Throwable {
+        Object[] arguments = invocation.getArguments();
+        // the container also asks the listener about its capabilities through the proxy
+        if (!"onMessage".equals(invocation.getMethod().getName()) || arguments.length == 0) {
+            return invocation.proceed();
+        }
+        Object data = arguments[0];
+        SqlStatementScope scope =
+                SqlStatementScope.open(perRecord * recordCount(data), failOnExceeded);
+        try {
+            return invocation.proceed();
+        } finally {
+            scope.close();
+            reporter.report(scope, "kafka", topicOf(data));
+        }
+    }
+
+    private static int recordCount(Object data) {
+        return switch (data) {
+            case ConsumerRecords<?, ?> records -> records.count();
+            case List<?> records -> records.size();
+            default -> 1;
+        };
+    }
+
+    private static String topicOf(Object data) {
+        Object first =
+                switch (data) {
+                    case ConsumerRecords<?, ?> records ->
+                            records.isEmpty() ? null : records.iterator().next();
+                    case List<?> records -> records.isEmpty() ? null : records.getFirst();
+                    default -> data;
+                };
+        return first instanceof ConsumerRecord<?, ?> record ? record.topic() : "unknown";
+    }
+}
@@ -0,0 +1,78 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.sqlbudget;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publishes the statement count of a closed {@link SqlStatementScope} as the {@code
+ * sql.statements} histogram and reports scopes that exceeded their budget or repeated the same
+ * statement often enough to look like an N+1.
+ */
+public class SqlStatementBudgetReporter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementBudgetReporter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int repeatedStatementThreshold;
+
+    public SqlStatementBudgetReporter(MeterRegistry meterRegistry, SqlBudget sqlBudget) {
+        this.meterRegistry = meterRegistry;
+        this.repeatedStatementThreshold = sqlBudget.getRepeatedStatementThreshold();
+    }
+
+    /**
+     * @param kind {@code http} or {@code kafka}
+     * @param name the route template or topic, never a raw URI to keep the tag cardinality bounded
+     */
+    void report(SqlStatementScope scope, String kind, String name) {
+        Tags tags = Tags.of("kind", kind, "name", name);
+        DistributionSummary.builder("sql.statements")
+                .description("JDBC statements executed per HTTP request or Kafka record")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(scope.statementCount());
+
+        if (scope.isOverBudget()) {
+            Counter.builder("sql.statements.budget.exceeded")
+                    .description("HTTP requests and Kafka records that exceeded the SQL budget")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn(
+                    "{} {} executed {} SQL statements, budget is {}",
+                    kind,
+                    name,
+                    scope.statementCount(),
+                    scope.budget());
+        }
+
+        Map<String, Integer> repeated = scope.repeatedStatements(repeatedStatementThreshold);
+        if (!repeated.isEmpty()) {
+            Counter.builder("sql.statements.repeated")
+                    .description("HTTP requests and Kafka records that repeated a statement")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .increment();
+            repeated.forEach(
+                    (sql, executions) ->
+                            log.warn(
+                                    "Possible N+1 in {} {}, statement executed {} times: {}",
+                                    kind,
+                                    name,
+                                    executions,
+                                    sql));
+        }
+    }
+}
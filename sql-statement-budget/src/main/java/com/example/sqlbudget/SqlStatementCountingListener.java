@@ -0,0 +1,37 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.sqlbudget;
+
+import java.util.List;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Feeds every statement executed through the datasource-micrometer proxy into the {@link
+ * SqlStatementScope} open on the current thread. Statements outside any scope, such as scheduled
+ * jobs and startup data loading, are left alone.
+ */
+public class SqlStatementCountingListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatementScope scope = SqlStatementScope.current();
+        if (scope != null) {
+            scope.checkBudget();
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatementScope scope = SqlStatementScope.current();
+        if (scope != null && !queryInfoList.isEmpty()) {
+            // a batch is one round trip, keyed by its first statement
+            scope.record(queryInfoList.getFirst().getQuery());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.sqlbudget;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts the JDBC statements executed on the current thread between {@link #open()} and {@link
+ * #close()}. Scopes nest, a statement is counted by every scope that is open on the thread, so a
+ * test can open a scope around a request that is itself counted by the HTTP filter. Each execution
+ * is one database round trip, a JDBC batch counts once.
+ *
+ * <p>A scope is confined to the thread that opened it and is not thread-safe.
+ */
+public final class SqlStatementScope implements AutoCloseable {
+
+    private static final ThreadLocal<SqlStatementScope> CURRENT = new ThreadLocal<>();
+
+    private final SqlStatementScope parent;
+    private final int budget;
+    private final boolean failOnExceeded;
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+    private int statementCount;
+
+    private SqlStatementScope(SqlStatementScope parent, int budget, boolean failOnExceeded) {
+        this.parent = parent;
+        this.budget = budget;
+        this.failOnExceeded = failOnExceeded;
+    }
+
+    /** Opens an unbounded scope on the current thread, meant for pinning statement counts. */
+    public static SqlStatementScope open() {
+        return open(Integer.MAX_VALUE, false);
+    }
+
+    static SqlStatementScope open(int budget, boolean failOnExceeded) {
+        SqlStatementScope scope = new SqlStatementScope(CURRENT.get(), budget, failOnExceeded);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static SqlStatementScope current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @throws SqlStatementBudgetExceededException when an enclosing scope that fails on exceeding
+     *     its budget has already used it up
+     */
+    void checkBudget() {
+        for (SqlStatementScope scope = this; scope != null; scope = scope.parent) {
+            if (scope.failOnExceeded && scope.statementCount >= scope.budget) {
+                throw new SqlStatementBudgetExceededException(scope.budget);
+            }
+        }
+    }
+
+    void record(String sql) {
+        for (SqlStatementScope scope = this; scope != null; scope = scope.parent) {
+            scope.statementCount++;
+            scope.executionsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    public int statementCount() {
+        return statementCount;
+    }
+
+    public int budget() {
+        return budget;
+    }
+
+    public boolean isOverBudget() {
+        return statementCount > budget;
+    }
+
+    /**
+     * Statements executed at least {@code threshold} times within this scope, keyed by their SQL.
+     * The same query repeated once per row of an earlier result is the usual shape of an N+1.
+     */
+    public Map<String, Integer> repeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        executionsBySql.forEach(
+                (sql, executions) -> {
+                    if (executions >= threshold) {
+                        repeated.put(sql, executions);
+                    }
+                });
+        return repeated;
+    }
+
+    @Override
+    public void close() {
+        // scopes close innermost first, any scope still open above this one is dropped with it
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.sqlbudget;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+
+/**
+ * Pins the number of SQL statements an action runs, for example a {@code MockMvc} request against
+ * a hot endpoint. MockMvc dispatches on the test thread, so every statement of the request lands in
+ * the scope opened here.
+ *
+ * <pre>{@code
+ * assertThatSqlStatements(() -> mockMvc.perform(get("/api/orders/{id}", id)))
+ *         .hasStatementCount(1)
+ *         .hasNoRepeatedStatements();
+ * }</pre>
+ */
+public class SqlStatementAssert extends AbstractAssert<SqlStatementAssert, SqlStatementScope> {
+
+    private SqlStatementAssert(SqlStatementScope actual) {
+        super(actual, SqlStatementAssert.class);
+    }
+
+    public static SqlStatementAssert assertThatSqlStatements(ThrowingCallable action) {
+        try (SqlStatementScope scope = SqlStatementScope.open()) {
+            action.call();
+            return new SqlStatementAssert(scope);
+        } catch (Throwable e) {
+            throw new AssertionError("Action under SQL statement count failed", e);
+        }
+    }
+
+    public SqlStatementAssert hasStatementCount(int expected) {
+        isNotNull();
+        if (actual.statementCount() != expected) {
+            failWithMessage(
+                    "Expected %d SQL statements but %d were executed: %s",
+                    expected, actual.statementCount(), actual.repeatedStatements(1).keySet());
+        }
+        return this;
+    }
+
+    public SqlStatementAssert hasAtMostStatements(int max) {
+        isNotNull();
+        if (actual.statementCount() > max) {
+            failWithMessage(
+                    "Expected at most %d SQL statements but %d were executed: %s",
+                    max, actual.statementCount(), actual.repeatedStatements(1).keySet());
+        }
+        return this;
+    }
+
+    /**
+     * Fails unless exactly one statement starting with {@code sqlPrefix}, ignoring case, was
+     * executed, and only once. Pins a bulk write to a single multi-row statement per table.
+     */
+    public SqlStatementAssert hasExecutedOnce(String sqlPrefix) {
+        isNotNull();
+        Map<String, Integer> matching = new LinkedHashMap<>();
+        actual.repeatedStatements(1)
+                .forEach(
+                        (sql, executions) -> {
+                            String statement = sql.strip();
+                            if (statement.regionMatches(
+                                    true, 0, sqlPrefix, 0, sqlPrefix.length())) {
+                                matching.put(sql, executions);
+                            }
+                        });
+        if (matching.size() != 1 || matching.values().iterator().next() != 1) {
+            failWithMessage(
+                    "Expected one execution of a statement starting with %s but got %s",
+                    sqlPrefix, matching);
+        }
+        return this;
+    }
+
+    /** Fails when any statement was executed more than once, the signature of an N+1. */
+    public SqlStatementAssert hasNoRepeatedStatements() {
+        isNotNull();
+        if (!actual.repeatedStatements(2).isEmpty()) {
+            failWithMessage(
+                    "Expected no repeated SQL statements but got %s",
+                    actual.repeatedStatements(2));
+        }
+        return this;
+    }
+}
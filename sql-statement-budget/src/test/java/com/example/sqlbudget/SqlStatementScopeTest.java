@@ -0,0 +1,111 @@
+/***
+<p>
+    Licensed under MIT License Copyright (c) 2026 Raja Kolli.
+</p>
+***/
+
+package com.example.sqlbudget;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.kafka.listener.MessageListener;
+
+class SqlStatementScopeTest {
+
+    private static final String SELECT_ITEMS = "select * from order_items where order_id = ?";
+
+    @AfterEach
+    void tearDown() {
+        assertThat(SqlStatementScope.current()).isNull();
+    }
+
+    @Test
+    void shouldCountStatementsInEveryOpenScope() {
+        try (SqlStatementScope outer = SqlStatementScope.open()) {
+            outer.record("select 1");
+            try (SqlStatementScope inner = SqlStatementScope.open(10, false)) {
+                inner.record(SELECT_ITEMS);
+                inner.record(SELECT_ITEMS);
+                assertThat(inner.statementCount()).isEqualTo(2);
+            }
+            assertThat(SqlStatementScope.current()).isSameAs(outer);
+            assertThat(outer.statementCount()).isEqualTo(3);
+            assertThat(outer.repeatedStatements(2)).containsExactly(entry(SELECT_ITEMS, 2));
+        }
+    }
+
+    @Test
+    void shouldFailOnceBudgetIsUsedUp() {
+        try (SqlStatementScope scope = SqlStatementScope.open(1, true)) {
+            scope.checkBudget();
+            scope.record("select 1");
+
+            assertThatThrownBy(scope::checkBudget)
+                    .isInstanceOf(SqlStatementBudgetExceededException.class)
+                    .hasMessage("SQL statement budget of 1 exceeded");
+        }
+    }
+
+    @Test
+    void shouldReportExceededBudgetAndRepeatedStatements() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SqlBudget sqlBudget = new SqlBudget();
+        sqlBudget.setRepeatedStatementThreshold(3);
+        SqlStatementBudgetReporter reporter =
+                new SqlStatementBudgetReporter(meterRegistry, sqlBudget);
+
+        SqlStatementScope scope = SqlStatementScope.open(2, false);
+        for (int i = 0; i < 3; i++) {
+            scope.record(SELECT_ITEMS);
+        }
+        scope.close();
+        reporter.report(scope, "http", "GET /api/orders");
+
+        assertThat(
+                        meterRegistry
+                                .get("sql.statements")
+                                .tag("name", "GET /api/orders")
+                                .summary()
+                                .max())
+                .isEqualTo(3);
+        assertThat(meterRegistry.get("sql.statements.budget.exceeded").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("sql.statements.repeated").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCloseTheScopeOfAFailedKafkaRecord() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SqlBudget sqlBudget = new SqlBudget();
+        SqlStatementBudgetReporter reporter =
+                new SqlStatementBudgetReporter(meterRegistry, sqlBudget);
+        MessageListener<String, String> listener =
+                record -> {
+                    SqlStatementScope.current().record(SELECT_ITEMS);
+                    throw new IllegalStateException("listener failed");
+                };
+        ProxyFactory proxyFactory = new ProxyFactory(listener);
+        proxyFactory.addAdvice(new SqlStatementBudgetListenerAdvice(reporter, sqlBudget));
+        @SuppressWarnings("unchecked")
+        MessageListener<String, String> advised =
+                (MessageListener<String, String>) proxyFactory.getProxy();
+
+        assertThatThrownBy(() -> advised.onMessage(new ConsumerRecord<>("orders", 0, 0, "1", "{}")))
+                .hasMessage("listener failed");
+
+        assertThat(
+                        meterRegistry
+                                .get("sql.statements")
+                                .tags("kind", "kafka", "name", "orders")
+                                .summary()
+                                .count())
+                .isEqualTo(1);
+    }
+}
@@ -997,10 +997,19 @@ waitForService curl -k http://${HOST}:${PORT}/ORDER-SERVICE/order-service/actuat
 waitForService curl -k http://${HOST}:${PORT}/PAYMENT-SERVICE/payment-service/actuator/health || error_exit "Payment service is not available"
 
 log_info "Warming up services via API Gateway /api/v1/generate endpoint..."
-BATCH_ID=$(cat /proc/sys/kernel/random/uuid 2>/dev/null || uuidgen 2>/dev/null || echo "$(date +%s)-$RANDOM")
-curl -X POST -s -k -H "Idempotency-Key: ${BATCH_ID}" "http://$HOST:$PORT/api/v1/generate?batchSize=1" > /dev/null 2>&1
-log_info "Sleeping for 10 sec for warmup processing to complete..."
-sleep 10
+JOB_ID=$(curl -X POST -s -k "http://$HOST:$PORT/api/v1/generate?batchSize=1" | jq -r '.jobId // empty')
+# The gateway runs generation as a job that moves on as soon as each step's data is ready
+log_info "Waiting for warm-up generation job ${JOB_ID} to complete..."
+GENERATION_STATE="UNKNOWN"
+for _ in $(seq 1 120); do
+    GENERATION=$(curl -s -k "http://$HOST:$PORT/api/v1/generate/${JOB_ID}")
+    GENERATION_STATE=$(echo "$GENERATION" | jq -r '.state // "UNKNOWN"' 2>/dev/null)
+    if [ "$GENERATION_STATE" != "RUNNING" ] && [ "$GENERATION_STATE" != "UNKNOWN" ]; then
+        break
+    fi
+    sleep 1
+done
+log_info "Warm-up generation ${GENERATION_STATE} in $(echo "$GENERATION" | jq -r '.elapsedMillis' 2>/dev/null) ms"
 
 log_info "Setting up test data..."
 setupTestData || error_exit "Test data setup failed!"